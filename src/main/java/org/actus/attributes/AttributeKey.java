@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.attributes;
+
+/**
+ * An enumeration of the ACTUS contract attributes
+ * <p>
+ * An {@code AttributeKey} is a pre-resolved handle to a contract attribute that can be passed to the
+ * typed accessors of a {@link ContractModelProvider}, e.g. {@link ContractModelProvider#getDouble(AttributeKey)}.
+ * As opposed to an attribute name, a key can be resolved by a provider without hashing a {@code String},
+ * e.g. by means of its {@link #ordinal()} as an index into an array or column of attribute values.
+ * <p>
+ * The name of each key equals the name of the attribute (in long form) as per ACTUS data dictionary.
+ * Hence, {@code key.name()} can be used to access the attribute through {@link ContractModelProvider#getAs(String)}
+ * and {@code AttributeKey.valueOf(name)} resolves the key of an attribute name.
+ *
+ * @see <a href="https://www.actusfrf.org/data-dictionary">ACTUS Data Dictionary</a>
+ */
+public enum AttributeKey {
+    AccruedInterest,
+    AmortizationDate,
+    ArrayCycleAnchorDateOfInterestPayment,
+    ArrayCycleAnchorDateOfPrincipalRedemption,
+    ArrayCycleAnchorDateOfRateReset,
+    ArrayCycleOfInterestPayment,
+    ArrayCycleOfPrincipalRedemption,
+    ArrayCycleOfRateReset,
+    ArrayFixedVariable,
+    ArrayIncreaseDecrease,
+    ArrayNextPrincipalRedemptionPayment,
+    ArrayRate,
+    BusinessDayConvention,
+    Calendar,
+    CapitalizationEndDate,
+    Child1,
+    Child2,
+    ContractRole,
+    ContractType,
+    Currency,
+    Currency2,
+    CycleAnchorDateOfDividendPayment,
+    CycleAnchorDateOfFee,
+    CycleAnchorDateOfInterestCalculationBase,
+    CycleAnchorDateOfInterestPayment,
+    CycleAnchorDateOfOptionality,
+    CycleAnchorDateOfPrincipalRedemption,
+    CycleAnchorDateOfRateReset,
+    CycleAnchorDateOfScalingIndex,
+    CycleOfDividendPayment,
+    CycleOfFee,
+    CycleOfInterestCalculationBase,
+    CycleOfInterestPayment,
+    CycleOfOptionality,
+    CycleOfPrincipalRedemption,
+    CycleOfRateReset,
+    CycleOfScalingIndex,
+    CyclePointOfInterestPayment,
+    CyclePointOfRateReset,
+    DayCountConvention,
+    DeliverySettlement,
+    EndOfMonthConvention,
+    FeeAccrued,
+    FeeBasis,
+    FeeRate,
+    FixingDays,
+    InitialExchangeDate,
+    InterestCalculationBase,
+    InterestCalculationBaseAmount,
+    LegalEntityIDCounterparty,
+    LegalEntityIDRecordCreator,
+    LifeCap,
+    LifeFloor,
+    MarketObjectCodeOfDividendRate,
+    MarketObjectCodeOfRateReset,
+    MarketObjectCodeOfScalingIndex,
+    MarketObjectCodeRateReset,
+    MarketValueObserved,
+    MaturityDate,
+    MaximumPenaltyFreeDisbursement,
+    NextPrincipalRedemptionPayment,
+    NextResetRate,
+    NominalInterestRate,
+    NominalInterestRate2,
+    NotionalPrincipal,
+    NotionalPrincipal2,
+    ObjectCodeOfPrepaymentModel,
+    Parent,
+    PenaltyRate,
+    PenaltyType,
+    PeriodCap,
+    PeriodFloor,
+    PremiumDiscountAtIED,
+    PriceAtPurchaseDate,
+    PriceAtTerminationDate,
+    PurchaseDate,
+    Quantity,
+    RateMultiplier,
+    RateSpread,
+    ScalingEffect,
+    ScalingIndexAtStatusDate,
+    SettlementDate,
+    StatusDate,
+    TerminationDate,
+    XDayNotice;
+}
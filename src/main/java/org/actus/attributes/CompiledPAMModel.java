@@ -0,0 +1,411 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.attributes;
+
+import org.actus.AttributeConversionException;
+import org.actus.conventions.contractrole.ContractRoleConvention;
+import org.actus.util.AnnuitySchedule;
+import org.actus.util.CommonUtils;
+import org.actus.util.StringUtils;
+
+import java.time.LocalDateTime;
+
+/**
+ * A compiled representation of the contract attributes used by the PAM pay-off and state-transition functions
+ * <p>
+ * Contract attributes are generally accessed by name through {@link ContractModelProvider#getAs(String)}
+ * which, for the generic {@link ContractModel}, amounts to a hash lookup and an unboxing of
+ * the attribute value. Since the pay-off and state-transition functions are evaluated for every single
+ * event of a contract, a {@code CompiledPAMModel} resolves the attributes these functions depend on
+ * once per contract and exposes them as typed, final fields that can be read directly.
+ * <p>
+ * Numerical attributes that are not set in the underlying model are represented as {@code Double.NaN}.
+ * All other attributes are accessed through the underlying model by {@link #getAs(String)} or the
+ * typed accessors. Hence, a {@code CompiledPAMModel} can be used wherever a {@link ContractModelProvider}
+ * is expected, e.g. by contract types that share the pay-off and state-transition functions of the PAM contract.
+ * <p>
+ * The pay-off and state-transition functions read the attributes through the static accessors, e.g.
+ * {@link #feeRate(ContractModelProvider)}. These read the typed field of a compiled model and fall back to
+ * reading the attribute from any other model. Hence, a function evaluated with a model that is not
+ * compiled does not compile it on every call.
+ * <p>
+ * Amortizing contracts additionally retain their {@link AnnuitySchedule} in the compiled model such
+ * that the annuity payment can be recalculated, e.g. upon rate resets, without regenerating the schedule.
+ * <p>
+ * Instances are immutable and thus may be shared between threads. The annuity schedule is
+ * created upon first access and, as an immutable object itself, safely published.
+ *
+ * @see org.actus.contracts.PrincipalAtMaturity
+ */
+public final class CompiledPAMModel implements ContractModelProvider {
+    private final ContractModelProvider model;
+    private final int roleSign;
+    public final String feeBasis;
+    public final double feeRate;
+    public final double notionalPrincipal;
+    public final double premiumDiscountAtIED;
+    public final double priceAtPurchaseDate;
+    public final double priceAtTerminationDate;
+    public final boolean penaltyTypeA;
+    public final boolean penaltyTypeN;
+    public final double penaltyRate;
+    public final String objectCodeOfPrepaymentModel;
+    public final String marketObjectCodeOfRateReset;
+    public final double rateMultiplier;
+    public final double rateSpread;
+    public final double periodFloor;
+    public final double lifeCap;
+    public final double lifeFloor;
+    public final double nextResetRate;
+    public final double nominalInterestRate;
+    public final LocalDateTime cycleAnchorDateOfInterestPayment;
+    public final LocalDateTime initialExchangeDate;
+    public final String marketObjectCodeOfScalingIndex;
+    public final boolean interestScaling;
+    public final boolean nominalScaling;
+    private AnnuitySchedule annuitySchedule;
+
+    private CompiledPAMModel(ContractModelProvider model) {
+        this.model = model;
+        this.roleSign = roleSignOf(model.getAs("ContractRole"));
+        this.feeBasis = model.getAs("FeeBasis");
+        this.feeRate = model.getDouble(AttributeKey.FeeRate);
+        this.notionalPrincipal = model.getDouble(AttributeKey.NotionalPrincipal);
+        this.premiumDiscountAtIED = model.getDouble(AttributeKey.PremiumDiscountAtIED);
+        this.priceAtPurchaseDate = model.getDouble(AttributeKey.PriceAtPurchaseDate);
+        this.priceAtTerminationDate = model.getDouble(AttributeKey.PriceAtTerminationDate);
+        this.penaltyTypeA = "A".equals(model.getAs("PenaltyType"));
+        this.penaltyTypeN = "N".equals(model.getAs("PenaltyType"));
+        this.penaltyRate = model.getDouble(AttributeKey.PenaltyRate);
+        this.objectCodeOfPrepaymentModel = model.getAs("ObjectCodeOfPrepaymentModel");
+        this.marketObjectCodeOfRateReset = model.getAs("MarketObjectCodeOfRateReset");
+        this.rateMultiplier = model.getDouble(AttributeKey.RateMultiplier);
+        this.rateSpread = model.getDouble(AttributeKey.RateSpread);
+        this.periodFloor = model.getDouble(AttributeKey.PeriodFloor);
+        this.lifeCap = model.getDouble(AttributeKey.LifeCap);
+        this.lifeFloor = model.getDouble(AttributeKey.LifeFloor);
+        this.nextResetRate = model.getDouble(AttributeKey.NextResetRate);
+        this.nominalInterestRate = model.getDouble(AttributeKey.NominalInterestRate);
+        this.cycleAnchorDateOfInterestPayment = model.getAs("CycleAnchorDateOfInterestPayment");
+        this.initialExchangeDate = model.getAs("InitialExchangeDate");
+        this.marketObjectCodeOfScalingIndex = model.getAs("MarketObjectCodeOfScalingIndex");
+        String scalingEffect = model.getAs("ScalingEffect");
+        this.interestScaling = !CommonUtils.isNull(scalingEffect) && scalingEffect.contains("I");
+        this.nominalScaling = !CommonUtils.isNull(scalingEffect) && scalingEffect.contains("N");
+    }
+
+    /**
+     * Compile a contract model
+     * <p>
+     * If {@code model} already is a {@code CompiledPAMModel} it is returned as is. Otherwise, all attributes
+     * are resolved, which is why contract types compile their model once per evaluation and pass the
+     * compiled model on to the pay-off and state-transition functions.
+     *
+     * @param model the contract model to compile
+     * @return the compiled contract model
+     */
+    public static CompiledPAMModel of(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? (CompiledPAMModel) model : new CompiledPAMModel(model);
+    }
+
+    /**
+     * Returns the sign of the cash flows of the contract
+     *
+     * @return an integer of +1 (for cash in-flows) and -1 (for cash out-flows)
+     * @throws AttributeConversionException if attribute ContractRole is not set or invalid
+     * @see ContractRoleConvention#roleSign(String)
+     */
+    public int roleSign() throws AttributeConversionException {
+        if (roleSign == 0) {
+            throw new AttributeConversionException();
+        }
+        return roleSign;
+    }
+
+    /**
+     * Returns the annuity schedule of the contract
+     * <p>
+     * The schedule is created upon first access and retained for subsequent calls.
+     *
+     * @return the annuity schedule
+     * @see AnnuitySchedule#of(ContractModelProvider)
+     */
+    public AnnuitySchedule annuitySchedule() {
+        AnnuitySchedule schedule = annuitySchedule;
+        if (schedule == null) {
+            schedule = AnnuitySchedule.of(model);
+            annuitySchedule = schedule;
+        }
+        return schedule;
+    }
+
+    /**
+     * Returns the sign of the cash flows of a contract
+     *
+     * @param model the contract model, compiled or not
+     * @return an integer of +1 (for cash in-flows) and -1 (for cash out-flows)
+     * @throws AttributeConversionException if attribute ContractRole is not set or invalid
+     */
+    public static int roleSign(ContractModelProvider model) throws AttributeConversionException {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).roleSign()
+                : ContractRoleConvention.roleSign(model.getAs("ContractRole"));
+    }
+
+    /**
+     * Returns attribute {@code FeeBasis} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static String feeBasis(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).feeBasis : model.getAs("FeeBasis");
+    }
+
+    /**
+     * Returns attribute {@code FeeRate} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static double feeRate(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).feeRate : model.getDouble(AttributeKey.FeeRate);
+    }
+
+    /**
+     * Returns attribute {@code NotionalPrincipal} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static double notionalPrincipal(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).notionalPrincipal : model.getDouble(AttributeKey.NotionalPrincipal);
+    }
+
+    /**
+     * Returns attribute {@code PremiumDiscountAtIED} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static double premiumDiscountAtIED(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).premiumDiscountAtIED : model.getDouble(AttributeKey.PremiumDiscountAtIED);
+    }
+
+    /**
+     * Returns attribute {@code PriceAtPurchaseDate} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static double priceAtPurchaseDate(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).priceAtPurchaseDate : model.getDouble(AttributeKey.PriceAtPurchaseDate);
+    }
+
+    /**
+     * Returns attribute {@code PriceAtTerminationDate} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static double priceAtTerminationDate(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).priceAtTerminationDate : model.getDouble(AttributeKey.PriceAtTerminationDate);
+    }
+
+    /**
+     * Indicates whether attribute {@code PenaltyType} of a contract is {@code "A"}
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static boolean penaltyTypeA(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).penaltyTypeA : "A".equals(model.getAs("PenaltyType"));
+    }
+
+    /**
+     * Indicates whether attribute {@code PenaltyType} of a contract is {@code "N"}
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static boolean penaltyTypeN(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).penaltyTypeN : "N".equals(model.getAs("PenaltyType"));
+    }
+
+    /**
+     * Returns attribute {@code PenaltyRate} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static double penaltyRate(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).penaltyRate : model.getDouble(AttributeKey.PenaltyRate);
+    }
+
+    /**
+     * Returns attribute {@code ObjectCodeOfPrepaymentModel} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static String objectCodeOfPrepaymentModel(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).objectCodeOfPrepaymentModel : model.getAs("ObjectCodeOfPrepaymentModel");
+    }
+
+    /**
+     * Returns attribute {@code MarketObjectCodeOfRateReset} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static String marketObjectCodeOfRateReset(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).marketObjectCodeOfRateReset : model.getAs("MarketObjectCodeOfRateReset");
+    }
+
+    /**
+     * Returns attribute {@code RateMultiplier} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static double rateMultiplier(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).rateMultiplier : model.getDouble(AttributeKey.RateMultiplier);
+    }
+
+    /**
+     * Returns attribute {@code RateSpread} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static double rateSpread(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).rateSpread : model.getDouble(AttributeKey.RateSpread);
+    }
+
+    /**
+     * Returns attribute {@code PeriodFloor} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static double periodFloor(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).periodFloor : model.getDouble(AttributeKey.PeriodFloor);
+    }
+
+    /**
+     * Returns attribute {@code LifeCap} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static double lifeCap(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).lifeCap : model.getDouble(AttributeKey.LifeCap);
+    }
+
+    /**
+     * Returns attribute {@code LifeFloor} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static double lifeFloor(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).lifeFloor : model.getDouble(AttributeKey.LifeFloor);
+    }
+
+    /**
+     * Returns attribute {@code NextResetRate} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static double nextResetRate(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).nextResetRate : model.getDouble(AttributeKey.NextResetRate);
+    }
+
+    /**
+     * Returns attribute {@code NominalInterestRate} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static double nominalInterestRate(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).nominalInterestRate : model.getDouble(AttributeKey.NominalInterestRate);
+    }
+
+    /**
+     * Returns attribute {@code CycleAnchorDateOfInterestPayment} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static LocalDateTime cycleAnchorDateOfInterestPayment(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).cycleAnchorDateOfInterestPayment : model.getAs("CycleAnchorDateOfInterestPayment");
+    }
+
+    /**
+     * Returns attribute {@code InitialExchangeDate} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static LocalDateTime initialExchangeDate(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).initialExchangeDate : model.getAs("InitialExchangeDate");
+    }
+
+    /**
+     * Returns attribute {@code MarketObjectCodeOfScalingIndex} of a contract
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static String marketObjectCodeOfScalingIndex(ContractModelProvider model) {
+        return (model instanceof CompiledPAMModel) ? ((CompiledPAMModel) model).marketObjectCodeOfScalingIndex : model.getAs("MarketObjectCodeOfScalingIndex");
+    }
+
+    /**
+     * Indicates whether attribute {@code ScalingEffect} of a contract scales interest
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static boolean interestScaling(ContractModelProvider model) {
+        if (model instanceof CompiledPAMModel) {
+            return ((CompiledPAMModel) model).interestScaling;
+        }
+        String scalingEffect = model.getAs("ScalingEffect");
+        return !CommonUtils.isNull(scalingEffect) && scalingEffect.contains("I");
+    }
+
+    /**
+     * Indicates whether attribute {@code ScalingEffect} of a contract scales the notional
+     *
+     * @param model the contract model, compiled or not
+     */
+    public static boolean nominalScaling(ContractModelProvider model) {
+        if (model instanceof CompiledPAMModel) {
+            return ((CompiledPAMModel) model).nominalScaling;
+        }
+        String scalingEffect = model.getAs("ScalingEffect");
+        return !CommonUtils.isNull(scalingEffect) && scalingEffect.contains("N");
+    }
+
+    @Override
+    public <T> T getAs(String name) {
+        return model.getAs(name);
+    }
+
+    @Override
+    public double getDouble(AttributeKey key) {
+        return model.getDouble(key);
+    }
+
+    @Override
+    public long getEpochDay(AttributeKey key) {
+        return model.getEpochDay(key);
+    }
+
+    @Override
+    public boolean isSet(AttributeKey key) {
+        return model.isSet(key);
+    }
+
+    // resolve the role sign or 0 if the role is not set or invalid (which is only an error if the sign is used)
+    private static int roleSignOf(String role) {
+        if (CommonUtils.isNull(role)) {
+            return 0;
+        }
+        switch (role) {
+            case StringUtils.ContractRole_RPA:
+            case StringUtils.ContractRole_BUY:
+            case StringUtils.ContractRole_RFL:
+            case StringUtils.ContractRole_RF:
+            case StringUtils.ContractRole_RPL:
+            case StringUtils.ContractRole_SEL:
+            case StringUtils.ContractRole_PFL:
+            case StringUtils.ContractRole_PF:
+                return ContractRoleConvention.roleSign(role);
+            default:
+                return 0;
+        }
+    }
+}
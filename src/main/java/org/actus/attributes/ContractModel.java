@@ -6,8 +6,7 @@
 package org.actus.attributes;
 
 import org.actus.time.calendar.BusinessDayCalendarProvider;
-import org.actus.time.calendar.NoHolidaysCalendar;
-import org.actus.time.calendar.MondayToFridayCalendar;
+import org.actus.time.calendar.Calendars;
 import org.actus.conventions.businessday.BusinessDayAdjuster;
 import org.actus.conventions.daycount.DayCountCalculator;
 import org.actus.AttributeConversionException;
@@ -92,7 +91,7 @@ public class ContractModel implements ContractModelProvider {
         try{
         switch(attributes.get("ContractType")) {
             case StringUtils.ContractType_PAM:
-                map.put("Calendar",(!CommonUtils.isNull(attributes.get("Calendar")) && attributes.get("Calendar").equals("MondayToFriday"))? new MondayToFridayCalendar() : new NoHolidaysCalendar());
+                map.put("Calendar",Calendars.of(attributes.get("Calendar")));
                 map.put("BusinessDayConvention",new BusinessDayAdjuster(attributes.get("BusinessDayConvention"), (BusinessDayCalendarProvider) map.get("Calendar")));
                 map.put("EndOfMonthConvention",(CommonUtils.isNull(attributes.get("EndOfMonthConvention")))? "SD" : attributes.get("EndOfMonthConvention"));
                 map.put("ContractType",attributes.get("ContractType"));
@@ -148,7 +147,7 @@ public class ContractModel implements ContractModelProvider {
 
                 break; // nothing else to do for PAM
             case StringUtils.ContractType_LAM:
-                map.put("Calendar",(!CommonUtils.isNull(attributes.get("Calendar")) && attributes.get("Calendar").equals("MondayToFriday"))? new MondayToFridayCalendar() : new NoHolidaysCalendar());
+                map.put("Calendar",Calendars.of(attributes.get("Calendar")));
                 map.put("BusinessDayConvention",new BusinessDayAdjuster(attributes.get("BusinessDayConvention"), (BusinessDayCalendarProvider) map.get("Calendar")));
                 map.put("EndOfMonthConvention",(CommonUtils.isNull(attributes.get("EndOfMonthConvention")))? "SD" : attributes.get("EndOfMonthConvention"));
                 map.put("ContractType",attributes.get("ContractType"));
@@ -211,7 +210,7 @@ public class ContractModel implements ContractModelProvider {
                 map.put("NextPrincipalRedemptionPayment",(CommonUtils.isNull(attributes.get("NextPrincipalRedemptionPayment")))? null : Double.parseDouble(attributes.get("NextPrincipalRedemptionPayment")));
             
             case StringUtils.ContractType_NAM:
-                map.put("Calendar",(!CommonUtils.isNull(attributes.get("Calendar")) && attributes.get("Calendar").equals("MondayToFriday"))? new MondayToFridayCalendar() : new NoHolidaysCalendar());
+                map.put("Calendar",Calendars.of(attributes.get("Calendar")));
                 map.put("BusinessDayConvention",new BusinessDayAdjuster(attributes.get("BusinessDayConvention"), (BusinessDayCalendarProvider) map.get("Calendar")));
                 map.put("EndOfMonthConvention",(CommonUtils.isNull(attributes.get("EndOfMonthConvention")))? "SD" : attributes.get("EndOfMonthConvention"));
                 map.put("ContractType",attributes.get("ContractType"));
@@ -274,7 +273,7 @@ public class ContractModel implements ContractModelProvider {
                 map.put("NextPrincipalRedemptionPayment",(CommonUtils.isNull(attributes.get("NextPrincipalRedemptionPayment")))? null : Double.parseDouble(attributes.get("NextPrincipalRedemptionPayment")));
             
             case StringUtils.ContractType_ANN: // almost identical with LAM, NAM, ANN
-                map.put("Calendar",(!CommonUtils.isNull(attributes.get("Calendar")) && attributes.get("Calendar").equals("MondayToFriday"))? new MondayToFridayCalendar() : new NoHolidaysCalendar());
+                map.put("Calendar",Calendars.of(attributes.get("Calendar")));
                 map.put("BusinessDayConvention",new BusinessDayAdjuster(attributes.get("BusinessDayConvention"), (BusinessDayCalendarProvider) map.get("Calendar")));
                 map.put("EndOfMonthConvention",(CommonUtils.isNull(attributes.get("EndOfMonthConvention")))? "SD" : attributes.get("EndOfMonthConvention"));
                 map.put("ContractType",attributes.get("ContractType"));
@@ -342,7 +341,7 @@ public class ContractModel implements ContractModelProvider {
                 break;
             case StringUtils.ContractType_CLM:
             
-                map.put("Calendar",(!CommonUtils.isNull(attributes.get("Calendar")) && attributes.get("Calendar").equals("MondayToFriday"))? new MondayToFridayCalendar() : new NoHolidaysCalendar());
+                map.put("Calendar",Calendars.of(attributes.get("Calendar")));
                 map.put("BusinessDayConvention",new BusinessDayAdjuster(attributes.get("BusinessDayConvention"), (BusinessDayCalendarProvider) map.get("Calendar")));
                 map.put("EndOfMonthConvention",(CommonUtils.isNull(attributes.get("EndOfMonthConvention")))? "SD" : attributes.get("EndOfMonthConvention"));
                 map.put("ContractType",attributes.get("ContractType"));
@@ -377,7 +376,7 @@ public class ContractModel implements ContractModelProvider {
                 break;
             case StringUtils.ContractType_UMP:
 
-                map.put("Calendar",(!CommonUtils.isNull(attributes.get("Calendar")) && attributes.get("Calendar").equals("MondayToFriday"))? new MondayToFridayCalendar() : new NoHolidaysCalendar());
+                map.put("Calendar",Calendars.of(attributes.get("Calendar")));
                 map.put("BusinessDayConvention",new BusinessDayAdjuster(attributes.get("BusinessDayConvention"), (BusinessDayCalendarProvider) map.get("Calendar")));
                 map.put("EndOfMonthConvention",(CommonUtils.isNull(attributes.get("EndOfMonthConvention")))? "SD" : attributes.get("EndOfMonthConvention"));
                 map.put("ContractType",attributes.get("ContractType"));
@@ -451,7 +450,7 @@ public class ContractModel implements ContractModelProvider {
                 map.put("MarketValueObserved",(CommonUtils.isNull(attributes.get("MarketValueObserved")))? 0.0 : Double.parseDouble(attributes.get("MarketValueObserved"))); 
                 
                 // present for STK but not COM
-                map.put("Calendar",(!CommonUtils.isNull(attributes.get("Calendar")) && attributes.get("Calendar").equals("MondayToFriday"))? new MondayToFridayCalendar() : new NoHolidaysCalendar());
+                map.put("Calendar",Calendars.of(attributes.get("Calendar")));
                 map.put("BusinessDayConvention",new BusinessDayAdjuster(attributes.get("BusinessDayConvention"), (BusinessDayCalendarProvider) map.get("Calendar")));
                 map.put("EndOfMonthConvention",(CommonUtils.isNull(attributes.get("EndOfMonthConvention")))? "SD" : attributes.get("EndOfMonthConvention"));
                 map.put("CycleAnchorDateOfDividendPayment",(CommonUtils.isNull(attributes.get("CycleAnchorDateOfDividendPayment")))? ( (CommonUtils.isNull(attributes.get("CycleOfDividendPayment")))? null : LocalDateTime.parse(attributes.get("PurchaseDate")) ) : LocalDateTime.parse(attributes.get("CycleAnchorDateOfDividendPayment")));
@@ -461,7 +460,7 @@ public class ContractModel implements ContractModelProvider {
                 break;
             case StringUtils.ContractType_FXOUT:
             
-                map.put("Calendar",(!CommonUtils.isNull(attributes.get("Calendar")) && attributes.get("Calendar").equals("MondayToFriday"))? new MondayToFridayCalendar() : new NoHolidaysCalendar());
+                map.put("Calendar",Calendars.of(attributes.get("Calendar")));
                 map.put("BusinessDayConvention",new BusinessDayAdjuster(attributes.get("BusinessDayConvention"), (BusinessDayCalendarProvider) map.get("Calendar")));
                 map.put("EndOfMonthConvention",(CommonUtils.isNull(attributes.get("EndOfMonthConvention")))? "SD" : attributes.get("EndOfMonthConvention"));
                 map.put("ContractType",attributes.get("ContractType"));
@@ -482,7 +481,7 @@ public class ContractModel implements ContractModelProvider {
                                             
                 break;               
             case StringUtils.ContractType_SWPPV:
-                map.put("Calendar",(!CommonUtils.isNull(attributes.get("Calendar")) && attributes.get("Calendar").equals("MondayToFriday"))? new MondayToFridayCalendar() : new NoHolidaysCalendar());
+                map.put("Calendar",Calendars.of(attributes.get("Calendar")));
                 map.put("BusinessDayConvention",new BusinessDayAdjuster(attributes.get("BusinessDayConvention"), (BusinessDayCalendarProvider) map.get("Calendar")));
                 map.put("EndOfMonthConvention",(CommonUtils.isNull(attributes.get("EndOfMonthConvention")))? "SD" : attributes.get("EndOfMonthConvention"));
                 map.put("ContractType",attributes.get("ContractType"));
@@ -549,7 +548,7 @@ public class ContractModel implements ContractModelProvider {
            	 map.put("PeriodFloor",(CommonUtils.isNull(attributes.get("PeriodFloor")))? Double.POSITIVE_INFINITY : Double.parseDouble(attributes.get("PeriodFloor")));
            	 map.put("LifeCap",(CommonUtils.isNull(attributes.get("LifeCap")))? Double.POSITIVE_INFINITY : Double.parseDouble(attributes.get("LifeCap")));
            	 map.put("LifeFloor",(CommonUtils.isNull(attributes.get("LifeFloor")))? Double.NEGATIVE_INFINITY : Double.parseDouble(attributes.get("LifeFloor")));
-           	 map.put("Calendar",(!CommonUtils.isNull(attributes.get("Calendar")) && attributes.get("Calendar").equals("MondayToFriday"))? new MondayToFridayCalendar() : new NoHolidaysCalendar());
+           	 map.put("Calendar",Calendars.of(attributes.get("Calendar")));
            	 map.put("CycleAnchorDateOfInterestCalculationBase",(CommonUtils.isNull(attributes.get("CycleAnchorDateOfInterestCalculationBase")))? ( (CommonUtils.isNull(attributes.get("CycleOfInterestCalculationBase")))? null : LocalDateTime.parse(attributes.get("InitialExchangeDate")) ) : LocalDateTime.parse(attributes.get("CycleAnchorDateOfInterestCalculationBase")));
              map.put("CycleOfInterestCalculationBase", attributes.get("CycleOfInterestCalculationBase"));
              map.put("InterestCalculationBase",attributes.get("InterestCalculationBase"));
@@ -5,6 +5,10 @@
  */
 package org.actus.attributes;
 
+import org.actus.util.CommonUtils;
+
+import java.time.LocalDateTime;
+
 /**
  * A data structure representing the set of ACTUS contract attributes
  * <p>
@@ -36,5 +40,56 @@ public abstract interface ContractModelProvider {
      * @throws ClassCastException
      */ 
     public <T> T getAs(String name);
+
+    /**
+     * Access a numerical Contract Attribute as a primitive {@code double}
+     * <p>
+     * As opposed to {@link #getAs(String)}, the attribute is identified by a pre-resolved
+     * {@link AttributeKey} and its value is returned as a primitive. Hence, providers that store
+     * attribute values in primitive form can serve this method without hashing or boxing. The default
+     * implementation bridges to {@link #getAs(String)}.
+     *
+     * @param key the key of the attribute to retrieve
+     *
+     * @return the value of the attribute or {@code Double.NaN} if the attribute is not set
+     *
+     * @throws ClassCastException if the attribute is not numerical
+     */
+    public default double getDouble(AttributeKey key) {
+        Object value = getAs(key.name());
+        return (value == null) ? Double.NaN : ((Number) value).doubleValue();
+    }
+
+    /**
+     * Access a date-valued Contract Attribute as a day count from the epoch
+     * <p>
+     * The attribute is identified by a pre-resolved {@link AttributeKey} and its value is
+     * returned as the number of days from 1970-01-01 (cf. {@link java.time.LocalDate#toEpochDay()}),
+     * i.e. the time of day is dropped. The default implementation bridges to {@link #getAs(String)}.
+     *
+     * @param key the key of the attribute to retrieve
+     *
+     * @return the epoch day of the attribute or {@code Long.MIN_VALUE} if the attribute is not set
+     *
+     * @throws ClassCastException if the attribute is not a date
+     */
+    public default long getEpochDay(AttributeKey key) {
+        LocalDateTime value = getAs(key.name());
+        return (value == null) ? Long.MIN_VALUE : value.toLocalDate().toEpochDay();
+    }
+
+    /**
+     * Indicates whether a Contract Attribute is set
+     * <p>
+     * The default implementation bridges to {@link #getAs(String)} and treats {@code null} as well
+     * as the String "NULL" as not set (cf. {@link CommonUtils#isNull(Object)}).
+     *
+     * @param key the key of the attribute
+     *
+     * @return {@code true} if the attribute is set, {@code false} otherwise
+     */
+    public default boolean isSet(AttributeKey key) {
+        return !CommonUtils.isNull(getAs(key.name()));
+    }
     
 }
@@ -7,20 +7,21 @@ package org.actus.contracts;
 
 import org.actus.AttributeConversionException;
 import org.actus.attributes.ContractModelProvider;
+import org.actus.attributes.CompiledPAMModel;
 import org.actus.externals.RiskFactorModelProvider;
 import org.actus.events.ContractEvent;
-import org.actus.functions.nam.POF_PR_NAM;
-import org.actus.functions.nam.STF_PR_NAM;
 import org.actus.states.StateSpace;
 import org.actus.events.EventFactory;
+import org.actus.events.EventType;
+import org.actus.events.EventSeries;
 import org.actus.time.ScheduleFactory;
 import org.actus.conventions.contractrole.ContractRoleConvention;
 import org.actus.conventions.daycount.DayCountCalculator;
 import org.actus.util.Constants;
 import org.actus.util.CommonUtils;
-import org.actus.util.StringUtils;
-import org.actus.util.CycleUtils;
+import org.actus.time.Cycle;
 import org.actus.util.AnnuityUtils;
+import org.actus.functions.Functions;
 import org.actus.functions.pam.*;
 import org.actus.functions.lam.*;
 import org.actus.functions.nam.*;
@@ -31,6 +32,7 @@ import org.actus.functions.StateTransitionFunction;
 import java.time.LocalDateTime;
 import java.time.Period;
 import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * Represents the Annuity contract algorithm
@@ -42,144 +44,149 @@ public final class Annuity {
     // compute contract schedule
     public static ArrayList<ContractEvent> schedule(LocalDateTime to,
                                                     ContractModelProvider model) throws AttributeConversionException {
-        ArrayList<ContractEvent> events = new ArrayList<ContractEvent>();
+        return scheduleIterator(to, model).toList();
+    }
+
+    // compute next events within period lazily and in time sequence
+    public static EventSeries scheduleIterator(LocalDateTime to,
+                                               ContractModelProvider model) throws AttributeConversionException {
+        EventSeries events = new EventSeries();
 
         // determine maturity of the contract
         LocalDateTime maturity = maturity(model);
 
         // initial exchange
-        events.add(EventFactory.createEvent(model.getAs("InitialExchangeDate"), StringUtils.EventType_IED, model.getAs("Currency"), new POF_IED_PAM(), new STF_IED_LAM()));
+        events.add(EventFactory.createEvent(model.getAs("InitialExchangeDate"), EventType.IED, model.getAs("Currency"), Functions.POF_IED_PAM, Functions.STF_IED_LAM));
         // principal redemption schedule
-        Set<LocalDateTime> prSchedule = ScheduleFactory.createSchedule(model.getAs("CycleAnchorDateOfPrincipalRedemption"), maturity,
+        Iterator<LocalDateTime> prSchedule = ScheduleFactory.createScheduleIterator(model.getAs("CycleAnchorDateOfPrincipalRedemption"), maturity,
                 model.getAs("CycleOfPrincipalRedemption"), model.getAs("EndOfMonthConvention"), false);
         // interest payment schedule
-        Set<LocalDateTime> ipSchedule = ScheduleFactory.createSchedule(model.getAs("CycleAnchorDateOfInterestPayment"), maturity,
+        Iterator<LocalDateTime> ipSchedule = ScheduleFactory.createScheduleIterator(model.getAs("CycleAnchorDateOfInterestPayment"), maturity,
                 model.getAs("CycleOfInterestPayment"), model.getAs("EndOfMonthConvention"), false);
         // -> chose right state transition function depending on ipcb attributes
-        StateTransitionFunction stf=(!CommonUtils.isNull(model.getAs("InterestCalculationBase")) && model.getAs("InterestCalculationBase").equals("NTL"))? new STF_PR_NAM() : new STF_PR2_NAM();
+        StateTransitionFunction stf=(!CommonUtils.isNull(model.getAs("InterestCalculationBase")) && model.getAs("InterestCalculationBase").equals("NTL"))? Functions.STF_PR_NAM : Functions.STF_PR2_NAM;
         // regular principal redemption events
-        events.addAll(EventFactory.createEvents(prSchedule, StringUtils.EventType_PR,
-            model.getAs("Currency"), new POF_PR_NAM(), stf, model.getAs("BusinessDayConvention")));
+        events.add(EventFactory.createEvents(prSchedule, EventType.PR,
+            model.getAs("Currency"), Functions.POF_PR_NAM, stf, model.getAs("BusinessDayConvention")));
         // regular interest payments aligned with principal redemption schedule
-        events.addAll(EventFactory.createEvents(ipSchedule, StringUtils.EventType_IP, model.getAs("Currency"), new POF_IP_LAM(), new STF_IP_ANN(), model.getAs("BusinessDayConvention")));
+        events.add(EventFactory.createEvents(ipSchedule, EventType.IP, model.getAs("Currency"), Functions.POF_IP_LAM, Functions.STF_IP_ANN, model.getAs("BusinessDayConvention")));
         // generate an IP at PRANX-1PRCL if IPANX is not defined
-        LocalDateTime ipanx = model.<LocalDateTime>getAs("CycleAnchorDateOfPrincipalRedemption").minus(CycleUtils.parsePeriod(model.getAs("CycleOfPrincipalRedemption")));
+        LocalDateTime ipanx = model.<LocalDateTime>getAs("CycleAnchorDateOfPrincipalRedemption").minus(Cycle.of(model.getAs("CycleOfPrincipalRedemption")).period());
         if(CommonUtils.isNull(model.getAs("CycleAnchorDateOfInterestPayment")) && ipanx.isAfter(model.getAs("InitialExchangeDate")))
-        	events.add(EventFactory.createEvent(ipanx,StringUtils.EventType_IP, model.getAs("Currency"), new POF_IP_LAM(), new STF_IP_PAM(), model.getAs("BusinessDayConvention")));
+        	events.add(EventFactory.createEvent(ipanx,EventType.IP, model.getAs("Currency"), Functions.POF_IP_LAM, Functions.STF_IP_PAM, model.getAs("BusinessDayConvention")));
         // -> chose right Payoff function depending on maturity
-        PayOffFunction pof = (!CommonUtils.isNull(model.getAs("MaturityDate"))? new POF_PR_PAM():new POF_PR_NAM());
-            events.add(EventFactory.createEvent(maturity,StringUtils.EventType_PR,model.getAs("Currency"),pof,new STF_PR_PAM(), model.getAs("BusinessDayConvention")));
-            events.add(EventFactory.createEvent(maturity,StringUtils.EventType_IP, model.getAs("Currency"), new POF_IP_LAM(), new STF_IP_ANN(), model.getAs("BusinessDayConvention")));
+        PayOffFunction pof = (!CommonUtils.isNull(model.getAs("MaturityDate"))? Functions.POF_PR_PAM:Functions.POF_PR_NAM);
+            events.add(EventFactory.createEvent(maturity,EventType.PR,model.getAs("Currency"),pof,Functions.STF_PR_PAM, model.getAs("BusinessDayConvention")));
+            events.add(EventFactory.createEvent(maturity,EventType.IP, model.getAs("Currency"), Functions.POF_IP_LAM, Functions.STF_IP_ANN, model.getAs("BusinessDayConvention")));
         // purchase
         if (!CommonUtils.isNull(model.getAs("PurchaseDate"))) {
-            events.add(EventFactory.createEvent(model.getAs("PurchaseDate"), StringUtils.EventType_PRD, model.getAs("Currency"), new POF_PRD_LAM(), new STF_PRD_ANN()));
+            events.add(EventFactory.createEvent(model.getAs("PurchaseDate"), EventType.PRD, model.getAs("Currency"), Functions.POF_PRD_LAM, Functions.STF_PRD_ANN));
         }
         // -> chose right state transition function for IPCI depending on ipcb attributes
-        StateTransitionFunction stf_ipci=(!CommonUtils.isNull(model.getAs("InterestCalculationBase")) && model.getAs("InterestCalculationBase").equals("NTL"))? new STF_IPCI_LAM() : new STF_IPCI2_LAM();
+        StateTransitionFunction stf_ipci=(!CommonUtils.isNull(model.getAs("InterestCalculationBase")) && model.getAs("InterestCalculationBase").equals("NTL"))? Functions.STF_IPCI_LAM : Functions.STF_IPCI2_LAM;
         // interest payment related
         if (!CommonUtils.isNull(model.getAs("CycleOfInterestPayment")) || !CommonUtils.isNull(model.getAs("CycleAnchorDateOfInterestPayment"))) {
             // raw interest payment events
-            Set<ContractEvent> interestEvents =
-                    EventFactory.createEvents(ScheduleFactory.createSchedule(model.getAs("CycleAnchorDateOfInterestPayment"),
+            Iterator<ContractEvent> interestEvents =
+                    EventFactory.createEvents(ScheduleFactory.createScheduleIterator(model.getAs("CycleAnchorDateOfInterestPayment"),
                             model.getAs("CycleAnchorDateOfInterestPayment"),
                             model.getAs("CycleOfInterestPayment"),
                             model.getAs("EndOfMonthConvention"),false),
-                            StringUtils.EventType_IP, model.getAs("Currency"), new POF_IP_LAM(), new STF_IP_ANN(), model.getAs("BusinessDayConvention"));
+                            EventType.IP, model.getAs("Currency"), Functions.POF_IP_LAM, Functions.STF_IP_ANN, model.getAs("BusinessDayConvention"));
             // adapt if interest capitalization set
             if (!CommonUtils.isNull(model.getAs("CapitalizationEndDate"))) {
                 // for all events with time <= IPCED && type == "IP" do
                 // change type to IPCI and payoff/state-trans functions
-                ContractEvent capitalizationEnd = EventFactory.createEvent(model.getAs("CapitalizationEndDate"), StringUtils.EventType_IPCI,
-                        model.getAs("Currency"), new POF_IPCI_PAM(), stf_ipci, model.getAs("BusinessDayConvention"));
-                interestEvents.forEach(e -> {
-                    if (e.type().equals(StringUtils.EventType_IP) && e.compareTo(capitalizationEnd) == -1) {
-                        e.type(StringUtils.EventType_IPCI);
-                        e.fPayOff(new POF_IPCI_PAM());
-                        e.fStateTrans(stf_ipci);
-                    }
-                });
-                // also, remove any IP event exactly at IPCED and replace with an IPCI event
-                interestEvents.remove(EventFactory.createEvent(model.getAs("CapitalizationEndDate"), StringUtils.EventType_IP,
-                        model.getAs("Currency"), new POF_AD_PAM(), new STF_AD_PAM(), model.getAs("BusinessDayConvention")));
+                ContractEvent capitalizationEnd = EventFactory.createEvent(model.getAs("CapitalizationEndDate"), EventType.IPCI,
+                        model.getAs("Currency"), Functions.POF_IPCI_PAM, stf_ipci, model.getAs("BusinessDayConvention"));
+                interestEvents = EventFactory.adaptEvents(interestEvents,
+                        e -> e.eventType() == EventType.IP && e.compareTo(capitalizationEnd) == -1,
+                        e -> {
+                            e.type(EventType.IPCI);
+                            e.fPayOff(Functions.POF_IPCI_PAM);
+                            e.fStateTrans(stf_ipci);
+                        });
             }
-            events.addAll(interestEvents);
+            events.add(interestEvents);
         } else if(!CommonUtils.isNull(model.getAs("CapitalizationEndDate"))) {
             // if no extra interest schedule set but capitalization end date, add single IPCI event
-            events.add(EventFactory.createEvent(model.getAs("CapitalizationEndDate"), StringUtils.EventType_IPCI,
-                    model.getAs("Currency"), new POF_IPCI_PAM(), stf_ipci, model.getAs("BusinessDayConvention")));
+            events.add(EventFactory.createEvent(model.getAs("CapitalizationEndDate"), EventType.IPCI,
+                    model.getAs("Currency"), Functions.POF_IPCI_PAM, stf_ipci, model.getAs("BusinessDayConvention")));
         }
         // rate reset
-        Set<ContractEvent> rateResetEvents = EventFactory.createEvents(ScheduleFactory.createSchedule(model.<LocalDateTime>getAs("CycleAnchorDateOfRateReset"), maturity,
+        Iterator<ContractEvent> rateResetEvents = EventFactory.createEvents(ScheduleFactory.createScheduleIterator(model.<LocalDateTime>getAs("CycleAnchorDateOfRateReset"), maturity,
                 model.getAs("CycleOfRateReset"), model.getAs("EndOfMonthConvention"),false),
-                StringUtils.EventType_RR, model.getAs("Currency"), new POF_RR_PAM(), new STF_RR_ANN(), model.getAs("BusinessDayConvention"));
+                EventType.RR, model.getAs("Currency"), Functions.POF_RR_PAM, Functions.STF_RR_ANN, model.getAs("BusinessDayConvention"));
         
         // adapt fixed rate reset event
         if(!CommonUtils.isNull(model.getAs("NextResetRate"))) {
-            ContractEvent fixedEvent = rateResetEvents.stream().sorted().filter(e -> e.compareTo(EventFactory.createEvent(model.getAs("StatusDate"), StringUtils.EventType_SD, model.getAs("Currency"), null, null)) == 1).findFirst().get();
-            fixedEvent.fStateTrans(new STF_RRF_ANN());
-            fixedEvent.type(StringUtils.EventType_RRF);
-            rateResetEvents.add(fixedEvent);
+            ContractEvent statusEvent = EventFactory.createEvent(model.getAs("StatusDate"), EventType.SD, model.getAs("Currency"), null, null);
+            rateResetEvents = EventFactory.adaptFirstEvent(rateResetEvents, e -> e.compareTo(statusEvent) == 1, e -> {
+                e.fStateTrans(Functions.STF_RRF_ANN);
+                e.type(EventType.RRF);
+            });
         }
 
-        events.addAll(rateResetEvents);
+        events.add(rateResetEvents);
         // fees (if specified)
         if (!CommonUtils.isNull(model.getAs("CycleOfFee"))) {
-            events.addAll(EventFactory.createEvents(ScheduleFactory.createSchedule(model.getAs("CycleAnchorDateOfFee"), maturity,
+            events.add(EventFactory.createEvents(ScheduleFactory.createScheduleIterator(model.getAs("CycleAnchorDateOfFee"), maturity,
                     model.getAs("CycleOfFee"), model.getAs("EndOfMonthConvention"),false),
-                    StringUtils.EventType_FP, model.getAs("Currency"), new POF_FP_PAM(), new STF_FP_LAM(), model.getAs("BusinessDayConvention")));
+                    EventType.FP, model.getAs("Currency"), Functions.POF_FP_PAM, Functions.STF_FP_LAM, model.getAs("BusinessDayConvention")));
         }
         // scaling (if specified)
         if (!CommonUtils.isNull(model.getAs("ScalingEffect")) && (model.<String>getAs("ScalingEffect").contains("I") || model.<String>getAs("ScalingEffect").contains("N"))) {
-            events.addAll(EventFactory.createEvents(ScheduleFactory.createSchedule(model.getAs("SycleAnchorDateOfScalingIndex"), maturity,
+            events.add(EventFactory.createEvents(ScheduleFactory.createScheduleIterator(model.getAs("SycleAnchorDateOfScalingIndex"), maturity,
                     model.getAs("SycleOfScalingIndex"), model.getAs("EndOfMonthConvention"),false),
-                    StringUtils.EventType_SC, model.getAs("Currency"), new POF_SC_PAM(), new STF_SC_LAM(), model.getAs("BusinessDayConvention")));
+                    EventType.SC, model.getAs("Currency"), Functions.POF_SC_PAM, Functions.STF_SC_LAM, model.getAs("BusinessDayConvention")));
         }
         // interest calculation base (if specified)
         if (!CommonUtils.isNull(model.getAs("InterestCalculationBase")) && model.getAs("InterestCalculationBase").equals("NTL")) {
-            events.addAll(EventFactory.createEvents(ScheduleFactory.createSchedule(model.getAs("CycleAnchorDateOfInterestCalculationBase"), maturity,
+            events.add(EventFactory.createEvents(ScheduleFactory.createScheduleIterator(model.getAs("CycleAnchorDateOfInterestCalculationBase"), maturity,
                     model.getAs("CycleOfScalingIndex"), model.getAs("EndOfMonthConvention"),false),
-                    StringUtils.EventType_IPCB, model.getAs("Currency"), new POF_IPCB_LAM(), new STF_IPCB_LAM(), model.getAs("BusinessDayConvention")));
+                    EventType.IPCB, model.getAs("Currency"), Functions.POF_IPCB_LAM, Functions.STF_IPCB_LAM, model.getAs("BusinessDayConvention")));
         }
         // termination
         if (!CommonUtils.isNull(model.getAs("TerminationDate"))) {
             ContractEvent termination =
-                    EventFactory.createEvent(model.getAs("TerminationDate"), StringUtils.EventType_TD, model.getAs("Currency"), new POF_TD_LAM(), new STF_TD_PAM());
-            events.removeIf(e -> e.compareTo(termination) == 1); // remove all post-termination events
-            events.add(termination);
+                    EventFactory.createEvent(model.getAs("TerminationDate"), EventType.TD, model.getAs("Currency"), Functions.POF_TD_LAM, Functions.STF_TD_PAM);
+            events.terminate(termination); // remove all post-termination events
         }
         // remove all pre-status date events
-        events.removeIf(e -> e.compareTo(EventFactory.createEvent(model.getAs("StatusDate"), StringUtils.EventType_SD, model.getAs("Currency"), null, null)) == -1);
+        events.from(EventFactory.createEvent(model.getAs("StatusDate"), EventType.SD, model.getAs("Currency"), null, null));
 
         // remove all post to-date events
-        events.removeIf(e -> e.compareTo(EventFactory.createEvent(to, StringUtils.EventType_AD, model.getAs("Currency"), null, null)) == 1);
-
-        // sort the events in the payoff-list according to their time of occurence
-        Collections.sort(events);
+        events.until(EventFactory.createEvent(to, EventType.AD, model.getAs("Currency"), null, null));
 
         return events;
     }
 
     // apply a set of events to the current state of a contract and return the post events state
     public static ArrayList<ContractEvent> apply(ArrayList<ContractEvent> events,
-                                   ContractModelProvider model,
-                                   RiskFactorModelProvider observer) throws AttributeConversionException {
-
-        // initialize state space per status date
-        StateSpace states = initStateSpace(model);
+                                                 ContractModelProvider model,
+                                                 RiskFactorModelProvider observer) throws AttributeConversionException {
 
         // sort the events according to their time sequence
         Collections.sort(events);
 
         // apply events according to their time sequence to current state
+        return evaluation(model).apply(events, observer);
+    }
+
+    // the evaluation of events according to the contract attributes
+    static Evaluation evaluation(ContractModelProvider model) throws AttributeConversionException {
+
+        // compile the attributes used by the pay-off and state-transition functions
+        CompiledPAMModel compiledModel = CompiledPAMModel.of(model);
+
+        // initialize state space per status date
+        StateSpace states = initStateSpace(compiledModel);
+
+        // evaluate events until the contract is repaid
         LocalDateTime initialExchangeDate = model.getAs("InitialExchangeDate");
-		ListIterator eventIterator = events.listIterator();
-		while (( states.lastEventTime.isBefore(initialExchangeDate) || states.nominalValue > 0.0) && eventIterator.hasNext()) {
-			((ContractEvent) eventIterator.next()).eval(states, model, observer, model.getAs("DayCountConvention"),
-					model.getAs("BusinessDayConvention"));
-		}
+        Predicate<StateSpace> proceed = state -> state.lastEventTime.isBefore(initialExchangeDate) || state.nominalValue > 0.0;
 
-        // return evaluated events
-        return events;
+        return new Evaluation(states, compiledModel, model.getAs("DayCountConvention"), model.getAs("BusinessDayConvention"), proceed);
     }
 
     // determine maturity of the contract
@@ -195,13 +202,13 @@ public final class Annuity {
                 if(model.<LocalDateTime>getAs("CycleAnchorDateOfPrincipalRedemption").isBefore(model.getAs("StatusDate"))) {
                     Set<LocalDateTime> previousEvents = ScheduleFactory.createSchedule(model.getAs("CycleAnchorDateOfPrincipalRedemption"),model.getAs("StatusDate"),
                             model.getAs("CycleOfPrincipalRedemption"), model.getAs("EndOfMonthConvention"));
-                    previousEvents.removeIf( d -> d.isBefore(model.<LocalDateTime>getAs("StatusDate").minus(CycleUtils.parsePeriod(model.getAs("CycleOfInterestPayment")))));
+                    previousEvents.removeIf( d -> d.isBefore(model.<LocalDateTime>getAs("StatusDate").minus(Cycle.of(model.getAs("CycleOfInterestPayment")).period())));
                     previousEvents.remove(model.getAs("StatusDate"));
                     lastEvent = previousEvents.toArray(new LocalDateTime[1])[0];
                 } else {
                     lastEvent = model.getAs("CycleAnchorDateOfPrincipalRedemption");
                 }
-                Period cyclePeriod = CycleUtils.parsePeriod(model.getAs("CycleOfPrincipalRedemption"));
+                Period cyclePeriod = Cycle.of(model.getAs("CycleOfPrincipalRedemption")).period();
                 double coupon = model.<Double>getAs("NotionalPrincipal")*model.<Double>getAs("NominalInterestRate")*model.<DayCountCalculator>getAs("DayCountConvention").dayCountFraction(model.getAs("CycleAnchorDateOfPrincipalRedemption"), model.<LocalDateTime>getAs("CycleAnchorDateOfPrincipalRedemption").plus(cyclePeriod));
                 maturity = lastEvent.plus(cyclePeriod.multipliedBy((int) Math.ceil(model.<Double>getAs("NotionalPrincipal")/(model.<Double>getAs("NextPrincipalRedemptionPayment")-coupon))));
         } else {
@@ -7,32 +7,18 @@ package org.actus.contracts;
 
 import org.actus.AttributeConversionException;
 import org.actus.attributes.ContractModelProvider;
+import org.actus.attributes.CompiledPAMModel;
 import org.actus.externals.RiskFactorModelProvider;
 import org.actus.events.ContractEvent;
 import org.actus.states.StateSpace;
 import org.actus.events.EventFactory;
+import org.actus.events.EventType;
+import org.actus.functions.Functions;
+import org.actus.events.EventSeries;
 import org.actus.time.ScheduleFactory;
 import org.actus.conventions.contractrole.ContractRoleConvention;
 import org.actus.util.CommonUtils;
-import org.actus.util.StringUtils;
 import org.actus.util.CycleUtils;
-import org.actus.functions.pam.POF_AD_PAM;
-import org.actus.functions.pam.STF_AD_PAM;
-import org.actus.functions.clm.POF_IED_CLM;
-import org.actus.functions.pam.STF_IED_PAM;
-import org.actus.functions.pam.POF_PR_PAM;
-import org.actus.functions.pam.STF_PR_PAM;
-import org.actus.functions.pam.STF_RRF_PAM;
-import org.actus.functions.clm.POF_IP_CLM;
-import org.actus.functions.clm.STF_IP_CLM;
-import org.actus.functions.pam.POF_IPCI_PAM;
-import org.actus.functions.pam.STF_IPCI_PAM;
-import org.actus.functions.pam.POF_RR_PAM;
-import org.actus.functions.clm.STF_RR_CLM;
-import org.actus.functions.pam.POF_FP_PAM;
-import org.actus.functions.pam.STF_FP_PAM;
-import org.actus.functions.pam.POF_CD_PAM;
-import org.actus.functions.pam.STF_CD_PAM;
 
 
 import java.time.LocalDateTime;
@@ -50,55 +36,59 @@ public final class CallMoney {
     // compute next n events
     public static ArrayList<ContractEvent> schedule(LocalDateTime to,
                                                     ContractModelProvider model) throws AttributeConversionException {
-        ArrayList<ContractEvent> events = new ArrayList<ContractEvent>();
+        return scheduleIterator(to, model).toList();
+    }
+
+    // compute next events within period lazily and in time sequence
+    public static EventSeries scheduleIterator(LocalDateTime to,
+                                               ContractModelProvider model) throws AttributeConversionException {
+        EventSeries events = new EventSeries();
 
         // determine maturity of the contract
         LocalDateTime maturity = maturity(model,to);
 
         // initial exchange
-        events.add(EventFactory.createEvent(model.getAs("InitialExchangeDate"), StringUtils.EventType_IED, model.getAs("Currency"), new POF_IED_CLM(), new STF_IED_PAM()));
+        events.add(EventFactory.createEvent(model.getAs("InitialExchangeDate"), EventType.IED, model.getAs("Currency"), Functions.POF_IED_CLM, Functions.STF_IED_PAM));
         // principal redemption
-        events.add(EventFactory.createEvent(maturity, StringUtils.EventType_PR, model.getAs("Currency"), new POF_PR_PAM(), new STF_PR_PAM()));
+        events.add(EventFactory.createEvent(maturity, EventType.PR, model.getAs("Currency"), Functions.POF_PR_PAM, Functions.STF_PR_PAM));
         // interest payment event
-        events.add(EventFactory.createEvent(maturity, StringUtils.EventType_IP, model.getAs("Currency"), new POF_IP_CLM(), new STF_IP_CLM()));
+        events.add(EventFactory.createEvent(maturity, EventType.IP, model.getAs("Currency"), Functions.POF_IP_CLM, Functions.STF_IP_CLM));
         // interest payment capitalization (if specified)
         if (!CommonUtils.isNull(model.getAs("CycleOfInterestPayment"))) {
-            events.addAll(EventFactory.createEvents(ScheduleFactory.createSchedule(model.getAs("CycleAnchorDateOfInterestPayment"),
+            events.add(EventFactory.createEvents(ScheduleFactory.createScheduleIterator(model.getAs("CycleAnchorDateOfInterestPayment"),
                     maturity,
                     model.getAs("CycleOfInterestPayment"),
                     model.getAs("EndOfMonthConvention"),false),
-                    StringUtils.EventType_IPCI, model.getAs("Currency"), new POF_IPCI_PAM(), new STF_IPCI_PAM(), model.getAs("BusinessDayConvention")));
+                    EventType.IPCI, model.getAs("Currency"), Functions.POF_IPCI_PAM, Functions.STF_IPCI_PAM, model.getAs("BusinessDayConvention")));
         }
         // rate reset
-        Set<ContractEvent> rateResetEvents = EventFactory.createEvents(ScheduleFactory.createSchedule(model.<LocalDateTime>getAs("CycleAnchorDateOfRateReset"), maturity,
+        Iterator<ContractEvent> rateResetEvents = EventFactory.createEvents(ScheduleFactory.createScheduleIterator(model.<LocalDateTime>getAs("CycleAnchorDateOfRateReset"), maturity,
                 model.getAs("CycleOfRateReset"), model.getAs("EndOfMonthConvention"),false),
-                StringUtils.EventType_RR, model.getAs("Currency"), new POF_RR_PAM(), new STF_RR_CLM(), model.getAs("BusinessDayConvention"));
+                EventType.RR, model.getAs("Currency"), Functions.POF_RR_PAM, Functions.STF_RR_CLM, model.getAs("BusinessDayConvention"));
         
         // adapt fixed rate reset event
         if(!CommonUtils.isNull(model.getAs("NextResetRate"))) {
-            ContractEvent fixedEvent = rateResetEvents.stream().sorted().filter(e -> e.compareTo(EventFactory.createEvent(model.getAs("StatusDate"), StringUtils.EventType_SD, model.getAs("Currency"), null, null)) == 1).findFirst().get();
-            fixedEvent.fStateTrans(new STF_RRF_PAM());
-            fixedEvent.type(StringUtils.EventType_RRF);
-            rateResetEvents.add(fixedEvent);
+            ContractEvent statusEvent = EventFactory.createEvent(model.getAs("StatusDate"), EventType.SD, model.getAs("Currency"), null, null);
+            rateResetEvents = EventFactory.adaptFirstEvent(rateResetEvents, e -> e.compareTo(statusEvent) == 1, e -> {
+                e.fStateTrans(Functions.STF_RRF_PAM);
+                e.type(EventType.RRF);
+            });
         }
 
-        events.addAll(rateResetEvents);
+        events.add(rateResetEvents);
 
         // fees (if specified)
         if (!CommonUtils.isNull(model.getAs("CycleOfFee"))) {
-            events.addAll(EventFactory.createEvents(ScheduleFactory.createSchedule(model.getAs("CycleAnchorDateOfFee"), maturity,
+            events.add(EventFactory.createEvents(ScheduleFactory.createScheduleIterator(model.getAs("CycleAnchorDateOfFee"), maturity,
                     model.getAs("CycleOfFee"), model.getAs("EndOfMonthConvention"),false),
-                    StringUtils.EventType_FP, model.getAs("Currency"), new POF_FP_PAM(), new STF_FP_PAM(), model.getAs("BusinessDayConvention")));
+                    EventType.FP, model.getAs("Currency"), Functions.POF_FP_PAM, Functions.STF_FP_PAM, model.getAs("BusinessDayConvention")));
         }
         // remove all pre-status date events
-        events.removeIf(e -> e.compareTo(EventFactory.createEvent(model.getAs("StatusDate"), StringUtils.EventType_SD, model.getAs("Currency"), null,
-                null)) == -1);
+        events.from(EventFactory.createEvent(model.getAs("StatusDate"), EventType.SD, model.getAs("Currency"), null,
+                null));
 
         // remove all post to-date events
-        events.removeIf(e -> e.compareTo(EventFactory.createEvent(to, StringUtils.EventType_AD, model.getAs("Currency"), null, null)) == 1);
-
-        // sort the events in the payoff-list according to their time of occurence
-        Collections.sort(events);
+        events.until(EventFactory.createEvent(to, EventType.AD, model.getAs("Currency"), null, null));
 
         return events;
     }
@@ -108,17 +98,23 @@ public final class CallMoney {
                                                  ContractModelProvider model,
                                                  RiskFactorModelProvider observer) throws AttributeConversionException {
 
-        // initialize state space per status date
-        StateSpace states = initStateSpace(model);
-
         // sort the events according to their time sequence
         Collections.sort(events);
 
         // apply events according to their time sequence to current state
-        events.forEach(e -> e.eval(states, model, observer, model.getAs("DayCountConvention"), model.getAs("BusinessDayConvention")));
+        return evaluation(model).apply(events, observer);
+    }
 
-        // return evaluated events
-        return events;
+    // the evaluation of events according to the contract attributes
+    static Evaluation evaluation(ContractModelProvider model) throws AttributeConversionException {
+
+        // initialize state space per status date
+        StateSpace states = initStateSpace(model);
+
+        // compile the attributes used by the pay-off and state-transition functions
+        CompiledPAMModel compiledModel = CompiledPAMModel.of(model);
+
+        return new Evaluation(states, compiledModel, model.getAs("DayCountConvention"), model.getAs("BusinessDayConvention"), null);
     }
 
     // determine maturity of the contract
@@ -9,6 +9,7 @@ import org.actus.AttributeConversionException;
 import org.actus.attributes.ContractModelProvider;
 import org.actus.externals.RiskFactorModelProvider;
 import org.actus.events.ContractEvent;
+import org.actus.events.EventSeries;
 import org.actus.states.StateSpace;
 import org.actus.conventions.businessday.BusinessDayAdjuster;
 import org.actus.conventions.contractrole.ContractRoleConvention;
@@ -28,7 +29,13 @@ public final class Cash {
     // compute next n non-contingent events
     public static ArrayList<ContractEvent> schedule(LocalDateTime to,
                                                     ContractModelProvider model) throws AttributeConversionException {
-        return new ArrayList<ContractEvent>();
+        return scheduleIterator(to, model).toList();
+    }
+
+    // compute next events within period lazily and in time sequence
+    public static EventSeries scheduleIterator(LocalDateTime to,
+                                               ContractModelProvider model) throws AttributeConversionException {
+        return new EventSeries();
     }
 
     // apply a set of events to the current state of a contract and return the post events state
@@ -36,20 +43,23 @@ public final class Cash {
                                                  ContractModelProvider model,
                                                  RiskFactorModelProvider observer) throws AttributeConversionException {
 
+        // sort the events according to their time sequence
+        Collections.sort(events);
+
+        // apply events according to their time sequence to current state
+        return evaluation(model).apply(events, observer);
+    }
+
+    // the evaluation of events according to the contract attributes
+    static Evaluation evaluation(ContractModelProvider model) throws AttributeConversionException {
+
         // initialize state space per status date
         StateSpace states = new StateSpace();
         states.contractRoleSign = ContractRoleConvention.roleSign(model.getAs("ContractRole"));
         states.lastEventTime = model.getAs("StatusDate");
         states.nominalValue = model.getAs("NotionalPrincipal");
 
-        // sort the events according to their time sequence
-        Collections.sort(events);
-
-        // apply events according to their time sequence to current state
-        events.forEach(e -> e.eval(states, model, observer, new DayCountCalculator("A/AISDA", null), new BusinessDayAdjuster(null, null)));
-
-        // return evaluated events
-        return events;
+        return new Evaluation(states, model, new DayCountCalculator("A/AISDA", null), new BusinessDayAdjuster(null, null), null);
     }
 
 }
@@ -7,21 +7,18 @@ package org.actus.contracts;
 
 import org.actus.AttributeConversionException;
 import org.actus.attributes.ContractModelProvider;
+import org.actus.attributes.CompiledPAMModel;
 import org.actus.externals.RiskFactorModelProvider;
 import org.actus.events.ContractEvent;
 import org.actus.states.StateSpace;
 import org.actus.events.EventFactory;
+import org.actus.events.EventType;
+import org.actus.functions.Functions;
+import org.actus.events.EventSeries;
 import org.actus.conventions.businessday.BusinessDayAdjuster;
 import org.actus.conventions.contractrole.ContractRoleConvention;
 import org.actus.conventions.daycount.DayCountCalculator;
-import org.actus.util.StringUtils;
 import org.actus.util.CommonUtils;
-import org.actus.functions.pam.POF_AD_PAM;
-import org.actus.functions.pam.STF_AD_PAM;
-import org.actus.functions.stk.POF_PRD_STK;
-import org.actus.functions.stk.STF_PRD_STK;
-import org.actus.functions.stk.POF_TD_STK;
-import org.actus.functions.stk.STF_TD_STK;
 
 
 import java.time.LocalDateTime;
@@ -37,23 +34,29 @@ public final class Commodity {
 
     // compute next n non-contingent events
     public static ArrayList<ContractEvent> schedule(LocalDateTime to,
-                                                ContractModelProvider model) throws AttributeConversionException {
-        ArrayList<ContractEvent> events = new ArrayList<ContractEvent>();
+                                                    ContractModelProvider model) throws AttributeConversionException {
+        return scheduleIterator(to, model).toList();
+    }
+
+    // compute next events within period lazily and in time sequence
+    public static EventSeries scheduleIterator(LocalDateTime to,
+                                               ContractModelProvider model) throws AttributeConversionException {
+        EventSeries events = new EventSeries();
 
         // purchase
         if (!CommonUtils.isNull(model.getAs("PurchaseDate"))) {
-            events.add(EventFactory.createEvent(model.getAs("PurchaseDate"), StringUtils.EventType_PRD, model.getAs("Currency"), new POF_PRD_STK(), new STF_PRD_STK()));
+            events.add(EventFactory.createEvent(model.getAs("PurchaseDate"), EventType.PRD, model.getAs("Currency"), Functions.POF_PRD_STK, Functions.STF_PRD_STK));
         }
         // termination
         if (!CommonUtils.isNull(model.getAs("TerminationDate"))) {
-            events.add(EventFactory.createEvent(model.getAs("TerminationDate"), StringUtils.EventType_TD, model.getAs("Currency"), new POF_TD_STK(), new STF_TD_STK()));
+            events.add(EventFactory.createEvent(model.getAs("TerminationDate"), EventType.TD, model.getAs("Currency"), Functions.POF_TD_STK, Functions.STF_TD_STK));
         }
 
         // remove all pre-status date events
-        events.removeIf(e -> e.compareTo(EventFactory.createEvent(model.getAs("StatusDate"), StringUtils.EventType_SD, model.getAs("Currency"), null, null)) == -1);
+        events.from(EventFactory.createEvent(model.getAs("StatusDate"), EventType.SD, model.getAs("Currency"), null, null));
         
         // remove all post to-date events
-        events.removeIf(e -> e.compareTo(EventFactory.createEvent(model.getAs("StatusDate"), StringUtils.EventType_SD, model.getAs("Currency"), null, null)) == 1);
+        events.until(EventFactory.createEvent(model.getAs("StatusDate"), EventType.SD, model.getAs("Currency"), null, null));
 
         return events;
     }
@@ -63,18 +66,24 @@ public final class Commodity {
                                                  ContractModelProvider model,
                                                  RiskFactorModelProvider observer) throws AttributeConversionException {
 
+        // sort the events according to their time sequence
+        Collections.sort(events);
+
+        // apply events according to their time sequence to current state
+        return evaluation(model).apply(events, observer);
+    }
+
+    // the evaluation of events according to the contract attributes
+    static Evaluation evaluation(ContractModelProvider model) throws AttributeConversionException {
+
         // initialize state space per status date
         StateSpace states = new StateSpace();
         states.contractRoleSign = ContractRoleConvention.roleSign(model.getAs("ContractRole"));
         states.lastEventTime = model.getAs("StatusDate");
 
-        // sort the events according to their time sequence
-        Collections.sort(events);
+        // compile the attributes used by the pay-off and state-transition functions
+        CompiledPAMModel compiledModel = CompiledPAMModel.of(model);
 
-        // apply events according to their time sequence to current state
-        events.forEach(e -> e.eval(states, model, observer, new DayCountCalculator("A/AISDA", null), new BusinessDayAdjuster(null, null)));
-
-        // return evaluated events
-        return events;
+        return new Evaluation(states, compiledModel, new DayCountCalculator("A/AISDA", null), new BusinessDayAdjuster(null, null), null);
     }
 }
\ No newline at end of file
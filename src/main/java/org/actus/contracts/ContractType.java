@@ -10,6 +10,9 @@ import org.actus.AttributeConversionException;
 import org.actus.externals.RiskFactorModelProvider;
 import org.actus.attributes.ContractModelProvider;
 import org.actus.events.ContractEvent;
+import org.actus.events.EventSeries;
+import org.actus.events.EventFactory;
+import org.actus.events.Schedule;
 import org.actus.states.StateSpace;
 import org.actus.util.StringUtils;
 
@@ -17,6 +20,7 @@ import java.time.LocalDateTime;
 import java.time.Period;
 import java.util.Set;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * A representation of an ACTUS Contract Type algorithm
@@ -94,6 +98,141 @@ public final class ContractType {
         }
     }
 
+    /**
+     * Evaluates the next contract events within a certain time period lazily
+     * <p>
+     *     Same as {@link #schedule(LocalDateTime, ContractModelProvider)} but the contract
+     *     events are returned as an {@link EventSeries} that generates the events in time
+     *     sequence only as it is consumed. Hence, a consumer interested in the events up to
+     *     a horizon shorter than {@code to} may stop iterating at that horizon without paying
+     *     for the generation of the remaining events.
+     * </p>
+     *
+     * @param to the time up to which the events are to be evaluated
+     * @param model the model carrying the contract attributes
+     * @return a lazy, time-ordered series of contract events scheduled up to 'to'
+     * @throws ContractTypeUnknownException if the provided ContractType field in the {@link ContractModelProvider} cannot be resolved
+     * @throws AttributeConversionException if and attribute in {@link ContractModelProvider} cannot be converted to its target data type
+     *
+     */
+    public static EventSeries scheduleIterator(LocalDateTime to,
+                                               ContractModelProvider model) throws ContractTypeUnknownException,AttributeConversionException {
+        switch((String) model.getAs("ContractType")) {
+            case StringUtils.ContractType_PAM:
+                return PrincipalAtMaturity.scheduleIterator(to,model);
+            case StringUtils.ContractType_LAM:
+                return LinearAmortizer.scheduleIterator(to,model);
+            case StringUtils.ContractType_NAM:
+                return NegativeAmortizer.scheduleIterator(to,model);
+            case StringUtils.ContractType_ANN:
+                return Annuity.scheduleIterator(to,model);
+            case StringUtils.ContractType_CLM:
+                return CallMoney.scheduleIterator(to,model);
+            case StringUtils.ContractType_UMP:
+                return UndefinedMaturityProfile.scheduleIterator(to,model);
+            case StringUtils.ContractType_CSH:
+                return Cash.scheduleIterator(to,model);
+            case StringUtils.ContractType_STK:
+                return Stock.scheduleIterator(to,model);
+            case StringUtils.ContractType_COM:
+                return Commodity.scheduleIterator(to,model);
+            case StringUtils.ContractType_FXOUT:
+                return ForeignExchangeOutright.scheduleIterator(to,model);
+            case StringUtils.ContractType_SWPPV:
+                return PlainVanillaInterestRateSwap.scheduleIterator(to,model);
+            case StringUtils.ContractType_SWAPS:
+                return Swap.scheduleIterator(to,model);
+            case StringUtils.ContractType_LAX:
+            	return ExoticLinearAmortizer.scheduleIterator(to, model);
+            default:
+                throw new ContractTypeUnknownException();
+        }
+    }
+
+    /**
+     * Applies a schedule of contract events to the current state of the contract
+     * <p>
+     *     Same as {@link #apply(ArrayList, ContractModelProvider, RiskFactorModelProvider)} but the
+     *     events are evaluated on copies provided by the {@link Schedule} (cf. {@link Schedule#events()})
+     *     and the schedule itself remains unchanged. Hence, a schedule computed once
+     *     (cf. {@link #schedule(LocalDateTime, ContractModelProvider)}) may be applied under
+     *     different risk factor scenarios, also concurrently, with separate results per scenario.
+     * </p>
+     *
+     * @param schedule the schedule of contract events
+     * @param model the model carrying the contract attributes
+     * @param observer the observer for external events and data
+     * @return the evaluated events and post-event contract states
+     * @throws ContractTypeUnknownException if the provided ContractType field in the {@link ContractModelProvider} cannot be resolved
+     * @throws AttributeConversionException if and attribute in {@link ContractModelProvider} cannot be converted to its target data type
+     */
+    public static ArrayList<ContractEvent> apply(Schedule schedule,
+                                                 ContractModelProvider model,
+                                                 RiskFactorModelProvider observer) throws ContractTypeUnknownException,AttributeConversionException {
+        return apply(schedule.events(), model, observer);
+    }
+
+    /**
+     * Applies a schedule of contract events under several risk factor scenarios
+     * <p>
+     *     Same as {@link #apply(Schedule, ContractModelProvider, RiskFactorModelProvider)} for every
+     *     observer in {@code observers}, but the scenarios are evaluated in a single pass over the
+     *     schedule. That is, every event is evaluated for all scenarios before the next event such that
+     *     the contract attributes, the event's pay-off and state-transition functions and its day count
+     *     fractions are resolved once per event rather than once per event and scenario. The initial
+     *     states of the contract are computed once and copied per scenario.
+     * </p>
+     * <p>
+     *     If the {@code ContractType} attribute cannot be resolved to an ACTUS Contract Type the method
+     *     throws a {@link ContractTypeUnknownException}. This includes Contract Type {@link Swap}, for
+     *     which this method is not yet available.
+     * </p>
+     *
+     * @param schedule the schedule of contract events
+     * @param model the model carrying the contract attributes
+     * @param observers the observers for external events and data, one per scenario
+     * @return the evaluated events and post-event contract states per scenario in the order of {@code observers}
+     * @throws ContractTypeUnknownException if the provided ContractType field in the {@link ContractModelProvider} cannot be resolved
+     * @throws AttributeConversionException if and attribute in {@link ContractModelProvider} cannot be converted to its target data type
+     */
+    public static List<ArrayList<ContractEvent>> apply(Schedule schedule,
+                                                       ContractModelProvider model,
+                                                       List<? extends RiskFactorModelProvider> observers) throws ContractTypeUnknownException,AttributeConversionException {
+        return evaluation(model).apply(schedule, observers);
+    }
+
+    // the evaluation of events according to the Contract Type
+    private static Evaluation evaluation(ContractModelProvider model) throws ContractTypeUnknownException,AttributeConversionException {
+        switch((String) model.getAs("ContractType")) {
+            case StringUtils.ContractType_PAM:
+                return PrincipalAtMaturity.evaluation(model);
+            case StringUtils.ContractType_LAM:
+                return LinearAmortizer.evaluation(model);
+            case StringUtils.ContractType_NAM:
+                return NegativeAmortizer.evaluation(model);
+            case StringUtils.ContractType_ANN:
+                return Annuity.evaluation(model);
+            case StringUtils.ContractType_CLM:
+                return CallMoney.evaluation(model);
+            case StringUtils.ContractType_UMP:
+                return UndefinedMaturityProfile.evaluation(model);
+            case StringUtils.ContractType_CSH:
+                return Cash.evaluation(model);
+            case StringUtils.ContractType_STK:
+                return Stock.evaluation(model);
+            case StringUtils.ContractType_COM:
+                return Commodity.evaluation(model);
+            case StringUtils.ContractType_FXOUT:
+                return ForeignExchangeOutright.evaluation(model);
+            case StringUtils.ContractType_SWPPV:
+                return PlainVanillaInterestRateSwap.evaluation(model);
+            case StringUtils.ContractType_LAX:
+                return ExoticLinearAmortizer.evaluation(model);
+            default:
+                throw new ContractTypeUnknownException();
+        }
+    }
+
     /**
      * Applies a Set of contract events to the current state of the contract
      * <p>
@@ -122,6 +261,9 @@ public final class ContractType {
     public static ArrayList<ContractEvent> apply(ArrayList<ContractEvent> events,
                                                  ContractModelProvider model,
                                                  RiskFactorModelProvider observer) throws ContractTypeUnknownException,AttributeConversionException {
+        // collect the post-event states of all events in a single buffer
+        EventFactory.allocateStates(events);
+
         switch((String) model.getAs("ContractType")) {
             case StringUtils.ContractType_PAM:
                 return PrincipalAtMaturity.apply(events,model,observer);
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.contracts;
+
+import org.actus.attributes.ContractModelProvider;
+import org.actus.conventions.businessday.BusinessDayAdjuster;
+import org.actus.conventions.daycount.DayCountCalculator;
+import org.actus.events.ContractEvent;
+import org.actus.events.EventFactory;
+import org.actus.events.Schedule;
+import org.actus.externals.ResolvedRiskFactorModel;
+import org.actus.externals.RiskFactorModelProvider;
+import org.actus.states.StateSpace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The evaluation of a contract's events in time sequence
+ * <p>
+ * An {@code Evaluation} captures what a Contract Type's {@code apply} method derives from the contract
+ * attributes before processing the events, i.e. the initial states, the model passed to the pay-off and
+ * state-transition functions, the day counter and business day adjuster, and the condition under which
+ * the evaluation proceeds to the next event (e.g. until an amortizing contract is fully repaid).
+ * <p>
+ * Besides evaluating a single list of events, an {@code Evaluation} evaluates a {@link Schedule} under
+ * many risk factor scenarios at once. Thereby, events are processed event by event across all scenarios,
+ * i.e. the attributes, functions and day count fractions of an event are resolved once for all scenarios.
+ * <p>
+ * The risk factors referenced by the contract's attributes are resolved to handles of the observer once
+ * per evaluation (cf. {@link ResolvedRiskFactorModel}) rather than looked up by id on every observation.
+ */
+final class Evaluation {
+    private final StateSpace states;
+    private final ContractModelProvider model;
+    private final DayCountCalculator dayCounter;
+    private final BusinessDayAdjuster timeAdjuster;
+    private final Predicate<StateSpace> proceed;
+    private final String[] riskFactors;
+
+    /**
+     * Constructor
+     *
+     * @param states the initial states of the contract, i.e. as per status date
+     * @param model the model passed to the pay-off and state-transition functions
+     * @param dayCounter the day counter passed to the pay-off and state-transition functions
+     * @param timeAdjuster the business day adjuster passed to the pay-off and state-transition functions
+     * @param proceed the condition under which the next event is evaluated or {@code null} if all events are
+     */
+    Evaluation(StateSpace states, ContractModelProvider model, DayCountCalculator dayCounter,
+               BusinessDayAdjuster timeAdjuster, Predicate<StateSpace> proceed) {
+        this.states = states;
+        this.model = model;
+        this.dayCounter = dayCounter;
+        this.timeAdjuster = timeAdjuster;
+        this.proceed = proceed;
+        this.riskFactors = new String[] {
+                model.getAs("MarketObjectCodeOfRateReset"),
+                model.getAs("MarketObjectCodeOfScalingIndex"),
+                model.getAs("MarketObjectCodeOfDividendRate"),
+                model.getAs("ObjectCodeOfPrepaymentModel")
+        };
+    }
+
+    /**
+     * Evaluate a list of events
+     *
+     * @param events the events in time sequence
+     * @param observer the observer for external events and data
+     * @return the evaluated events
+     */
+    ArrayList<ContractEvent> apply(ArrayList<ContractEvent> events, RiskFactorModelProvider observer) {
+        StateSpace states = this.states.copy();
+        observer = ResolvedRiskFactorModel.of(observer, riskFactors);
+        for (ContractEvent event : events) {
+            if (proceed != null && !proceed.test(states)) {
+                break;
+            }
+            event.eval(states, model, observer, dayCounter, timeAdjuster);
+        }
+        return events;
+    }
+
+    /**
+     * Evaluate a schedule under several risk factor scenarios
+     * <p>
+     * The result for every scenario equals {@link #apply(ArrayList, RiskFactorModelProvider)} with the
+     * events of the schedule (cf. {@link Schedule#events()}) and the scenario's observer.
+     *
+     * @param schedule the schedule of events
+     * @param observers the observers for external events and data, one per scenario
+     * @return the evaluated events per scenario in the order of {@code observers}
+     */
+    List<ArrayList<ContractEvent>> apply(Schedule schedule, List<? extends RiskFactorModelProvider> observers) {
+        int scenarios = observers.size();
+        RiskFactorModelProvider[] observer = new RiskFactorModelProvider[scenarios];
+        StateSpace[] states = new StateSpace[scenarios];
+        List<ArrayList<ContractEvent>> results = new ArrayList<ArrayList<ContractEvent>>(scenarios);
+        for (int s = 0; s < scenarios; s++) {
+            observer[s] = ResolvedRiskFactorModel.of(observers.get(s), riskFactors);
+            states[s] = this.states.copy();
+            ArrayList<ContractEvent> events = schedule.events();
+            EventFactory.allocateStates(events);
+            results.add(events);
+        }
+
+        // process the schedule event by event across all scenarios not terminated yet
+        boolean[] terminated = new boolean[scenarios];
+        int active = scenarios;
+        for (int i = 0; i < schedule.size() && active > 0; i++) {
+            for (int s = 0; s < scenarios; s++) {
+                if (terminated[s]) {
+                    continue;
+                }
+                if (proceed != null && !proceed.test(states[s])) {
+                    terminated[s] = true;
+                    active--;
+                    continue;
+                }
+                results.get(s).get(i).eval(states[s], model, observer[s], dayCounter, timeAdjuster);
+            }
+        }
+        return results;
+    }
+}
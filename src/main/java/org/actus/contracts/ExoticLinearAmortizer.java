@@ -9,29 +9,23 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.ListIterator;
+import java.util.Iterator;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.actus.AttributeConversionException;
 import org.actus.attributes.ContractModelProvider;
+import org.actus.attributes.CompiledPAMModel;
 import org.actus.conventions.contractrole.ContractRoleConvention;
 import org.actus.events.ContractEvent;
 import org.actus.events.EventFactory;
+import org.actus.events.EventType;
+import org.actus.events.EventSeries;
 import org.actus.externals.RiskFactorModelProvider;
 
+import org.actus.functions.Functions;
 import org.actus.functions.PayOffFunction;
 import org.actus.functions.StateTransitionFunction;
-import org.actus.functions.lam.POF_IPCB_LAM;
-import org.actus.functions.lam.POF_IP_LAM;
-import org.actus.functions.lam.POF_PRD_LAM;
-import org.actus.functions.lam.POF_TD_LAM;
-import org.actus.functions.lam.STF_FP_LAM;
-import org.actus.functions.lam.STF_IED_LAM;
-import org.actus.functions.lam.STF_IPCB_LAM;
-import org.actus.functions.lam.STF_IPCI2_LAM;
-import org.actus.functions.lam.STF_IPCI_LAM;
-import org.actus.functions.lam.STF_PRD_LAM;
-import org.actus.functions.lam.STF_SC_LAM;
 import org.actus.functions.lax.POF_PI_LAX;
 import org.actus.functions.lax.POF_PR_LAX;
 import org.actus.functions.lax.STF_PI_LAX;
@@ -39,22 +33,11 @@ import org.actus.functions.lax.STF_PI_LAX2;
 import org.actus.functions.lax.STF_PR_LAX;
 import org.actus.functions.lax.STF_PR_LAX2;
 import org.actus.functions.lax.STF_RRF_LAX;
-import org.actus.functions.lax.STF_RRY_LAM;
 import org.actus.functions.lax.STF_RR_LAX;
-import org.actus.functions.pam.POF_AD_PAM;
-import org.actus.functions.pam.POF_FP_PAM;
-import org.actus.functions.pam.POF_IED_PAM;
-import org.actus.functions.pam.POF_IPCI_PAM;
-import org.actus.functions.pam.POF_RR_PAM;
-import org.actus.functions.pam.POF_SC_PAM;
-import org.actus.functions.pam.STF_AD_PAM;
-import org.actus.functions.pam.STF_IP_PAM;
-import org.actus.functions.pam.STF_TD_PAM;
 
 import org.actus.states.StateSpace;
 import org.actus.time.ScheduleFactory;
 import org.actus.util.CommonUtils;
-import org.actus.util.StringUtils;
 
 /**
  * Represents the Exotic Linear Amortizer payoff algorithm
@@ -66,19 +49,25 @@ public final class ExoticLinearAmortizer {
 	// compute next n non-contingent events
 	public static ArrayList<ContractEvent> schedule(LocalDateTime to, ContractModelProvider model)
 			throws AttributeConversionException {
-		ArrayList<ContractEvent> events = new ArrayList<ContractEvent>();
+		return scheduleIterator(to, model).toList();
+	}
+
+	// compute next events within period lazily and in time sequence
+	public static EventSeries scheduleIterator(LocalDateTime to, ContractModelProvider model)
+			throws AttributeConversionException {
+		EventSeries events = new EventSeries();
 
 		// determine maturity of the contract
 		LocalDateTime maturity = maturity(model);
 
 		// initial exchange
-		events.add(EventFactory.createEvent(model.getAs("InitialExchangeDate"), StringUtils.EventType_IED,
-				model.getAs("Currency"), new POF_IED_PAM(), new STF_IED_LAM()));
+		events.add(EventFactory.createEvent(model.getAs("InitialExchangeDate"), EventType.IED,
+				model.getAs("Currency"), Functions.POF_IED_PAM, Functions.STF_IED_LAM));
 		
 		// purchase event
 		if (!CommonUtils.isNull(model.getAs("PurchaseDate"))) {
-			events.add(EventFactory.createEvent(model.getAs("PurchaseDate"), StringUtils.EventType_PRD,
-					model.getAs("Currency"), new POF_PRD_LAM(), new STF_PRD_LAM()));
+			events.add(EventFactory.createEvent(model.getAs("PurchaseDate"), EventType.PRD,
+					model.getAs("Currency"), Functions.POF_PRD_LAM, Functions.STF_PRD_LAM));
 		}
 
 		// create principal redemption schedule
@@ -96,7 +85,7 @@ public final class ExoticLinearAmortizer {
 					.map(d -> d).toArray(String[]::new);
 
 			// create array-type schedule with respective increase/decrease features
-			String prType;
+			EventType prType;
 			StateTransitionFunction prStf;
 			PayOffFunction prPof;
 
@@ -108,20 +97,20 @@ public final class ExoticLinearAmortizer {
 			}
 			for (int i = 0; i < prAnchor.length; i++) {
 				if (prIncDec[i].trim().equalsIgnoreCase("DEC")) {
-					prType = StringUtils.EventType_PR;
+					prType = EventType.PR;
 					prStf = (!CommonUtils.isNull(model.getAs("InterestCalculationBase"))
 							&& model.getAs("InterestCalculationBase").equals("NTL")) ? 
 							new STF_PR_LAX(Double.parseDouble(prPayment[i])) : new STF_PR_LAX2(Double.parseDouble(prPayment[i]));
 					prPof = new POF_PR_LAX(Double.parseDouble(prPayment[i]));
 				} else {
-					prType = StringUtils.EventType_PI;
+					prType = EventType.PI;
 					prStf = (!CommonUtils.isNull(model.getAs("InterestCalculationBase"))
 							&& model.getAs("InterestCalculationBase").equals("NTL")) ? 
 							new STF_PI_LAX(Double.parseDouble(prPayment[i])) : new STF_PI_LAX2(Double.parseDouble(prPayment[i]));
 					prPof = new POF_PI_LAX(Double.parseDouble(prPayment[i]));
 				}
-				events.addAll(EventFactory.createEvents(
-						ScheduleFactory.createSchedule(prLocalDate[i], prLocalDate[i + 1], prCycle[i],
+				events.add(EventFactory.createEvents(
+						ScheduleFactory.createScheduleIterator(prLocalDate[i], prLocalDate[i + 1], prCycle[i],
 								model.getAs("EndOfMonthConvention"), false),
 						prType, model.getAs("Currency"), prPof, prStf, model.getAs("BusinessDayConvention")));
 			}
@@ -138,10 +127,10 @@ public final class ExoticLinearAmortizer {
 					.map(d -> d).toArray(String[]::new);
 
 			// raw interest payment events
-			Set<ContractEvent> interestEvents = EventFactory.createEvents(
-					ScheduleFactory.createArraySchedule(ipAnchor, model.getAs("MaturityDate"), ipCycle,
+			Iterator<ContractEvent> interestEvents = EventFactory.createEvents(
+					ScheduleFactory.createArrayScheduleIterator(ipAnchor, model.getAs("MaturityDate"), ipCycle,
 							model.getAs("EndOfMonthConvention")),
-					StringUtils.EventType_IP, model.getAs("Currency"), new POF_IP_LAM(), new STF_IP_PAM(),
+					EventType.IP, model.getAs("Currency"), Functions.POF_IP_LAM, Functions.STF_IP_PAM,
 					model.getAs("BusinessDayConvention"));
 			
 			// adapt if interest capitalization set
@@ -149,27 +138,22 @@ public final class ExoticLinearAmortizer {
 				
 				// define ipci state-transition function
 				StateTransitionFunction stf_ipci = (!CommonUtils.isNull(model.getAs("InterestCalculationBase"))
-						&& model.getAs("InterestCalculationBase").equals("NTL")) ? new STF_IPCI_LAM() : new STF_IPCI2_LAM();
+						&& model.getAs("InterestCalculationBase").equals("NTL")) ? Functions.STF_IPCI_LAM : Functions.STF_IPCI2_LAM;
 						
 				// for all events with time <= IPCED && type == "IP" do
 				// change type to IPCI and payoff/state-trans functions
 				ContractEvent capitalizationEnd = EventFactory.createEvent(model.getAs("CapitalizationEndDate"),
-						StringUtils.EventType_IPCI, model.getAs("Currency"), new POF_IPCI_PAM(), stf_ipci,
+						EventType.IPCI, model.getAs("Currency"), Functions.POF_IPCI_PAM, stf_ipci,
 						model.getAs("BusinessDayConvention"));
-				interestEvents.forEach(e -> {
-					if (e.type().equals(StringUtils.EventType_IP) && e.compareTo(capitalizationEnd) == -1) {
-						e.type(StringUtils.EventType_IPCI);
-						e.fPayOff(new POF_IPCI_PAM());
-						e.fStateTrans(stf_ipci);
-					}
-				});
-				
-				// also, remove any IP event exactly at IPCED and replace with an IPCI event
-				interestEvents.remove(EventFactory.createEvent(model.getAs("CapitalizationEndDate"),
-						StringUtils.EventType_IP, model.getAs("Currency"), new POF_AD_PAM(), new STF_AD_PAM(),
-						model.getAs("BusinessDayConvention")));
+				interestEvents = EventFactory.adaptEvents(interestEvents,
+						e -> e.eventType() == EventType.IP && e.compareTo(capitalizationEnd) == -1,
+						e -> {
+							e.type(EventType.IPCI);
+							e.fPayOff(Functions.POF_IPCI_PAM);
+							e.fStateTrans(stf_ipci);
+						});
 			}
-			events.addAll(interestEvents);
+			events.add(interestEvents);
 		} else 
 			
 			// if no interest schedule defined, still add a capitalization event
@@ -177,11 +161,11 @@ public final class ExoticLinearAmortizer {
 			
 				// define ipci state-transition function
 				StateTransitionFunction stf_ipci = (!CommonUtils.isNull(model.getAs("InterestCalculationBase"))
-						&& model.getAs("InterestCalculationBase").equals("NTL")) ? new STF_IPCI_LAM() : new STF_IPCI2_LAM();
+						&& model.getAs("InterestCalculationBase").equals("NTL")) ? Functions.STF_IPCI_LAM : Functions.STF_IPCI2_LAM;
 						
 				// add single event
-				events.add(EventFactory.createEvent(model.getAs("CapitalizationEndDate"), StringUtils.EventType_IPCI,
-						model.getAs("Currency"), new POF_IPCI_PAM(), stf_ipci, model.getAs("BusinessDayConvention")));
+				events.add(EventFactory.createEvent(model.getAs("CapitalizationEndDate"), EventType.IPCI,
+						model.getAs("Currency"), Functions.POF_IPCI_PAM, stf_ipci, model.getAs("BusinessDayConvention")));
 		}
 		
 		// create rate reset schedule
@@ -199,7 +183,7 @@ public final class ExoticLinearAmortizer {
 					.map(d -> d).toArray(String[]::new);
 			
 			// create array-type schedule with fix/var features
-			String rrType;
+			EventType rrType;
 			StateTransitionFunction rrStf;
 			Set<ContractEvent> rateResetEvents = null;
 			int rrLen = rrAnchor.length + 1;
@@ -210,75 +194,71 @@ public final class ExoticLinearAmortizer {
 			}
 			for (int i = 0; i < rrAnchor.length; i++) {
 				if (rrFidedVar[i].trim().equalsIgnoreCase("FIX")) {
-					rrType = StringUtils.EventType_RRF;
+					rrType = EventType.RRF;
 					rrStf = new STF_RRF_LAX(Double.parseDouble(rrRate[i]));
 				} else {
-					rrType = StringUtils.EventType_RR;
+					rrType = EventType.RR;
 					rrStf = new STF_RR_LAX(Double.parseDouble(rrRate[i]));
 				}
 				rateResetEvents = EventFactory.createEvents(
 						ScheduleFactory.createSchedule(rrLocalDate[i], rrLocalDate[i + 1], rrCycle[i],
 								model.getAs("EndOfMonthConvention"), false),
-						rrType, model.getAs("Currency"), new POF_RR_PAM(), rrStf, model.getAs("BusinessDayConvention"));
-				events.addAll(rateResetEvents);
+						rrType, model.getAs("Currency"), Functions.POF_RR_PAM, rrStf, model.getAs("BusinessDayConvention"));
+				events.add(rateResetEvents);
 			}
 			
 			// adjust for already fixed reset rates
 			if (!CommonUtils.isNull(model.getAs("NextResetRate"))) {
 				rateResetEvents.stream().sorted()
 						.filter(e -> e.compareTo(EventFactory.createEvent(model.getAs("StatusDate"),
-								StringUtils.EventType_SD, model.getAs("Currency"), null, null)) == 1)
-						.findFirst().get().fStateTrans(new STF_RRY_LAM());
-				events.addAll(rateResetEvents);
+								EventType.SD, model.getAs("Currency"), null, null)) == 1)
+						.findFirst().get().fStateTrans(Functions.STF_RRY_LAM);
+				events.add(rateResetEvents);
 			}	
 		}
 		
 		// fee schedule
 		if (!CommonUtils.isNull(model.getAs("CycleOfFee"))) {
-			events.addAll(EventFactory.createEvents(
-					ScheduleFactory.createSchedule(model.getAs("CycleAnchorDateOfFee"), maturity,
+			events.add(EventFactory.createEvents(
+					ScheduleFactory.createScheduleIterator(model.getAs("CycleAnchorDateOfFee"), maturity,
 							model.getAs("CycleOfFee"), model.getAs("EndOfMonthConvention")),
-					StringUtils.EventType_FP, model.getAs("Currency"), new POF_FP_PAM(), new STF_FP_LAM(),
+					EventType.FP, model.getAs("Currency"), Functions.POF_FP_PAM, Functions.STF_FP_LAM,
 					model.getAs("BusinessDayConvention")));
 		}
 		
 		// scaling (if specified)
 		if (!CommonUtils.isNull(model.getAs("ScalingEffect")) && (model.<String>getAs("ScalingEffect").contains("I")
 				|| model.<String>getAs("ScalingEffect").contains("N"))) {
-			events.addAll(EventFactory.createEvents(
-					ScheduleFactory.createSchedule(model.getAs("CycleAnchorDateOfScalingIndex"), maturity,
+			events.add(EventFactory.createEvents(
+					ScheduleFactory.createScheduleIterator(model.getAs("CycleAnchorDateOfScalingIndex"), maturity,
 							model.getAs("CycleOfScalingIndex"), model.getAs("EndOfMonthConvention"), false),
-					StringUtils.EventType_SC, model.getAs("Currency"), new POF_SC_PAM(), new STF_SC_LAM(),
+					EventType.SC, model.getAs("Currency"), Functions.POF_SC_PAM, Functions.STF_SC_LAM,
 					model.getAs("BusinessDayConvention")));
 		}
 		
 		// interest calculation base (if specified)
 		if (!CommonUtils.isNull(model.getAs("InterestCalculationBase"))
 				&& model.getAs("InterestCalculationBase").equals("NTL")) {
-			events.addAll(EventFactory.createEvents(
-					ScheduleFactory.createSchedule(model.getAs("CycleAnchorDateOfInterestCalculationBase"), maturity,
+			events.add(EventFactory.createEvents(
+					ScheduleFactory.createScheduleIterator(model.getAs("CycleAnchorDateOfInterestCalculationBase"), maturity,
 							model.getAs("CycleOfInterestCalculationBase"), model.getAs("EndOfMonthConvention"), false),
-					StringUtils.EventType_IPCB, model.getAs("Currency"), new POF_IPCB_LAM(), new STF_IPCB_LAM(),
+					EventType.IPCB, model.getAs("Currency"), Functions.POF_IPCB_LAM, Functions.STF_IPCB_LAM,
 					model.getAs("BusinessDayConvention")));
 		}
 		
 		// termination
 		if (!CommonUtils.isNull(model.getAs("TerminationDate"))) {
 			ContractEvent termination = EventFactory.createEvent(model.getAs("TerminationDate"),
-					StringUtils.EventType_TD, model.getAs("Currency"), new POF_TD_LAM(), new STF_TD_PAM());
-			events.removeIf(e -> e.compareTo(termination) == 1); // remove all post-termination events
-			events.add(termination);
+					EventType.TD, model.getAs("Currency"), Functions.POF_TD_LAM, Functions.STF_TD_PAM);
+			events.terminate(termination); // remove all post-termination events
 		}
 
 		// remove all pre-status date events
-		events.removeIf(e -> e.compareTo(EventFactory.createEvent(model.getAs("StatusDate"), StringUtils.EventType_SD,model.getAs("Currency"), null, null)) == -1);
+		events.from(EventFactory.createEvent(model.getAs("StatusDate"), EventType.SD,model.getAs("Currency"), null, null));
 
 		// remove all post to-date events
-        events.removeIf(e -> e.compareTo(EventFactory.createEvent(to, StringUtils.EventType_AD, model.getAs("Currency"), null, null)) == 1);
+        events.until(EventFactory.createEvent(to, EventType.AD, model.getAs("Currency"), null, null));
 
-		// sort the events in the payoff-list according to their time of occurence
-		Collections.sort(events);
-		
 		return events;
 	}
 
@@ -287,21 +267,27 @@ public final class ExoticLinearAmortizer {
 	public static ArrayList<ContractEvent> apply(ArrayList<ContractEvent> events, ContractModelProvider model,
 			RiskFactorModelProvider observer) throws AttributeConversionException {
 
-		// initialize state space per status date
-		StateSpace states = initStateSpace(model, maturity(model));
-
 		// sort the events according to their time sequence
 		Collections.sort(events);
 
 		// apply events according to their time sequence to current state
+		return evaluation(model).apply(events, observer);
+	}
+
+	// the evaluation of events according to the contract attributes
+	static Evaluation evaluation(ContractModelProvider model) throws AttributeConversionException {
+
+		// initialize state space per status date
+		StateSpace states = initStateSpace(model, maturity(model));
+
+		// compile the attributes used by the pay-off and state-transition functions
+		CompiledPAMModel compiledModel = CompiledPAMModel.of(model);
+
+		// evaluate events until the contract is repaid
 		LocalDateTime initialExchangeDate = model.getAs("InitialExchangeDate");
-		ListIterator<ContractEvent> eventIterator = events.listIterator();
-		while (( states.lastEventTime.isBefore(initialExchangeDate) || states.nominalValue > 0.0) && eventIterator.hasNext()) {
-			((ContractEvent) eventIterator.next()).eval(states, model, observer, model.getAs("DayCountConvention"),
-					model.getAs("BusinessDayConvention"));
-		}
-		// return evaluated events
-		return events;
+		Predicate<StateSpace> proceed = state -> state.lastEventTime.isBefore(initialExchangeDate) || state.nominalValue > 0.0;
+
+		return new Evaluation(states, compiledModel, model.getAs("DayCountConvention"), model.getAs("BusinessDayConvention"), proceed);
 	}
 
 	private static LocalDateTime maturity(ContractModelProvider model) {
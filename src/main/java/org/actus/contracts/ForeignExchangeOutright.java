@@ -9,21 +9,16 @@ import org.actus.AttributeConversionException;
 import org.actus.attributes.ContractModelProvider;
 import org.actus.externals.RiskFactorModelProvider;
 import org.actus.events.ContractEvent;
+import org.actus.functions.Functions;
 import org.actus.functions.stk.*;
 import org.actus.states.StateSpace;
 import org.actus.events.EventFactory;
+import org.actus.events.EventType;
+import org.actus.events.EventSeries;
 import org.actus.conventions.contractrole.ContractRoleConvention;
 import org.actus.conventions.daycount.DayCountCalculator;
 import org.actus.util.CommonUtils;
 import org.actus.util.StringUtils;
-import org.actus.functions.fxout.POF_PRD_FXOUT;
-import org.actus.functions.fxout.POF_TD_FXOUT;
-import org.actus.functions.fxout.POF_STD_FXOUT;
-import org.actus.functions.fxout.STF_STD_FXOUT;
-import org.actus.functions.fxout.POF_STD1_FXOUT;
-import org.actus.functions.fxout.STF_STD1_FXOUT;
-import org.actus.functions.fxout.POF_STD2_FXOUT;
-import org.actus.functions.fxout.STF_STD2_FXOUT;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -38,7 +33,13 @@ public final class ForeignExchangeOutright {
     // compute next n non-contingent events
     public static ArrayList<ContractEvent> schedule(LocalDateTime to,
                                                     ContractModelProvider model) throws AttributeConversionException {
-        ArrayList<ContractEvent> events = new ArrayList<ContractEvent>();
+        return scheduleIterator(to, model).toList();
+    }
+
+    // compute next events within period lazily and in time sequence
+    public static EventSeries scheduleIterator(LocalDateTime to,
+                                               ContractModelProvider model) throws AttributeConversionException {
+        EventSeries events = new EventSeries();
 
         // determine settlement date (maturity) of the contract
         LocalDateTime settlement = model.getAs("SettlementDate");
@@ -47,28 +48,25 @@ public final class ForeignExchangeOutright {
         }
         // purchase
         if (!CommonUtils.isNull(model.getAs("PurchaseDate"))) {
-            events.add(EventFactory.createEvent(model.getAs("PurchaseDate"), StringUtils.EventType_PRD, model.getAs("Currency"), new POF_PRD_FXOUT(), new STF_PRD_STK()));
+            events.add(EventFactory.createEvent(model.getAs("PurchaseDate"), EventType.PRD, model.getAs("Currency"), Functions.POF_PRD_FXOUT, Functions.STF_PRD_STK));
         }
         // termination
         if (!CommonUtils.isNull(model.getAs("TerminationDate"))) {
-            events.add(EventFactory.createEvent(model.getAs("TerminationDate"), StringUtils.EventType_TD, model.getAs("Currency"), new POF_TD_FXOUT(), new STF_TD_STK()));
+            events.add(EventFactory.createEvent(model.getAs("TerminationDate"), EventType.TD, model.getAs("Currency"), Functions.POF_TD_FXOUT, Functions.STF_TD_STK));
         }
         // settlement
         if (CommonUtils.isNull(model.getAs("DeliverySettlement")) || model.getAs("DeliverySettlement").equals(StringUtils.Settlement_Physical)) {
-            events.add(EventFactory.createEvent(settlement, StringUtils.EventType_STD, model.getAs("Currency"), new POF_STD1_FXOUT(), new STF_STD1_FXOUT(), model.getAs("BusinessDayConvention")));
-            events.add(EventFactory.createEvent(settlement, StringUtils.EventType_STD, model.getAs("Currency2"), new POF_STD2_FXOUT(), new STF_STD2_FXOUT(), model.getAs("BusinessDayConvention")));
+            events.add(EventFactory.createEvent(settlement, EventType.STD, model.getAs("Currency"), Functions.POF_STD1_FXOUT, Functions.STF_STD1_FXOUT, model.getAs("BusinessDayConvention")));
+            events.add(EventFactory.createEvent(settlement, EventType.STD, model.getAs("Currency2"), Functions.POF_STD2_FXOUT, Functions.STF_STD2_FXOUT, model.getAs("BusinessDayConvention")));
         } else {
-            events.add(EventFactory.createEvent(settlement, StringUtils.EventType_STD, model.getAs("Currency"), new POF_STD_FXOUT(), new STF_STD_FXOUT(), model.getAs("BusinessDayConvention")));
+            events.add(EventFactory.createEvent(settlement, EventType.STD, model.getAs("Currency"), Functions.POF_STD_FXOUT, Functions.STF_STD_FXOUT, model.getAs("BusinessDayConvention")));
         }
 
         // remove all pre-status date events
-        events.removeIf(e -> e.compareTo(EventFactory.createEvent(model.getAs("StatusDate"), StringUtils.EventType_SD, model.getAs("Currency"), null,null)) == -1);
+        events.from(EventFactory.createEvent(model.getAs("StatusDate"), EventType.SD, model.getAs("Currency"), null,null));
 
         // remove all post to-date events
-        events.removeIf(e -> e.compareTo(EventFactory.createEvent(to, StringUtils.EventType_AD, model.getAs("Currency"), null,null)) == 1);
-
-        // sort the events in the payoff-list according to their time of occurence
-        Collections.sort(events);
+        events.until(EventFactory.createEvent(to, EventType.AD, model.getAs("Currency"), null,null));
 
         return events;
     }
@@ -78,17 +76,20 @@ public final class ForeignExchangeOutright {
                                                  ContractModelProvider model,
                                                  RiskFactorModelProvider observer) throws AttributeConversionException {
 
-        // initialize state space per status date
-        StateSpace states = initStateSpace(model);
-
         // sort the events according to their time sequence
         Collections.sort(events);
 
         // apply events according to their time sequence to current state
-        events.forEach(e -> e.eval(states, model, observer, new DayCountCalculator("A/AISDA", model.getAs("Calendar")), model.getAs("BusinessDayConvention")));
+        return evaluation(model).apply(events, observer);
+    }
 
-        // return evaluated events
-        return events;
+    // the evaluation of events according to the contract attributes
+    static Evaluation evaluation(ContractModelProvider model) throws AttributeConversionException {
+
+        // initialize state space per status date
+        StateSpace states = initStateSpace(model);
+
+        return new Evaluation(states, model, new DayCountCalculator("A/AISDA", model.getAs("Calendar")), model.getAs("BusinessDayConvention"), null);
     }
 
     // initialize state space per status date
@@ -7,14 +7,18 @@ package org.actus.contracts;
 
 import org.actus.AttributeConversionException;
 import org.actus.attributes.ContractModelProvider;
+import org.actus.attributes.CompiledPAMModel;
 import org.actus.externals.RiskFactorModelProvider;
 import org.actus.events.ContractEvent;
 import org.actus.states.StateSpace;
 import org.actus.events.EventFactory;
+import org.actus.events.EventType;
+import org.actus.events.EventSeries;
 import org.actus.conventions.contractrole.ContractRoleConvention;
 import org.actus.util.CommonUtils;
 import org.actus.util.StringUtils;
 import org.actus.time.ScheduleFactory;
+import org.actus.functions.Functions;
 import org.actus.functions.pam.*;
 import org.actus.functions.swppv.*;
 import org.actus.functions.fxout.*;
@@ -32,73 +36,69 @@ public final class PlainVanillaInterestRateSwap {
     // compute next n non-contingent events
     public static ArrayList<ContractEvent> schedule(LocalDateTime to,
                                                     ContractModelProvider model) throws AttributeConversionException {
-        ArrayList<ContractEvent> events = new ArrayList<ContractEvent>();
+        return scheduleIterator(to, model).toList();
+    }
+
+    // compute next events within period lazily and in time sequence
+    public static EventSeries scheduleIterator(LocalDateTime to,
+                                               ContractModelProvider model) throws AttributeConversionException {
+        EventSeries events = new EventSeries();
 
         // purchase
         if (!CommonUtils.isNull(model.getAs("PurchaseDate"))) {
-            events.add(EventFactory.createEvent(model.getAs("PurchaseDate"), StringUtils.EventType_PRD, model.getAs("Currency"), new POF_PRD_FXOUT(), new STF_PRD_SWPPV()));
+            events.add(EventFactory.createEvent(model.getAs("PurchaseDate"), EventType.PRD, model.getAs("Currency"), Functions.POF_PRD_FXOUT, Functions.STF_PRD_SWPPV));
         }
         // interest payment events
         if (CommonUtils.isNull(model.getAs("DeliverySettlement")) || model.getAs("DeliverySettlement").equals(StringUtils.Settlement_Physical)) {
             // in case of physical delivery (delivery of individual cash flows)
             // fixed initial exchange
-            events.add(EventFactory.createEvent(model.getAs("InitialExchangeDate"), StringUtils.EventType_IED, model.getAs("Currency"), new POF_IED_PAM(), new STF_IED_PAM()));
+            events.add(EventFactory.createEvent(model.getAs("InitialExchangeDate"), EventType.IED, model.getAs("Currency"), Functions.POF_IED_PAM, Functions.STF_IED_PAM));
             // float initial exchange
-            events.add(EventFactory.createEvent(model.getAs("InitialExchangeDate"), StringUtils.EventType_IED, model.getAs("Currency"), new POF_IEDFloat_SWPPV(), new STF_IED_SWPPV()));
+            events.add(EventFactory.createEvent(model.getAs("InitialExchangeDate"), EventType.IED, model.getAs("Currency"), Functions.POF_IEDFloat_SWPPV, Functions.STF_IED_SWPPV));
             // fixed principal redemption
-            events.add(EventFactory.createEvent(model.getAs("MaturityDate"), StringUtils.EventType_PR, model.getAs("Currency"), new POF_PR_PAM(), new STF_PR_SWPPV()));
+            events.add(EventFactory.createEvent(model.getAs("MaturityDate"), EventType.PR, model.getAs("Currency"), Functions.POF_PR_PAM, Functions.STF_PR_SWPPV));
             // float principal redemption
-            events.add(EventFactory.createEvent(model.getAs("MaturityDate"), StringUtils.EventType_PR, model.getAs("Currency"), new POF_PRFloat_SWPPV(), new STF_PR_SWPPV()));
-            // interest payment schedule
-            Set<LocalDateTime> interestSchedule = ScheduleFactory.createSchedule(model.getAs("CycleAnchorDateOfInterestPayment"),
-                    model.getAs("MaturityDate"),
-                    model.getAs("CycleOfInterestPayment"),
-                    model.getAs("EndOfMonthConvention"));
-            // fixed rate events                                                                                                    model.getAs("MaturityDate"),                                                                                                  model.getAs("EndOfMonthConvention"))
-            events.addAll(EventFactory.createEvents(interestSchedule, StringUtils.EventType_IP, model.getAs("Currency"), new POF_IPFix_SWPPV(), new STF_IPFix_SWPPV(), model.getAs("BusinessDayConvention")));
-            // floating rate events                                                                                                    model.getAs("MaturityDate"),                                                                                                  model.getAs("EndOfMonthConvention"))
-            events.addAll(EventFactory.createEvents(interestSchedule, StringUtils.EventType_IP, model.getAs("Currency"), new POF_IPFloat_SWPPV(), new STF_IPFloat_SWPPV(), model.getAs("BusinessDayConvention")));
+            events.add(EventFactory.createEvent(model.getAs("MaturityDate"), EventType.PR, model.getAs("Currency"), Functions.POF_PRFloat_SWPPV, Functions.STF_PR_SWPPV));
+            // fixed rate events
+            events.add(EventFactory.createEvents(interestSchedule(model), EventType.IP, model.getAs("Currency"), Functions.POF_IPFix_SWPPV, Functions.STF_IPFix_SWPPV, model.getAs("BusinessDayConvention")));
+            // floating rate events
+            events.add(EventFactory.createEvents(interestSchedule(model), EventType.IP, model.getAs("Currency"), Functions.POF_IPFloat_SWPPV, Functions.STF_IPFloat_SWPPV, model.getAs("BusinessDayConvention")));
         } else {
             // initial exchange
-            events.add(EventFactory.createEvent(model.getAs("InitialExchangeDate"), StringUtils.EventType_IED, model.getAs("Currency"), new POF_IED_SWPPV(), new STF_IED_SWPPV()));
+            events.add(EventFactory.createEvent(model.getAs("InitialExchangeDate"), EventType.IED, model.getAs("Currency"), Functions.POF_IED_SWPPV, Functions.STF_IED_SWPPV));
             // principal redemption
-            events.add(EventFactory.createEvent(model.getAs("MaturityDate"), StringUtils.EventType_PR, model.getAs("Currency"), new POF_PR_SWPPV(), new STF_PR_SWPPV()));
+            events.add(EventFactory.createEvent(model.getAs("MaturityDate"), EventType.PR, model.getAs("Currency"), Functions.POF_PR_SWPPV, Functions.STF_PR_SWPPV));
             // in case of cash delivery (cash settlement)                                                                                                model.getAs("MaturityDate"),                                                                                                  model.getAs("EndOfMonthConvention"))
-            events.addAll(EventFactory.createEvents(ScheduleFactory.createSchedule(model.getAs("CycleAnchorDateOfInterestPayment"),
+            events.add(EventFactory.createEvents(ScheduleFactory.createScheduleIterator(model.getAs("CycleAnchorDateOfInterestPayment"),
                     model.getAs("MaturityDate"),
                     model.getAs("CycleOfInterestPayment"),
                     model.getAs("EndOfMonthConvention")),
-                    StringUtils.EventType_IP, model.getAs("Currency"), new POF_IP_SWPPV(), new STF_IP_SWPPV(), model.getAs("BusinessDayConvention")));
+                    EventType.IP, model.getAs("Currency"), Functions.POF_IP_SWPPV, Functions.STF_IP_SWPPV, model.getAs("BusinessDayConvention")));
 
         }
 
         // rate reset
-        events.addAll(EventFactory.createEvents(ScheduleFactory.createSchedule(model.getAs("CycleAnchorDateOfRateReset"), model.getAs("MaturityDate"),
+        events.add(EventFactory.createEvents(ScheduleFactory.createScheduleIterator(model.getAs("CycleAnchorDateOfRateReset"), model.getAs("MaturityDate"),
                 model.getAs("CycleOfRateReset"), model.getAs("EndOfMonthConvention"), false),
-                StringUtils.EventType_RR, model.getAs("Currency"), new POF_RR_PAM(), new STF_RR_SWPPV(), model.getAs("BusinessDayConvention")));
+                EventType.RR, model.getAs("Currency"), Functions.POF_RR_PAM, Functions.STF_RR_SWPPV, model.getAs("BusinessDayConvention")));
         // termination
         if (!CommonUtils.isNull(model.getAs("TerminationDate"))) {
             ContractEvent termination =
-                                        EventFactory.createEvent(model.getAs("TerminationDate"), StringUtils.EventType_TD, model.getAs("Currency"), new POF_TD_FXOUT(), new STF_TD_SWPPV());
-                                        events.removeIf(e -> e.compareTo(termination) == 1); // remove all post-termination events
-            events.add(termination);
+                                        EventFactory.createEvent(model.getAs("TerminationDate"), EventType.TD, model.getAs("Currency"), Functions.POF_TD_FXOUT, Functions.STF_TD_SWPPV);
+                                        events.terminate(termination); // remove all post-termination events
         }
 
         // termination
         if (!CommonUtils.isNull(model.getAs("TerminationDate"))) {
-            ContractEvent termination = EventFactory.createEvent(model.getAs("TerminationDate"), StringUtils.EventType_TD, model.getAs("Currency"), new POF_TD_FXOUT(), new STF_TD_SWPPV());
-            events.removeIf(e -> e.compareTo(termination) == 1); // remove all post-termination events
-            events.add(termination);
+            ContractEvent termination = EventFactory.createEvent(model.getAs("TerminationDate"), EventType.TD, model.getAs("Currency"), Functions.POF_TD_FXOUT, Functions.STF_TD_SWPPV);
+            events.terminate(termination); // remove all post-termination events
         }
 
         // remove all pre-status date events
-        events.removeIf(e -> e.compareTo(EventFactory.createEvent(model.getAs("StatusDate"), StringUtils.EventType_SD, model.getAs("Currency"), null,null)) == -1);
+        events.from(EventFactory.createEvent(model.getAs("StatusDate"), EventType.SD, model.getAs("Currency"), null,null));
 
         // remove all post to-date events
-        events.removeIf(e -> e.compareTo(EventFactory.createEvent(to, StringUtils.EventType_AD, model.getAs("Currency"), null,null)) == 1);
-
-        // sort the events in the payoff-list according to their time of occurence
-        Collections.sort(events);
+        events.until(EventFactory.createEvent(to, EventType.AD, model.getAs("Currency"), null,null));
 
         return events;
     }
@@ -108,17 +108,23 @@ public final class PlainVanillaInterestRateSwap {
                                                  ContractModelProvider model,
                                                  RiskFactorModelProvider observer) throws AttributeConversionException {
 
-        // initialize state space per status date
-        StateSpace states = initStateSpace(model);
-
         // sort the events according to their time sequence
         Collections.sort(events);
 
         // apply events according to their time sequence to current state
-        events.forEach(e -> e.eval(states, model, observer, model.getAs("DayCountConvention"), model.getAs("BusinessDayConvention")));
+        return evaluation(model).apply(events, observer);
+    }
 
-        // return evaluated events
-        return events;
+    // the evaluation of events according to the contract attributes
+    static Evaluation evaluation(ContractModelProvider model) throws AttributeConversionException {
+
+        // initialize state space per status date
+        StateSpace states = initStateSpace(model);
+
+        // compile the attributes used by the pay-off and state-transition functions
+        CompiledPAMModel compiledModel = CompiledPAMModel.of(model);
+
+        return new Evaluation(states, compiledModel, model.getAs("DayCountConvention"), model.getAs("BusinessDayConvention"), null);
     }
 
     // initialize state space per status date
@@ -133,4 +139,13 @@ public final class PlainVanillaInterestRateSwap {
         }
         return states;
     }
+
+    // interest payment schedule shared by the fixed and floating leg
+    private static Iterator<LocalDateTime> interestSchedule(ContractModelProvider model) {
+        return ScheduleFactory.createScheduleIterator(model.getAs("CycleAnchorDateOfInterestPayment"),
+                model.getAs("MaturityDate"),
+                model.getAs("CycleOfInterestPayment"),
+                model.getAs("EndOfMonthConvention"));
+    }
+
 }
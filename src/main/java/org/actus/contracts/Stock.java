@@ -11,17 +11,13 @@ import org.actus.externals.RiskFactorModelProvider;
 import org.actus.events.ContractEvent;
 import org.actus.states.StateSpace;
 import org.actus.events.EventFactory;
+import org.actus.events.EventType;
+import org.actus.functions.Functions;
+import org.actus.events.EventSeries;
 import org.actus.time.ScheduleFactory;
 import org.actus.conventions.daycount.DayCountCalculator;
 import org.actus.util.CommonUtils;
-import org.actus.util.StringUtils;
 import org.actus.util.Constants;
-import org.actus.functions.stk.POF_PRD_STK;
-import org.actus.functions.stk.STF_PRD_STK;
-import org.actus.functions.stk.POF_TD_STK;
-import org.actus.functions.stk.STF_TD_STK;
-import org.actus.functions.stk.POF_DV_STK;
-import org.actus.functions.stk.STF_DV_STK;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -36,45 +32,47 @@ public final class Stock {
     // compute next n non-contingent events
     public static ArrayList<ContractEvent> schedule(LocalDateTime to,
                                                     ContractModelProvider model) throws AttributeConversionException {
-        ArrayList<ContractEvent> events = new ArrayList<ContractEvent>();
+        return scheduleIterator(to, model).toList();
+    }
+
+    // compute next events within period lazily and in time sequence
+    public static EventSeries scheduleIterator(LocalDateTime to,
+                                               ContractModelProvider model) throws AttributeConversionException {
+        EventSeries events = new EventSeries();
 
         // purchase
         if (!CommonUtils.isNull(model.getAs("PurchaseDate"))) {
-            events.add(EventFactory.createEvent(model.getAs("PurchaseDate"), StringUtils.EventType_PRD, model.getAs("Currency"), new POF_PRD_STK(), new STF_PRD_STK()));
+            events.add(EventFactory.createEvent(model.getAs("PurchaseDate"), EventType.PRD, model.getAs("Currency"), Functions.POF_PRD_STK, Functions.STF_PRD_STK));
         }
         // dividend payment related
         if (!CommonUtils.isNull(model.getAs("CycleOfDividendPayment"))) {
             if(CommonUtils.isNull(model.getAs("TerminationDate"))) {
-                events.addAll(EventFactory.createEvents(ScheduleFactory.createSchedule(model.getAs("CycleAnchorDateOfDividendPayment"),
+                events.add(EventFactory.createEvents(ScheduleFactory.createScheduleIterator(model.getAs("CycleAnchorDateOfDividendPayment"),
                         model.<LocalDateTime>getAs("CycleAnchorDateOfDividendPayment").plus(Constants.MAX_LIFETIME_STK),
                         model.getAs("CycleOfDividendPayment"),
                         model.getAs("EndOfMonthConvention")),
-                        StringUtils.EventType_DV, model.getAs("Currency"), new POF_DV_STK(), new STF_DV_STK(), model.getAs("BusinessDayConvention")));
+                        EventType.DV, model.getAs("Currency"), Functions.POF_DV_STK, Functions.STF_DV_STK, model.getAs("BusinessDayConvention")));
             } else {
-                events.addAll(EventFactory.createEvents(ScheduleFactory.createSchedule(model.getAs("CycleAnchorDateOfDividendPayment"),
+                events.add(EventFactory.createEvents(ScheduleFactory.createScheduleIterator(model.getAs("CycleAnchorDateOfDividendPayment"),
                         model.getAs("TerminationDate"),
                         model.getAs("CycleOfDividendPayment"),
                         model.getAs("EndOfMonthConvention")),
-                        StringUtils.EventType_DV, model.getAs("Currency"), new POF_DV_STK(), new STF_DV_STK(), model.getAs("BusinessDayConvention")));
+                        EventType.DV, model.getAs("Currency"), Functions.POF_DV_STK, Functions.STF_DV_STK, model.getAs("BusinessDayConvention")));
 
             }
         }
         // termination
         if (!CommonUtils.isNull(model.getAs("TerminationDate"))) {
             ContractEvent termination =
-                    EventFactory.createEvent(model.getAs("TerminationDate"), StringUtils.EventType_TD, model.getAs("Currency"), new POF_TD_STK(), new STF_TD_STK());
-            events.removeIf(e -> e.compareTo(termination) == 1); // remove all post-termination events
-            events.add(termination);
+                    EventFactory.createEvent(model.getAs("TerminationDate"), EventType.TD, model.getAs("Currency"), Functions.POF_TD_STK, Functions.STF_TD_STK);
+            events.terminate(termination); // remove all post-termination events
         }
 
         // remove all pre-status date events
-        events.removeIf(e -> e.compareTo(EventFactory.createEvent(model.getAs("StatusDate"), StringUtils.EventType_SD, model.getAs("Currency"), null,null)) == -1);
+        events.from(EventFactory.createEvent(model.getAs("StatusDate"), EventType.SD, model.getAs("Currency"), null,null));
         
         // remove all post to-date events
-        events.removeIf(e -> e.compareTo(EventFactory.createEvent(to, StringUtils.EventType_AD, model.getAs("Currency"), null,null)) == 1);
-
-        // sort the events in the payoff-list according to their time of occurence
-        Collections.sort(events);
+        events.until(EventFactory.createEvent(to, EventType.AD, model.getAs("Currency"), null,null));
 
         return events;
     }
@@ -84,17 +82,20 @@ public final class Stock {
                                                  ContractModelProvider model,
                                                  RiskFactorModelProvider observer) throws AttributeConversionException {
 
-        // initialize state space per status date
-        StateSpace states = initStateSpace(model);
-
         // sort the events according to their time sequence
         Collections.sort(events);
 
         // apply events according to their time sequence to current state
-        events.forEach(e -> e.eval(states, model, observer, new DayCountCalculator("30E/360", null), model.getAs("BusinessDayConvention")));
+        return evaluation(model).apply(events, observer);
+    }
 
-        // return post events states
-        return events;
+    // the evaluation of events according to the contract attributes
+    static Evaluation evaluation(ContractModelProvider model) throws AttributeConversionException {
+
+        // initialize state space per status date
+        StateSpace states = initStateSpace(model);
+
+        return new Evaluation(states, model, new DayCountCalculator("30E/360", null), model.getAs("BusinessDayConvention"), null);
     }
 
     private static StateSpace initStateSpace(ContractModelProvider model) throws AttributeConversionException {
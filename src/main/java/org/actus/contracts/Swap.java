@@ -7,16 +7,16 @@
 package org.actus.contracts;
 
 import org.actus.AttributeConversionException;
+import org.actus.attributes.CompiledPAMModel;
 import org.actus.attributes.ContractModel;
 import org.actus.attributes.ContractModelProvider;
 import org.actus.events.ContractEvent;
 import org.actus.events.EventFactory;
+import org.actus.events.EventType;
+import org.actus.events.EventSeries;
 import org.actus.externals.RiskFactorModelProvider;
-import org.actus.functions.stk.STF_PRD_STK;
-import org.actus.functions.stk.STF_TD_STK;
+import org.actus.functions.Functions;
 import org.actus.functions.swaps.POF_NET_SWAPS;
-import org.actus.functions.swaps.POF_PRD_SWAPS;
-import org.actus.functions.swaps.POF_TD_SWAPS;
 import org.actus.functions.swaps.STF_NET_SWAPS;
 import org.actus.states.StateSpace;
 import org.actus.util.CommonUtils;
@@ -35,35 +35,40 @@ public final class Swap {
     // forward projection of the entire lifecycle of the contract
     public static ArrayList<ContractEvent> schedule(LocalDateTime to,
                                                     ContractModelProvider model) throws AttributeConversionException {
-        ArrayList<ContractEvent> events = new ArrayList<ContractEvent>();
+        return scheduleIterator(to, model).toList();
+    }
+
+    // compute next events within period lazily and in time sequence
+    public static EventSeries scheduleIterator(LocalDateTime to,
+                                               ContractModelProvider model) throws AttributeConversionException {
+        EventSeries events = new EventSeries();
 
         // extract parent attributes
         ContractModel parent = model.getAs("Parent");
 
         // compute child 1 and child 2 events
-        events.addAll(ContractType.schedule(to,model.getAs("Child1")));
-        events.addAll(ContractType.schedule(to,model.getAs("Child2")));
+        events.add(ContractType.scheduleIterator(to,model.getAs("Child1")));
+        events.add(ContractType.scheduleIterator(to,model.getAs("Child2")));
 
         // compute parent events
         // purchase
         if (!CommonUtils.isNull(parent.getAs("PurchaseDate"))) {
-            ContractEvent purchase = EventFactory.createEvent(parent.getAs("PurchaseDate"), StringUtils.EventType_PRD, parent.getAs("Currency"), new POF_PRD_SWAPS(), new STF_PRD_STK());
-            events.removeIf(e -> e.compareTo(purchase) == -1); // remove all pre-purchase events
+            ContractEvent purchase = EventFactory.createEvent(parent.getAs("PurchaseDate"), EventType.PRD, parent.getAs("Currency"), Functions.POF_PRD_SWAPS, Functions.STF_PRD_STK);
+            events.from(purchase); // remove all pre-purchase events
             events.add(purchase);
         }
         // termination
         if (!CommonUtils.isNull(parent.getAs("TerminationDate"))) {
             ContractEvent termination =
-                    EventFactory.createEvent(parent.getAs("TerminationDate"), StringUtils.EventType_TD, parent.getAs("Currency"), new POF_TD_SWAPS(), new STF_TD_STK());
-            events.removeIf(e -> e.compareTo(termination) == 1); // remove all post-termination events
-            events.add(termination);
+                    EventFactory.createEvent(parent.getAs("TerminationDate"), EventType.TD, parent.getAs("Currency"), Functions.POF_TD_SWAPS, Functions.STF_TD_STK);
+            events.terminate(termination); // remove all post-termination events
         }
 
         // remove all pre-status date events
-        events.removeIf(e -> e.compareTo(EventFactory.createEvent(parent.getAs("StatusDate"), StringUtils.EventType_SD, model.getAs("Currency"), null, null)) == -1);
+        events.from(EventFactory.createEvent(parent.getAs("StatusDate"), EventType.SD, model.getAs("Currency"), null, null));
 
         // remove all post to-date events
-        events.removeIf(e -> e.compareTo(EventFactory.createEvent(to, StringUtils.EventType_SD, model.getAs("Currency"), null, null)) == 1);
+        events.until(EventFactory.createEvent(to, EventType.SD, model.getAs("Currency"), null, null));
 
         // return events
         return events;
@@ -83,8 +88,11 @@ public final class Swap {
         // sort the events according to their time sequence
         Collections.sort(events);
 
+        // compile the model once rather than in every pay-off and state-transition function
+        CompiledPAMModel compiledModel = CompiledPAMModel.of(model);
+
         // apply events according to their time sequence to current state
-        events.forEach(e -> e.eval(states, model, observer, model.getAs("DayCountConvention"), model.getAs("BusinessDayConvention")));
+        events.forEach(e -> e.eval(states, compiledModel, observer, model.getAs("DayCountConvention"), model.getAs("BusinessDayConvention")));
         
         /*
         // apply settlement option, i.e. "delivery" of all events or net "settlement" of events at same time
@@ -103,7 +111,7 @@ public final class Swap {
             // step 1: merge all analysis events of child contracts
             Map<String, ContractEvent> mergedEvents = Stream
                     .concat(child1.stream(), child2.stream())
-                    .filter(e->e.type().equals(StringUtils.EventType_AD))
+                    .filter(e->e.eventType() == EventType.AD)
                     .collect(Collectors.toMap(
                             e -> e.time() + e.type(), // event key for merging
                             e -> e, // event itself
@@ -114,7 +122,7 @@ public final class Swap {
             events = Stream
                     .concat(Stream
                             .concat(child1.stream(),child2.stream())
-                            .filter(e->!e.type().equals(StringUtils.EventType_AD)),
+                            .filter(e->e.eventType() != EventType.AD),
                             mergedEvents.values().stream())
                     .collect(Collectors.toCollection(ArrayList::new));
         }*/
@@ -11,6 +11,7 @@ import org.actus.util.StringUtils;
 import org.actus.util.CommonUtils;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 /**
  * Component for the adjustment of dates according to a {@link BusinessDayConvention} and {@link ShiftCalcConvention}
@@ -18,6 +19,8 @@ import java.time.LocalDateTime;
 public final class BusinessDayAdjuster {
     private BusinessDayConvention bdConvention;
     private ShiftCalcConvention   scConvention;
+    private final String convention;
+    private final BusinessDayCalendarProvider calendar;
 
     /**
      * Constructor
@@ -35,15 +38,18 @@ public final class BusinessDayAdjuster {
     public BusinessDayAdjuster(String convention, BusinessDayCalendarProvider calendar) {
         String suffix;
         String prefix;
+        this.calendar = calendar;
 
         // convert contract attributes
         if (CommonUtils.isNull(convention) || convention.equals(StringUtils.BusinessDayConvention_S)) {
             
+            this.convention = StringUtils.BusinessDayConvention_S;
             this.bdConvention = new Same();
             this.scConvention = new ShiftCalc();
 
         } else {
 
+            this.convention = convention;
             try {
                 prefix = convention.substring(0, 2);
                 suffix = convention.substring(2);
@@ -101,4 +107,46 @@ public final class BusinessDayAdjuster {
     public LocalDateTime shiftCalcTime(LocalDateTime time) {
         return scConvention.shift(time, bdConvention);
     }
+
+    /**
+     * Returns shifted {@link ContractEvent}-date according to the specified {@link BusinessDayConvention}
+     * 
+     * @param date the epoch day to be shifted to an event date (cf. {@link org.actus.time.EpochDays})
+     * @return the shifted epoch day
+     */
+    public int shiftEventTime(int date) {
+        return bdConvention.shift(date);
+    }
+
+    /**
+     * Returns shifted {@link ContractEvent}-calculation date according to the specified {@link BusinessDayConvention}
+     * 
+     * @param date the epoch day to be shifted to an event-calculation date (cf. {@link org.actus.time.EpochDays})
+     * @return the shifted epoch day
+     */
+    public int shiftCalcTime(int date) {
+        return scConvention.shift(date, bdConvention);
+    }
+
+    /**
+     * Returns whether another adjuster applies the same convention with an equal calendar
+     * <p>
+     * Note, adjusters that are equal shift times equally.
+     *
+     * @param o the object to compare with
+     * @return {@code true} if {@code o} is an equal adjuster or {@code false} otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof BusinessDayAdjuster)) {
+            return false;
+        }
+        BusinessDayAdjuster adjuster = (BusinessDayAdjuster) o;
+        return convention.equals(adjuster.convention) && Objects.equals(calendar, adjuster.calendar);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * convention.hashCode() + Objects.hashCode(calendar);
+    }
 }
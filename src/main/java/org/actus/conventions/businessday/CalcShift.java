@@ -26,4 +26,14 @@ public class CalcShift implements ShiftCalcConvention {
     public LocalDateTime shift(LocalDateTime time, BusinessDayConvention convention) {
         return time;    
     }
+
+    /**
+     * Returns argument {@code date} unshifted
+     * 
+     * @param date the epoch day to be shifted
+     * @return the shifted epoch day (actually unshifted)
+     */
+    public int shift(int date, BusinessDayConvention convention) {
+        return date;
+    }
 }
@@ -7,6 +7,8 @@
 package org.actus.conventions.businessday;
 import org.actus.time.calendar.BusinessDayCalendarProvider;
 
+import org.actus.time.EpochDays;
+
 import java.time.LocalDateTime;
 
 /**
@@ -42,18 +44,16 @@ public class ModifiedPreceeding implements BusinessDayConvention {
 	 */
 	@Override
 	public LocalDateTime shift(LocalDateTime date) {
-		LocalDateTime shiftedDate = LocalDateTime.from(date);
-		while (!calendar.isBusinessDay(shiftedDate)) {
-			shiftedDate = shiftedDate.minusDays(1);
-		}
-		if (!shiftedDate.getMonth().equals(date.getMonth())) {
-			shiftedDate = LocalDateTime.from(date);
-			while (!calendar.isBusinessDay(shiftedDate)) {
-				shiftedDate = shiftedDate.plusDays(1);
-			}
+		int epochDay = EpochDays.of(date);
+		return date.plusDays(shift(epochDay) - epochDay);
+	}
+
+	@Override
+	public int shift(int date) {
+		int shiftedDate = calendar.previousBusinessDay(date);
+		if (shiftedDate != date && EpochDays.month(shiftedDate) != EpochDays.month(date)) {
+			shiftedDate = calendar.nextBusinessDay(date);
 		}
 		return shiftedDate;
 	}
-
 }
-
@@ -5,6 +5,7 @@
  */
 package org.actus.conventions.businessday;
 
+import org.actus.time.EpochDays;
 import org.actus.time.calendar.BusinessDayCalendarProvider;
 
 import java.time.LocalDateTime;
@@ -40,11 +41,12 @@ public final class Preceeding implements BusinessDayConvention {
 	 */
 	@Override
 	public LocalDateTime shift(LocalDateTime date) {
-		LocalDateTime shiftedDate = LocalDateTime.from(date);
-		while (!calendar.isBusinessDay(shiftedDate)) {
-			shiftedDate = shiftedDate.minusDays(1);
-		}
-		return shiftedDate;
+		int epochDay = EpochDays.of(date);
+		return date.plusDays(shift(epochDay) - epochDay);
 	}
 
-}
\ No newline at end of file
+	@Override
+	public int shift(int date) {
+		return calendar.previousBusinessDay(date);
+	}
+}
@@ -37,5 +37,10 @@ public class Same implements BusinessDayConvention {
 	public LocalDateTime shift(LocalDateTime date) {
 		return date;
 	}
+
+	@Override
+	public int shift(int date) {
+		return date;
+	}
     
 }
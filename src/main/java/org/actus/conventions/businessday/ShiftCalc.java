@@ -26,4 +26,14 @@ public final class ShiftCalc implements ShiftCalcConvention {
     public LocalDateTime shift(LocalDateTime time, BusinessDayConvention convention) {
         return convention.shift(time);    
     }
+
+    /**
+     * Returns argument {@code date} shifted according to the respective {@link BusinessDayConvention}
+     * 
+     * @param date the epoch day to be shifted
+     * @return the shifted epoch day
+     */
+    public int shift(int date, BusinessDayConvention convention) {
+        return convention.shift(date);
+    }
 }
@@ -5,6 +5,8 @@
  */
 package org.actus.conventions.businessday;
 
+import org.actus.time.EpochDays;
+
 import java.time.LocalDateTime;
 
 /**
@@ -30,4 +32,17 @@ public interface ShiftCalcConvention {
      * @return the shifted time
      */
     public LocalDateTime shift(LocalDateTime time, BusinessDayConvention convention);
+
+    /**
+     * Shifts argument {@code date} given as epoch day according to a specific shift-calc convention and based on a {@link BusinessDayConvention}
+     * <p>
+     * The default implementation converts {@code date} to a {@link LocalDateTime}. Conventions
+     * should override this method to avoid the conversion.
+     * 
+     * @param date the epoch day to be shifted (cf. {@link EpochDays})
+     * @return the shifted epoch day
+     */
+    public default int shift(int date, BusinessDayConvention convention) {
+        return EpochDays.of(shift(EpochDays.toLocalDateTime(date), convention));
+    }
 }
@@ -5,6 +5,8 @@
  */
 package org.actus.conventions.daycount;
 
+import org.actus.time.EpochDays;
+
 import java.time.Year;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -38,4 +40,26 @@ public final class ActualActualISDA implements DayCountConventionProvider {
 				+ (ChronoUnit.DAYS.between(LocalDateTime.of(y2, 1, 1, 0, 0, 0, 0), endTime)) / secondBasis
 				+ y2 - y1 - 1);
 	}
+
+	@Override
+	public double dayCount(int startDate, int startHour, int endDate, int endHour) {
+		return EpochDays.daysBetween(startDate, startHour, endDate, endHour);
+	}
+
+	@Override
+	public double dayCountFraction(int startDate, int startHour, int endDate, int endHour) {
+		int y1 = EpochDays.year(startDate);
+		int y2 = EpochDays.year(endDate);
+
+		if (y1 == y2) {
+			double basis = (EpochDays.isLeapYear(y1)) ? 366.0 : 365.0;
+			return (EpochDays.daysBetween(startDate, startHour, endDate, endHour) / basis);
+		}
+
+		double firstBasis = (EpochDays.isLeapYear(y1)) ? 366.0 : 365.0;
+		double secondBasis = (EpochDays.isLeapYear(y2)) ? 366.0 : 365.0;
+		return ((EpochDays.daysBetween(startDate, startHour, EpochDays.of(y1 + 1, 1, 1), 0)) / firstBasis
+				+ (EpochDays.daysBetween(EpochDays.of(y2, 1, 1), 0, endDate, endHour)) / secondBasis
+				+ y2 - y1 - 1);
+	}
 }
@@ -5,6 +5,8 @@
  */
 package org.actus.conventions.daycount;
 
+import org.actus.time.EpochDays;
+
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 
@@ -26,5 +28,14 @@ public class ActualThreeSixtyFiveFixed implements DayCountConventionProvider {
 		return this.dayCount(startTime, endTime) / 365.0;
 	}
 
-}
+	@Override
+	public double dayCount(int startDate, int startHour, int endDate, int endHour) {
+		return EpochDays.daysBetween(startDate, startHour, endDate, endHour);
+	}
 
+	@Override
+	public double dayCountFraction(int startDate, int startHour, int endDate, int endHour) {
+		return dayCount(startDate, startHour, endDate, endHour) / 365.0;
+	}
+
+}
@@ -1,5 +1,7 @@
 package org.actus.conventions.daycount;
 
+import org.actus.time.EpochDays;
+
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 
@@ -21,4 +23,14 @@ public class ActualThreeThirtySix implements DayCountConventionProvider {
 		return dayCount(startTime, endTime) / 336.0;
 	}
 
+	@Override
+	public double dayCount(int startDate, int startHour, int endDate, int endHour) {
+		return EpochDays.daysBetween(startDate, startHour, endDate, endHour);
+	}
+
+	@Override
+	public double dayCountFraction(int startDate, int startHour, int endDate, int endHour) {
+		return dayCount(startDate, startHour, endDate, endHour) / 336.0;
+	}
+
 }
@@ -5,6 +5,7 @@
  */
 package org.actus.conventions.daycount;
 
+import org.actus.time.EpochDays;
 import org.actus.time.calendar.BusinessDayCalendarProvider;
 
 import java.time.LocalDateTime;
@@ -15,27 +16,40 @@ import java.time.temporal.ChronoUnit;
  * <p>
  * This day count convention relies on a {@link BusinessDayCalendarProvider} which necessarily
  * has to be provided in order to being able to computing day counts. 
+ * <p>
+ * The day count is the number of business days from (including) the start date to (excluding)
+ * the end date as per {@link BusinessDayCalendarProvider#businessDaysBetween(int, int)}, i.e. two
+ * lookups in the prefix-count index of a {@link org.actus.time.calendar.HolidayCalendar}.
  * 
  * @see
  */
 public final class BusinessTwoFiftyTwo implements DayCountConventionProvider {
 	private BusinessDayCalendarProvider calendar;
 
+	public BusinessTwoFiftyTwo() {
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param calendar the {@link BusinessDayCalendarProvider} defining the business days
+	 */
+	public BusinessTwoFiftyTwo(BusinessDayCalendarProvider calendar) {
+		this.calendar = calendar;
+	}
+
 	public void setCalendar(BusinessDayCalendarProvider calendar) {
 		this.calendar = calendar;
 	}
 	
 	@Override
 	public double dayCount(LocalDateTime startTime, LocalDateTime endTime) {
-		LocalDateTime date = startTime;
-		int daysCount = 0;
-		for (int i = 0; i < ChronoUnit.DAYS.between(startTime, endTime); i++) {
-			if (calendar.isBusinessDay(date)) {
-				daysCount++;
-			}
-			date = date.plusDays(1);
+		long days = ChronoUnit.DAYS.between(startTime, endTime);
+		if (days <= 0) {
+			return 0;
 		}
-		return daysCount;
+		int startDate = EpochDays.of(startTime);
+		return calendar.businessDaysBetween(startDate, (int) (startDate + days));
 	}
 	
 	@Override
@@ -43,4 +57,18 @@ public final class BusinessTwoFiftyTwo implements DayCountConventionProvider {
 			LocalDateTime endTime) {
 		return this.dayCount(startTime, endTime) / 252.0;
 	}
+
+	@Override
+	public double dayCount(int startDate, int startHour, int endDate, int endHour) {
+		long days = EpochDays.daysBetween(startDate, startHour, endDate, endHour);
+		if (days <= 0) {
+			return 0;
+		}
+		return calendar.businessDaysBetween(startDate, (int) (startDate + days));
+	}
+
+	@Override
+	public double dayCountFraction(int startDate, int startHour, int endDate, int endHour) {
+		return this.dayCount(startDate, startHour, endDate, endHour) / 252.0;
+	}
 }
@@ -5,7 +5,7 @@
  */
 package org.actus.conventions.daycount;
 
-import org.actus.time.TimeAdjuster;
+import org.actus.time.EpochDays;
 import org.actus.time.calendar.BusinessDayCalendarProvider;
 import org.actus.util.StringUtils;
 
@@ -53,8 +53,7 @@ public class DayCountCalculator {
                 this.convention = new ActualActualISDA();
                 break;
             case StringUtils.DayCountConvention_B252:
-                this.convention = new BusinessTwoFiftyTwo();
-                // TODO: ((BusinessTwoFiftyTwo) this.convention).setCalendar(calendar);
+                this.convention = new BusinessTwoFiftyTwo(calendar);
                 break;
             case StringUtils.DayCountConvention_A336:
             	this.convention = new ActualThreeThirtySix();
@@ -80,6 +79,37 @@ public class DayCountCalculator {
      * reference year between startTime and endTime
      */
     public double dayCountFraction(LocalDateTime startTime, LocalDateTime endTime) {
-        return convention.dayCountFraction(TimeAdjuster.toFullHours(startTime), TimeAdjuster.toFullHours(endTime));
+        // round to the full hour as per TimeAdjuster.toFullHours without creating intermediate times
+        int startDate = EpochDays.of(startTime);
+        int startHour = startTime.getHour() + startTime.getMinute() / 30;
+        if (startHour == 24) {
+            startDate++;
+            startHour = 0;
+        }
+        int endDate = EpochDays.of(endTime);
+        int endHour = endTime.getHour() + endTime.getMinute() / 30;
+        if (endHour == 24) {
+            endDate++;
+            endHour = 0;
+        }
+        return convention.dayCountFraction(startDate, startHour, endDate, endHour);
+    }
+
+    /**
+     * Compute the number of days as a fraction of total number of days in the entire
+     * reference year between two dates given as epoch days
+     * 
+     * @param startDate the start of the time period as epoch day (cf. {@link EpochDays})
+     * @param endDate the end of the time period as epoch day
+     * @return the number of days as a fraction of total number of days in the entire
+     * reference year between startDate and endDate
+     */
+    public double dayCountFraction(int startDate, int endDate) {
+        return convention.dayCountFraction(startDate, endDate);
+    }
+
+    // the convention used by this calculator
+    DayCountConventionProvider convention() {
+        return convention;
     }
 }
@@ -5,6 +5,8 @@
  */
 package org.actus.conventions.daycount;
 
+import org.actus.time.EpochDays;
+
 import java.time.LocalDateTime;
 
 /**
@@ -38,5 +40,51 @@ public interface DayCountConventionProvider {
 	 */
 	public double dayCountFraction(LocalDateTime startTime,
 			LocalDateTime endTime);
-}
 
+	/**
+	 * Compute the number of days between two full hours of dates given as epoch days
+	 * <p>
+	 * The default implementation converts the dates to {@link LocalDateTime}s. Conventions
+	 * should override this method to avoid the conversion.
+	 * 
+	 * @param startDate the start of the time period as epoch day (cf. {@link EpochDays})
+	 * @param startHour the hour of {@code startDate}
+	 * @param endDate the end of the time period as epoch day
+	 * @param endHour the hour of {@code endDate}
+	 * @return the number of days between start and end
+	 */
+	public default double dayCount(int startDate, int startHour, int endDate, int endHour) {
+		return dayCount(EpochDays.toLocalDateTime(startDate, startHour), EpochDays.toLocalDateTime(endDate, endHour));
+	}
+
+	/**
+	 * Compute the number of days as a fraction of total number of days in the entire
+	 * reference year between two full hours of dates given as epoch days
+	 * <p>
+	 * The default implementation converts the dates to {@link LocalDateTime}s. Conventions
+	 * should override this method to avoid the conversion.
+	 * 
+	 * @param startDate the start of the time period as epoch day (cf. {@link EpochDays})
+	 * @param startHour the hour of {@code startDate}
+	 * @param endDate the end of the time period as epoch day
+	 * @param endHour the hour of {@code endDate}
+	 * @return the number of days as a fraction of total number of days in the entire
+	 * reference year between start and end
+	 */
+	public default double dayCountFraction(int startDate, int startHour, int endDate, int endHour) {
+		return dayCountFraction(EpochDays.toLocalDateTime(startDate, startHour), EpochDays.toLocalDateTime(endDate, endHour));
+	}
+
+	/**
+	 * Compute the number of days as a fraction of total number of days in the entire
+	 * reference year between the start of two dates given as epoch days
+	 * 
+	 * @param startDate the start of the time period as epoch day (cf. {@link EpochDays})
+	 * @param endDate the end of the time period as epoch day
+	 * @return the number of days as a fraction of total number of days in the entire
+	 * reference year between startDate and endDate
+	 */
+	public default double dayCountFraction(int startDate, int endDate) {
+		return dayCountFraction(startDate, 0, endDate, 0);
+	}
+}
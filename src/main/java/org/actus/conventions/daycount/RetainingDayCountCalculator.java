@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.conventions.daycount;
+
+import java.time.LocalDateTime;
+
+/**
+ * A {@link DayCountCalculator} that retains the day count fraction of one period computed in advance
+ * <p>
+ * The pay-off and state-transition functions of an event typically compute the day count fraction
+ * of the same period, i.e. from the last event to the event itself, and this fraction depends on the
+ * schedule only. A {@code RetainingDayCountCalculator} computes the fraction of such a period once upon
+ * construction and returns it whenever asked for the same period, while delegating any other period to
+ * the contract's {@link DayCountCalculator}. Hence, an {@link org.actus.events.ContractEvent} of a
+ * {@link org.actus.events.Schedule} evaluated repeatedly does not repeat its day count.
+ * <p>
+ * Instances are immutable and thus may be shared between threads.
+ */
+public final class RetainingDayCountCalculator extends DayCountCalculator {
+    private final DayCountCalculator calculator;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final double fraction;
+
+    /**
+     * Constructor
+     *
+     * @param calculator the calculator computing the day count fractions
+     * @param startTime the start of the retained period
+     * @param endTime the end of the retained period
+     */
+    public RetainingDayCountCalculator(DayCountCalculator calculator, LocalDateTime startTime, LocalDateTime endTime) {
+        super(calculator.convention());
+        this.calculator = calculator;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.fraction = calculator.dayCountFraction(startTime, endTime);
+    }
+
+    /**
+     * Returns the calculator computing the day count fractions
+     */
+    public DayCountCalculator calculator() {
+        return calculator;
+    }
+
+    @Override
+    public double dayCountFraction(LocalDateTime startTime, LocalDateTime endTime) {
+        if (startTime.equals(this.startTime) && endTime.equals(this.endTime)) {
+            return fraction;
+        }
+        return calculator.dayCountFraction(startTime, endTime);
+    }
+
+    @Override
+    public double dayCountFraction(int startDate, int endDate) {
+        return calculator.dayCountFraction(startDate, endDate);
+    }
+}
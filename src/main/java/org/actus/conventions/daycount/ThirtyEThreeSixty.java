@@ -5,6 +5,8 @@
  */
 package org.actus.conventions.daycount;
 
+import org.actus.time.EpochDays;
+
 import java.time.LocalDateTime;
 
 /**
@@ -33,5 +35,20 @@ public class ThirtyEThreeSixty implements DayCountConventionProvider {
 	public double dayCountFraction(LocalDateTime startTime, LocalDateTime endTime) {
 		return (this.dayCount(startTime, endTime) / 360.0);
 	}
-}
 
+	@Override
+	public double dayCount(int startDate, int startHour, int endDate, int endHour) {
+		int d1 = EpochDays.dayOfMonth(startDate);
+		int d2 = EpochDays.dayOfMonth(endDate);
+		double delD = ((d2 == 31) ? 30 : d2) - ((d1 == 31) ? 30 : d1);
+		double delM = EpochDays.month(endDate) - EpochDays.month(startDate);
+		double delY = EpochDays.year(endDate) - EpochDays.year(startDate);
+
+		return (360.0 * delY + 30.0 * delM + delD);
+	}
+
+	@Override
+	public double dayCountFraction(int startDate, int startHour, int endDate, int endHour) {
+		return (this.dayCount(startDate, startHour, endDate, endHour) / 360.0);
+	}
+}
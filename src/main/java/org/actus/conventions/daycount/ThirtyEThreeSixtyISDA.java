@@ -5,7 +5,10 @@
  */
 package org.actus.conventions.daycount;
 
+import org.actus.time.EpochDays;
+
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
 
 /**
@@ -20,6 +23,9 @@ import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
  */
 public class ThirtyEThreeSixtyISDA implements DayCountConventionProvider {
 	private LocalDateTime maturityDate;
+	// the maturity date as epoch day and hour or hour -1 if not set or not at a full hour
+	private int maturityDay;
+	private int maturityHour = -1;
     
     /**
      * Set the maturity date considered when computing day counts
@@ -29,6 +35,13 @@ public class ThirtyEThreeSixtyISDA implements DayCountConventionProvider {
      */
 	public void maturityDate(LocalDateTime maturityDate) {
 		this.maturityDate = maturityDate;
+		if (maturityDate != null && maturityDate.equals(maturityDate.truncatedTo(ChronoUnit.HOURS))) {
+			this.maturityDay = EpochDays.of(maturityDate);
+			this.maturityHour = maturityDate.getHour();
+		} else {
+			this.maturityDay = 0;
+			this.maturityHour = -1;
+		}
 	}
 	
 	@Override
@@ -53,5 +66,24 @@ public class ThirtyEThreeSixtyISDA implements DayCountConventionProvider {
 			LocalDateTime endTime) {
 		return (this.dayCount(startTime, endTime) / 360.0);
 	}
-}
 
+	@Override
+	public double dayCount(int startDate, int startHour, int endDate, int endHour) {
+		int d1 = EpochDays.dayOfMonth(startDate);
+		d1 = (startDate == EpochDays.lastDayOfMonth(startDate)) ? 30 : d1;
+		int d2 = EpochDays.dayOfMonth(endDate);
+		boolean atMaturity = endDate == maturityDay && endHour == maturityHour;
+		d2 = (!(atMaturity && EpochDays.month(endDate) == 2)
+				&& endDate == EpochDays.lastDayOfMonth(endDate)) ? 30 : d2;
+		double delD = d2 - d1;
+		double delM = EpochDays.month(endDate) - EpochDays.month(startDate);
+		double delY = EpochDays.year(endDate) - EpochDays.year(startDate);
+
+		return ((360.0 * delY + 30.0 * delM + delD));
+	}
+
+	@Override
+	public double dayCountFraction(int startDate, int startHour, int endDate, int endHour) {
+		return (this.dayCount(startDate, startHour, endDate, endHour) / 360.0);
+	}
+}
@@ -1,6 +1,9 @@
 package org.actus.conventions.daycount;
 
+import org.actus.time.EpochDays;
+
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
 
 /*
@@ -10,6 +13,9 @@ import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
 public class TwentyEightThreeThirtySix implements DayCountConventionProvider {
 
 	private LocalDateTime maturityDate;
+	// the maturity date as epoch day and hour or hour -1 if not set or not at a full hour
+	private int maturityDay;
+	private int maturityHour = -1;
 
 	/**
 	 * Set the maturity date considered when computing day counts
@@ -19,6 +25,13 @@ public class TwentyEightThreeThirtySix implements DayCountConventionProvider {
 	 */
 	public void maturityDate(LocalDateTime maturityDate) {
 		this.maturityDate = maturityDate;
+		if (maturityDate != null && maturityDate.equals(maturityDate.truncatedTo(ChronoUnit.HOURS))) {
+			this.maturityDay = EpochDays.of(maturityDate);
+			this.maturityHour = maturityDate.getHour();
+		} else {
+			this.maturityDay = 0;
+			this.maturityHour = -1;
+		}
 	}
 
 	@Override
@@ -39,4 +52,22 @@ public class TwentyEightThreeThirtySix implements DayCountConventionProvider {
 		return (this.dayCount(startTime, endTime) / 336);
 	}
 
-}
\ No newline at end of file
+	@Override
+	public double dayCount(int startDate, int startHour, int endDate, int endHour) {
+		int d1 = EpochDays.dayOfMonth(startDate);
+		d1 = (startDate == EpochDays.lastDayOfMonth(startDate)) ? 28 : d1;
+		int d2 = EpochDays.dayOfMonth(endDate);
+		boolean atMaturity = endDate == maturityDay && endHour == maturityHour;
+		d2 = (!(atMaturity || EpochDays.month(endDate) == 2)
+				&& d2 == EpochDays.dayOfMonth(EpochDays.lastDayOfMonth(startDate))) ? 28 : d2 >= 28 ? 28 : d2;
+		double delD = d2 - d1;
+		double delM = EpochDays.month(endDate) - EpochDays.month(startDate);
+		double delY = EpochDays.year(endDate) - EpochDays.year(startDate);
+		return ((336.0 * delY + 28.0 * delM + delD));
+	}
+
+	@Override
+	public double dayCountFraction(int startDate, int startHour, int endDate, int endHour) {
+		return (this.dayCount(startDate, startHour, endDate, endHour) / 336);
+	}
+}
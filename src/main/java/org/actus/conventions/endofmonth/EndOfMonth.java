@@ -5,6 +5,8 @@
  */
 package org.actus.conventions.endofmonth;
 
+import org.actus.time.EpochDays;
+
 import java.time.LocalDateTime;
 import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
 
@@ -29,4 +31,9 @@ public class EndOfMonth implements EndOfMonthConvention {
 	public LocalDateTime shift(LocalDateTime date) {
 	    return date.with(lastDayOfMonth());
 	}
+
+    @Override
+	public int shift(int date) {
+	    return EpochDays.lastDayOfMonth(date);
+	}
 }
@@ -6,6 +6,7 @@
 package org.actus.conventions.endofmonth;
 
 import org.actus.AttributeConversionException;
+import org.actus.time.Cycle;
 import org.actus.util.CycleUtils;
 import org.actus.util.StringUtils;
 import org.actus.conventions.endofmonth.EndOfMonthConvention;
@@ -14,6 +15,7 @@ import org.actus.conventions.endofmonth.EndOfMonth;
 
 import java.time.LocalDateTime;
 import java.time.Period;
+import java.util.function.Supplier;
 
 import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
 
@@ -42,19 +44,36 @@ public final class EndOfMonthAdjuster {
      * @return 
      */
     public EndOfMonthAdjuster(String convention, LocalDateTime refDate, String cycle) throws AttributeConversionException {
+        this.convention = convention(convention, refDate, () -> CycleUtils.parsePeriod(cycle));
+    }
+
+    /**
+     * Constructor
+     * 
+     * Same as {@link #EndOfMonthAdjuster(String, LocalDateTime, String)} for a parsed cycle.
+     * 
+     * @param convention indicates the {@link EndOfMonthConvention} to be applied
+     * @param refDate the schedule start date
+     * @param cycle the cycle used in the schedule
+     * @throws AttributeConversionException if {@code convention} does not conform with the ACTUS Data Dictionary
+     */
+    public EndOfMonthAdjuster(String convention, LocalDateTime refDate, Cycle cycle) throws AttributeConversionException {
+        this.convention = convention(convention, refDate, cycle::period);
+    }
+
+    // the convention to be applied, where the period of the cycle is determined only if required
+    private static EndOfMonthConvention convention(String convention, LocalDateTime refDate, Supplier<Period> period) {
         switch (convention) {
             case StringUtils.EndOfMonthConvention_EndOfMonth:
                 // note, internally, units which are a multiple of "1M" are converted to "XM" why here we only have to check
                 // for period-unit M when deciding whether or not to shift a date
-                if (refDate.equals(refDate.with(lastDayOfMonth())) && CycleUtils.parsePeriod(cycle).getMonths() > 0) {
-                    this.convention = new EndOfMonth();
+                if (refDate.equals(refDate.with(lastDayOfMonth())) && period.get().getMonths() > 0) {
+                    return new EndOfMonth();
                 } else {
-                    this.convention = new SameDay();
+                    return new SameDay();
                 }
-                break;
             case StringUtils.EndOfMonthConvention_SameDay:
-                this.convention = new SameDay();
-                break;
+                return new SameDay();
             default:
                 throw new AttributeConversionException();
         }
@@ -69,4 +88,14 @@ public final class EndOfMonthAdjuster {
     public LocalDateTime shift(LocalDateTime date) {
         return convention.shift(date);
     }
+
+    /**
+     * Shift a date given as epoch day to the end of the month according to a specific convention
+     * 
+     * @param date the epoch day to be shifted (cf. {@link org.actus.time.EpochDays})
+     * @return the shifted epoch day
+     */
+    public int shift(int date) {
+        return convention.shift(date);
+    }
 }
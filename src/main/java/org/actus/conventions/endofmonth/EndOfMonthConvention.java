@@ -5,6 +5,8 @@
  */
 package org.actus.conventions.endofmonth;
 
+import org.actus.time.EpochDays;
+
 import java.time.LocalDateTime;
 
 /**
@@ -34,4 +36,17 @@ public interface EndOfMonthConvention {
      */
 	public LocalDateTime shift(LocalDateTime date);
 
+    /**
+     * Shift a date given as epoch day to the end of the month according to a specific convention
+     * <p>
+     * The default implementation converts {@code date} to a {@link LocalDateTime}. Conventions
+     * should override this method to avoid the conversion.
+     * 
+     * @param date the epoch day to be shifted (cf. {@link EpochDays})
+     * @return the shifted epoch day
+     */
+	public default int shift(int date) {
+		return EpochDays.of(shift(EpochDays.toLocalDateTime(date)));
+	}
+
 }
\ No newline at end of file
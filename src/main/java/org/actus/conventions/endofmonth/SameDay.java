@@ -25,4 +25,9 @@ public class SameDay implements EndOfMonthConvention {
 	public LocalDateTime shift(LocalDateTime date) {
 	    return date;
 	}
+
+    @Override
+	public int shift(int date) {
+	    return date;
+	}
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.engine;
+
+import org.actus.attributes.ContractModelProvider;
+import org.actus.events.ContractEvent;
+import org.actus.events.EventTable;
+
+import java.util.ArrayList;
+
+/**
+ * The outcome of evaluating a single contract in a {@link PortfolioRunner}
+ * <p>
+ * A {@code ContractResult} either carries the evaluated {@link ContractEvent}s of a contract,
+ * as a list or in columnar form as an {@link EventTable}, or the exception that prevented the contract from being evaluated. A failure of one contract
+ * never affects the evaluation of the other contracts in the same portfolio.
+ */
+public final class ContractResult {
+    private final ContractModelProvider model;
+    private final ArrayList<ContractEvent> events;
+    private final EventTable table;
+    private final RuntimeException failure;
+
+    private ContractResult(ContractModelProvider model, ArrayList<ContractEvent> events, EventTable table, RuntimeException failure) {
+        this.model = model;
+        this.events = events;
+        this.table = table;
+        this.failure = failure;
+    }
+
+    /**
+     * Create the result of a successfully evaluated contract
+     *
+     * @param model the model carrying the contract attributes
+     * @param events the evaluated contract events
+     * @return the result
+     */
+    public static ContractResult success(ContractModelProvider model, ArrayList<ContractEvent> events) {
+        return new ContractResult(model, events, null, null);
+    }
+
+    /**
+     * Create the result of a successfully evaluated contract with events in columnar form
+     *
+     * @param model the model carrying the contract attributes
+     * @param table the evaluated contract events
+     * @return the result
+     */
+    public static ContractResult success(ContractModelProvider model, EventTable table) {
+        return new ContractResult(model, null, table, null);
+    }
+
+    /**
+     * Create the result of a contract that failed to evaluate
+     *
+     * @param model the model carrying the contract attributes
+     * @param failure the exception thrown when evaluating the contract
+     * @return the result
+     */
+    public static ContractResult failure(ContractModelProvider model, RuntimeException failure) {
+        return new ContractResult(model, null, null, failure);
+    }
+
+    /**
+     * Returns the model of the evaluated contract
+     */
+    public ContractModelProvider model() {
+        return model;
+    }
+
+    /**
+     * Returns whether the contract has been evaluated successfully
+     */
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    /**
+     * Returns the evaluated contract events or {@code null} if evaluation failed or events are in columnar form
+     */
+    public ArrayList<ContractEvent> events() {
+        return events;
+    }
+
+    /**
+     * Returns the evaluated contract events in columnar form or {@code null} if evaluation failed or events are not in columnar form
+     */
+    public EventTable table() {
+        return table;
+    }
+
+    /**
+     * Returns the exception thrown when evaluating the contract or {@code null} if evaluation succeeded
+     */
+    public RuntimeException failure() {
+        return failure;
+    }
+}
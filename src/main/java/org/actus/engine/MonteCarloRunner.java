@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.engine;
+
+import org.actus.attributes.ContractModelProvider;
+import org.actus.contracts.ContractType;
+import org.actus.events.ContractEvent;
+import org.actus.events.Schedule;
+import org.actus.externals.RiskFactorModelProvider;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Component that evaluates a portfolio of contracts under simulated risk factor paths in parallel
+ * <p>
+ * The {@code MonteCarloRunner} computes the schedule of every contract in the portfolio once
+ * (cf. {@link Schedule}) and applies it under a number of risk factor paths created by a
+ * {@link PathGenerator}. The evaluated events of a contract are reduced to a single value per path
+ * by an aggregator (e.g. the sum of payoffs) and the values of all contracts are summed per path.
+ * Only these per-path aggregates are reported, i.e. evaluated events are discarded as soon as they
+ * are aggregated.
+ * <p>
+ * Paths are evaluated in batches on a work-stealing {@link ForkJoinPool}, with all contracts of a
+ * batch evaluated in a single pass over their schedule (cf.
+ * {@link ContractType#apply(Schedule, ContractModelProvider, List)}). Every path draws from its own
+ * random stream derived from the simulation seed and the path index (cf. {@link #random(long, long)})
+ * and the aggregates of the contracts are summed in the order of the portfolio. Hence, the results are
+ * bit-for-bit reproducible for a given seed irrespective of the level of parallelism and the batch size.
+ * <p>
+ * A contract that fails to evaluate fails the simulation, i.e. the respective {@link RuntimeException}
+ * is thrown by {@code run}.
+ */
+public final class MonteCarloRunner implements AutoCloseable {
+    // number of paths below which a task is not split any further
+    private static final int DEFAULT_BATCH_SIZE = 64;
+    // the increment of the SplitMix64 generator
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final ForkJoinPool pool;
+    private final int batchSize;
+
+    /**
+     * A consumer of per-path aggregates
+     */
+    @FunctionalInterface
+    public interface PathConsumer {
+
+        /**
+         * Accept the aggregate of a path
+         * <p>
+         * Note, paths are reported by multiple threads concurrently and in no particular order.
+         *
+         * @param path the index of the path
+         * @param value the aggregate of the path
+         */
+        public void accept(int path, double value);
+    }
+
+    /**
+     * Constructor
+     * <p>
+     * Creates a runner using as many worker threads as there are available processors.
+     */
+    public MonteCarloRunner() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param parallelism the number of worker threads used to evaluate paths
+     */
+    public MonteCarloRunner(int parallelism) {
+        this(parallelism, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param parallelism the number of worker threads used to evaluate paths
+     * @param batchSize the number of paths evaluated together by a single task
+     * @throws IllegalArgumentException if {@code parallelism} or {@code batchSize} is not positive
+     */
+    public MonteCarloRunner(int parallelism, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns the number of worker threads used to evaluate paths
+     */
+    public int parallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Returns the random stream of a path
+     * <p>
+     * The stream's seed is derived from the simulation seed and the path index by a SplitMix64 step,
+     * i.e. the streams of different paths are statistically independent and the stream of a path does
+     * not depend on any other path.
+     *
+     * @param seed the seed of the simulation
+     * @param path the index of the path
+     * @return the random stream of the path
+     */
+    public static SplittableRandom random(long seed, long path) {
+        long z = seed + (path + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return new SplittableRandom(z ^ (z >>> 31));
+    }
+
+    /**
+     * Simulate a portfolio of contracts
+     *
+     * @param models the models carrying the attributes of the contracts in the portfolio
+     * @param to the time up to which the events are to be evaluated
+     * @param generator the generator of the risk factor paths
+     * @param paths the number of paths
+     * @param seed the seed of the simulation
+     * @param aggregator the aggregator reducing the evaluated events of a contract to a single value
+     * @return the sum of the contracts' aggregates per path
+     * @throws IllegalArgumentException if {@code paths} is negative
+     */
+    public double[] run(Collection<? extends ContractModelProvider> models,
+                        LocalDateTime to,
+                        PathGenerator generator,
+                        int paths,
+                        long seed,
+                        ToDoubleFunction<List<ContractEvent>> aggregator) {
+        double[] results = new double[Math.max(paths, 0)];
+        run(models, to, generator, paths, seed, aggregator, (path, value) -> results[path] = value);
+        return results;
+    }
+
+    /**
+     * Simulate a portfolio of contracts reporting the aggregate of every path as it completes
+     *
+     * @param models the models carrying the attributes of the contracts in the portfolio
+     * @param to the time up to which the events are to be evaluated
+     * @param generator the generator of the risk factor paths
+     * @param paths the number of paths
+     * @param seed the seed of the simulation
+     * @param aggregator the aggregator reducing the evaluated events of a contract to a single value
+     * @param consumer the consumer of the sum of the contracts' aggregates per path
+     * @throws IllegalArgumentException if {@code paths} is negative
+     */
+    public void run(Collection<? extends ContractModelProvider> models,
+                    LocalDateTime to,
+                    PathGenerator generator,
+                    int paths,
+                    long seed,
+                    ToDoubleFunction<List<ContractEvent>> aggregator,
+                    PathConsumer consumer) {
+        if (paths < 0) {
+            throw new IllegalArgumentException("paths must not be negative");
+        }
+        ContractModelProvider[] contracts = models.toArray(new ContractModelProvider[models.size()]);
+        Schedule[] schedules = new Schedule[contracts.length];
+        for (int i = 0; i < contracts.length; i++) {
+            schedules[i] = Schedule.of(ContractType.schedule(to, contracts[i]), contracts[i]);
+        }
+        pool.invoke(new SimulationTask(new Simulation(contracts, schedules, generator, seed, aggregator, consumer), 0, paths));
+    }
+
+    /**
+     * Shuts down the worker threads of this runner
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    // the inputs of a simulation shared by its tasks
+    private static final class Simulation {
+        final ContractModelProvider[] contracts;
+        final Schedule[] schedules;
+        final PathGenerator generator;
+        final long seed;
+        final ToDoubleFunction<List<ContractEvent>> aggregator;
+        final PathConsumer consumer;
+
+        Simulation(ContractModelProvider[] contracts, Schedule[] schedules, PathGenerator generator, long seed,
+                   ToDoubleFunction<List<ContractEvent>> aggregator, PathConsumer consumer) {
+            this.contracts = contracts;
+            this.schedules = schedules;
+            this.generator = generator;
+            this.seed = seed;
+            this.aggregator = aggregator;
+            this.consumer = consumer;
+        }
+    }
+
+    // task evaluating the paths in range [from,until)
+    private final class SimulationTask extends RecursiveAction {
+        private final Simulation simulation;
+        private final int from;
+        private final int until;
+
+        SimulationTask(Simulation simulation, int from, int until) {
+            this.simulation = simulation;
+            this.from = from;
+            this.until = until;
+        }
+
+        @Override
+        protected void compute() {
+            if (until - from <= batchSize) {
+                simulate();
+            } else {
+                int mid = (from + until) >>> 1;
+                invokeAll(new SimulationTask(simulation, from, mid), new SimulationTask(simulation, mid, until));
+            }
+        }
+
+        private void simulate() {
+            List<RiskFactorModelProvider> observers = new ArrayList<RiskFactorModelProvider>(until - from);
+            for (int path = from; path < until; path++) {
+                observers.add(simulation.generator.path(path, random(simulation.seed, path)));
+            }
+            double[] values = new double[until - from];
+            for (int i = 0; i < simulation.contracts.length; i++) {
+                List<ArrayList<ContractEvent>> events = ContractType.apply(simulation.schedules[i], simulation.contracts[i], observers);
+                for (int k = 0; k < values.length; k++) {
+                    values[k] += simulation.aggregator.applyAsDouble(events.get(k));
+                }
+            }
+            for (int k = 0; k < values.length; k++) {
+                simulation.consumer.accept(from + k, values[k]);
+            }
+        }
+    }
+}
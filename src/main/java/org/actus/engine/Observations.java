@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.engine;
+
+import org.actus.attributes.ContractModelProvider;
+import org.actus.events.ContractEvent;
+import org.actus.util.CommonUtils;
+import org.actus.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Component that determines the market observations of contracts from their schedules
+ * <p>
+ * The pay-off and state-transition functions of some events observe a market risk factor at the
+ * event's schedule time, i.e. rate resets (RR) the rate referenced by attribute
+ * {@code MarketObjectCodeOfRateReset}, scaling index revisions (SC) the index referenced by attribute
+ * {@code MarketObjectCodeOfScalingIndex} and dividend payments (DV) the rate referenced by attribute
+ * {@code MarketObjectCodeOfDividendRate}. Further, the settlement (STD) of a foreign exchange outright
+ * observes the exchange rate {@code Currency2/Currency} at attribute {@code MaturityDate}. These
+ * observations are known before the events are evaluated and thus may be resolved in advance
+ * (cf. {@link org.actus.externals.PrefetchedRiskFactorModel}).
+ */
+public final class Observations {
+
+    private Observations() {
+    }
+
+    /**
+     * Determine the market observations of a contract
+     *
+     * @param events the scheduled events of the contract
+     * @param model the model carrying the contract attributes
+     * @return the observation times per risk factor id
+     */
+    public static Map<String, Set<LocalDateTime>> of(List<ContractEvent> events, ContractModelProvider model) {
+        Map<String, Set<LocalDateTime>> observations = new HashMap<String, Set<LocalDateTime>>();
+        collect(events, model, observations);
+        return observations;
+    }
+
+    /**
+     * Add the market observations of a contract to the observations of other contracts
+     *
+     * @param events the scheduled events of the contract
+     * @param model the model carrying the contract attributes
+     * @param observations the observation times per risk factor id to which the contract's observations are added
+     */
+    public static void collect(List<ContractEvent> events, ContractModelProvider model, Map<String, Set<LocalDateTime>> observations) {
+        for (ContractEvent event : events) {
+            if (event.eventType() == null) {
+                continue;
+            }
+            switch (event.eventType()) {
+                case RR:
+                    add(observations, model.getAs("MarketObjectCodeOfRateReset"), event.scheduleTime());
+                    break;
+                case SC:
+                    add(observations, model.getAs("MarketObjectCodeOfScalingIndex"), event.scheduleTime());
+                    break;
+                case DV:
+                    add(observations, model.getAs("MarketObjectCodeOfDividendRate"), event.scheduleTime());
+                    break;
+                case STD:
+                    if (StringUtils.ContractType_FXOUT.equals(model.getAs("ContractType"))
+                            && !CommonUtils.isNull(model.getAs("Currency2"))) {
+                        add(observations, model.getAs("Currency2") + "/" + model.getAs("Currency"), model.getAs("MaturityDate"));
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private static void add(Map<String, Set<LocalDateTime>> observations, String id, LocalDateTime time) {
+        if (CommonUtils.isNull(id) || time == null) {
+            return;
+        }
+        Set<LocalDateTime> times = observations.get(id);
+        if (times == null) {
+            times = new TreeSet<LocalDateTime>();
+            observations.put(id, times);
+        }
+        times.add(time);
+    }
+}
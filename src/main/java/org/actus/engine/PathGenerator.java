@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.engine;
+
+import org.actus.externals.RiskFactorModelProvider;
+
+import java.util.SplittableRandom;
+
+/**
+ * A generator of risk factor scenarios, i.e. paths, for a Monte Carlo simulation
+ * <p>
+ * A {@code PathGenerator} creates the {@link RiskFactorModelProvider} of a single path from the path's
+ * own random stream (cf. {@link MonteCarloRunner#random(long, long)}). The generated path must depend on
+ * the path index and the random stream only, e.g. by simulating the risk factors on a fixed time grid
+ * when the path is generated, such that a path is reproducible irrespective of which thread generates
+ * it and in which order its risk factor states are queried. Random streams for several risk factors
+ * are derived from the path's stream by {@link SplittableRandom#split()}.
+ * <p>
+ * A generator is invoked by multiple threads concurrently and thus must be safe for use by multiple
+ * threads. The generated {@link RiskFactorModelProvider} is used by a single thread.
+ */
+@FunctionalInterface
+public interface PathGenerator {
+
+    /**
+     * Generate a path
+     *
+     * @param path the index of the path
+     * @param random the random stream of the path
+     * @return the risk factor model of the path
+     */
+    public RiskFactorModelProvider path(int path, SplittableRandom random);
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.engine;
+
+import org.actus.attributes.ContractModelProvider;
+import org.actus.contracts.ContractType;
+import org.actus.events.ContractEvent;
+import org.actus.events.EventTable;
+import org.actus.events.Schedule;
+import org.actus.externals.PrefetchedRiskFactorModel;
+import org.actus.externals.RiskFactorModelProvider;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Component that evaluates a portfolio of contracts in parallel
+ * <p>
+ * For every contract in the portfolio the {@code PortfolioRunner} computes the contract's
+ * schedule (cf. {@link ContractType#schedule}) and applies it to the contract's current state
+ * contingent to the risk factor dynamics provided with the {@link RiskFactorModelProvider}
+ * (cf. {@link ContractType#apply}). Contracts are evaluated independently of each other on
+ * a work-stealing {@link ForkJoinPool} with a configurable level of parallelism.
+ * <p>
+ * Results are returned per contract and in the order of the input. A contract that fails
+ * to evaluate (e.g. because its attributes cannot be converted) is reported as a failed
+ * {@link ContractResult} and does not affect the evaluation of the other contracts.
+ * <p>
+ * Note, the {@link RiskFactorModelProvider} is shared by all contracts and thus accessed
+ * concurrently. Hence, it must be safe for use by multiple threads.
+ */
+public final class PortfolioRunner implements AutoCloseable {
+    // number of contracts below which a task is not split any further
+    private static final int DEFAULT_BATCH_SIZE = 64;
+    // number of batches per worker thread read from a stream of contracts at a time
+    private static final int STREAM_BATCHES = 16;
+
+    private final ForkJoinPool pool;
+    private final int batchSize;
+
+    /**
+     * Constructor
+     * <p>
+     * Creates a runner using as many worker threads as there are available processors.
+     */
+    public PortfolioRunner() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param parallelism the number of worker threads used to evaluate contracts
+     */
+    public PortfolioRunner(int parallelism) {
+        this(parallelism, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param parallelism the number of worker threads used to evaluate contracts
+     * @param batchSize the number of contracts evaluated sequentially by a single task
+     * @throws IllegalArgumentException if {@code parallelism} or {@code batchSize} is not positive
+     */
+    public PortfolioRunner(int parallelism, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns the number of worker threads used to evaluate contracts
+     */
+    public int parallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Evaluate a portfolio of contracts
+     *
+     * @param models the models carrying the attributes of the contracts in the portfolio
+     * @param to the time up to which the events are to be evaluated
+     * @param observer the observer for external events and data
+     * @return the per-contract results in the order of {@code models}
+     */
+    public List<ContractResult> run(Collection<? extends ContractModelProvider> models,
+                                    LocalDateTime to,
+                                    RiskFactorModelProvider observer) {
+        return run(models.toArray(new ContractModelProvider[models.size()]), to, observer);
+    }
+
+    /**
+     * Evaluate a portfolio of contracts
+     * <p>
+     * The stream is consumed in chunks of contracts, each evaluated while the next chunk is read. Hence,
+     * the evaluation starts with the first chunk rather than once the stream is exhausted and the contracts
+     * waiting to be evaluated are bounded by two chunks.
+     *
+     * @param models the models carrying the attributes of the contracts in the portfolio
+     * @param to the time up to which the events are to be evaluated
+     * @param observer the observer for external events and data
+     * @return the per-contract results in the encounter order of {@code models}
+     */
+    public List<ContractResult> run(Stream<? extends ContractModelProvider> models,
+                                    LocalDateTime to,
+                                    RiskFactorModelProvider observer) {
+        ArrayList<ContractResult> results = new ArrayList<ContractResult>();
+        Iterator<? extends ContractModelProvider> iterator = models.iterator();
+        int chunkSize = batchSize * pool.getParallelism() * STREAM_BATCHES;
+        ForkJoinTask<Void> pending = null;
+        ContractResult[] pendingResults = null;
+        while (iterator.hasNext()) {
+            ContractModelProvider[] chunk = new ContractModelProvider[chunkSize];
+            int size = 0;
+            while (size < chunkSize && iterator.hasNext()) {
+                chunk[size++] = iterator.next();
+            }
+            ContractResult[] chunkResults = new ContractResult[size];
+            ForkJoinTask<Void> task = pool.submit(new RangeTask(0, size, i -> chunkResults[i] = evaluate(chunk[i], to, observer)));
+            if (pending != null) {
+                pending.join();
+                results.addAll(Arrays.asList(pendingResults));
+            }
+            pending = task;
+            pendingResults = chunkResults;
+        }
+        if (pending != null) {
+            pending.join();
+            results.addAll(Arrays.asList(pendingResults));
+        }
+        return results;
+    }
+
+    /**
+     * Evaluate a portfolio of contracts with events in columnar form
+     * <p>
+     * As opposed to {@link #run(Collection, LocalDateTime, RiskFactorModelProvider)}, the evaluated
+     * events of each contract are retained as an {@link EventTable} (cf. {@link ContractResult#table()})
+     * rather than as a list of {@link ContractEvent}s, which reduces the memory held by the results.
+     *
+     * @param models the models carrying the attributes of the contracts in the portfolio
+     * @param to the time up to which the events are to be evaluated
+     * @param observer the observer for external events and data
+     * @return the per-contract results in the order of {@code models}
+     */
+    public List<ContractResult> tabulate(Collection<? extends ContractModelProvider> models,
+                                         LocalDateTime to,
+                                         RiskFactorModelProvider observer) {
+        return run(models.toArray(new ContractModelProvider[models.size()]), to, observer, true);
+    }
+
+    /**
+     * Evaluate a portfolio of contracts with market observations resolved in advance
+     * <p>
+     * As opposed to {@link #run(Collection, LocalDateTime, RiskFactorModelProvider)}, the schedules of all
+     * contracts are computed first and the market observations known from the schedules (cf.
+     * {@link Observations}) are resolved with a single {@link RiskFactorModelProvider#stateAtBatch} call
+     * per risk factor across the portfolio. The contracts are then evaluated with the resolved observations
+     * (cf. {@link PrefetchedRiskFactorModel}).
+     * <p>
+     * Note, the observed risk factors are resolved without contract context, i.e. their states must not
+     * depend on the contract.
+     * A risk factor that fails to resolve is observed per contract as with
+     * {@link #run(Collection, LocalDateTime, RiskFactorModelProvider)}. Hence, only the contracts referencing
+     * it are reported as failed.
+     *
+     * @param models the models carrying the attributes of the contracts in the portfolio
+     * @param to the time up to which the events are to be evaluated
+     * @param observer the observer for external events and data
+     * @return the per-contract results in the order of {@code models}
+     */
+    public List<ContractResult> runPrefetched(Collection<? extends ContractModelProvider> models,
+                                              LocalDateTime to,
+                                              RiskFactorModelProvider observer) {
+        ContractModelProvider[] contracts = models.toArray(new ContractModelProvider[models.size()]);
+        ContractResult[] results = new ContractResult[contracts.length];
+
+        // compute the schedules, recording contracts that fail to schedule
+        Schedule[] schedules = new Schedule[contracts.length];
+        pool.invoke(new RangeTask(0, contracts.length, i -> {
+            try {
+                schedules[i] = Schedule.of(ContractType.schedule(to, contracts[i]), contracts[i]);
+            } catch (RuntimeException e) {
+                results[i] = ContractResult.failure(contracts[i], e);
+            }
+        }));
+
+        // resolve the observations of all contracts at once, where risk factors failing to resolve are left to the observer
+        Map<String, Set<LocalDateTime>> observations = new HashMap<String, Set<LocalDateTime>>();
+        for (int i = 0; i < contracts.length; i++) {
+            if (schedules[i] != null) {
+                try {
+                    Observations.collect(schedules[i].events(), contracts[i], observations);
+                } catch (RuntimeException e) {
+                    schedules[i] = null;
+                    results[i] = ContractResult.failure(contracts[i], e);
+                }
+            }
+        }
+        RiskFactorModelProvider prefetched = new PrefetchedRiskFactorModel(observer, observations);
+
+        // evaluate the scheduled contracts
+        pool.invoke(new RangeTask(0, contracts.length, i -> {
+            if (schedules[i] != null) {
+                try {
+                    results[i] = ContractResult.success(contracts[i], ContractType.apply(schedules[i], contracts[i], prefetched));
+                } catch (RuntimeException e) {
+                    results[i] = ContractResult.failure(contracts[i], e);
+                }
+            }
+        }));
+        return Arrays.asList(results);
+    }
+
+    private List<ContractResult> run(ContractModelProvider[] models, LocalDateTime to, RiskFactorModelProvider observer) {
+        return run(models, to, observer, false);
+    }
+
+    private List<ContractResult> run(ContractModelProvider[] models, LocalDateTime to, RiskFactorModelProvider observer, boolean tabulate) {
+        ContractResult[] results = new ContractResult[models.length];
+        pool.invoke(new RangeTask(0, models.length, tabulate
+                ? i -> results[i] = tabulate(models[i], to, observer)
+                : i -> results[i] = evaluate(models[i], to, observer)));
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Evaluate a single contract
+     * <p>
+     * Any {@link RuntimeException} thrown when computing or applying the contract's
+     * schedule is caught and reported as a failed {@link ContractResult}.
+     *
+     * @param model the model carrying the contract attributes
+     * @param to the time up to which the events are to be evaluated
+     * @param observer the observer for external events and data
+     * @return the result of the contract
+     */
+    public static ContractResult evaluate(ContractModelProvider model, LocalDateTime to, RiskFactorModelProvider observer) {
+        try {
+            ArrayList<ContractEvent> events = ContractType.apply(ContractType.schedule(to, model), model, observer);
+            return ContractResult.success(model, events);
+        } catch (RuntimeException e) {
+            return ContractResult.failure(model, e);
+        }
+    }
+
+    /**
+     * Evaluate a single contract with events in columnar form
+     * <p>
+     * Any {@link RuntimeException} thrown when computing or applying the contract's
+     * schedule is caught and reported as a failed {@link ContractResult}.
+     *
+     * @param model the model carrying the contract attributes
+     * @param to the time up to which the events are to be evaluated
+     * @param observer the observer for external events and data
+     * @return the result of the contract carrying an {@link EventTable}
+     */
+    public static ContractResult tabulate(ContractModelProvider model, LocalDateTime to, RiskFactorModelProvider observer) {
+        try {
+            ArrayList<ContractEvent> events = ContractType.apply(ContractType.schedule(to, model), model, observer);
+            return ContractResult.success(model, EventTable.of(events));
+        } catch (RuntimeException e) {
+            return ContractResult.failure(model, e);
+        }
+    }
+
+    /**
+     * Shuts down the worker threads of this runner
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    // task performing an action for every index in range [from,until)
+    private final class RangeTask extends RecursiveAction {
+        private final int from;
+        private final int until;
+        private final IntConsumer action;
+
+        RangeTask(int from, int until, IntConsumer action) {
+            this.from = from;
+            this.until = until;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (until - from <= batchSize) {
+                for (int i = from; i < until; i++) {
+                    action.accept(i);
+                }
+            } else {
+                int mid = (from + until) >>> 1;
+                invokeAll(new RangeTask(from, mid, action), new RangeTask(mid, until, action));
+            }
+        }
+    }
+}
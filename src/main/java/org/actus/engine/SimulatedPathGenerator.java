@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.engine;
+
+import org.actus.externals.GridRiskFactorModel;
+import org.actus.externals.StochasticProcess;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+/**
+ * A {@link PathGenerator} simulating risk factors by their {@link StochasticProcess}es on a regular time grid
+ * <p>
+ * Every path is simulated completely when it is generated, i.e. all risk factors are simulated on the
+ * grid into primitive arrays which back the path's {@link GridRiskFactorModel}. Querying the states of
+ * the path thus does not simulate. The risk factors draw from separate streams split off the path's
+ * random stream in the order of their ids, i.e. a path is reproducible from its random stream.
+ * Time steps are measured in years as days over 365.
+ * <p>
+ * Instances are immutable and thus may be shared between threads.
+ */
+public final class SimulatedPathGenerator implements PathGenerator {
+    private final LocalDateTime start;
+    private final int stepDays;
+    private final int steps;
+    private final String[] ids;
+    private final StochasticProcess[] processes;
+
+    /**
+     * Constructor
+     *
+     * @param start the first time of the grid, i.e. the time of the initial states
+     * @param stepDays the number of days between two grid times
+     * @param steps the number of time steps simulated
+     * @param processes the processes simulating the risk factors per risk factor id
+     * @throws IllegalArgumentException if {@code stepDays} is not positive or {@code steps} is negative
+     */
+    public SimulatedPathGenerator(LocalDateTime start, int stepDays, int steps, Map<String, ? extends StochasticProcess> processes) {
+        if (stepDays < 1) {
+            throw new IllegalArgumentException("stepDays must be positive");
+        }
+        if (steps < 0) {
+            throw new IllegalArgumentException("steps must not be negative");
+        }
+        TreeMap<String, StochasticProcess> sorted = new TreeMap<String, StochasticProcess>(processes);
+        this.start = start;
+        this.stepDays = stepDays;
+        this.steps = steps;
+        this.ids = sorted.keySet().toArray(new String[sorted.size()]);
+        this.processes = sorted.values().toArray(new StochasticProcess[sorted.size()]);
+    }
+
+    @Override
+    public GridRiskFactorModel path(int path, SplittableRandom random) {
+        double dt = stepDays / 365.0;
+        Map<String, double[]> states = new HashMap<String, double[]>();
+        for (int i = 0; i < ids.length; i++) {
+            states.put(ids[i], processes[i].simulate(steps, dt, random.split()));
+        }
+        return new GridRiskFactorModel(start, stepDays, states);
+    }
+}
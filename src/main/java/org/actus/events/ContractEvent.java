@@ -11,6 +11,7 @@ import org.actus.attributes.ContractModelProvider;
 import org.actus.externals.RiskFactorModelProvider;
 import org.actus.states.StateSpace;
 import org.actus.conventions.daycount.DayCountCalculator;
+import org.actus.conventions.daycount.RetainingDayCountCalculator;
 import org.actus.conventions.businessday.BusinessDayAdjuster;
 
 import java.time.LocalDateTime;
@@ -33,15 +34,21 @@ import java.util.Arrays;
  * <p>
  */
 public final class ContractEvent implements Comparable<ContractEvent> {
+    // shared, read-only post-event states of events not evaluated yet
+    private static final double[] NO_STATES = new double[StateTransitionFunction.STATES];
     protected long epochOffset;
     private StateTransitionFunction fStateTrans;
     private PayOffFunction          fPayOff;
     private LocalDateTime           eventTime;
     private LocalDateTime           scheduleTime;
+    private EventType               eventType;
     private String                  type;
     private String                  currency;
     private double                  payoff;
     private double[]                states;
+    private int                     offset;
+    // the day count fraction since the last event retained by a Schedule or null if there is none
+    private final RetainingDayCountCalculator dayCounter;
 
   /**
    * Constructor
@@ -55,14 +62,49 @@ public final class ContractEvent implements Comparable<ContractEvent> {
    * @return
    */
     public ContractEvent(LocalDateTime scheduleTime, LocalDateTime eventTime, String type, String currency, PayOffFunction payOff, StateTransitionFunction stateTrans) {
-        this.epochOffset = eventTime.toEpochSecond(ZoneOffset.UTC) + EventSequence.timeOffset(type);
+        this(scheduleTime, eventTime, EventType.of(type), type, currency, payOff, stateTrans);
+    }
+
+  /**
+   * Constructor
+   * 
+   * @param scheduleTime the plain schedule time of this particular event
+   * @param eventTime the actual event time of this particular event
+   * @param type the event type
+   * @param currency the event currency
+   * @param payOff the event pay-off function
+   * @param stateTrans the event state-transition function
+   * @return
+   */
+    public ContractEvent(LocalDateTime scheduleTime, LocalDateTime eventTime, EventType type, String currency, PayOffFunction payOff, StateTransitionFunction stateTrans) {
+        this(scheduleTime, eventTime, type, type.name(), currency, payOff, stateTrans);
+    }
+
+    ContractEvent(LocalDateTime scheduleTime, LocalDateTime eventTime, EventType eventType, String type, String currency, PayOffFunction payOff, StateTransitionFunction stateTrans) {
         this.eventTime = eventTime;
         this.scheduleTime = scheduleTime;
+        this.eventType = eventType;
         this.type = type;
+        this.epochOffset = epochOffset();
         this.currency = currency;
         this.fPayOff = payOff;
         this.fStateTrans = stateTrans;
-        this.states = new double[8];
+        this.states = NO_STATES;
+        this.dayCounter = null;
+    }
+
+    // a copy of an event not yet evaluated, with the day count fraction retained by a Schedule if any
+    ContractEvent(ContractEvent event, RetainingDayCountCalculator dayCounter) {
+        this.eventTime = event.eventTime;
+        this.scheduleTime = event.scheduleTime;
+        this.eventType = event.eventType;
+        this.type = event.type;
+        this.epochOffset = event.epochOffset;
+        this.currency = event.currency;
+        this.fPayOff = event.fPayOff;
+        this.fStateTrans = event.fStateTrans;
+        this.states = NO_STATES;
+        this.dayCounter = dayCounter;
     }
     
     /**
@@ -72,12 +114,31 @@ public final class ContractEvent implements Comparable<ContractEvent> {
         return eventTime;    
     }
     
+    /**
+     * Returns the schedule time of this event (not adjusted for the business-day-convention)
+     * <p>
+     * This is the time as per which the event's pay-off and state-transition functions are evaluated,
+     * e.g. the time for which a rate reset observes the market rate.
+     */
+    public LocalDateTime scheduleTime() {
+        return scheduleTime;
+    }
+    
     /**
      * Returns the type of this event
      */
     public String type() {
         return type;    
     }
+
+    /**
+     * Returns the type of this event as an {@link EventType}
+     * 
+     * @return the event type or {@code null} if the type of this event is not an ACTUS event type
+     */
+    public EventType eventType() {
+        return eventType;
+    }
     
     /**
      * Change the type of this event
@@ -87,8 +148,22 @@ public final class ContractEvent implements Comparable<ContractEvent> {
      * @param type the new event type
      */
     public void type(String type) {
+        this.eventType = EventType.of(type);
         this.type = type;  
-        this.epochOffset = eventTime.toEpochSecond(ZoneOffset.UTC) + EventSequence.timeOffset(type);
+        this.epochOffset = epochOffset();
+    }
+
+    /**
+     * Change the type of this event
+     * <p>
+     * Note that this does also update the event's natural order
+     * 
+     * @param type the new event type
+     */
+    public void type(EventType type) {
+        this.eventType = type;
+        this.type = type.name();
+        this.epochOffset = epochOffset();
     }
     
     /**
@@ -109,35 +184,35 @@ public final class ContractEvent implements Comparable<ContractEvent> {
      * Returns the day count fraction according to the day-count-convention from the last event
      */
     public double timeFromLastEvent() {
-        return states[0];    
+        return states[offset + 0];    
     }
     
     /**
      * Returns the post-event nominal value state-variable
      */
     public double nominalValue() {
-        return states[1];    
+        return states[offset + 1];    
     }
     
     /**
      * Returns the post-event nominal accrued state-variable
      */    
     public double nominalAccrued() {
-        return states[2];    
+        return states[offset + 2];    
     }
     
     /**
      * Returns the post-event nominal rate state-variable
      */
     public double nominalRate() {
-        return states[3];    
+        return states[offset + 3];    
     }
     
     /**
      * Returns the post-event secondary nominal value state-variable
      */
     public double secondaryNominalValue() {
-        return states[4];    
+        return states[offset + 4];    
     }
 
     
@@ -145,21 +220,21 @@ public final class ContractEvent implements Comparable<ContractEvent> {
      * Returns the post-event variation margin state-variable
      */
     public double variationMargin() {
-        return states[5];    
+        return states[offset + 5];    
     }
     
     /**
      * Returns the post-event probability of default state-variable
      */
     public double probabilityOfDefault() {
-        return states[6];    
+        return states[offset + 6];    
     }
     
     /**
      * Returns the post-event fee accrued state-variable
      */
     public double feeAccrued() {
-        return states[7];    
+        return states[offset + 7];    
     }
 
     /**
@@ -169,9 +244,39 @@ public final class ContractEvent implements Comparable<ContractEvent> {
      * may be added with the addition of new {@link ContractType}s. Thus, it is recommended
      * to use the getter-methods for desired states (e.g. {@code time}, {@code type}, etc.) 
      * individually.
+     * <p>
+     * Note that the returned array is a copy of the post-event states of this event.
      */
     public double[] states() {
-        return states;    
+        return Arrays.copyOfRange(states, offset, offset + StateTransitionFunction.STATES);
+    }
+
+    // the buffer holding the post-event states of this event
+    double[] statesBuffer() {
+        return states;
+    }
+
+    // the position of the first post-event state of this event in its buffer
+    int statesOffset() {
+        return offset;
+    }
+
+    /**
+     * Assign a slot in a caller-owned buffer to the post-event states of this event
+     * <p>
+     * Upon evaluation, the post-event states of this event are written to
+     * {@code buffer[offset]} to {@code buffer[offset + StateTransitionFunction.STATES - 1]}
+     * rather than to an array allocated for this event only. Hence, the post-event states of
+     * all events of a contract can be stored in a single buffer (cf. {@link EventFactory#allocateStates(java.util.List)}).
+     * <p>
+     * Unless a slot is assigned, an array for the post-event states is allocated upon evaluation.
+     * 
+     * @param buffer the buffer holding the post-event states
+     * @param offset the position of the first post-event state of this event in {@code buffer}
+     */
+    public void states(double[] buffer, int offset) {
+        this.states = buffer;
+        this.offset = offset;
     }
        
     /**
@@ -223,6 +328,10 @@ public final class ContractEvent implements Comparable<ContractEvent> {
    * <p>
    * Upon evaluation of an event, it's {@link PayOffFunction} and {@link StateTransitionFunction} get evaluated
    * in order to compute cash flow and update state variables.
+   * <p>
+   * The events handed out by a {@link Schedule} carry the day count fraction since the last event computed
+   * when the schedule was created (cf. {@link RetainingDayCountCalculator}). Hence, their evaluation does not
+   * repeat the day count of this period.
    * 
    * @param states the current state of contract states
    * @param model the model containing parsed contract attributes
@@ -232,10 +341,24 @@ public final class ContractEvent implements Comparable<ContractEvent> {
    * @return
    */
     public void eval(StateSpace states, ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster) {
+        // use the accrual fraction retained by the schedule if computed by the same day counter
+        if (this.dayCounter != null && this.dayCounter.calculator() == dayCounter) {
+            dayCounter = this.dayCounter;
+        }
         this.payoff = fPayOff.eval(scheduleTime, states, model, riskFactorModel, dayCounter, timeAdjuster);
-        this.states = fStateTrans.eval(scheduleTime, states, model, riskFactorModel, dayCounter, timeAdjuster);
+        if (this.states == NO_STATES) {
+            this.states = new double[StateTransitionFunction.STATES];
+        } else {
+            Arrays.fill(this.states, offset, offset + StateTransitionFunction.STATES, 0.0);
+        }
+        fStateTrans.eval(scheduleTime, states, model, riskFactorModel, dayCounter, timeAdjuster, this.states, offset);
     }
     
+    // the natural order of this event according to its time and type (cf. EventSequence)
+    private long epochOffset() {
+        return eventTime.toEpochSecond(ZoneOffset.UTC) + ((eventType == null) ? 0 : eventType.timeOffset());
+    }
+
     /**
      * Returns an array of Strings representing all analytical elements
      * <p>
@@ -252,10 +375,10 @@ public final class ContractEvent implements Comparable<ContractEvent> {
             type,
             currency,
             Double.toString(payoff),
-            Double.toString(states[0]),
-            Double.toString(states[1]),
-            Double.toString(states[2]),
-            Double.toString(states[3])
+            Double.toString(timeFromLastEvent()),
+            Double.toString(nominalValue()),
+            Double.toString(nominalAccrued()),
+            Double.toString(nominalRate())
             };
     }
     
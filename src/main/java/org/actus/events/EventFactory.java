@@ -8,11 +8,16 @@ package org.actus.events;
 import org.actus.functions.PayOffFunction;
 import org.actus.functions.StateTransitionFunction;
 import org.actus.conventions.businessday.BusinessDayAdjuster;
+import org.actus.time.ScheduleCache;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Factory of {@link ContractEvent}s from a schedule of times
@@ -44,6 +49,20 @@ public final class EventFactory {
     public static ContractEvent createEvent(LocalDateTime scheduleTime, String type, String currency, PayOffFunction payOff, StateTransitionFunction stateTrans) {
         return new ContractEvent(scheduleTime, scheduleTime, type, currency, payOff, stateTrans); 
     }
+
+  /**
+   * Create a single {@link ContractEvent} of an {@link EventType}
+   * 
+   * @param scheduleTime the schedule time
+   * @param type the event type
+   * @param currency the event currency
+   * @param payOff the event pay-off function
+   * @param stateTrans the event state-transition function
+   * @return
+   */
+    public static ContractEvent createEvent(LocalDateTime scheduleTime, EventType type, String currency, PayOffFunction payOff, StateTransitionFunction stateTrans) {
+        return new ContractEvent(scheduleTime, scheduleTime, type, currency, payOff, stateTrans); 
+    }
     
       /**
    * Create a single {@link ContractEvent} shifting the event time according to a business day convention
@@ -59,6 +78,21 @@ public final class EventFactory {
     public static ContractEvent createEvent(LocalDateTime scheduleTime, String type, String currency, PayOffFunction payOff, StateTransitionFunction stateTrans, BusinessDayAdjuster convention) {
         return new ContractEvent(scheduleTime, convention.shiftEventTime(scheduleTime), type, currency, payOff, stateTrans); 
     }
+
+  /**
+   * Create a single {@link ContractEvent} of an {@link EventType} shifting the event time according to a business day convention
+   * 
+   * @param scheduleTime the schedule time
+   * @param type the event type
+   * @param currency the event currency
+   * @param payOff the event pay-off function
+   * @param stateTrans the event state-transition function
+   * @param convention the business day convention to be used
+   * @return
+   */
+    public static ContractEvent createEvent(LocalDateTime scheduleTime, EventType type, String currency, PayOffFunction payOff, StateTransitionFunction stateTrans, BusinessDayAdjuster convention) {
+        return new ContractEvent(scheduleTime, convention.shiftEventTime(scheduleTime), type, currency, payOff, stateTrans); 
+    }
     
   /**
    * Create a series of {@link ContractEvent}s from a times-schedule
@@ -71,16 +105,21 @@ public final class EventFactory {
    * @return an unordered set of contract events
    */
     public static Set<ContractEvent> createEvents(Set<LocalDateTime> eventSchedule, String type, String currency, PayOffFunction payOff, StateTransitionFunction stateTrans) {
-        Set<ContractEvent> events = new HashSet<ContractEvent>(eventSchedule.size());
-        Iterator<LocalDateTime> iterator = eventSchedule.iterator();
-        LocalDateTime time;
-        
-        while(iterator.hasNext()) {
-            time = iterator.next();
-            events.add(new ContractEvent(time, time, type, currency, payOff, stateTrans));         
-        }
-        
-        return events;
+        return createEvents(eventSchedule, EventType.of(type), type, currency, payOff, stateTrans, null);
+    }
+
+  /**
+   * Create a series of {@link ContractEvent}s of an {@link EventType} from a times-schedule
+   * 
+   * @param eventSchedule an unordered set of schedule times
+   * @param type the event type
+   * @param currency the event currency
+   * @param payOff the event pay-off function
+   * @param stateTrans the event state-transition function
+   * @return an unordered set of contract events
+   */
+    public static Set<ContractEvent> createEvents(Set<LocalDateTime> eventSchedule, EventType type, String currency, PayOffFunction payOff, StateTransitionFunction stateTrans) {
+        return createEvents(eventSchedule, type, type.name(), currency, payOff, stateTrans, null);
     }
     
   /**
@@ -95,15 +134,251 @@ public final class EventFactory {
    * @return an unordered set of contract events
    */
     public static Set<ContractEvent> createEvents(Set<LocalDateTime> eventSchedule, String type, String currency, PayOffFunction payOff, StateTransitionFunction stateTrans, BusinessDayAdjuster convention) {
+        return createEvents(eventSchedule, EventType.of(type), type, currency, payOff, stateTrans, convention);
+    }
+
+  /**
+   * Create a series of {@link ContractEvent}s of an {@link EventType} from a times-schedule shifting the event times according to a business day convention
+   * 
+   * @param eventSchedule an unordered set of schedule times
+   * @param type the event type
+   * @param currency the event currency
+   * @param payOff the event pay-off function
+   * @param stateTrans the event state-transition function
+   * @param convention the business day convention to be used
+   * @return an unordered set of contract events
+   */
+    public static Set<ContractEvent> createEvents(Set<LocalDateTime> eventSchedule, EventType type, String currency, PayOffFunction payOff, StateTransitionFunction stateTrans, BusinessDayAdjuster convention) {
+        return createEvents(eventSchedule, type, type.name(), currency, payOff, stateTrans, convention);
+    }
+
+    // create the events of a times-schedule shifting the event times if a business day convention is provided
+    private static Set<ContractEvent> createEvents(Set<LocalDateTime> eventSchedule, EventType eventType, String type, String currency, PayOffFunction payOff, StateTransitionFunction stateTrans, BusinessDayAdjuster convention) {
         Set<ContractEvent> events = new HashSet<ContractEvent>(eventSchedule.size());
         Iterator<LocalDateTime> iterator = eventSchedule.iterator();
         LocalDateTime time;
         
         while(iterator.hasNext()) {
             time = iterator.next();
-            events.add(new ContractEvent(time, convention.shiftEventTime(time), type, currency, payOff, stateTrans));         
+            events.add(new ContractEvent(time, (convention == null) ? time : convention.shiftEventTime(time), eventType, type, currency, payOff, stateTrans));         
         }
         
         return events;
     }
+
+  /**
+   * Create a lazy series of {@link ContractEvent}s from a time-ordered times-schedule
+   * <p>
+   * Events are created only as the returned iterator is consumed and in the order of {@code eventSchedule}.
+   * 
+   * @param eventSchedule a time-ordered schedule of times, e.g. as returned by {@link org.actus.time.ScheduleFactory#createScheduleIterator}
+   * @param type the event type
+   * @param currency the event currency
+   * @param payOff the event pay-off function
+   * @param stateTrans the event state-transition function
+   * @return a time-ordered iterator of contract events
+   */
+    public static Iterator<ContractEvent> createEvents(Iterator<LocalDateTime> eventSchedule, String type, String currency, PayOffFunction payOff, StateTransitionFunction stateTrans) {
+        return new EventsFromSchedule(eventSchedule, EventType.of(type), type, currency, payOff, stateTrans, null);
+    }
+
+  /**
+   * Create a lazy series of {@link ContractEvent}s of an {@link EventType} from a time-ordered times-schedule
+   * <p>
+   * Events are created only as the returned iterator is consumed and in the order of {@code eventSchedule}.
+   * 
+   * @param eventSchedule a time-ordered schedule of times, e.g. as returned by {@link org.actus.time.ScheduleFactory#createScheduleIterator}
+   * @param type the event type
+   * @param currency the event currency
+   * @param payOff the event pay-off function
+   * @param stateTrans the event state-transition function
+   * @return a time-ordered iterator of contract events
+   */
+    public static Iterator<ContractEvent> createEvents(Iterator<LocalDateTime> eventSchedule, EventType type, String currency, PayOffFunction payOff, StateTransitionFunction stateTrans) {
+        return new EventsFromSchedule(eventSchedule, type, type.name(), currency, payOff, stateTrans, null);
+    }
+    
+  /**
+   * Create a lazy series of {@link ContractEvent}s from a time-ordered times-schedule shifting the event times according to a business day convention
+   * <p>
+   * Events are created only as the returned iterator is consumed and in the order of {@code eventSchedule}.
+   * 
+   * @param eventSchedule a time-ordered schedule of times, e.g. as returned by {@link org.actus.time.ScheduleFactory#createScheduleIterator}
+   * @param type the event type
+   * @param currency the event currency
+   * @param payOff the event pay-off function
+   * @param stateTrans the event state-transition function
+   * @param convention the business day convention to be used
+   * @return a time-ordered iterator of contract events
+   */
+    public static Iterator<ContractEvent> createEvents(Iterator<LocalDateTime> eventSchedule, String type, String currency, PayOffFunction payOff, StateTransitionFunction stateTrans, BusinessDayAdjuster convention) {
+        return new EventsFromSchedule(eventSchedule, EventType.of(type), type, currency, payOff, stateTrans, convention);
+    }
+
+  /**
+   * Create a lazy series of {@link ContractEvent}s of an {@link EventType} from a time-ordered times-schedule shifting the event times according to a business day convention
+   * <p>
+   * Events are created only as the returned iterator is consumed and in the order of {@code eventSchedule}.
+   * 
+   * @param eventSchedule a time-ordered schedule of times, e.g. as returned by {@link org.actus.time.ScheduleFactory#createScheduleIterator}
+   * @param type the event type
+   * @param currency the event currency
+   * @param payOff the event pay-off function
+   * @param stateTrans the event state-transition function
+   * @param convention the business day convention to be used
+   * @return a time-ordered iterator of contract events
+   */
+    public static Iterator<ContractEvent> createEvents(Iterator<LocalDateTime> eventSchedule, EventType type, String currency, PayOffFunction payOff, StateTransitionFunction stateTrans, BusinessDayAdjuster convention) {
+        return new EventsFromSchedule(eventSchedule, type, type.name(), currency, payOff, stateTrans, convention);
+    }
+    
+  /**
+   * Adapt the events of a lazy series of {@link ContractEvent}s as they are consumed
+   * 
+   * @param events the events to adapt
+   * @param filter the events to be adapted
+   * @param adaption the adaption, e.g. a change of the event type and pay-off/state-transition functions
+   * @return an iterator of the (adapted) contract events
+   */
+    public static Iterator<ContractEvent> adaptEvents(Iterator<ContractEvent> events, Predicate<ContractEvent> filter, Consumer<ContractEvent> adaption) {
+        return new ScheduledEvents() {
+            void skipBefore(long epochSecond) {
+                skip(events, epochSecond);
+            }
+            public boolean hasNext() {
+                return events.hasNext();
+            }
+            public ContractEvent next() {
+                ContractEvent event = events.next();
+                if (filter.test(event)) {
+                    adaption.accept(event);
+                }
+                return event;
+            }
+        };
+    }
+    
+  /**
+   * Adapt the first event matching a filter in a lazy, time-ordered series of {@link ContractEvent}s
+   * 
+   * @param events the time-ordered events to adapt
+   * @param filter the event to be adapted
+   * @param adaption the adaption, e.g. a change of the event type and pay-off/state-transition functions
+   * @return an iterator of the (adapted) contract events
+   */
+    public static Iterator<ContractEvent> adaptFirstEvent(Iterator<ContractEvent> events, Predicate<ContractEvent> filter, Consumer<ContractEvent> adaption) {
+        return new ScheduledEvents() {
+            private boolean adapted;
+            void skipBefore(long epochSecond) {
+                // skipped events precede all events of interest and thus are never the first one adapted
+                skip(events, epochSecond);
+            }
+            public boolean hasNext() {
+                return events.hasNext();
+            }
+            public ContractEvent next() {
+                ContractEvent event = events.next();
+                if (!adapted && filter.test(event)) {
+                    adaption.accept(event);
+                    adapted = true;
+                }
+                return event;
+            }
+        };
+    }
+
+  /**
+   * Allocate a single buffer for the post-event states of a list of {@link ContractEvent}s
+   * <p>
+   * Each event is assigned a slot in the buffer according to its position in the list
+   * (cf. {@link ContractEvent#states(double[], int)}). Hence, evaluating the events does not
+   * allocate memory per event.
+   * 
+   * @param events the events
+   * @return the buffer holding the post-event states of the events
+   */
+    public static double[] allocateStates(List<ContractEvent> events) {
+        double[] buffer = new double[events.size() * StateTransitionFunction.STATES];
+        for (int i = 0; i < events.size(); i++) {
+            events.get(i).states(buffer, i * StateTransitionFunction.STATES);
+        }
+        return buffer;
+    }
+
+    // skip the events of a source preceding a certain time if the source allows for it
+    static void skip(Iterator<ContractEvent> events, long epochSecond) {
+        if (events instanceof ScheduledEvents) {
+            ((ScheduledEvents) events).skipBefore(epochSecond);
+        }
+    }
+
+    // lazy series of events created from a time-ordered schedule of times, where the event times of a schedule
+    // served from a ScheduleCache are shifted by the cache
+    private static final class EventsFromSchedule extends ScheduledEvents {
+        private final Iterator<LocalDateTime> eventSchedule;
+        private final EventType eventType;
+        private final String type;
+        private final String currency;
+        private final PayOffFunction payOff;
+        private final StateTransitionFunction stateTrans;
+        private final BusinessDayAdjuster convention;
+        private final ScheduleCache.CachedScheduleIterator cached;
+        private final List<LocalDateTime> eventTimes;
+        private LocalDateTime pending;
+        private LocalDateTime pendingEventTime;
+
+        EventsFromSchedule(Iterator<LocalDateTime> eventSchedule, EventType eventType, String type, String currency, PayOffFunction payOff, StateTransitionFunction stateTrans, BusinessDayAdjuster convention) {
+            this.eventSchedule = eventSchedule;
+            this.eventType = eventType;
+            this.type = type;
+            this.currency = currency;
+            this.payOff = payOff;
+            this.stateTrans = stateTrans;
+            this.convention = convention;
+            if (convention != null && eventSchedule instanceof ScheduleCache.CachedScheduleIterator) {
+                this.cached = (ScheduleCache.CachedScheduleIterator) eventSchedule;
+                this.eventTimes = cached.eventTimes(convention);
+            } else {
+                this.cached = null;
+                this.eventTimes = null;
+            }
+        }
+
+        @Override
+        void skipBefore(long epochSecond) {
+            while (pending == null && eventSchedule.hasNext()) {
+                advance();
+                if (pendingEventTime.toEpochSecond(ZoneOffset.UTC) < epochSecond) {
+                    pending = null;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pending != null || eventSchedule.hasNext();
+        }
+
+        @Override
+        public ContractEvent next() {
+            if (pending == null) {
+                advance();
+            }
+            ContractEvent event = new ContractEvent(pending, pendingEventTime, eventType, type, currency, payOff, stateTrans);
+            pending = null;
+            return event;
+        }
+
+        // take the next schedule time and its event time
+        private void advance() {
+            if (eventTimes != null) {
+                int index = cached.nextIndex();
+                pending = eventSchedule.next();
+                pendingEventTime = eventTimes.get(index);
+            } else {
+                pending = eventSchedule.next();
+                pendingEventTime = (convention == null) ? pending : convention.shiftEventTime(pending);
+            }
+        }
+    }
 }
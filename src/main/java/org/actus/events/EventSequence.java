@@ -14,8 +14,8 @@ package org.actus.events;
  * according to their time and processing order (i.e. event sequence) represented by a time
  * offset in the {@link EventSeries}. 
  * <p>
- * This component contains all definitions of event sequence time offsets which 
- * are being used when ordering events in the {@link EventSeries}.
+ * The event sequence time offsets which are being used when ordering events in the
+ * {@link EventSeries} are defined with the {@link EventType}s.
  */
 public final class EventSequence {
   
@@ -38,65 +38,8 @@ public final class EventSequence {
 	 * @return the time offset
 	 */
   public static int timeOffset(String eventType) {
-      int offset = 0;
-switch (eventType) {
-    case "IED":
-        offset = 20;
-        break;
-    case "PR":
-        offset = 30;
-        break;
-    case "IP":
-        offset = 40;
-        break;
-    case "IPCI":
-        offset = 50;
-        break;
-      case "FP":
-        offset = 60;
-        break;
-      case "DV":
-        offset = 70;
-        break;
-      case "MR":
-        offset = 80;
-        break;
-      case "RRY":
-        offset = 90;
-        break;
-      case "RR":
-        offset = 100;
-        break;
-      case "SC":
-        offset = 110;
-        break;
-      case "IPCB":
-        offset = 120;
-        break;
-      case "PRD":
-        offset = 130;
-        break;
-      case "TD":
-        offset = 140;
-        break;
-      case "STD":
-        offset = 150;
-        break;
-      case "MD":
-        offset = 160;
-        break;
-    case "SD":
-        offset = 900;
-        break;
-    case "AD":
-        offset = 950;
-        break;
-     case "Child":
-        offset = 10;
-        break;
-}
-
-return offset;
+      EventType type = EventType.of(eventType);
+      return (type == null) ? 0 : type.timeOffset();
   }
   
 }
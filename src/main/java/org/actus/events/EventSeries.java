@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.events;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A lazy, time-ordered series of {@link ContractEvent}s
+ * <p>
+ * An {@code EventSeries} merges a number of time-ordered sources of {@link ContractEvent}s, e.g.
+ * the interest payment and rate reset schedules of a contract, into a single series that is
+ * ordered according to the natural order of {@link ContractEvent}s (cf. {@link EventSequence}).
+ * Events with equal order are returned in the order their sources have been added to the series.
+ * <p>
+ * Events are pulled from the sources only as the series is consumed. Hence, a consumer that stops
+ * iterating at some horizon, or a series bounded by {@link #until(ContractEvent)}, does not pay
+ * for generating events of the sources beyond that horizon. Similarly, sources created with
+ * {@link EventFactory#createEvents(Iterator, String, String, org.actus.functions.PayOffFunction,
+ * org.actus.functions.StateTransitionFunction)} skip the schedule times preceding a lower bound set
+ * with {@link #from(ContractEvent)} without creating the respective events. Hence, the merge of the
+ * sources is a single pass over the events within the bounds of the series only.
+ * <p>
+ * Bounds are applied as the series is consumed and thus must be set before the first event is pulled.
+ * <p>
+ * The series can be traversed only once and is not safe for use by multiple threads.
+ */
+public final class EventSeries implements Iterator<ContractEvent> {
+    // events preceding the lower bound by more than this are skipped in the sources
+    private static final long SKIP_MARGIN = 86400;
+
+    private final PriorityQueue<Source> heap = new PriorityQueue<Source>();
+    private final ArrayList<Iterator<ContractEvent>> sources = new ArrayList<Iterator<ContractEvent>>();
+    private boolean started;
+    private ContractEvent lower;
+    private ContractEvent upper;
+    private ContractEvent next;
+
+    /**
+     * Add a single event to the series
+     *
+     * @param event the event
+     * @return this series
+     */
+    public EventSeries add(ContractEvent event) {
+        ArrayList<ContractEvent> events = new ArrayList<ContractEvent>(1);
+        events.add(event);
+        return add(events.iterator());
+    }
+
+    /**
+     * Add an unordered collection of events to the series
+     * <p>
+     * Note, the collection is copied and sorted when added to the series.
+     *
+     * @param events the events
+     * @return this series
+     */
+    public EventSeries add(Collection<ContractEvent> events) {
+        ArrayList<ContractEvent> sorted = new ArrayList<ContractEvent>(events);
+        sorted.sort(null);
+        return add(sorted.iterator());
+    }
+
+    /**
+     * Add a time-ordered source of events to the series
+     * <p>
+     * The source is expected to return its events in their natural order, i.e. as
+     * returned by {@link EventFactory#createEvents(Iterator, String, String,
+     * org.actus.functions.PayOffFunction, org.actus.functions.StateTransitionFunction)}.
+     *
+     * @param events the time-ordered events
+     * @return this series
+     */
+    public EventSeries add(Iterator<ContractEvent> events) {
+        sources.add(events);
+        if (started) {
+            start(events, sources.size() - 1);
+        }
+        return this;
+    }
+
+    /**
+     * Skip all events preceding an event
+     * <p>
+     * Events that are equal to {@code bound} in their natural order remain in the series.
+     *
+     * @param bound the lower bound of the series
+     * @return this series
+     */
+    public EventSeries from(ContractEvent bound) {
+        if (lower == null || bound.compareTo(lower) == 1) {
+            lower = bound;
+        }
+        return this;
+    }
+
+    /**
+     * Stop the series at an event
+     * <p>
+     * Events that are equal to {@code bound} in their natural order remain in the series.
+     *
+     * @param bound the upper bound of the series
+     * @return this series
+     */
+    public EventSeries until(ContractEvent bound) {
+        if (upper == null || bound.compareTo(upper) == -1) {
+            upper = bound;
+        }
+        return this;
+    }
+
+    /**
+     * Terminate the series with an event
+     * <p>
+     * All events succeeding {@code termination} are removed from the series while
+     * {@code termination} itself is added.
+     *
+     * @param termination the termination event
+     * @return this series
+     */
+    public EventSeries terminate(ContractEvent termination) {
+        return until(termination).add(termination);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = advance();
+        }
+        return next != null;
+    }
+
+    @Override
+    public ContractEvent next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ContractEvent event = next;
+        next = null;
+        return event;
+    }
+
+    /**
+     * Returns a {@link Spliterator} over the remaining events of the series
+     */
+    public Spliterator<ContractEvent> spliterator() {
+        return Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the remaining events of the series
+     */
+    public Stream<ContractEvent> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Collect the remaining events of the series
+     *
+     * @return the time-ordered events
+     */
+    public ArrayList<ContractEvent> toList() {
+        ArrayList<ContractEvent> events = new ArrayList<ContractEvent>();
+        forEachRemaining(events::add);
+        return events;
+    }
+
+    // pull the next event within bounds from the sources or null if the series is exhausted
+    private ContractEvent advance() {
+        if (!started) {
+            started = true;
+            for (int i = 0; i < sources.size(); i++) {
+                start(sources.get(i), i);
+            }
+        }
+        while (!heap.isEmpty()) {
+            ContractEvent event = heap.peek().head;
+            if (upper != null && event.compareTo(upper) == 1) {
+                heap.clear();
+                return null;
+            }
+            Source source = heap.poll();
+            if (source.advance()) {
+                heap.add(source);
+            }
+            if (lower == null || event.compareTo(lower) != -1) {
+                return event;
+            }
+        }
+        return null;
+    }
+
+    // clip a source at the lower bound and add it to the merge
+    private void start(Iterator<ContractEvent> events, int index) {
+        if (lower != null) {
+            // skip conservatively such that no event offset or adaption can bring a skipped event within bounds
+            EventFactory.skip(events, lower.epochOffset - SKIP_MARGIN);
+        }
+        if (events.hasNext()) {
+            heap.add(new Source(events, index));
+        }
+    }
+
+    // a time-ordered source of events with its head event and position in the series
+    private static final class Source implements Comparable<Source> {
+        private final Iterator<ContractEvent> events;
+        private final int index;
+        private ContractEvent head;
+
+        Source(Iterator<ContractEvent> events, int index) {
+            this.events = events;
+            this.index = index;
+            this.head = events.next();
+        }
+
+        boolean advance() {
+            if (events.hasNext()) {
+                head = events.next();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public int compareTo(Source other) {
+            int order = head.compareTo(other.head);
+            return (order != 0) ? order : Integer.compare(index, other.index);
+        }
+    }
+}
@@ -0,0 +1,405 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.events;
+
+import org.actus.functions.StateTransitionFunction;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A columnar table of evaluated {@link ContractEvent}s
+ * <p>
+ * As opposed to a list of {@link ContractEvent}s, an {@code EventTable} stores the analytical
+ * elements of evaluated events in parallel columns of primitives, i.e. one column each for
+ * the event time (as seconds from the epoch, UTC), event type, currency and payoff and one column per
+ * post-event state (cf. {@link ContractEvent#states()}). Event types and currencies are
+ * dictionary-encoded, i.e. stored as an integer code per row. Hence, events take a fraction of the
+ * memory of their {@link ContractEvent} representation and aggregating a column amounts to a pass
+ * over a single array.
+ * <p>
+ * Codes are the same for all tables. The code of an ACTUS event type is its ordinal in {@link EventType}
+ * while other event types and currencies are assigned codes by dictionaries shared by all tables
+ * (cf. {@link #typeCode(String)} and {@link #currencyCode(String)}). Hence, the events of many contracts
+ * may be aggregated by type or currency by comparing codes across tables.
+ * <p>
+ * Rows are appended, e.g. by the evaluation engine, and accessed by index in the order they have
+ * been appended.
+ * <p>
+ * An {@code EventTable} is not safe for use by multiple threads. Its codes, however, may be assigned
+ * and resolved concurrently.
+ */
+public final class EventTable {
+    private static final int DEFAULT_CAPACITY = 16;
+    // the code of a null event type or currency
+    private static final int NULL_CODE = -1;
+    private static final Dictionary TYPES = new Dictionary();
+    private static final Dictionary CURRENCIES = new Dictionary();
+    static {
+        // event types of ACTUS are encoded by their ordinal
+        for (EventType type : EventType.values()) {
+            TYPES.encode(type.name());
+        }
+    }
+
+    private long[] time;
+    private int[] type;
+    private int[] currency;
+    private double[] payoff;
+    private final double[][] states = new double[StateTransitionFunction.STATES][];
+    private int size;
+
+    /**
+     * Constructor
+     */
+    public EventTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param capacity the number of rows for which space is allocated initially
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public EventTable(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative");
+        }
+        time = new long[capacity];
+        type = new int[capacity];
+        currency = new int[capacity];
+        payoff = new double[capacity];
+        for (int k = 0; k < states.length; k++) {
+            states[k] = new double[capacity];
+        }
+    }
+
+    /**
+     * Create a table of evaluated events
+     *
+     * @param events the evaluated events
+     * @return the table with one row per event in the iteration order of {@code events}
+     */
+    public static EventTable of(Collection<ContractEvent> events) {
+        EventTable table = new EventTable(events.size());
+        events.forEach(table::append);
+        return table;
+    }
+
+    /**
+     * Append an evaluated event
+     *
+     * @param event the event
+     * @return the index of the appended row
+     */
+    public int append(ContractEvent event) {
+        int typeCode = (event.eventType() == null) ? typeCode(event.type()) : typeCode(event.eventType());
+        return append(event.time().toEpochSecond(ZoneOffset.UTC), typeCode, currencyCode(event.currency()),
+                event.payoff(), event.statesBuffer(), event.statesOffset());
+    }
+
+    /**
+     * Append an evaluated event given by its analytical elements
+     *
+     * @param epochSecond the event time as seconds from the epoch (UTC)
+     * @param typeCode the event type code (cf. {@link #typeCode(EventType)} and {@link #typeCode(String)})
+     * @param currencyCode the currency code (cf. {@link #currencyCode(String)})
+     * @param payoff the event payoff
+     * @param postEventStates a buffer holding the post-event states
+     * @param offset the position of the first post-event state in {@code postEventStates}
+     * @return the index of the appended row
+     */
+    public int append(long epochSecond, int typeCode, int currencyCode, double payoff, double[] postEventStates, int offset) {
+        int row = append(epochSecond, typeCode, currencyCode, payoff);
+        for (int k = 0; k < states.length; k++) {
+            states[k][row] = postEventStates[offset + k];
+        }
+        return row;
+    }
+
+    /**
+     * Append all rows of another table
+     *
+     * @param other the table whose rows are appended
+     */
+    public void append(EventTable other) {
+        while (time.length < size + other.size) {
+            grow();
+        }
+        System.arraycopy(other.time, 0, time, size, other.size);
+        System.arraycopy(other.type, 0, type, size, other.size);
+        System.arraycopy(other.currency, 0, currency, size, other.size);
+        System.arraycopy(other.payoff, 0, payoff, size, other.size);
+        for (int k = 0; k < states.length; k++) {
+            System.arraycopy(other.states[k], 0, states[k], size, other.size);
+        }
+        size += other.size;
+    }
+
+    /**
+     * Returns the code of an ACTUS event type
+     *
+     * @param type the event type
+     * @return the event type code, i.e. the ordinal of {@code type}
+     */
+    public static int typeCode(EventType type) {
+        return type.ordinal();
+    }
+
+    /**
+     * Returns the code of an event type, assigning a new code if the type is not known yet
+     *
+     * @param type the event type
+     * @return the event type code, which is the ordinal of the {@link EventType} if {@code type} is an ACTUS event type
+     */
+    public static int typeCode(String type) {
+        return TYPES.encode(type);
+    }
+
+    /**
+     * Returns the event type of a code
+     *
+     * @param code the event type code
+     * @return the event type
+     * @throws IndexOutOfBoundsException if {@code code} has not been assigned
+     */
+    public static String decodeType(int code) {
+        return TYPES.decode(code);
+    }
+
+    /**
+     * Returns the code of a currency, assigning a new code if the currency is not known yet
+     *
+     * @param currency the currency
+     * @return the currency code
+     */
+    public static int currencyCode(String currency) {
+        return CURRENCIES.encode(currency);
+    }
+
+    /**
+     * Returns the currency of a code
+     *
+     * @param code the currency code
+     * @return the currency
+     * @throws IndexOutOfBoundsException if {@code code} has not been assigned
+     */
+    public static String decodeCurrency(int code) {
+        return CURRENCIES.decode(code);
+    }
+
+    /**
+     * Returns the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the event time of a row as seconds from the epoch (UTC)
+     *
+     * @param row the row index
+     */
+    public long epochSecond(int row) {
+        return time[check(row)];
+    }
+
+    /**
+     * Returns the event time of a row
+     *
+     * @param row the row index
+     */
+    public LocalDateTime time(int row) {
+        return LocalDateTime.ofEpochSecond(epochSecond(row), 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the event type code of a row
+     *
+     * @param row the row index
+     */
+    public int typeCode(int row) {
+        return type[check(row)];
+    }
+
+    /**
+     * Returns the event type of a row
+     *
+     * @param row the row index
+     */
+    public String type(int row) {
+        return decodeType(typeCode(row));
+    }
+
+    /**
+     * Returns the currency code of a row
+     *
+     * @param row the row index
+     */
+    public int currencyCode(int row) {
+        return currency[check(row)];
+    }
+
+    /**
+     * Returns the currency of a row
+     *
+     * @param row the row index
+     */
+    public String currency(int row) {
+        return decodeCurrency(currencyCode(row));
+    }
+
+    /**
+     * Returns the payoff of a row
+     *
+     * @param row the row index
+     */
+    public double payoff(int row) {
+        return payoff[check(row)];
+    }
+
+    /**
+     * Returns a post-event state of a row
+     *
+     * @param row the row index
+     * @param state the index of the state as per {@link ContractEvent#states()}
+     */
+    public double state(int row, int state) {
+        return states[state][check(row)];
+    }
+
+    /**
+     * Returns the day count fraction from the last event of a row
+     *
+     * @param row the row index
+     */
+    public double timeFromLastEvent(int row) {
+        return state(row, 0);
+    }
+
+    /**
+     * Returns the post-event nominal value of a row
+     *
+     * @param row the row index
+     */
+    public double nominalValue(int row) {
+        return state(row, 1);
+    }
+
+    /**
+     * Returns the post-event nominal accrued of a row
+     *
+     * @param row the row index
+     */
+    public double nominalAccrued(int row) {
+        return state(row, 2);
+    }
+
+    /**
+     * Returns the post-event nominal rate of a row
+     *
+     * @param row the row index
+     */
+    public double nominalRate(int row) {
+        return state(row, 3);
+    }
+
+    /**
+     * Returns the post-event fee accrued of a row
+     *
+     * @param row the row index
+     */
+    public double feeAccrued(int row) {
+        return state(row, 7);
+    }
+
+    /**
+     * Returns the payoff column
+     * <p>
+     * Note that the returned array is the column itself rather than a copy. Only the
+     * first {@link #size()} elements are valid and the array is replaced as rows are appended.
+     */
+    public double[] payoffColumn() {
+        return payoff;
+    }
+
+    /**
+     * Returns the column of a post-event state
+     * <p>
+     * Note that the returned array is the column itself rather than a copy. Only the
+     * first {@link #size()} elements are valid and the array is replaced as rows are appended.
+     *
+     * @param state the index of the state as per {@link ContractEvent#states()}
+     */
+    public double[] stateColumn(int state) {
+        return states[state];
+    }
+
+    // append a row with zero post-event states and return its index
+    private int append(long epochSecond, int typeCode, int currencyCode, double payoff) {
+        if (size == time.length) {
+            grow();
+        }
+        time[size] = epochSecond;
+        type[size] = typeCode;
+        currency[size] = currencyCode;
+        this.payoff[size] = payoff;
+        return size++;
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, time.length + (time.length >> 1));
+        time = Arrays.copyOf(time, capacity);
+        type = Arrays.copyOf(type, capacity);
+        currency = Arrays.copyOf(currency, capacity);
+        payoff = Arrays.copyOf(payoff, capacity);
+        for (int k = 0; k < states.length; k++) {
+            states[k] = Arrays.copyOf(states[k], capacity);
+        }
+    }
+
+    private int check(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("row " + row + " of " + size);
+        }
+        return row;
+    }
+
+    // the codes of values shared by all tables, assigned in first-seen order
+    private static final class Dictionary {
+        private final ConcurrentHashMap<String, Integer> codes = new ConcurrentHashMap<String, Integer>();
+        private volatile String[] values = new String[0];
+
+        int encode(String value) {
+            if (value == null) {
+                return NULL_CODE;
+            }
+            Integer code = codes.get(value);
+            return (code == null) ? assign(value) : code;
+        }
+
+        String decode(int code) {
+            return (code == NULL_CODE) ? null : values[code];
+        }
+
+        private synchronized int assign(String value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                // publish the value before its code such that every assigned code can be decoded
+                String[] values = Arrays.copyOf(this.values, this.values.length + 1);
+                code = this.values.length;
+                values[code] = value;
+                this.values = values;
+                codes.put(value, code);
+            }
+            return code;
+        }
+    }
+}
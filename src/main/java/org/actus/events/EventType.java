@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.events;
+
+import java.util.HashMap;
+
+/**
+ * An enumeration of the ACTUS event types
+ * <p>
+ * Each {@code EventType} carries its time offset in the {@link EventSequence}, i.e. the
+ * position in which events of this type are processed relative to other events at the same time.
+ * Hence, ordering and comparing typed {@link ContractEvent}s does not require resolving the
+ * offset from the event type's {@code String} representation.
+ * <p>
+ * The name of each constant equals the event type's code as used in the {@code String}
+ * representation of event types (cf. {@code StringUtils.EventType_*}). Method {@link #of(String)}
+ * bridges from the {@code String} representation to an {@code EventType}.
+ */
+public enum EventType {
+    IED(20),
+    PR(30),
+    IP(40),
+    IPCI(50),
+    FP(60),
+    DV(70),
+    MR(80),
+    RRY(90),
+    RR(100),
+    SC(110),
+    IPCB(120),
+    PRD(130),
+    TD(140),
+    STD(150),
+    MD(160),
+    SD(900),
+    AD(950),
+    Child(10),
+    RRF(0),
+    PP(0),
+    PY(0),
+    CD(0),
+    PI(0);
+
+    private static final HashMap<String, EventType> CODES = new HashMap<String, EventType>();
+    static {
+        for (EventType type : values()) {
+            CODES.put(type.name(), type);
+        }
+    }
+
+    private final int timeOffset;
+
+    EventType(int timeOffset) {
+        this.timeOffset = timeOffset;
+    }
+
+    /**
+     * Returns the time offset of the event type according to the {@link EventSequence}
+     */
+    public int timeOffset() {
+        return timeOffset;
+    }
+
+    /**
+     * Returns the event type of a {@code String} representation
+     * <p>
+     * As opposed to {@link #valueOf(String)}, this method does not throw for codes that do not
+     * represent an ACTUS event type.
+     *
+     * @param code the event type code, e.g. "IP"
+     * @return the event type or {@code null} if {@code code} does not represent an ACTUS event type
+     */
+    public static EventType of(String code) {
+        return (code == null) ? null : CODES.get(code);
+    }
+}
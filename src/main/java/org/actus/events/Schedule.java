@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.events;
+
+import org.actus.attributes.ContractModelProvider;
+import org.actus.conventions.businessday.BusinessDayAdjuster;
+import org.actus.conventions.daycount.DayCountCalculator;
+import org.actus.conventions.daycount.RetainingDayCountCalculator;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * An immutable, time-ordered schedule of a contract's events
+ * <p>
+ * Evaluating a {@link ContractEvent} writes its payoff and post-event states to the event itself.
+ * Hence, a list of events as returned by {@link org.actus.contracts.ContractType#schedule} can
+ * be evaluated only once at a time. A {@code Schedule} retains the scheduled events and, for every
+ * evaluation, hands out fresh copies of them (cf. {@link #events()}) that receive the results of this
+ * evaluation only. Hence, the same schedule may be applied under many risk factor scenarios,
+ * repeatedly or concurrently, with the results of each evaluation kept separate
+ * (cf. {@link org.actus.contracts.ContractType#apply(Schedule, org.actus.attributes.ContractModelProvider, org.actus.externals.RiskFactorModelProvider)}).
+ * <p>
+ * A schedule created for a contract (cf. {@link #of(Collection, ContractModelProvider)}) further computes
+ * the day count fraction from every event to the next when created and hands it out with the copies
+ * (cf. {@link RetainingDayCountCalculator}). Hence, these fractions are computed once per schedule rather
+ * than once per evaluation.
+ * <p>
+ * Instances are immutable and thus may be shared between threads.
+ */
+public final class Schedule {
+    private final ContractEvent[] events;
+    // the day count fractions since the last event per event or null if not computed
+    private final RetainingDayCountCalculator[] dayCounters;
+
+    private Schedule(ContractEvent[] events, RetainingDayCountCalculator[] dayCounters) {
+        this.events = events;
+        this.dayCounters = dayCounters;
+    }
+
+    /**
+     * Create a schedule from a collection of events
+     * <p>
+     * The events are ordered according to their natural ordering. Note that the events must not be
+     * evaluated or otherwise changed through the provided collection going forward.
+     *
+     * @param events the scheduled events
+     * @return the schedule
+     */
+    public static Schedule of(Collection<ContractEvent> events) {
+        ContractEvent[] scheduled = events.toArray(new ContractEvent[events.size()]);
+        Arrays.sort(scheduled);
+        return new Schedule(scheduled, null);
+    }
+
+    /**
+     * Create a schedule from a collection of a contract's events
+     * <p>
+     * Same as {@link #of(Collection)} but the day count fraction from the contract's {@code StatusDate}
+     * to the first event and from every event to the next is computed according to the contract's
+     * {@code DayCountConvention} and {@code BusinessDayConvention} once when the schedule is created.
+     * The evaluation of the schedule's events uses these fractions rather than computing them anew.
+     *
+     * @param events the scheduled events
+     * @param model the model carrying the attributes of the contract the events are scheduled for
+     * @return the schedule
+     */
+    public static Schedule of(Collection<ContractEvent> events, ContractModelProvider model) {
+        ContractEvent[] scheduled = events.toArray(new ContractEvent[events.size()]);
+        Arrays.sort(scheduled);
+        DayCountCalculator dayCounter = model.getAs("DayCountConvention");
+        BusinessDayAdjuster timeAdjuster = model.getAs("BusinessDayConvention");
+        LocalDateTime lastEventTime = model.getAs("StatusDate");
+        if (dayCounter == null || timeAdjuster == null || lastEventTime == null) {
+            return new Schedule(scheduled, null);
+        }
+        RetainingDayCountCalculator[] dayCounters = new RetainingDayCountCalculator[scheduled.length];
+        for (int i = 0; i < scheduled.length; i++) {
+            LocalDateTime time = scheduled[i].scheduleTime();
+            dayCounters[i] = new RetainingDayCountCalculator(dayCounter,
+                    timeAdjuster.shiftCalcTime(lastEventTime), timeAdjuster.shiftCalcTime(time));
+            lastEventTime = time;
+        }
+        return new Schedule(scheduled, dayCounters);
+    }
+
+    /**
+     * Returns the number of events in this schedule
+     */
+    public int size() {
+        return events.length;
+    }
+
+    /**
+     * Returns the time of an event in this schedule
+     *
+     * @param index the position of the event in this schedule
+     * @return the event time
+     */
+    public LocalDateTime time(int index) {
+        return events[index].time();
+    }
+
+    /**
+     * Returns the type of an event in this schedule
+     *
+     * @param index the position of the event in this schedule
+     * @return the event type
+     */
+    public String type(int index) {
+        return events[index].type();
+    }
+
+    /**
+     * Returns the events of this schedule for a single evaluation
+     * <p>
+     * Every call returns new, not yet evaluated copies of the scheduled events in time sequence.
+     * Evaluating or changing the copies does not affect this schedule.
+     *
+     * @return the events of this schedule
+     */
+    public ArrayList<ContractEvent> events() {
+        ArrayList<ContractEvent> copies = new ArrayList<ContractEvent>(events.length);
+        for (int i = 0; i < events.length; i++) {
+            copies.add(new ContractEvent(events[i], (dayCounters == null) ? null : dayCounters[i]));
+        }
+        return copies;
+    }
+}
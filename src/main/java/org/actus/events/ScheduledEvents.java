@@ -0,0 +1,26 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.events;
+
+import java.util.Iterator;
+
+/**
+ * A time-ordered source of {@link ContractEvent}s generated from a schedule of times
+ * <p>
+ * In addition to a plain {@link Iterator}, a {@code ScheduledEvents} source allows to skip
+ * the schedule times preceding a certain time without creating the respective events. This allows
+ * an {@link EventSeries} to clip its sources at the lower bound of the series during generation
+ * rather than creating and then discarding all events of a contract preceding its status date.
+ */
+abstract class ScheduledEvents implements Iterator<ContractEvent> {
+
+    /**
+     * Skip all events whose (business-day-adjusted) event time precedes a certain time
+     *
+     * @param epochSecond the time as seconds from the epoch (UTC) as from which events are returned
+     */
+    abstract void skipBefore(long epochSecond);
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.externals;
+
+import org.actus.attributes.ContractModelProvider;
+import org.actus.events.ContractEvent;
+import org.actus.states.StateSpace;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link RiskFactorModelProvider} retaining the risk factor states provided by another one
+ * <p>
+ * Many contracts typically reference the same risk factor at the same times, e.g. a market rate at the
+ * usual rate reset dates. A {@code CachingRiskFactorModel} delegates to a {@link RiskFactorModelProvider}
+ * and retains its states per risk factor id and time such that these are computed once only.
+ * <p>
+ * Note, a {@link RiskFactorModelProvider} may return states depending on the contract, i.e. on the
+ * {@code states} and {@code attributes} arguments of {@link #stateAt}. Therefore, states are retained only
+ * for those risk factors explicitly declared as contract-independent, for which the two arguments are
+ * ignored. States of other risk factors are always computed by the delegate.
+ * <p>
+ * The number of retained states is bounded. Retained states are held in segments, each evicting its
+ * least recently used state when full. An instance may be shared by multiple threads, with threads
+ * contending only if accessing the same segment. Note, the delegate may be invoked concurrently.
+ * <p>
+ * Requests for several states at once (cf. {@link #stateAtBatch}) and requests by handle (cf.
+ * {@link #resolve}) are forwarded to the delegate such that its fast paths remain available. The states
+ * of contract-independent risk factors not retained yet are computed by a single batch request to the
+ * delegate. Ids of contract-independent risk factors are not resolved to handles in order for their states
+ * to be retained.
+ */
+public final class CachingRiskFactorModel implements RiskFactorModelProvider {
+    private static final int SEGMENTS = 16;
+
+    private final RiskFactorModelProvider provider;
+    private final Set<String> cached;
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    // the risk factor states of a segment in least recently used order
+    private static final class Segment extends LinkedHashMap<Key, Double> {
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Double> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    // a risk factor id and time
+    private static final class Key {
+        final String id;
+        final LocalDateTime time;
+
+        Key(String id, LocalDateTime time) {
+            this.id = id;
+            this.time = time;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return id.equals(key.id) && time.equals(key.time);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * id.hashCode() + time.hashCode();
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param provider the risk factor model computing the states
+     * @param capacity the maximum number of retained states
+     * @param contractIndependent the ids of the risk factors whose states do not depend on the contract
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     */
+    public CachingRiskFactorModel(RiskFactorModelProvider provider, int capacity, Set<String> contractIndependent) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.provider = provider;
+        this.cached = new HashSet<String>(contractIndependent);
+        int segments = Math.min(SEGMENTS, capacity);
+        this.segments = new Segment[segments];
+        for (int i = 0; i < segments; i++) {
+            // distribute the capacity such that the segments hold capacity states in total
+            this.segments[i] = new Segment(capacity / segments + ((i < capacity % segments) ? 1 : 0));
+        }
+    }
+
+    @Override
+    public Set<String> keys() {
+        return provider.keys();
+    }
+
+    @Override
+    public Set<ContractEvent> events(ContractModelProvider attributes) {
+        return provider.events(attributes);
+    }
+
+    @Override
+    public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider attributes) {
+        if (!cached.contains(id)) {
+            return provider.stateAt(id, time, states, attributes);
+        }
+        Key key = new Key(id, time);
+        Segment segment = segment(key);
+        Double state;
+        synchronized (segment) {
+            state = segment.get(key);
+        }
+        if (state != null) {
+            hits.increment();
+            return state;
+        }
+        misses.increment();
+        // compute without holding the segment such that other threads are not blocked by the delegate
+        double value = provider.stateAt(id, time, states, attributes);
+        synchronized (segment) {
+            segment.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void stateAtBatch(String id, LocalDateTime[] times, double[] states) {
+        if (!cached.contains(id)) {
+            provider.stateAtBatch(id, times, states);
+            return;
+        }
+        // serve the retained states and collect the others
+        Key[] keys = new Key[times.length];
+        int[] missing = new int[times.length];
+        int count = 0;
+        for (int i = 0; i < times.length; i++) {
+            Key key = new Key(id, times[i]);
+            Segment segment = segment(key);
+            Double state;
+            synchronized (segment) {
+                state = segment.get(key);
+            }
+            if (state != null) {
+                states[i] = state;
+            } else {
+                keys[i] = key;
+                missing[count++] = i;
+            }
+        }
+        hits.add(times.length - count);
+        if (count == 0) {
+            return;
+        }
+        misses.add(count);
+        // compute the missing states with a single request to the delegate
+        LocalDateTime[] missingTimes = new LocalDateTime[count];
+        double[] missingStates = new double[count];
+        for (int i = 0; i < count; i++) {
+            missingTimes[i] = times[missing[i]];
+        }
+        provider.stateAtBatch(id, missingTimes, missingStates);
+        for (int i = 0; i < count; i++) {
+            Key key = keys[missing[i]];
+            Segment segment = segment(key);
+            synchronized (segment) {
+                segment.put(key, missingStates[i]);
+            }
+            states[missing[i]] = missingStates[i];
+        }
+    }
+
+    @Override
+    public int resolve(String id) {
+        return cached.contains(id) ? UNRESOLVED : provider.resolve(id);
+    }
+
+    @Override
+    public double stateAt(int handle, long time, StateSpace states, ContractModelProvider attributes) {
+        return provider.stateAt(handle, time, states, attributes);
+    }
+
+    // the segment retaining the state of a risk factor id and time
+    private Segment segment(Key key) {
+        int hash = key.hashCode();
+        return segments[((hash ^ (hash >>> 16)) & 0x7fffffff) % segments.length];
+    }
+
+    /**
+     * Returns the number of states served from the retained states
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of states of contract-independent risk factors computed by the delegate
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of states currently retained
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.externals;
+
+import java.util.SplittableRandom;
+
+/**
+ * The geometric Brownian motion of a price, e.g. of a stock or commodity
+ * <p>
+ * The price follows {@code dS = m S dt + s S dW} with drift {@code m} and volatility {@code s}.
+ * Paths are simulated by the exact log-normal transition.
+ */
+public final class GeometricBrownianMotion implements StochasticProcess {
+    private final double initialPrice;
+    private final double drift;
+    private final double volatility;
+
+    /**
+     * Constructor
+     *
+     * @param initialPrice the price at the start of the path
+     * @param drift the drift of the price
+     * @param volatility the volatility of the price
+     * @throws IllegalArgumentException if {@code volatility} is negative
+     */
+    public GeometricBrownianMotion(double initialPrice, double drift, double volatility) {
+        if (volatility < 0) {
+            throw new IllegalArgumentException("volatility must not be negative");
+        }
+        this.initialPrice = initialPrice;
+        this.drift = drift;
+        this.volatility = volatility;
+    }
+
+    @Override
+    public double[] simulate(int steps, double dt, SplittableRandom random) {
+        double mean = (drift - 0.5 * volatility * volatility) * dt;
+        double deviation = volatility * StrictMath.sqrt(dt);
+        double[] prices = new double[steps + 1];
+        prices[0] = initialPrice;
+        for (int i = 1; i <= steps; i++) {
+            prices[i] = prices[i - 1] * StrictMath.exp(mean + deviation * StochasticProcess.nextGaussian(random));
+        }
+        return prices;
+    }
+}
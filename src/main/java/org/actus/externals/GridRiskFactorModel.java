@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.externals;
+
+import org.actus.RiskFactorNotFoundException;
+import org.actus.attributes.ContractModelProvider;
+import org.actus.states.StateSpace;
+import org.actus.time.EpochDays;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link RiskFactorModelProvider} with the states of its risk factors given on a regular time grid
+ * <p>
+ * The states of every risk factor are held in a primitive array with one element per grid time, the
+ * grid starting at a certain day and advancing by a fixed number of days. The state of a risk factor
+ * at a certain time is the state at the last grid time not after that time, or the first state for
+ * times before the grid. Hence, {@link #stateAt} amounts to a map lookup of the risk factor and
+ * an index computation on the grid. Identified by its handle (cf. {@link #resolve}), a risk factor
+ * is looked up by array index instead.
+ * <p>
+ * Instances are immutable and thus may be shared between threads.
+ */
+public final class GridRiskFactorModel implements RiskFactorModelProvider {
+    private final int startDate;
+    private final int stepDays;
+    private final Map<String, Integer> handles;
+    private final double[][] states;
+
+    /**
+     * Constructor
+     * <p>
+     * The arrays of states are not copied and must not be changed going forward.
+     *
+     * @param start the first time of the grid (only the date is considered)
+     * @param stepDays the number of days between two grid times
+     * @param states the states of the risk factors on the grid per risk factor id
+     * @throws IllegalArgumentException if {@code stepDays} is not positive or the state arrays are empty
+     */
+    public GridRiskFactorModel(LocalDateTime start, int stepDays, Map<String, double[]> states) {
+        if (stepDays < 1) {
+            throw new IllegalArgumentException("stepDays must be positive");
+        }
+        for (double[] values : states.values()) {
+            if (values.length == 0) {
+                throw new IllegalArgumentException("states must not be empty");
+            }
+        }
+        this.startDate = EpochDays.of(start);
+        this.stepDays = stepDays;
+        this.handles = new HashMap<String, Integer>();
+        this.states = new double[states.size()][];
+        for (Map.Entry<String, double[]> entry : states.entrySet()) {
+            this.states[handles.size()] = entry.getValue();
+            handles.put(entry.getKey(), handles.size());
+        }
+    }
+
+    @Override
+    public Set<String> keys() {
+        return handles.keySet();
+    }
+
+    @Override
+    public int resolve(String id) {
+        Integer handle = handles.get(id);
+        return (handle == null) ? UNRESOLVED : handle;
+    }
+
+    /**
+     * Returns the state of a risk factor at a certain time
+     *
+     * @param id identifier of the risk factor
+     * @param time the time for which to return the risk factor's state
+     * @param states the inner states of the contract (not used)
+     * @param attributes the attributes of the contract (not used)
+     * @return the state of the risk factor at the last grid time not after {@code time}
+     * @throws RiskFactorNotFoundException if there is no risk factor {@code id}
+     */
+    @Override
+    public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider attributes) {
+        Integer handle = handles.get(id);
+        if (handle == null) {
+            throw new RiskFactorNotFoundException();
+        }
+        return stateAt(this.states[handle], EpochDays.of(time));
+    }
+
+    /**
+     * Returns the state of a risk factor, identified by its handle, at a certain time
+     *
+     * @param handle the handle of the risk factor (cf. {@link #resolve})
+     * @param time the time, in seconds from the epoch (UTC), for which to return the risk factor's state
+     * @param states the inner states of the contract (not used)
+     * @param attributes the attributes of the contract (not used)
+     * @return the state of the risk factor at the last grid time not after {@code time}
+     * @throws RiskFactorNotFoundException if {@code handle} was not resolved by this model
+     */
+    @Override
+    public double stateAt(int handle, long time, StateSpace states, ContractModelProvider attributes) {
+        if (handle < 0 || handle >= this.states.length) {
+            throw new RiskFactorNotFoundException();
+        }
+        return stateAt(this.states[handle], (int) Math.floorDiv(time, 86400L));
+    }
+
+    private double stateAt(double[] values, int date) {
+        int days = date - startDate;
+        int index = (days < 0) ? 0 : Math.min(days / stepDays, values.length - 1);
+        return values[index];
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.externals;
+
+import org.actus.attributes.ContractModelProvider;
+import org.actus.events.ContractEvent;
+import org.actus.states.StateSpace;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A {@link RiskFactorModelProvider} holding the states of risk factors resolved in advance
+ * <p>
+ * The states of a contract's risk factors are typically observed at times known from the contract's
+ * schedule, e.g. at the rate reset dates. A {@code PrefetchedRiskFactorModel} resolves the states of
+ * a set of risk factors at such times with a single {@link RiskFactorModelProvider#stateAtBatch} call
+ * per risk factor upon construction. Requests for these states are then served from sorted primitive
+ * arrays, while all other requests are delegated to the provider. Ids of risk factors not prefetched
+ * are resolved to handles by the provider (cf. {@link #resolve}) such that their states are requested by handle.
+ * <p>
+ * A risk factor whose states cannot be resolved in advance (e.g. because the provider throws a
+ * {@link org.actus.RiskFactorNotFoundException} for its id) is not prefetched. Requests for its states
+ * are delegated to the provider, which then reports the failure to the contracts referencing the risk
+ * factor only.
+ * <p>
+ * Note, prefetched states are resolved without contract context (cf.
+ * {@link RiskFactorModelProvider#stateAtBatch}) and thus must be prefetched only for risk factors
+ * whose states do not depend on the contract.
+ * <p>
+ * Instances are immutable and thus may be shared between threads provided the delegate may.
+ */
+public final class PrefetchedRiskFactorModel implements RiskFactorModelProvider {
+    private final RiskFactorModelProvider provider;
+    private final Map<String, Prefetched> prefetched = new HashMap<String, Prefetched>();
+
+    // the prefetched states of a risk factor in time sequence
+    private static final class Prefetched {
+        final long[] times;
+        final double[] states;
+
+        Prefetched(long[] times, double[] states) {
+            this.times = times;
+            this.states = states;
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param provider the risk factor model computing the states
+     * @param observations the times at which states are to be prefetched per risk factor id, where risk factors
+     * whose states the provider fails to resolve are not prefetched
+     */
+    public PrefetchedRiskFactorModel(RiskFactorModelProvider provider, Map<String, ? extends Collection<LocalDateTime>> observations) {
+        this.provider = provider;
+        for (Map.Entry<String, ? extends Collection<LocalDateTime>> observation : observations.entrySet()) {
+            TreeSet<LocalDateTime> sorted = new TreeSet<LocalDateTime>(observation.getValue());
+            LocalDateTime[] times = sorted.toArray(new LocalDateTime[sorted.size()]);
+            double[] states = new double[times.length];
+            try {
+                provider.stateAtBatch(observation.getKey(), times, states);
+            } catch (RuntimeException e) {
+                // leave the risk factor to the provider upon request
+                continue;
+            }
+            long[] epochTimes = new long[times.length];
+            for (int i = 0; i < times.length; i++) {
+                epochTimes[i] = times[i].toEpochSecond(ZoneOffset.UTC);
+            }
+            prefetched.put(observation.getKey(), new Prefetched(epochTimes, states));
+        }
+    }
+
+    @Override
+    public Set<String> keys() {
+        return provider.keys();
+    }
+
+    @Override
+    public Set<ContractEvent> events(ContractModelProvider attributes) {
+        return provider.events(attributes);
+    }
+
+    @Override
+    public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider attributes) {
+        Prefetched prefetched = this.prefetched.get(id);
+        if (prefetched != null) {
+            int index = Arrays.binarySearch(prefetched.times, time.toEpochSecond(ZoneOffset.UTC));
+            if (index >= 0) {
+                return prefetched.states[index];
+            }
+        }
+        return provider.stateAt(id, time, states, attributes);
+    }
+
+    @Override
+    public int resolve(String id) {
+        // requests for prefetched risk factors are to be served by id
+        return prefetched.containsKey(id) ? UNRESOLVED : provider.resolve(id);
+    }
+
+    @Override
+    public double stateAt(int handle, long time, StateSpace states, ContractModelProvider attributes) {
+        return provider.stateAt(handle, time, states, attributes);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.externals;
+
+import org.actus.attributes.ContractModelProvider;
+import org.actus.events.ContractEvent;
+import org.actus.states.StateSpace;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+/**
+ * A {@link RiskFactorModelProvider} with the risk factors referenced by a single contract resolved to handles
+ * <p>
+ * The risk factor ids referenced by a contract, e.g. through attribute {@code MarketObjectCodeOfRateReset},
+ * do not change during the contract's life. A {@code ResolvedRiskFactorModel} resolves these ids once
+ * (cf. {@link RiskFactorModelProvider#resolve}) and requests the states of these risk factors by handle
+ * (cf. {@link RiskFactorModelProvider#stateAt(int, long, StateSpace, ContractModelProvider)}). Requests for
+ * other risk factors are delegated by id.
+ * <p>
+ * Since a contract references a few risk factors only, the resolved ids are matched by comparison rather
+ * than by hashing.
+ */
+public final class ResolvedRiskFactorModel implements RiskFactorModelProvider {
+    private final RiskFactorModelProvider provider;
+    private final String[] ids;
+    private final int[] handles;
+
+    private ResolvedRiskFactorModel(RiskFactorModelProvider provider, String[] ids, int[] handles) {
+        this.provider = provider;
+        this.ids = ids;
+        this.handles = handles;
+    }
+
+    /**
+     * Resolve the risk factors referenced by a contract
+     *
+     * @param provider the risk factor model providing the states
+     * @param ids the ids of the risk factors referenced by the contract, may contain {@code null}s
+     * @return a model resolving {@code ids} to handles of {@code provider} or {@code provider} itself if
+     * none of {@code ids} can be resolved
+     */
+    public static RiskFactorModelProvider of(RiskFactorModelProvider provider, String... ids) {
+        String[] resolvedIds = new String[ids.length];
+        int[] handles = new int[ids.length];
+        int resolved = 0;
+        for (String id : ids) {
+            if (id == null) {
+                continue;
+            }
+            int handle = provider.resolve(id);
+            if (handle != UNRESOLVED) {
+                resolvedIds[resolved] = id;
+                handles[resolved] = handle;
+                resolved++;
+            }
+        }
+        if (resolved == 0) {
+            return provider;
+        }
+        String[] boundIds = new String[resolved];
+        int[] boundHandles = new int[resolved];
+        System.arraycopy(resolvedIds, 0, boundIds, 0, resolved);
+        System.arraycopy(handles, 0, boundHandles, 0, resolved);
+        return new ResolvedRiskFactorModel(provider, boundIds, boundHandles);
+    }
+
+    @Override
+    public Set<String> keys() {
+        return provider.keys();
+    }
+
+    @Override
+    public Set<ContractEvent> events(ContractModelProvider attributes) {
+        return provider.events(attributes);
+    }
+
+    @Override
+    public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider attributes) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i].equals(id)) {
+                return provider.stateAt(handles[i], time.toEpochSecond(ZoneOffset.UTC), states, attributes);
+            }
+        }
+        return provider.stateAt(id, time, states, attributes);
+    }
+
+    @Override
+    public void stateAtBatch(String id, LocalDateTime[] times, double[] states) {
+        provider.stateAtBatch(id, times, states);
+    }
+
+    @Override
+    public int resolve(String id) {
+        return provider.resolve(id);
+    }
+
+    @Override
+    public double stateAt(int handle, long time, StateSpace states, ContractModelProvider attributes) {
+        return provider.stateAt(handle, time, states, attributes);
+    }
+}
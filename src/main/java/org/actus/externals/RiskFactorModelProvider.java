@@ -5,6 +5,7 @@
  */
 package org.actus.externals;
 
+import org.actus.RiskFactorNotFoundException;
 import org.actus.attributes.ContractModelProvider;
 import org.actus.events.ContractEvent;
 import org.actus.states.StateSpace;
@@ -33,6 +34,11 @@ import java.util.Set;
  * @see <a href="https://www.actusfrf.org">ACTUS Website</a>
  */
 public abstract interface RiskFactorModelProvider {
+
+  /**
+   * The handle of a risk factor that cannot be resolved (cf. {@link #resolve})
+   */
+  public static final int UNRESOLVED = -1;
   
   /**
    * Returns the set of unique risk factor IDs
@@ -63,4 +69,60 @@ public abstract interface RiskFactorModelProvider {
    * @return double the state of the risk factor
    */
   public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider attributes);
+
+  /**
+   * Returns the states of a particular risk factor at several future times
+   * <p>
+   * As opposed to {@link #stateAt}, the states are not requested in the context of a contract. Hence,
+   * this method applies to risk factors whose states do not depend on the contract only, e.g. market
+   * rates or indices. Providers backed by external data may override it in order to retrieve the
+   * states of all times at once.
+   * <p>
+   * The default implementation requests the state of every time from {@link #stateAt} with
+   * {@code null} contract states and attributes.
+   *
+   * @param id identifier of the risk factor
+   * @param times the future times for which to return the risk factor's states
+   * @param states the array receiving the states in the order of {@code times}
+   */
+  default public void stateAtBatch(String id, LocalDateTime[] times, double[] states) {
+    for (int i = 0; i < times.length; i++) {
+      states[i] = stateAt(id, times[i], null, null);
+    }
+  }
+
+  /**
+   * Resolves the id of a risk factor to a handle
+   * <p>
+   * A provider may support identifying its risk factors by integer handles in addition to their ids,
+   * e.g. handles indexing into an array of time series. The risk factor ids referenced by a contract
+   * are then resolved once per contract and states are requested by handle (cf.
+   * {@link #stateAt(int, long, StateSpace, ContractModelProvider)}) rather than by id.
+   * <p>
+   * The default implementation does not support handles and returns {@link #UNRESOLVED}.
+   *
+   * @param id identifier of the risk factor
+   * @return the non-negative handle of the risk factor or {@link #UNRESOLVED}
+   */
+  default public int resolve(String id) {
+    return UNRESOLVED;
+  }
+
+  /**
+   * Returns the state of a particular risk factor, identified by its handle, at a future time
+   * <p>
+   * Same as {@link #stateAt(String, LocalDateTime, StateSpace, ContractModelProvider)} for the risk factor
+   * the handle was resolved from (cf. {@link #resolve}).
+   * <p>
+   * The default implementation does not support handles and throws a {@link RiskFactorNotFoundException}.
+   *
+   * @param handle the handle of the risk factor
+   * @param time future time, in seconds from the epoch (UTC), for which to return the risk factor's state
+   * @param states the inner states of the contract as per {@code time} argument of the method
+   * @param attributes the attributes of the contract evaluating the risk factor state
+   * @return double the state of the risk factor
+   */
+  default public double stateAt(int handle, long time, StateSpace states, ContractModelProvider attributes) {
+    throw new RiskFactorNotFoundException();
+  }
 }
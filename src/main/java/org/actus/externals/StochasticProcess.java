@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.externals;
+
+import java.util.SplittableRandom;
+
+/**
+ * A representation of the dynamics of a single risk factor
+ * <p>
+ * A {@code StochasticProcess} simulates the states of a risk factor, e.g. a short rate or an index
+ * price, on a regular time grid. The simulated path depends on the provided random stream only.
+ * <p>
+ * Implementations must be safe for use by multiple threads.
+ */
+public interface StochasticProcess {
+
+    /**
+     * Simulate a path of the risk factor
+     *
+     * @param steps the number of time steps
+     * @param dt the length of a time step in years
+     * @param random the random stream driving the path
+     * @return the states of the risk factor at the {@code steps + 1} grid times, starting with the initial state
+     */
+    public double[] simulate(int steps, double dt, SplittableRandom random);
+
+    /**
+     * Returns a standard normal variate
+     * <p>
+     * Variates are drawn by the Marsaglia polar method from the random stream only, i.e. as opposed
+     * to {@link java.util.Random#nextGaussian()}, reproducibly and without shared state.
+     *
+     * @param random the random stream
+     * @return a standard normal variate
+     */
+    public static double nextGaussian(SplittableRandom random) {
+        double v1;
+        double v2;
+        double s;
+        do {
+            v1 = 2 * random.nextDouble() - 1;
+            v2 = 2 * random.nextDouble() - 1;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1 || s == 0);
+        return v1 * StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.externals;
+
+import org.actus.RiskFactorNotFoundException;
+import org.actus.attributes.ContractModelProvider;
+import org.actus.states.StateSpace;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link RiskFactorModelProvider} with the states of its risk factors given as time series
+ * <p>
+ * The time series of a risk factor consists of observation times, measured as seconds from the epoch (UTC),
+ * and the observed states, each held in a primitive array sorted by time. The state of a risk factor at a
+ * certain time is looked up by binary search and, between two observations, either the state of the
+ * earlier observation ({@link Interpolation#STEP}) or the linear interpolation of the two states
+ * ({@link Interpolation#LINEAR}). Before the first and after the last observation, the first and last
+ * state applies, respectively. A lookup does not allocate memory.
+ * <p>
+ * Time series are loaded in bulk, e.g. the historical fixings of a market rate together with its
+ * projected states, and replace any time series previously loaded for the same risk factor. Loading
+ * and lookups may be performed by multiple threads concurrently.
+ * <p>
+ * Risk factors may be identified by handles (cf. {@link #resolve}) indexing straight into the array
+ * of time series. The handle of a risk factor does not change when its time series is replaced.
+ */
+public final class TimeSeriesRiskFactorModel implements RiskFactorModelProvider {
+    private final Interpolation interpolation;
+    private final ConcurrentHashMap<String, Integer> handles = new ConcurrentHashMap<String, Integer>();
+    private volatile Series[] series = new Series[0];
+
+    /**
+     * The interpolation of states between two observations
+     */
+    public enum Interpolation {
+        /** the state of the earlier observation */
+        STEP,
+        /** the linear interpolation of the states in time */
+        LINEAR
+    }
+
+    // the observations of a single risk factor
+    private static final class Series {
+        final long[] times;
+        final double[] values;
+        final Interpolation interpolation;
+
+        Series(long[] times, double[] values, Interpolation interpolation) {
+            this.times = times;
+            this.values = values;
+            this.interpolation = interpolation;
+        }
+
+        double stateAt(long time) {
+            int index = Arrays.binarySearch(times, time);
+            if (index >= 0) {
+                return values[index];
+            }
+            int next = -index - 1;
+            if (next == 0) {
+                return values[0];
+            }
+            if (next == times.length || interpolation == Interpolation.STEP) {
+                return values[next - 1];
+            }
+            double weight = (double) (time - times[next - 1]) / (times[next] - times[next - 1]);
+            return values[next - 1] + weight * (values[next] - values[next - 1]);
+        }
+    }
+
+    /**
+     * Constructor
+     * <p>
+     * Creates a model with {@link Interpolation#STEP} as default interpolation.
+     */
+    public TimeSeriesRiskFactorModel() {
+        this(Interpolation.STEP);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param interpolation the interpolation of time series loaded without explicit interpolation
+     */
+    public TimeSeriesRiskFactorModel(Interpolation interpolation) {
+        this.interpolation = interpolation;
+    }
+
+    /**
+     * Load the time series of a risk factor with the default interpolation
+     *
+     * @param id identifier of the risk factor
+     * @param times the observation times in seconds from the epoch (UTC), strictly increasing
+     * @param values the observed states in the order of {@code times}
+     * @throws IllegalArgumentException if the time series is empty, not sorted or the arrays differ in length
+     */
+    public void put(String id, long[] times, double[] values) {
+        put(id, times, values, interpolation);
+    }
+
+    /**
+     * Load the time series of a risk factor
+     * <p>
+     * The arrays are copied, i.e. may be reused by the caller.
+     *
+     * @param id identifier of the risk factor
+     * @param times the observation times in seconds from the epoch (UTC), strictly increasing
+     * @param values the observed states in the order of {@code times}
+     * @param interpolation the interpolation of states between two observations
+     * @throws IllegalArgumentException if the time series is empty, not sorted or the arrays differ in length
+     */
+    public void put(String id, long[] times, double[] values, Interpolation interpolation) {
+        if (times.length != values.length) {
+            throw new IllegalArgumentException("times and values must be of same length");
+        }
+        if (times.length == 0) {
+            throw new IllegalArgumentException("time series must not be empty");
+        }
+        for (int i = 1; i < times.length; i++) {
+            if (times[i] <= times[i - 1]) {
+                throw new IllegalArgumentException("times must be strictly increasing");
+            }
+        }
+        store(id, new Series(times.clone(), values.clone(), interpolation));
+    }
+
+    // replace the array of series such that concurrent lookups see either the old or the new series
+    private synchronized void store(String id, Series series) {
+        Integer handle = handles.get(id);
+        Series[] next = Arrays.copyOf(this.series, (handle == null) ? this.series.length + 1 : this.series.length);
+        if (handle == null) {
+            handle = next.length - 1;
+        }
+        next[handle] = series;
+        this.series = next;
+        handles.put(id, handle);
+    }
+
+    private Series series(String id) {
+        Integer handle = handles.get(id);
+        if (handle == null) {
+            throw new RiskFactorNotFoundException();
+        }
+        return series[handle];
+    }
+
+    /**
+     * Load the time series of a risk factor with the default interpolation
+     *
+     * @param id identifier of the risk factor
+     * @param observations the observed states per observation time
+     * @throws IllegalArgumentException if the time series is empty
+     */
+    public void put(String id, Map<LocalDateTime, Double> observations) {
+        TreeMap<LocalDateTime, Double> sorted = new TreeMap<LocalDateTime, Double>(observations);
+        long[] times = new long[sorted.size()];
+        double[] values = new double[sorted.size()];
+        int i = 0;
+        for (Map.Entry<LocalDateTime, Double> observation : sorted.entrySet()) {
+            times[i] = observation.getKey().toEpochSecond(ZoneOffset.UTC);
+            values[i] = observation.getValue();
+            i++;
+        }
+        put(id, times, values, interpolation);
+    }
+
+    @Override
+    public Set<String> keys() {
+        return handles.keySet();
+    }
+
+    @Override
+    public int resolve(String id) {
+        Integer handle = handles.get(id);
+        return (handle == null) ? UNRESOLVED : handle;
+    }
+
+    /**
+     * Returns the state of a risk factor at a certain time
+     *
+     * @param id identifier of the risk factor
+     * @param time the time in seconds from the epoch (UTC)
+     * @return the state of the risk factor at {@code time}
+     * @throws RiskFactorNotFoundException if there is no time series for risk factor {@code id}
+     */
+    public double stateAt(String id, long time) {
+        return series(id).stateAt(time);
+    }
+
+    /**
+     * Returns the states of a risk factor at several times
+     *
+     * @param id identifier of the risk factor
+     * @param times the times for which to return the risk factor's states
+     * @param states the array receiving the states in the order of {@code times}
+     * @throws RiskFactorNotFoundException if there is no time series for risk factor {@code id}
+     */
+    @Override
+    public void stateAtBatch(String id, LocalDateTime[] times, double[] states) {
+        Series series = series(id);
+        for (int i = 0; i < times.length; i++) {
+            states[i] = series.stateAt(times[i].toEpochSecond(ZoneOffset.UTC));
+        }
+    }
+
+    /**
+     * Returns the state of a risk factor at a certain time
+     *
+     * @param id identifier of the risk factor
+     * @param time the time for which to return the risk factor's state
+     * @param states the inner states of the contract (not used)
+     * @param attributes the attributes of the contract (not used)
+     * @return the state of the risk factor at {@code time}
+     * @throws RiskFactorNotFoundException if there is no time series for risk factor {@code id}
+     */
+    @Override
+    public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider attributes) {
+        return stateAt(id, time.toEpochSecond(ZoneOffset.UTC));
+    }
+
+    /**
+     * Returns the state of a risk factor, identified by its handle, at a certain time
+     *
+     * @param handle the handle of the risk factor (cf. {@link #resolve})
+     * @param time the time in seconds from the epoch (UTC)
+     * @param states the inner states of the contract (not used)
+     * @param attributes the attributes of the contract (not used)
+     * @return the state of the risk factor at {@code time}
+     * @throws RiskFactorNotFoundException if {@code handle} was not resolved by this model
+     */
+    @Override
+    public double stateAt(int handle, long time, StateSpace states, ContractModelProvider attributes) {
+        Series[] series = this.series;
+        if (handle < 0 || handle >= series.length) {
+            throw new RiskFactorNotFoundException();
+        }
+        return series[handle].stateAt(time);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.externals;
+
+import java.util.SplittableRandom;
+
+/**
+ * The Vasicek short rate model
+ * <p>
+ * The short rate follows {@code dr = a(b - r)dt + s dW} with speed of mean reversion {@code a},
+ * long-term mean {@code b} and volatility {@code s}. Paths are simulated by the exact transition
+ * density, i.e. free of discretization error irrespective of the length of the time steps.
+ * With a constant long-term mean, this is also the Hull-White one-factor model.
+ */
+public final class VasicekProcess implements StochasticProcess {
+    private final double initialRate;
+    private final double meanReversion;
+    private final double longTermMean;
+    private final double volatility;
+
+    /**
+     * Constructor
+     *
+     * @param initialRate the short rate at the start of the path
+     * @param meanReversion the speed of mean reversion
+     * @param longTermMean the long-term mean of the short rate
+     * @param volatility the volatility of the short rate
+     * @throws IllegalArgumentException if {@code meanReversion} or {@code volatility} is negative
+     */
+    public VasicekProcess(double initialRate, double meanReversion, double longTermMean, double volatility) {
+        if (meanReversion < 0 || volatility < 0) {
+            throw new IllegalArgumentException("meanReversion and volatility must not be negative");
+        }
+        this.initialRate = initialRate;
+        this.meanReversion = meanReversion;
+        this.longTermMean = longTermMean;
+        this.volatility = volatility;
+    }
+
+    @Override
+    public double[] simulate(int steps, double dt, SplittableRandom random) {
+        double decay = StrictMath.exp(-meanReversion * dt);
+        double deviation = volatility * ((meanReversion == 0) ? StrictMath.sqrt(dt)
+                : StrictMath.sqrt((1 - decay * decay) / (2 * meanReversion)));
+        double[] rates = new double[steps + 1];
+        rates[0] = initialRate;
+        for (int i = 1; i <= steps; i++) {
+            rates[i] = longTermMean + (rates[i - 1] - longTermMean) * decay + deviation * StochasticProcess.nextGaussian(random);
+        }
+        return rates;
+    }
+}
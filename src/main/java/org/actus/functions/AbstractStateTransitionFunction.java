@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.functions;
+
+import org.actus.attributes.ContractModelProvider;
+import org.actus.externals.RiskFactorModelProvider;
+import org.actus.states.StateSpace;
+import org.actus.conventions.daycount.DayCountCalculator;
+import org.actus.conventions.businessday.BusinessDayAdjuster;
+
+import java.time.LocalDateTime;
+
+/**
+ * Base class of {@link StateTransitionFunction}s that write their post-event states into a caller-owned buffer
+ * <p>
+ * Subclasses implement the buffer variant of {@code eval} only. The array-returning {@code eval} is
+ * derived from it by allocating an array of {@link StateTransitionFunction#STATES} post-event states.
+ */
+public abstract class AbstractStateTransitionFunction implements StateTransitionFunction {
+
+    @Override
+    public final double[] eval(LocalDateTime time, StateSpace states, 
+    ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster) {
+        double[] postEventStates = new double[STATES];
+        eval(time, states, model, riskFactorModel, dayCounter, timeAdjuster, postEventStates, 0);
+        return postEventStates;
+    }
+
+    @Override
+    public abstract void eval(LocalDateTime time, StateSpace states, 
+    ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster,
+    double[] postEventStates, int offset);
+}
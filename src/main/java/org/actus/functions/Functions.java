@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.functions;
+
+import org.actus.functions.pam.*;
+import org.actus.functions.lam.*;
+import org.actus.functions.nam.*;
+import org.actus.functions.ann.*;
+import org.actus.functions.clm.*;
+import org.actus.functions.lax.*;
+import org.actus.functions.stk.*;
+import org.actus.functions.fxout.*;
+import org.actus.functions.swppv.*;
+import org.actus.functions.swaps.*;
+
+/**
+ * A registry of shared pay-off and state-transition function instances
+ * <p>
+ * Most {@link PayOffFunction}s and {@link StateTransitionFunction}s are stateless, i.e. their
+ * result only depends on the arguments to their {@code eval} method. Such functions can be shared
+ * between all events of all contracts and this class holds one immutable instance of each. Contract types
+ * use these instances when scheduling events rather than allocating a new function object per event or
+ * schedule. The name of each instance equals the name of its function class.
+ * <p>
+ * Functions that are parameterized with event-specific values, i.e. the principal redemption and
+ * rate functions of the LAX contract ({@code POF_PR_LAX}, {@code STF_PR_LAX}, {@code STF_PR_LAX2},
+ * {@code POF_PI_LAX}, {@code STF_PI_LAX}, {@code STF_PI_LAX2}, {@code STF_RR_LAX}, {@code STF_RRF_LAX}),
+ * the principal redemption functions of the UMP contract ({@code POF_PR_UMP}, {@code STF_PR_UMP}) and
+ * the netting functions of the SWAPS contract ({@code POF_NET_SWAPS}, {@code STF_NET_SWAPS}),
+ * are not part of this registry and have to be created for every event they are bound to.
+ */
+public final class Functions {
+
+    private Functions() {
+    }
+
+    // pay-off functions
+    // PAM
+    public static final PayOffFunction POF_AD_PAM = new POF_AD_PAM();
+    public static final PayOffFunction POF_CD_PAM = new POF_CD_PAM();
+    public static final PayOffFunction POF_FP_PAM = new POF_FP_PAM();
+    public static final PayOffFunction POF_IED_PAM = new POF_IED_PAM();
+    public static final PayOffFunction POF_IPCI_PAM = new POF_IPCI_PAM();
+    public static final PayOffFunction POF_IP_PAM = new POF_IP_PAM();
+    public static final PayOffFunction POF_PP_PAM = new POF_PP_PAM();
+    public static final PayOffFunction POF_PRD_PAM = new POF_PRD_PAM();
+    public static final PayOffFunction POF_PR_PAM = new POF_PR_PAM();
+    public static final PayOffFunction POF_PY_PAM = new POF_PY_PAM();
+    public static final PayOffFunction POF_RRY_PAM = new POF_RRY_PAM();
+    public static final PayOffFunction POF_RR_PAM = new POF_RR_PAM();
+    public static final PayOffFunction POF_SC_PAM = new POF_SC_PAM();
+    public static final PayOffFunction POF_TD_PAM = new POF_TD_PAM();
+
+    // LAM
+    public static final PayOffFunction POF_IPCB_LAM = new POF_IPCB_LAM();
+    public static final PayOffFunction POF_IP_LAM = new POF_IP_LAM();
+    public static final PayOffFunction POF_PRD_LAM = new POF_PRD_LAM();
+    public static final PayOffFunction POF_PR_LAM = new POF_PR_LAM();
+    public static final PayOffFunction POF_TD_LAM = new POF_TD_LAM();
+
+    // NAM
+    public static final PayOffFunction POF_IP_NAM = new POF_IP_NAM();
+    public static final PayOffFunction POF_PR_NAM = new POF_PR_NAM();
+
+    // CLM
+    public static final PayOffFunction POF_IED_CLM = new POF_IED_CLM();
+    public static final PayOffFunction POF_IP_CLM = new POF_IP_CLM();
+
+    // STK
+    public static final PayOffFunction POF_DV_STK = new POF_DV_STK();
+    public static final PayOffFunction POF_PRD_STK = new POF_PRD_STK();
+    public static final PayOffFunction POF_TD_STK = new POF_TD_STK();
+
+    // FXOUT
+    public static final PayOffFunction POF_PRD_FXOUT = new POF_PRD_FXOUT();
+    public static final PayOffFunction POF_STD1_FXOUT = new POF_STD1_FXOUT();
+    public static final PayOffFunction POF_STD2_FXOUT = new POF_STD2_FXOUT();
+    public static final PayOffFunction POF_STD_FXOUT = new POF_STD_FXOUT();
+    public static final PayOffFunction POF_TD_FXOUT = new POF_TD_FXOUT();
+
+    // SWPPV
+    public static final PayOffFunction POF_IEDFloat_SWPPV = new POF_IEDFloat_SWPPV();
+    public static final PayOffFunction POF_IED_SWPPV = new POF_IED_SWPPV();
+    public static final PayOffFunction POF_IPFix_SWPPV = new POF_IPFix_SWPPV();
+    public static final PayOffFunction POF_IPFloat_SWPPV = new POF_IPFloat_SWPPV();
+    public static final PayOffFunction POF_IP_SWPPV = new POF_IP_SWPPV();
+    public static final PayOffFunction POF_PRFloat_SWPPV = new POF_PRFloat_SWPPV();
+    public static final PayOffFunction POF_PR_SWPPV = new POF_PR_SWPPV();
+
+    // SWAPS
+    public static final PayOffFunction POF_PRD_SWAPS = new POF_PRD_SWAPS();
+    public static final PayOffFunction POF_TD_SWAPS = new POF_TD_SWAPS();
+
+    // state-transition functions
+    // PAM
+    public static final StateTransitionFunction STF_AD_PAM = new STF_AD_PAM();
+    public static final StateTransitionFunction STF_CD_PAM = new STF_CD_PAM();
+    public static final StateTransitionFunction STF_FP_PAM = new STF_FP_PAM();
+    public static final StateTransitionFunction STF_IED_PAM = new STF_IED_PAM();
+    public static final StateTransitionFunction STF_IPCI_PAM = new STF_IPCI_PAM();
+    public static final StateTransitionFunction STF_IP_PAM = new STF_IP_PAM();
+    public static final StateTransitionFunction STF_PP_PAM = new STF_PP_PAM();
+    public static final StateTransitionFunction STF_PRD_PAM = new STF_PRD_PAM();
+    public static final StateTransitionFunction STF_PR_PAM = new STF_PR_PAM();
+    public static final StateTransitionFunction STF_PY_PAM = new STF_PY_PAM();
+    public static final StateTransitionFunction STF_RRF_PAM = new STF_RRF_PAM();
+    public static final StateTransitionFunction STF_RR_PAM = new STF_RR_PAM();
+    public static final StateTransitionFunction STF_SC_PAM = new STF_SC_PAM();
+    public static final StateTransitionFunction STF_TD_PAM = new STF_TD_PAM();
+
+    // LAM
+    public static final StateTransitionFunction STF_CD_LAM = new STF_CD_LAM();
+    public static final StateTransitionFunction STF_FP_LAM = new STF_FP_LAM();
+    public static final StateTransitionFunction STF_IED_LAM = new STF_IED_LAM();
+    public static final StateTransitionFunction STF_IPCB_LAM = new STF_IPCB_LAM();
+    public static final StateTransitionFunction STF_IPCI2_LAM = new STF_IPCI2_LAM();
+    public static final StateTransitionFunction STF_IPCI_LAM = new STF_IPCI_LAM();
+    public static final StateTransitionFunction STF_PP_LAM = new STF_PP_LAM();
+    public static final StateTransitionFunction STF_PR2_LAM = new STF_PR2_LAM();
+    public static final StateTransitionFunction STF_PRD_LAM = new STF_PRD_LAM();
+    public static final StateTransitionFunction STF_PR_LAM = new STF_PR_LAM();
+    public static final StateTransitionFunction STF_PY_LAM = new STF_PY_LAM();
+    public static final StateTransitionFunction STF_RRF_LAM = new STF_RRF_LAM();
+    public static final StateTransitionFunction STF_RR_LAM = new STF_RR_LAM();
+    public static final StateTransitionFunction STF_SC_LAM = new STF_SC_LAM();
+
+    // NAM
+    public static final StateTransitionFunction STF_IP_NAM = new STF_IP_NAM();
+    public static final StateTransitionFunction STF_PR2_NAM = new STF_PR2_NAM();
+    public static final StateTransitionFunction STF_PR_NAM = new STF_PR_NAM();
+
+    // ANN
+    public static final StateTransitionFunction STF_IP_ANN = new STF_IP_ANN();
+    public static final StateTransitionFunction STF_PRD_ANN = new STF_PRD_ANN();
+    public static final StateTransitionFunction STF_RRF_ANN = new STF_RRF_ANN();
+    public static final StateTransitionFunction STF_RR_ANN = new STF_RR_ANN();
+
+    // CLM
+    public static final StateTransitionFunction STF_IP_CLM = new STF_IP_CLM();
+    public static final StateTransitionFunction STF_RR_CLM = new STF_RR_CLM();
+
+    // LAX
+    public static final StateTransitionFunction STF_RRY_LAM = new STF_RRY_LAM();
+
+    // STK
+    public static final StateTransitionFunction STF_CD_STK = new STF_CD_STK();
+    public static final StateTransitionFunction STF_DV_STK = new STF_DV_STK();
+    public static final StateTransitionFunction STF_PRD_STK = new STF_PRD_STK();
+    public static final StateTransitionFunction STF_TD_STK = new STF_TD_STK();
+
+    // FXOUT
+    public static final StateTransitionFunction STF_CD_FXOUT = new STF_CD_FXOUT();
+    public static final StateTransitionFunction STF_STD1_FXOUT = new STF_STD1_FXOUT();
+    public static final StateTransitionFunction STF_STD2_FXOUT = new STF_STD2_FXOUT();
+    public static final StateTransitionFunction STF_STD_FXOUT = new STF_STD_FXOUT();
+
+    // SWPPV
+    public static final StateTransitionFunction STF_AD_SWPPV = new STF_AD_SWPPV();
+    public static final StateTransitionFunction STF_CD_SWPPV = new STF_CD_SWPPV();
+    public static final StateTransitionFunction STF_IED_SWPPV = new STF_IED_SWPPV();
+    public static final StateTransitionFunction STF_IPFix_SWPPV = new STF_IPFix_SWPPV();
+    public static final StateTransitionFunction STF_IPFloat_SWPPV = new STF_IPFloat_SWPPV();
+    public static final StateTransitionFunction STF_IP_SWPPV = new STF_IP_SWPPV();
+    public static final StateTransitionFunction STF_PRD_SWPPV = new STF_PRD_SWPPV();
+    public static final StateTransitionFunction STF_PR_SWPPV = new STF_PR_SWPPV();
+    public static final StateTransitionFunction STF_RR_SWPPV = new STF_RR_SWPPV();
+    public static final StateTransitionFunction STF_TD_SWPPV = new STF_TD_SWPPV();
+}
@@ -23,9 +23,19 @@ import java.time.LocalDateTime;
  * the respective {@link ContractEvent}.
  */
 public abstract interface StateTransitionFunction {
-    
+
+    /**
+     * The number of post-event states written by the function
+     */
+    public static final int STATES = 8;
+
     /**
      * Evaluate the function
+     * <p>
+     * Note that this method allocates a new array for the post-event states with every evaluation.
+     * Use {@link #eval(LocalDateTime, StateSpace, ContractModelProvider, RiskFactorModelProvider,
+     * DayCountCalculator, BusinessDayAdjuster, double[], int)} in order to write the post-event states
+     * into a caller-owned buffer instead.
      * 
      * @param time the schedule time of this particular event
      * @param states the current state of conract states
@@ -37,4 +47,33 @@ public abstract interface StateTransitionFunction {
      */
     public double[] eval(LocalDateTime time, StateSpace states, 
     ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster);
+
+    /**
+     * Evaluate the function writing the post-event states into a caller-owned buffer
+     * <p>
+     * The post-event states are written to the slot {@code postEventStates[offset]} to
+     * {@code postEventStates[offset + STATES - 1]}. Only the states updated by the function are
+     * written, i.e. the caller is expected to provide a slot of zeros. No other element of
+     * {@code postEventStates} is touched. Hence, the post-event states of all events of a contract
+     * can be collected in a single, shared buffer.
+     * <p>
+     * By default, this method evaluates the array-returning {@code eval} and copies its post-event states
+     * into the slot. Functions that write into the slot directly and thereby avoid allocating memory per
+     * event override this method (cf. {@link AbstractStateTransitionFunction}).
+     * 
+     * @param time the schedule time of this particular event
+     * @param states the current state of conract states
+     * @param model the model containing parsed contract attributes
+     * @param riskFactorModel an external market model
+     * @param dayCounter the day count convention used to calculate day count fractions
+     * @param timeAdjuster the business day convention used to shift the schedule time
+     * @param postEventStates the buffer to which the post-event states are written
+     * @param offset the position of the first post-event state in {@code postEventStates}
+     */
+    public default void eval(LocalDateTime time, StateSpace states, 
+    ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster,
+    double[] postEventStates, int offset) {
+        double[] result = eval(time, states, model, riskFactorModel, dayCounter, timeAdjuster);
+        System.arraycopy(result, 0, postEventStates, offset, Math.min(result.length, STATES));
+    }
 }
@@ -5,7 +5,7 @@
  */
 package org.actus.functions.ann;
 
-import org.actus.functions.StateTransitionFunction;
+import org.actus.functions.AbstractStateTransitionFunction;
 import org.actus.states.StateSpace;
 import org.actus.attributes.ContractModelProvider;
 import org.actus.externals.RiskFactorModelProvider;
@@ -14,12 +14,11 @@ import org.actus.conventions.businessday.BusinessDayAdjuster;
 
 import java.time.LocalDateTime;
 
-public final class STF_IP_ANN implements StateTransitionFunction {
+public final class STF_IP_ANN extends AbstractStateTransitionFunction {
 
     @Override
-    public double[] eval(LocalDateTime time, StateSpace states,
-                         ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster) {
-        double[] postEventStates = new double[8];
+    public void eval(LocalDateTime time, StateSpace states,
+                         ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster, double[] postEventStates, int offset) {
 
         // update state space
         states.timeFromLastEvent = dayCounter.dayCountFraction(timeAdjuster.shiftCalcTime(states.lastEventTime), timeAdjuster.shiftCalcTime(time));
@@ -28,13 +27,10 @@ public final class STF_IP_ANN implements StateTransitionFunction {
         states.lastEventTime = time;
 
         // copy post-event-states
-        postEventStates[0] = states.timeFromLastEvent;
-        postEventStates[1] = states.nominalValue;
-        postEventStates[3] = states.nominalRate;
-        postEventStates[7] = states.feeAccrued;
-
-        // return post-event-states
-        return postEventStates;
+        postEventStates[offset + 0] = states.timeFromLastEvent;
+        postEventStates[offset + 1] = states.nominalValue;
+        postEventStates[offset + 3] = states.nominalRate;
+        postEventStates[offset + 7] = states.feeAccrued;
     }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@
 package org.actus.functions.ann;
 
 import org.actus.conventions.contractrole.ContractRoleConvention;
-import org.actus.functions.StateTransitionFunction;
+import org.actus.functions.AbstractStateTransitionFunction;
 import org.actus.states.StateSpace;
 import org.actus.util.AnnuityUtils;
 import org.actus.attributes.ContractModelProvider;
@@ -16,12 +16,11 @@ import org.actus.conventions.businessday.BusinessDayAdjuster;
 
 import java.time.LocalDateTime;
 
-public class STF_PRD_ANN implements StateTransitionFunction {
+public class STF_PRD_ANN extends AbstractStateTransitionFunction {
 
 	@Override
-	public double[] eval(LocalDateTime time, StateSpace states, ContractModelProvider model,
-			RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster) {
-		double[] postEventStates = new double[8];
+	public void eval(LocalDateTime time, StateSpace states, ContractModelProvider model,
+			RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster, double[] postEventStates, int offset) {
 
 		// update state space
 		states.timeFromLastEvent = dayCounter.dayCountFraction(timeAdjuster.shiftCalcTime(states.lastEventTime),
@@ -32,14 +31,11 @@ public class STF_PRD_ANN implements StateTransitionFunction {
 		states.nextPrincipalRedemptionPayment = ContractRoleConvention.roleSign(model.getAs("ContractRole"))*AnnuityUtils.annuityPayment(model, states.nominalValue, states.nominalAccrued, states.nominalRate);
 
 		// copy post-event-states
-		postEventStates[0] = states.timeFromLastEvent;
-		postEventStates[1] = states.nominalValue;
-		postEventStates[2] = states.nominalAccrued;
-		postEventStates[3] = states.nominalRate;
-		postEventStates[7] = states.feeAccrued;
-
-		// return post-event-states
-		return postEventStates;
+		postEventStates[offset + 0] = states.timeFromLastEvent;
+		postEventStates[offset + 1] = states.nominalValue;
+		postEventStates[offset + 2] = states.nominalAccrued;
+		postEventStates[offset + 3] = states.nominalRate;
+		postEventStates[offset + 7] = states.feeAccrued;
 	}
 
 }
@@ -5,7 +5,7 @@
  */
 package org.actus.functions.clm;
 
-import org.actus.functions.StateTransitionFunction;
+import org.actus.functions.AbstractStateTransitionFunction;
 import org.actus.states.StateSpace;
 import org.actus.attributes.ContractModelProvider;
 import org.actus.externals.RiskFactorModelProvider;
@@ -14,24 +14,20 @@ import org.actus.conventions.businessday.BusinessDayAdjuster;
 
 import java.time.LocalDateTime;
 
-public final class STF_IP_CLM implements StateTransitionFunction {
+public final class STF_IP_CLM extends AbstractStateTransitionFunction {
     
     @Override
-    public double[] eval(LocalDateTime time, StateSpace states, 
-    ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster) {
-        double[] postEventStates = new double[8];
+    public void eval(LocalDateTime time, StateSpace states, 
+    ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster, double[] postEventStates, int offset) {
         
         // update state space
         states.timeFromLastEvent = dayCounter.dayCountFraction(timeAdjuster.shiftCalcTime(states.lastEventTime), timeAdjuster.shiftCalcTime(time));
         states.nominalAccrued = 0.0;
         
         // copy post-event-states
-        postEventStates[0] = states.timeFromLastEvent;
-        postEventStates[1] = states.nominalValue;
-        postEventStates[3] = states.nominalRate;
-        
-        // return post-event-states
-        return postEventStates;
+        postEventStates[offset + 0] = states.timeFromLastEvent;
+        postEventStates[offset + 1] = states.nominalValue;
+        postEventStates[offset + 3] = states.nominalRate;
         }
     
 }
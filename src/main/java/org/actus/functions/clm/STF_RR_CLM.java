@@ -9,17 +9,16 @@ import org.actus.attributes.ContractModelProvider;
 import org.actus.conventions.businessday.BusinessDayAdjuster;
 import org.actus.conventions.daycount.DayCountCalculator;
 import org.actus.externals.RiskFactorModelProvider;
-import org.actus.functions.StateTransitionFunction;
+import org.actus.functions.AbstractStateTransitionFunction;
 import org.actus.states.StateSpace;
 
 import java.time.LocalDateTime;
 
-public final class STF_RR_CLM implements StateTransitionFunction {
+public final class STF_RR_CLM extends AbstractStateTransitionFunction {
     
     @Override
-    public double[] eval(LocalDateTime time, StateSpace states, 
-    ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster) {
-        double[] postEventStates = new double[8];
+    public void eval(LocalDateTime time, StateSpace states, 
+    ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster, double[] postEventStates, int offset) {
 
         // update state space
         states.timeFromLastEvent = dayCounter.dayCountFraction(timeAdjuster.shiftCalcTime(states.lastEventTime), timeAdjuster.shiftCalcTime(time));
@@ -29,14 +28,11 @@ public final class STF_RR_CLM implements StateTransitionFunction {
         states.lastEventTime = time;
         
         // copy post-event-states
-        postEventStates[0] = states.timeFromLastEvent;
-        postEventStates[1] = states.nominalValue;
-        postEventStates[2] = states.nominalAccrued;
-        postEventStates[3] = states.nominalRate;
-        postEventStates[7] = states.feeAccrued;
-        
-        // return post-event-states
-        return postEventStates;
+        postEventStates[offset + 0] = states.timeFromLastEvent;
+        postEventStates[offset + 1] = states.nominalValue;
+        postEventStates[offset + 2] = states.nominalAccrued;
+        postEventStates[offset + 3] = states.nominalRate;
+        postEventStates[offset + 7] = states.feeAccrued;
         }
     
 }
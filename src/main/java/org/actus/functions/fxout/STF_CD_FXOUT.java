@@ -5,7 +5,7 @@
  */
 package org.actus.functions.fxout;
 
-import org.actus.functions.StateTransitionFunction;
+import org.actus.functions.AbstractStateTransitionFunction;
 import org.actus.states.StateSpace;
 import org.actus.attributes.ContractModelProvider;
 import org.actus.externals.RiskFactorModelProvider;
@@ -15,12 +15,11 @@ import org.actus.util.StringUtils;
 
 import java.time.LocalDateTime;
 
-public final class STF_CD_FXOUT implements StateTransitionFunction {
+public final class STF_CD_FXOUT extends AbstractStateTransitionFunction {
     
     @Override
-    public double[] eval(LocalDateTime time, StateSpace states, 
-    ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster) {
-        double[] postEventStates = new double[8];
+    public void eval(LocalDateTime time, StateSpace states, 
+    ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster, double[] postEventStates, int offset) {
         
         // update state space
         states.timeFromLastEvent = dayCounter.dayCountFraction(timeAdjuster.shiftCalcTime(states.lastEventTime), timeAdjuster.shiftCalcTime(time));
@@ -28,10 +27,7 @@ public final class STF_CD_FXOUT implements StateTransitionFunction {
         states.lastEventTime = time;
         
         // copy post-event-states
-        postEventStates[0] = states.timeFromLastEvent;
-        
-        // return post-event-states
-        return postEventStates;
+        postEventStates[offset + 0] = states.timeFromLastEvent;
         }
     
 }
@@ -13,7 +13,7 @@ import org.actus.states.StateSpace;
 
 public class POF_PR_LAX implements PayOffFunction {
 
-	private Double prPayment;
+	private final Double prPayment;
 	
 	public POF_PR_LAX(Double prPayment) {
 		this.prPayment=prPayment;
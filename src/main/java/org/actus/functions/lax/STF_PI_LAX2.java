@@ -7,21 +7,20 @@ import org.actus.conventions.businessday.BusinessDayAdjuster;
 import org.actus.conventions.contractrole.ContractRoleConvention;
 import org.actus.conventions.daycount.DayCountCalculator;
 import org.actus.externals.RiskFactorModelProvider;
-import org.actus.functions.StateTransitionFunction;
+import org.actus.functions.AbstractStateTransitionFunction;
 import org.actus.states.StateSpace;
 
-public class STF_PI_LAX2 implements StateTransitionFunction {
+public class STF_PI_LAX2 extends AbstractStateTransitionFunction {
 
-	private double prPayment = 0;
+	private final double prPayment;
 
 	public STF_PI_LAX2(Double prPayment) {
 		this.prPayment = prPayment;
 	}
 
 	@Override
-	public double[] eval(LocalDateTime time, StateSpace states, ContractModelProvider model,
-			RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster) {
-		double[] postEventStates = new double[8];
+	public void eval(LocalDateTime time, StateSpace states, ContractModelProvider model,
+			RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster, double[] postEventStates, int offset) {
 		double role = ContractRoleConvention.roleSign(model.getAs("ContractRole"));
 		double redemption = role * prPayment - role * Math.max(0, Math.abs(prPayment) - Math.abs(states.nominalValue));
 		// update state space
@@ -33,12 +32,10 @@ public class STF_PI_LAX2 implements StateTransitionFunction {
 		states.interestCalculationBase = states.nominalValue;
 		states.lastEventTime = time;
 		// copy post-event-states
-		postEventStates[0] = states.timeFromLastEvent;
-		postEventStates[1] = states.nominalValue;
-		postEventStates[2] = states.nominalAccrued;
-		postEventStates[3] = states.nominalRate;
-		postEventStates[7] = states.feeAccrued;
-		// return post-event-states
-		return postEventStates;
+		postEventStates[offset + 0] = states.timeFromLastEvent;
+		postEventStates[offset + 1] = states.nominalValue;
+		postEventStates[offset + 2] = states.nominalAccrued;
+		postEventStates[offset + 3] = states.nominalRate;
+		postEventStates[offset + 7] = states.feeAccrued;
 	}
 }
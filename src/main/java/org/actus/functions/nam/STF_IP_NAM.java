@@ -10,17 +10,16 @@ import org.actus.conventions.businessday.BusinessDayAdjuster;
 import org.actus.conventions.contractrole.ContractRoleConvention;
 import org.actus.conventions.daycount.DayCountCalculator;
 import org.actus.externals.RiskFactorModelProvider;
-import org.actus.functions.StateTransitionFunction;
+import org.actus.functions.AbstractStateTransitionFunction;
 import org.actus.states.StateSpace;
 
 import java.time.LocalDateTime;
 
-public final class STF_IP_NAM implements StateTransitionFunction {
+public final class STF_IP_NAM extends AbstractStateTransitionFunction {
 
     @Override
-    public double[] eval(LocalDateTime time, StateSpace states,
-                         ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster) {
-        double[] postEventStates = new double[8];
+    public void eval(LocalDateTime time, StateSpace states,
+                         ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster, double[] postEventStates, int offset) {
 
         // compute interest payment and capitalization
         // Note: for NAM, interest accrued in excess to PRNXT is capitalized
@@ -37,13 +36,10 @@ public final class STF_IP_NAM implements StateTransitionFunction {
         states.lastEventTime = time;
 
         // copy post-event-states
-        postEventStates[0] = states.timeFromLastEvent;
-        postEventStates[1] = states.nominalValue;
-        postEventStates[3] = states.nominalRate;
-        postEventStates[7] = states.feeAccrued;
-
-        // return post-event-states
-        return postEventStates;
+        postEventStates[offset + 0] = states.timeFromLastEvent;
+        postEventStates[offset + 1] = states.nominalValue;
+        postEventStates[offset + 3] = states.nominalRate;
+        postEventStates[offset + 7] = states.feeAccrued;
     }
 
 }
\ No newline at end of file
@@ -9,10 +9,10 @@ import org.actus.conventions.contractdefault.ContractDefaultConvention;
 import org.actus.functions.PayOffFunction;
 import org.actus.states.StateSpace;
 import org.actus.attributes.ContractModelProvider;
+import org.actus.attributes.CompiledPAMModel;
 import org.actus.externals.RiskFactorModelProvider;
 import org.actus.conventions.daycount.DayCountCalculator;
 import org.actus.conventions.businessday.BusinessDayAdjuster;
-import org.actus.conventions.contractrole.ContractRoleConvention;
 
 import java.time.LocalDateTime;
 
@@ -21,12 +21,12 @@ public final class POF_FP_PAM implements PayOffFunction {
     @Override
     public double eval(LocalDateTime time, StateSpace states, 
     ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster) {
-        if(model.<String>getAs("FeeBasis").equals("A")) {
-            return ContractDefaultConvention.performanceIndicator(states.contractStatus) * ContractRoleConvention.roleSign(model.getAs("ContractRole")) * model.<Double>getAs("FeeRate");
+        if(CompiledPAMModel.feeBasis(model).equals("A")) {
+            return ContractDefaultConvention.performanceIndicator(states.contractStatus) * CompiledPAMModel.roleSign(model) * CompiledPAMModel.feeRate(model);
         } else { 
             return ContractDefaultConvention.performanceIndicator(states.contractStatus) *
                 (states.feeAccrued + 
-                    dayCounter.dayCountFraction(timeAdjuster.shiftCalcTime(states.lastEventTime), timeAdjuster.shiftCalcTime(time)) * model.<Double>getAs("FeeRate") * states.nominalValue);
+                    dayCounter.dayCountFraction(timeAdjuster.shiftCalcTime(states.lastEventTime), timeAdjuster.shiftCalcTime(time)) * CompiledPAMModel.feeRate(model) * states.nominalValue);
         }
     }
 }
@@ -9,10 +9,10 @@ import org.actus.conventions.contractdefault.ContractDefaultConvention;
 import org.actus.functions.PayOffFunction;
 import org.actus.states.StateSpace;
 import org.actus.attributes.ContractModelProvider;
+import org.actus.attributes.CompiledPAMModel;
 import org.actus.externals.RiskFactorModelProvider;
 import org.actus.conventions.daycount.DayCountCalculator;
 import org.actus.conventions.businessday.BusinessDayAdjuster;
-import org.actus.conventions.contractrole.ContractRoleConvention;
 
 import java.time.LocalDateTime;
 
@@ -22,7 +22,7 @@ public final class POF_PP_PAM implements PayOffFunction {
         public double eval(LocalDateTime time, StateSpace states, 
     ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster) {
         return ContractDefaultConvention.performanceIndicator(states.contractStatus) *
-        ContractRoleConvention.roleSign(model.getAs("ContractRole")) * 
-        riskFactorModel.stateAt(model.getAs("ObjectCodeOfPrepaymentModel"),time,states,model) * states.nominalValue;
+        CompiledPAMModel.roleSign(model) * 
+        riskFactorModel.stateAt(CompiledPAMModel.objectCodeOfPrepaymentModel(model),time,states,model) * states.nominalValue;
         }
 }
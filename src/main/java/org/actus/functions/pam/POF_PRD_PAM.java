@@ -9,10 +9,10 @@ import org.actus.conventions.contractdefault.ContractDefaultConvention;
 import org.actus.functions.PayOffFunction;
 import org.actus.states.StateSpace;
 import org.actus.attributes.ContractModelProvider;
+import org.actus.attributes.CompiledPAMModel;
 import org.actus.externals.RiskFactorModelProvider;
 import org.actus.conventions.daycount.DayCountCalculator;
 import org.actus.conventions.businessday.BusinessDayAdjuster;
-import org.actus.conventions.contractrole.ContractRoleConvention;
 
 import java.time.LocalDateTime;
 
@@ -22,8 +22,8 @@ public final class POF_PRD_PAM implements PayOffFunction {
         public double eval(LocalDateTime time, StateSpace states, 
     ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster) {
         return ContractDefaultConvention.performanceIndicator(states.contractStatus) *
-        ContractRoleConvention.roleSign(model.getAs("ContractRole")) * (-1) *  
-        (model.<Double>getAs("PriceAtPurchaseDate") + states.nominalAccrued + 
+        CompiledPAMModel.roleSign(model) * (-1) *  
+        (CompiledPAMModel.priceAtPurchaseDate(model) + states.nominalAccrued + 
         dayCounter.dayCountFraction(timeAdjuster.shiftCalcTime(states.lastEventTime), timeAdjuster.shiftCalcTime(time)) * states.nominalRate * states.nominalValue);
         }
 }
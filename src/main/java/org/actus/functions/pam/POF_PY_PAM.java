@@ -9,10 +9,10 @@ import org.actus.conventions.contractdefault.ContractDefaultConvention;
 import org.actus.functions.PayOffFunction;
 import org.actus.states.StateSpace;
 import org.actus.attributes.ContractModelProvider;
+import org.actus.attributes.CompiledPAMModel;
 import org.actus.externals.RiskFactorModelProvider;
 import org.actus.conventions.daycount.DayCountCalculator;
 import org.actus.conventions.businessday.BusinessDayAdjuster;
-import org.actus.conventions.contractrole.ContractRoleConvention;
 
 import java.time.LocalDateTime;
 
@@ -21,15 +21,15 @@ public final class POF_PY_PAM implements PayOffFunction {
     @Override
     public double eval(LocalDateTime time, StateSpace states, 
     ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster) {
-        if(model.getAs("PenaltyType").equals("A")) {
-            return ContractDefaultConvention.performanceIndicator(states.contractStatus) * ContractRoleConvention.roleSign(model.getAs("ContractRole")) * model.<Double>getAs("PenaltyRate");
-        } else if(model.getAs("PenaltyType").equals("N")) {
-            return ContractDefaultConvention.performanceIndicator(states.contractStatus) * ContractRoleConvention.roleSign(model.getAs("ContractRole")) *
-                dayCounter.dayCountFraction(timeAdjuster.shiftCalcTime(states.lastEventTime), timeAdjuster.shiftCalcTime(time)) * model.<Double>getAs("PenaltyRate") * states.nominalValue;
+        if(CompiledPAMModel.penaltyTypeA(model)) {
+            return ContractDefaultConvention.performanceIndicator(states.contractStatus) * CompiledPAMModel.roleSign(model) * CompiledPAMModel.penaltyRate(model);
+        } else if(CompiledPAMModel.penaltyTypeN(model)) {
+            return ContractDefaultConvention.performanceIndicator(states.contractStatus) * CompiledPAMModel.roleSign(model) *
+                dayCounter.dayCountFraction(timeAdjuster.shiftCalcTime(states.lastEventTime), timeAdjuster.shiftCalcTime(time)) * CompiledPAMModel.penaltyRate(model) * states.nominalValue;
         } else {
-            return ContractDefaultConvention.performanceIndicator(states.contractStatus) * ContractRoleConvention.roleSign(model.getAs("ContractRole")) *
+            return ContractDefaultConvention.performanceIndicator(states.contractStatus) * CompiledPAMModel.roleSign(model) *
                 dayCounter.dayCountFraction(timeAdjuster.shiftCalcTime(states.lastEventTime), timeAdjuster.shiftCalcTime(time)) * states.nominalValue * 
-                Math.max(0, states.nominalRate - riskFactorModel.stateAt(model.getAs("MarketObjectCodeOfRateReset"), time,states,model));    
+                Math.max(0, states.nominalRate - riskFactorModel.stateAt(CompiledPAMModel.marketObjectCodeOfRateReset(model), time,states,model));    
         }
     }
 }
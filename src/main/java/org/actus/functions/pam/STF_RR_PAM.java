@@ -5,33 +5,32 @@
  */
 package org.actus.functions.pam;
 
-import org.actus.functions.StateTransitionFunction;
+import org.actus.functions.AbstractStateTransitionFunction;
 import org.actus.states.StateSpace;
 import org.actus.attributes.ContractModelProvider;
+import org.actus.attributes.CompiledPAMModel;
 import org.actus.externals.RiskFactorModelProvider;
 import org.actus.conventions.daycount.DayCountCalculator;
 import org.actus.conventions.businessday.BusinessDayAdjuster;
 
 import java.time.LocalDateTime;
 
-public final class STF_RR_PAM implements StateTransitionFunction {
+public final class STF_RR_PAM extends AbstractStateTransitionFunction {
     
     @Override
-    public double[] eval(LocalDateTime time, StateSpace states, 
-    ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster) {
-        double[] postEventStates = new double[8];
-
+    public void eval(LocalDateTime time, StateSpace states, 
+    ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster, double[] postEventStates, int offset) {
         // compute new rate
-        double rate = riskFactorModel.stateAt(model.getAs("MarketObjectCodeOfRateReset"), time, states, model)
-                * model.<Double>getAs("RateMultiplier") + model.<Double>getAs("RateSpread");
+        double rate = riskFactorModel.stateAt(CompiledPAMModel.marketObjectCodeOfRateReset(model), time, states, model)
+                * CompiledPAMModel.rateMultiplier(model) + CompiledPAMModel.rateSpread(model);
         double deltaRate = rate - states.nominalRate;
 
         // apply period cap/floor
-        deltaRate = Math.min(Math.max(deltaRate,(-1)*model.<Double>getAs("PeriodFloor")),model.<Double>getAs("LifeCap"));
+        deltaRate = Math.min(Math.max(deltaRate,(-1)*CompiledPAMModel.periodFloor(model)),CompiledPAMModel.lifeCap(model));
         rate = states.nominalRate+deltaRate;
 
         // apply life cap/floor
-        rate = Math.min(Math.max(rate,model.getAs("LifeFloor")),model.getAs("LifeCap"));
+        rate = Math.min(Math.max(rate,CompiledPAMModel.lifeFloor(model)),CompiledPAMModel.lifeCap(model));
 
         // update state space
         states.timeFromLastEvent = dayCounter.dayCountFraction(timeAdjuster.shiftCalcTime(states.lastEventTime), timeAdjuster.shiftCalcTime(time));
@@ -40,14 +39,11 @@ public final class STF_RR_PAM implements StateTransitionFunction {
         states.lastEventTime = time;
         
         // copy post-event-states
-        postEventStates[0] = states.timeFromLastEvent;
-        postEventStates[1] = states.nominalValue;
-        postEventStates[2] = states.nominalAccrued;
-        postEventStates[3] = states.nominalRate;
-        postEventStates[7] = states.feeAccrued;
-        
-        // return post-event-states
-        return postEventStates;
+        postEventStates[offset + 0] = states.timeFromLastEvent;
+        postEventStates[offset + 1] = states.nominalValue;
+        postEventStates[offset + 2] = states.nominalAccrued;
+        postEventStates[offset + 3] = states.nominalRate;
+        postEventStates[offset + 7] = states.feeAccrued;
         }
     
 }
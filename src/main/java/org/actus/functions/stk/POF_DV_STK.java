@@ -13,7 +13,7 @@ import org.actus.attributes.ContractModelProvider;
 import org.actus.externals.RiskFactorModelProvider;
 import org.actus.conventions.daycount.DayCountCalculator;
 import org.actus.conventions.businessday.BusinessDayAdjuster;
-import org.actus.util.CycleUtils;
+import org.actus.time.Cycle;
 
 import java.time.LocalDateTime;
 
@@ -24,6 +24,6 @@ public final class POF_DV_STK implements PayOffFunction {
                         ContractModelProvider model, RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster) {
         return ContractDefaultConvention.performanceIndicator(states.contractStatus) * ContractRoleConvention.roleSign(model.getAs("ContractRole"))*model.<Integer>getAs("Quantity") * model.<Double>getAs("MarketValueObserved") *
             riskFactorModel.stateAt(model.getAs("MarketObjectCodeOfDividendRate"), time, states, model) * 
-            dayCounter.dayCountFraction(timeAdjuster.shiftCalcTime(time.minus(CycleUtils.parsePeriod(model.getAs("CycleOfDividendPayment")))), timeAdjuster.shiftCalcTime(time));
+            dayCounter.dayCountFraction(timeAdjuster.shiftCalcTime(time.minus(Cycle.of(model.getAs("CycleOfDividendPayment")).period())), timeAdjuster.shiftCalcTime(time));
     }
 }
@@ -16,8 +16,8 @@ import org.actus.states.StateSpace;
 import java.time.LocalDateTime;
 
 public final class POF_NET_SWAPS implements PayOffFunction {
-    ContractEvent e1;
-    ContractEvent e2;
+    private final ContractEvent e1;
+    private final ContractEvent e2;
 
     public POF_NET_SWAPS(ContractEvent e1, ContractEvent e2) {
         this.e1 = e1;
@@ -16,7 +16,7 @@ import org.actus.states.StateSpace;
 import java.time.LocalDateTime;
 
 public final class POF_PR_UMP implements PayOffFunction {
-    double payoff = 0.0;
+    private final double payoff;
 
     public POF_PR_UMP(double eventPayoff) {
         payoff=eventPayoff;
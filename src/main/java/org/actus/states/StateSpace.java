@@ -36,4 +36,34 @@ public final class StateSpace {
     public int contractRoleSign;
     public double nominalAccruedFix;
     public double nominalAccruedFloat;
+
+    /**
+     * Returns a copy of these states
+     * <p>
+     * The copy evolves independently of these states, e.g. when the same contract is evaluated
+     * under several risk factor scenarios starting from the same initial states.
+     *
+     * @return a copy of these states
+     */
+    public StateSpace copy() {
+        StateSpace copy = new StateSpace();
+        copy.lastEventTime = lastEventTime;
+        copy.contractStatus = contractStatus;
+        copy.timeFromLastEvent = timeFromLastEvent;
+        copy.nominalValue = nominalValue;
+        copy.nominalAccrued = nominalAccrued;
+        copy.feeAccrued = feeAccrued;
+        copy.nominalRate = nominalRate;
+        copy.interestCalculationBase = interestCalculationBase;
+        copy.interestScalingMultiplier = interestScalingMultiplier;
+        copy.nominalScalingMultiplier = nominalScalingMultiplier;
+        copy.nextPrincipalRedemptionPayment = nextPrincipalRedemptionPayment;
+        copy.secondaryNominalValue = secondaryNominalValue;
+        copy.payoffAtSettlement = payoffAtSettlement;
+        copy.variationMargin = variationMargin;
+        copy.contractRoleSign = contractRoleSign;
+        copy.nominalAccruedFix = nominalAccruedFix;
+        copy.nominalAccruedFloat = nominalAccruedFloat;
+        return copy;
+    }
 }
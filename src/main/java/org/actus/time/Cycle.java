@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.time;
+
+import org.actus.AttributeConversionException;
+import org.actus.util.CycleUtils;
+import org.actus.util.StringUtils;
+
+import java.time.DayOfWeek;
+import java.time.Period;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A parsed ACTUS cycle
+ * <p>
+ * An ACTUS cycle is given as a String, e.g. "1M-" or "1Fri+", and defines either a period, e.g. one month,
+ * or a weekday rule, e.g. the first Friday of every month, followed by a short ("-") or long ("+") stub.
+ * A {@code Cycle} holds the cycle's components parsed from such a String.
+ * <p>
+ * Cycles are immutable. Since a portfolio typically uses few distinct cycles, these are parsed once
+ * per distinct String and interned, i.e. {@link #of(String)} returns the same instance for equal Strings.
+ */
+public final class Cycle {
+    // the maximum number of interned cycles, any further cycles are parsed anew
+    private static final int MAX_INTERNED = 4096;
+    private static final ConcurrentHashMap<String, Cycle> INTERNED = new ConcurrentHashMap<String, Cycle>();
+
+    private final String cycle;
+    private final char stub;
+    private final Period period;
+    private final DayOfWeek weekday;
+    private final int position;
+
+    private Cycle(String cycle) throws AttributeConversionException {
+        this.cycle = cycle;
+        this.stub = CycleUtils.parseStub(cycle);
+        if (CycleUtils.isPeriod(cycle)) {
+            this.period = CycleUtils.parsePeriod(cycle);
+            this.weekday = null;
+            this.position = 0;
+        } else {
+            this.period = null;
+            this.weekday = CycleUtils.parseWeekday(cycle);
+            this.position = CycleUtils.parsePosition(cycle);
+        }
+    }
+
+    /**
+     * Returns the parsed cycle of a String
+     *
+     * @param cycle the cycle in the ACTUS format
+     * @return the parsed cycle
+     * @throws AttributeConversionException if {@code cycle} does not conform with the ACTUS Data Dictionary
+     */
+    public static Cycle of(String cycle) throws AttributeConversionException {
+        Cycle parsed = INTERNED.get(cycle);
+        if (parsed == null) {
+            parsed = new Cycle(cycle);
+            if (INTERNED.size() < MAX_INTERNED) {
+                Cycle interned = INTERNED.putIfAbsent(cycle, parsed);
+                if (interned != null) {
+                    parsed = interned;
+                }
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Returns whether the cycle is defined by a period or a weekday rule
+     *
+     * @return {@code true} if the cycle is defined by a period or {@code false} if by a weekday rule
+     */
+    public boolean isPeriod() {
+        return period != null;
+    }
+
+    /**
+     * Returns the period of the cycle
+     *
+     * @return the period
+     * @throws AttributeConversionException if the cycle is defined by a weekday rule
+     */
+    public Period period() throws AttributeConversionException {
+        if (period == null) {
+            throw new AttributeConversionException();
+        }
+        return period;
+    }
+
+    /**
+     * Returns the weekday of a weekday rule
+     *
+     * @return the weekday or {@code null} if the cycle is defined by a period
+     */
+    public DayOfWeek weekday() {
+        return weekday;
+    }
+
+    /**
+     * Returns the position of the weekday within the month of a weekday rule
+     *
+     * @return the position or {@code 0} if the cycle is defined by a period
+     */
+    public int position() {
+        return position;
+    }
+
+    /**
+     * Returns the stub of the cycle
+     *
+     * @return {@link StringUtils#ShortStub} or {@link StringUtils#LongStub}
+     */
+    public char stub() {
+        return stub;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Cycle && cycle.equals(((Cycle) o).cycle);
+    }
+
+    @Override
+    public int hashCode() {
+        return cycle.hashCode();
+    }
+
+    /**
+     * Returns the cycle in the ACTUS format
+     *
+     * @return the String the cycle was parsed from
+     */
+    @Override
+    public String toString() {
+        return cycle;
+    }
+}
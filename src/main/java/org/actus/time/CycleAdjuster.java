@@ -27,6 +27,14 @@ public class CycleAdjuster {
         }
     }
 
+    public CycleAdjuster(Cycle cycle) {
+        if(cycle.isPeriod()) {
+            adjuster = new PeriodCycleAdjuster(cycle.period());
+        } else {
+            adjuster = new WeekdayCycleAdjuster(cycle.weekday(), cycle.position());
+        }
+    }
+
     /**
      * Cycle adjuster
      * <p>
@@ -45,4 +53,22 @@ public class CycleAdjuster {
         return adjuster.minusCycle(time);
     }
 
+    /**
+     * Cycle adjuster
+     * <p>
+     * This adjuster adds a full cycle to a given date as epoch day (cf. {@link EpochDays}) depending on the cycle definition.
+     */
+    public int plusCycle(int date) {
+        return adjuster.plusCycle(date);
+    }
+
+    /**
+     * Cycle adjuster
+     * <p>
+     * This adjuster deducts a full cycle to a given date as epoch day (cf. {@link EpochDays}) depending on the cycle definition.
+     */
+    public int minusCycle(int date) {
+        return adjuster.minusCycle(date);
+    }
+
 }
\ No newline at end of file
@@ -30,4 +30,24 @@ public abstract interface CycleAdjusterProvider {
      */
     public LocalDateTime minusCycle(LocalDateTime time);
 
+    /**
+     * Cycle adjuster
+     * <p>
+     * This adjuster adds a full cycle to a given date as epoch day (cf. {@link EpochDays}) depending on the cycle definition.
+     * The default implementation converts {@code date} to a {@link LocalDateTime}.
+     */
+    public default int plusCycle(int date) {
+        return EpochDays.of(plusCycle(EpochDays.toLocalDateTime(date)));
+    }
+
+    /**
+     * Cycle adjuster
+     * <p>
+     * This adjuster deducts a full cycle to a given date as epoch day (cf. {@link EpochDays}) depending on the cycle definition.
+     * The default implementation converts {@code date} to a {@link LocalDateTime}.
+     */
+    public default int minusCycle(int date) {
+        return EpochDays.of(minusCycle(EpochDays.toLocalDateTime(date)));
+    }
+
 }
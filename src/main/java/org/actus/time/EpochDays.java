@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.time;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Primitive date arithmetic on epoch days
+ * <p>
+ * An epoch day is the number of days from 1970-01-01 as an {@code int} (cf. {@link LocalDate#toEpochDay()}),
+ * optionally accompanied by an hour of the day in {@code [0,23]}. As opposed to {@link LocalDateTime},
+ * epoch days are not objects and the methods in this class compute calendar fields and date arithmetic
+ * with integer operations only in the proleptic Gregorian calendar, i.e. without any allocation. This
+ * allows the cycle adjusters, business day and end of month conventions as well as the day count
+ * conventions to operate on dates in tight loops.
+ */
+public final class EpochDays {
+    // days from 0000-03-01 to 1970-01-01
+    private static final int DAYS_0000_TO_1970 = 719468;
+    private static final int DAYS_PER_CYCLE = 146097;
+
+    private EpochDays() {
+    }
+
+    /**
+     * Returns the epoch day of a time
+     *
+     * @param time the time
+     * @return the epoch day of the date of {@code time}
+     */
+    public static int of(LocalDateTime time) {
+        return (int) time.toLocalDate().toEpochDay();
+    }
+
+    /**
+     * Returns the epoch day of a date given by its fields
+     *
+     * @param year the year
+     * @param month the month-of-year from 1 (January) to 12 (December)
+     * @param dayOfMonth the day-of-month from 1 to 31
+     * @return the epoch day
+     */
+    public static int of(int year, int month, int dayOfMonth) {
+        int y = (month <= 2) ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + ((month > 2) ? -3 : 9)) + 2) / 5 + dayOfMonth - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Returns the time at the start of an epoch day
+     *
+     * @param date the epoch day
+     * @return the time
+     */
+    public static LocalDateTime toLocalDateTime(int date) {
+        return LocalDate.ofEpochDay(date).atStartOfDay();
+    }
+
+    /**
+     * Returns the time at a full hour of an epoch day
+     *
+     * @param date the epoch day
+     * @param hour the hour of the day
+     * @return the time
+     */
+    public static LocalDateTime toLocalDateTime(int date, int hour) {
+        return LocalDateTime.of(LocalDate.ofEpochDay(date), LocalTime.of(hour, 0));
+    }
+
+    /**
+     * Returns the year of an epoch day
+     *
+     * @param date the epoch day
+     * @return the year
+     */
+    public static int year(int date) {
+        return civil(date) >> 9;
+    }
+
+    /**
+     * Returns the month-of-year of an epoch day
+     *
+     * @param date the epoch day
+     * @return the month-of-year from 1 (January) to 12 (December)
+     */
+    public static int month(int date) {
+        return (civil(date) >> 5) & 0xF;
+    }
+
+    /**
+     * Returns the day-of-month of an epoch day
+     *
+     * @param date the epoch day
+     * @return the day-of-month from 1 to 31
+     */
+    public static int dayOfMonth(int date) {
+        return civil(date) & 0x1F;
+    }
+
+    /**
+     * Returns the day-of-week of an epoch day
+     *
+     * @param date the epoch day
+     * @return the day-of-week from 1 (Monday) to 7 (Sunday) as per {@link java.time.DayOfWeek#getValue()}
+     */
+    public static int dayOfWeek(int date) {
+        // 1970-01-01 is a Thursday
+        return Math.floorMod(date + 3, 7) + 1;
+    }
+
+    /**
+     * Returns whether a year is a leap year
+     *
+     * @param year the year
+     * @return {@code true} if {@code year} is a leap year and {@code false} otherwise
+     */
+    public static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Returns the number of days of a month
+     *
+     * @param year the year
+     * @param month the month-of-year from 1 (January) to 12 (December)
+     * @return the number of days of the month
+     */
+    public static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Returns the last day of the month of an epoch day
+     *
+     * @param date the epoch day
+     * @return the epoch day of the last day of the month
+     */
+    public static int lastDayOfMonth(int date) {
+        int civil = civil(date);
+        int dayOfMonth = civil & 0x1F;
+        return date - dayOfMonth + lengthOfMonth(civil >> 9, (civil >> 5) & 0xF);
+    }
+
+    /**
+     * Add a number of months to an epoch day
+     * <p>
+     * As with {@link LocalDate#plusMonths(long)}, the day-of-month is clipped to the last valid day of the resulting month.
+     *
+     * @param date the epoch day
+     * @param months the number of months to add, may be negative
+     * @return the resulting epoch day
+     */
+    public static int plusMonths(int date, long months) {
+        if (months == 0) {
+            return date;
+        }
+        int civil = civil(date);
+        long monthCount = (civil >> 9) * 12L + (((civil >> 5) & 0xF) - 1) + months;
+        int year = (int) Math.floorDiv(monthCount, 12L);
+        int month = (int) Math.floorMod(monthCount, 12L) + 1;
+        return of(year, month, Math.min(civil & 0x1F, lengthOfMonth(year, month)));
+    }
+
+    /**
+     * Compute the number of complete days between two full hours of epoch days
+     * <p>
+     * The result equals {@link java.time.temporal.ChronoUnit#DAYS}{@code .between} the respective times,
+     * i.e. incomplete days are truncated towards zero.
+     *
+     * @param startDate the start epoch day
+     * @param startHour the hour of the start epoch day
+     * @param endDate the end epoch day
+     * @param endHour the hour of the end epoch day
+     * @return the number of complete days between start and end
+     */
+    public static long daysBetween(int startDate, int startHour, int endDate, int endHour) {
+        return ((endDate - (long) startDate) * 24 + endHour - startHour) / 24;
+    }
+
+    // compute the fields of an epoch day packed as year << 9 | month << 5 | day-of-month
+    private static int civil(int date) {
+        int z = date + DAYS_0000_TO_1970;
+        int era = Math.floorDiv(z, DAYS_PER_CYCLE);
+        int dayOfEra = z - era * DAYS_PER_CYCLE;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int mp = (5 * dayOfYear + 2) / 153;
+        int dayOfMonth = dayOfYear - (153 * mp + 2) / 5 + 1;
+        int month = (mp < 10) ? mp + 3 : mp - 9;
+        int year = yearOfEra + era * 400 + ((month <= 2) ? 1 : 0);
+        return (year << 9) | (month << 5) | dayOfMonth;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.time;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * A k-way merge of time-ordered schedules of dates
+ * <p>
+ * The merged schedule returns the union of the dates of all schedules in ascending order where
+ * a date contained in more than one schedule is returned once only.
+ */
+final class MergedSchedule implements Iterator<LocalDateTime> {
+    private final PriorityQueue<Head> heap = new PriorityQueue<Head>();
+    private LocalDateTime last;
+
+    /**
+     * Constructor
+     *
+     * @param schedules the time-ordered schedules to merge
+     */
+    MergedSchedule(List<Iterator<LocalDateTime>> schedules) {
+        for (Iterator<LocalDateTime> schedule : schedules) {
+            if (schedule.hasNext()) {
+                heap.add(new Head(schedule));
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heap.isEmpty();
+    }
+
+    @Override
+    public LocalDateTime next() {
+        if (heap.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        last = pollTime();
+        skipDuplicates();
+        return last;
+    }
+
+    // remove and return the earliest date from the heads of the schedules
+    private LocalDateTime pollTime() {
+        Head head = heap.poll();
+        LocalDateTime time = head.time;
+        if (head.schedule.hasNext()) {
+            head.time = head.schedule.next();
+            heap.add(head);
+        }
+        return time;
+    }
+
+    // drop dates equal to the date returned last
+    private void skipDuplicates() {
+        while (last != null && !heap.isEmpty() && heap.peek().time.equals(last)) {
+            pollTime();
+        }
+    }
+
+    // a schedule with its next date
+    private static final class Head implements Comparable<Head> {
+        private final Iterator<LocalDateTime> schedule;
+        private LocalDateTime time;
+
+        Head(Iterator<LocalDateTime> schedule) {
+            this.schedule = schedule;
+            this.time = schedule.next();
+        }
+
+        @Override
+        public int compareTo(Head other) {
+            return time.compareTo(other.time);
+        }
+    }
+}
@@ -29,6 +29,15 @@ public final class PeriodCycleAdjuster implements CycleAdjusterProvider {
         this.period=CycleUtils.parsePeriod(cycle);
     }
 
+    /**
+     * Public constructor
+     * 
+     * @param period the period of the cycle
+     */
+    public PeriodCycleAdjuster(Period period) {
+        this.period=period;
+    }
+
     /**
      * Cycle adjuster
      * <p>
@@ -49,4 +58,24 @@ public final class PeriodCycleAdjuster implements CycleAdjusterProvider {
         return time.minus(period);
     }
 
+    /**
+     * Cycle adjuster
+     * <p>
+     * This adjuster adds a full cycle to a given date as epoch day depending on the cycle definition.
+     */
+    @Override
+    public int plusCycle(int date) {
+        return EpochDays.plusMonths(date, period.toTotalMonths()) + period.getDays();
+    }
+
+    /**
+     * Cycle adjuster
+     * <p>
+     * This adjuster deducts a full cycle to a given date as epoch day depending on the cycle definition.
+     */
+    @Override
+    public int minusCycle(int date) {
+        return EpochDays.plusMonths(date, -period.toTotalMonths()) - period.getDays();
+    }
+
 }
@@ -0,0 +1,371 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.time;
+
+import org.actus.conventions.businessday.BusinessDayAdjuster;
+import org.actus.util.CommonUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A cache of date-schedules shared by many contracts
+ * <p>
+ * The contracts of a portfolio typically share few distinct schedule specifications, e.g. monthly
+ * interest payments from the first of a month to a common maturity. A {@code ScheduleCache} retains
+ * the schedules created by the {@link ScheduleFactory} per [Start-Date]/[Cycle]/[End-Date]/
+ * [EndOfMonthConvention] specification such that each distinct schedule is generated once only.
+ * Further, the event times of a schedule shifted according to a {@link BusinessDayAdjuster} are
+ * retained per specification and adjuster. These are used by the {@link org.actus.events.EventFactory} when
+ * creating the events of a schedule served from the cache (cf. {@link CachedScheduleIterator}).
+ * <p>
+ * Schedules are returned as immutable lists of times in ascending order. The number of retained
+ * schedules is bounded. Retained schedules are held in segments, each evicting its least recently used
+ * schedule when full. An instance may be shared by multiple threads, with threads contending only if
+ * accessing the same segment.
+ * <p>
+ * A cache is used by the {@link ScheduleFactory} once installed by {@link ScheduleFactory#useCache}.
+ */
+public final class ScheduleCache {
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    // the schedules of a segment in least recently used order
+    private static final class Segment extends LinkedHashMap<Object, List<LocalDateTime>> {
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, List<LocalDateTime>> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    // a schedule specification
+    private static final class Key {
+        final LocalDateTime startTime;
+        final LocalDateTime endTime;
+        final Cycle cycle;
+        final String endOfMonthConvention;
+        final boolean addEndTime;
+
+        Key(LocalDateTime startTime, LocalDateTime endTime, Cycle cycle, String endOfMonthConvention, boolean addEndTime) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.cycle = cycle;
+            this.endOfMonthConvention = endOfMonthConvention;
+            this.addEndTime = addEndTime;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return addEndTime == key.addEndTime && Objects.equals(startTime, key.startTime)
+                    && Objects.equals(endTime, key.endTime) && Objects.equals(cycle, key.cycle)
+                    && Objects.equals(endOfMonthConvention, key.endOfMonthConvention);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = Objects.hashCode(startTime);
+            hash = 31 * hash + Objects.hashCode(endTime);
+            hash = 31 * hash + Objects.hashCode(cycle);
+            hash = 31 * hash + Objects.hashCode(endOfMonthConvention);
+            return 31 * hash + (addEndTime ? 1 : 0);
+        }
+    }
+
+    // a schedule specification and business day adjuster
+    private static final class ShiftedKey {
+        final Key key;
+        final BusinessDayAdjuster adjuster;
+
+        ShiftedKey(Key key, BusinessDayAdjuster adjuster) {
+            this.key = key;
+            this.adjuster = adjuster;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ShiftedKey)) {
+                return false;
+            }
+            ShiftedKey shiftedKey = (ShiftedKey) o;
+            return key.equals(shiftedKey.key) && adjuster.equals(shiftedKey.adjuster);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * key.hashCode() + adjuster.hashCode();
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param capacity the maximum number of retained schedules
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     */
+    public ScheduleCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        int segments = Math.min(SEGMENTS, capacity);
+        this.segments = new Segment[segments];
+        for (int i = 0; i < segments; i++) {
+            // distribute the capacity such that the segments hold capacity schedules in total
+            this.segments[i] = new Segment(capacity / segments + ((i < capacity % segments) ? 1 : 0));
+        }
+    }
+
+    /**
+     * Returns a schedule of dates
+     * <p>
+     * The schedule consists of the dates created by
+     * {@link ScheduleFactory#createSchedule(LocalDateTime, LocalDateTime, String, String, boolean)}.
+     *
+     * @param startTime the start time of the schedule
+     * @param endTime the end time of the schedule
+     * @param cycle the schedule cycle
+     * @param endOfMonthConvention the convention to be applied
+     * @param addEndTime should an additional time be generated at {@code endTime}
+     * @return an immutable list of the schedule times in ascending order
+     */
+    public List<LocalDateTime> schedule(LocalDateTime startTime, LocalDateTime endTime, String cycle, String endOfMonthConvention, boolean addEndTime) {
+        return schedule(startTime, endTime, CommonUtils.isNull(cycle) ? null : Cycle.of(cycle), endOfMonthConvention, addEndTime);
+    }
+
+    /**
+     * Returns a schedule of dates for a parsed cycle
+     *
+     * @param startTime the start time of the schedule
+     * @param endTime the end time of the schedule
+     * @param cycle the schedule cycle or {@code null} if there is no cycle
+     * @param endOfMonthConvention the convention to be applied
+     * @param addEndTime should an additional time be generated at {@code endTime}
+     * @return an immutable list of the schedule times in ascending order
+     */
+    public List<LocalDateTime> schedule(LocalDateTime startTime, LocalDateTime endTime, Cycle cycle, String endOfMonthConvention, boolean addEndTime) {
+        return schedule(new Key(startTime, endTime, cycle, endOfMonthConvention, addEndTime));
+    }
+
+    /**
+     * Returns an iterator over a schedule of dates for a parsed cycle
+     * <p>
+     * The iterator returns the times of the respective {@link #schedule} and further provides the
+     * event times of the schedule shifted according to a business day convention
+     * (cf. {@link CachedScheduleIterator#eventTimes(BusinessDayAdjuster)}).
+     *
+     * @param startTime the start time of the schedule
+     * @param endTime the end time of the schedule
+     * @param cycle the schedule cycle or {@code null} if there is no cycle
+     * @param endOfMonthConvention the convention to be applied
+     * @param addEndTime should an additional time be generated at {@code endTime}
+     * @return an iterator over the schedule times in ascending order
+     */
+    public CachedScheduleIterator scheduleIterator(LocalDateTime startTime, LocalDateTime endTime, Cycle cycle, String endOfMonthConvention, boolean addEndTime) {
+        Key key = new Key(startTime, endTime, cycle, endOfMonthConvention, addEndTime);
+        return new CachedScheduleIterator(this, key, schedule(key));
+    }
+
+    private List<LocalDateTime> schedule(Key key) {
+        List<LocalDateTime> schedule = lookup(key);
+        if (schedule == null) {
+            Iterator<LocalDateTime> times = ScheduleFactory.generateScheduleIterator(key.startTime, key.endTime, key.cycle, key.endOfMonthConvention, key.addEndTime);
+            List<LocalDateTime> list = new ArrayList<LocalDateTime>();
+            while (times.hasNext()) {
+                list.add(times.next());
+            }
+            schedule = store(key, list.toArray(new LocalDateTime[list.size()]));
+        }
+        return schedule;
+    }
+
+    /**
+     * Returns the event times of a schedule of dates shifted according to a business day convention
+     * <p>
+     * The {@code i}-th event time is the {@code i}-th time of the respective {@link #schedule} shifted by
+     * {@link BusinessDayAdjuster#shiftEventTime(LocalDateTime)}. Schedules are retained per equal adjuster,
+     * i.e. per business day convention and calendar.
+     *
+     * @param startTime the start time of the schedule
+     * @param endTime the end time of the schedule
+     * @param cycle the schedule cycle
+     * @param endOfMonthConvention the convention to be applied
+     * @param addEndTime should an additional time be generated at {@code endTime}
+     * @param adjuster the business day convention to be applied
+     * @return an immutable list of the shifted event times in the order of the schedule times
+     */
+    public List<LocalDateTime> eventTimes(LocalDateTime startTime, LocalDateTime endTime, String cycle, String endOfMonthConvention, boolean addEndTime, BusinessDayAdjuster adjuster) {
+        return eventTimes(startTime, endTime, CommonUtils.isNull(cycle) ? null : Cycle.of(cycle), endOfMonthConvention, addEndTime, adjuster);
+    }
+
+    /**
+     * Returns the event times of a schedule of dates for a parsed cycle shifted according to a business day convention
+     *
+     * @param startTime the start time of the schedule
+     * @param endTime the end time of the schedule
+     * @param cycle the schedule cycle or {@code null} if there is no cycle
+     * @param endOfMonthConvention the convention to be applied
+     * @param addEndTime should an additional time be generated at {@code endTime}
+     * @param adjuster the business day convention to be applied
+     * @return an immutable list of the shifted event times in the order of the schedule times
+     */
+    public List<LocalDateTime> eventTimes(LocalDateTime startTime, LocalDateTime endTime, Cycle cycle, String endOfMonthConvention, boolean addEndTime, BusinessDayAdjuster adjuster) {
+        return eventTimes(new Key(startTime, endTime, cycle, endOfMonthConvention, addEndTime), adjuster);
+    }
+
+    private List<LocalDateTime> eventTimes(Key scheduleKey, BusinessDayAdjuster adjuster) {
+        ShiftedKey key = new ShiftedKey(scheduleKey, adjuster);
+        List<LocalDateTime> eventTimes = lookup(key);
+        if (eventTimes == null) {
+            List<LocalDateTime> schedule = schedule(scheduleKey);
+            LocalDateTime[] shifted = new LocalDateTime[schedule.size()];
+            for (int i = 0; i < shifted.length; i++) {
+                shifted[i] = adjuster.shiftEventTime(schedule.get(i));
+            }
+            eventTimes = store(key, shifted);
+        }
+        return eventTimes;
+    }
+
+    /**
+     * An iterator over a schedule served from a {@code ScheduleCache}
+     * <p>
+     * Besides the schedule times, the iterator provides the event times of the schedule shifted according
+     * to a business day convention as retained by the cache. Hence, the events created from the iterator
+     * (cf. {@link org.actus.events.EventFactory#createEvents(Iterator, String, String,
+     * org.actus.functions.PayOffFunction, org.actus.functions.StateTransitionFunction, BusinessDayAdjuster)})
+     * are not shifted one by one.
+     */
+    public static final class CachedScheduleIterator implements Iterator<LocalDateTime> {
+        private final ScheduleCache cache;
+        private final Key key;
+        private final List<LocalDateTime> times;
+        private int next;
+
+        private CachedScheduleIterator(ScheduleCache cache, Key key, List<LocalDateTime> times) {
+            this.cache = cache;
+            this.key = key;
+            this.times = times;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < times.size();
+        }
+
+        @Override
+        public LocalDateTime next() {
+            if (next == times.size()) {
+                throw new NoSuchElementException();
+            }
+            return times.get(next++);
+        }
+
+        /**
+         * Returns the position within the schedule of the time returned by the next call to {@link #next()}
+         */
+        public int nextIndex() {
+            return next;
+        }
+
+        /**
+         * Returns the event times of the schedule shifted according to a business day convention
+         *
+         * @param adjuster the business day convention to be applied
+         * @return an immutable list of the shifted event times in the order of the schedule times
+         * @see ScheduleCache#eventTimes(LocalDateTime, LocalDateTime, Cycle, String, boolean, BusinessDayAdjuster)
+         */
+        public List<LocalDateTime> eventTimes(BusinessDayAdjuster adjuster) {
+            return cache.eventTimes(key, adjuster);
+        }
+    }
+
+    private Segment segment(Object key) {
+        int hash = key.hashCode();
+        return segments[((hash ^ (hash >>> 16)) & 0x7fffffff) % segments.length];
+    }
+
+    private List<LocalDateTime> lookup(Object key) {
+        Segment segment = segment(key);
+        List<LocalDateTime> schedule;
+        synchronized (segment) {
+            schedule = segment.get(key);
+        }
+        if (schedule != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return schedule;
+    }
+
+    // generated without holding the segment such that other threads are not blocked by the generation
+    private List<LocalDateTime> store(Object key, LocalDateTime[] times) {
+        List<LocalDateTime> schedule = Collections.unmodifiableList(Arrays.asList(times));
+        Segment segment = segment(key);
+        synchronized (segment) {
+            segment.put(key, schedule);
+        }
+        return schedule;
+    }
+
+    /**
+     * Returns the number of schedules served from the retained schedules
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of schedules generated
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the share of schedules served from the retained schedules or {@code 0} if none was requested yet
+     */
+    public double hitRate() {
+        long hits = this.hits.sum();
+        long requests = hits + misses.sum();
+        return (requests == 0) ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * Returns the number of schedules currently retained
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+}
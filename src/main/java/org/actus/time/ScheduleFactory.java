@@ -8,13 +8,16 @@ package org.actus.time;
 import org.actus.AttributeConversionException;
 import org.actus.util.CommonUtils;
 import org.actus.util.StringUtils;
-import org.actus.util.CycleUtils;
 import org.actus.conventions.endofmonth.EndOfMonthAdjuster;
 
 import java.time.LocalDateTime;
 import java.time.Period;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.TreeSet;
 
 /**
  * A factory for date-schedules
@@ -31,15 +34,33 @@ import java.util.HashSet;
  * [Start-Date], [Cycle], [End-Date], and [EndOfMonthConvention] are expected as Strings 
  * representing dates, cycle, and end-of-month-convention, respectively, in the ACTUS format.
  * <p>
+ * Cyclical schedules may be retained in a {@link ScheduleCache} shared by all contracts (cf.
+ * {@link #useCache(ScheduleCache)}) rather than generated anew for every contract.
+ * <p>
  * The class is a utility class with only static methods and no constructor, i.e. instances
  * of this class cannot be created but its methods only be accessed in a static way.
  */
 public final class ScheduleFactory {
+
+	// the cache of cyclical schedules or null if schedules are generated anew
+	private static volatile ScheduleCache cache;
     
     // this is a utility class so no need for instantiation
 	private ScheduleFactory() {
 	}
 
+	/**
+	 * Install a cache of schedules
+	 *
+	 * Once installed, cyclical schedules are served from {@code cache} by all methods of the
+	 * factory and generated only if not retained in the cache.
+	 *
+	 * @param cache the cache of schedules or {@code null} to generate schedules anew
+	 */
+	public static void useCache(ScheduleCache cache) {
+		ScheduleFactory.cache = cache;
+	}
+
 	/**
 	 * Create a schedule of dates
 	 *
@@ -81,13 +102,36 @@ public final class ScheduleFactory {
 	 *
 	 */
 	public static Set<LocalDateTime> createSchedule(LocalDateTime startTime, LocalDateTime endTime, String cycle, String endOfMonthConvention, boolean addEndTime) throws AttributeConversionException {
+		return ScheduleFactory.createCycleSchedule(startTime,endTime,CommonUtils.isNull(cycle) ? null : Cycle.of(cycle),endOfMonthConvention,addEndTime);
+	}
+
+	/**
+	 * Create a schedule of dates for a parsed cycle including or not the schedule end time
+	 *
+	 * Same as {@link #createSchedule(LocalDateTime, LocalDateTime, String, String, boolean)} but
+	 * for a {@link Cycle} parsed in advance.
+	 *
+	 * @param startTime the start time of the schedule
+	 * @param endTime the end time of the schedule
+	 * @param cycle the schedule cycle or {@code null} if there is no cycle
+	 * @param endOfMonthConvention the convention to be applied
+	 * @param addEndTime should an additional time be generated at {@code endTime}
+	 * @return an unordered set of schedule times
+	 *
+	 */
+	public static Set<LocalDateTime> createCycleSchedule(LocalDateTime startTime, LocalDateTime endTime, Cycle cycle, String endOfMonthConvention, boolean addEndTime) throws AttributeConversionException {
+		ScheduleCache cache = ScheduleFactory.cache;
+		if (cache != null && cycle != null) {
+			return new HashSet<LocalDateTime>(cache.schedule(startTime, endTime, cycle, endOfMonthConvention, addEndTime));
+		}
+
 		EndOfMonthAdjuster shifter;
 		CycleAdjuster adjuster;
 		Set<LocalDateTime> timesSet = new HashSet<LocalDateTime>();
         char stub;
         
 		// if no cycle then only start (if specified) and end dates
-		if (CommonUtils.isNull(cycle)) {
+		if (cycle == null) {
 		    if (!CommonUtils.isNull(startTime)) {
 		      timesSet.add(startTime);
 		    }
@@ -99,7 +143,7 @@ public final class ScheduleFactory {
 		}
 
         // parse stub
-        stub = CycleUtils.parseStub(cycle);
+        stub = cycle.stub();
         
         // parse end of month convention
         shifter = new EndOfMonthAdjuster(endOfMonthConvention, startTime, cycle);
@@ -134,6 +178,84 @@ public final class ScheduleFactory {
 	}
 
 
+	/**
+	 * Create a lazy, time-ordered schedule of dates
+	 *
+	 * The iterator returns the same dates as {@link #createSchedule(LocalDateTime, LocalDateTime, String, String)}
+	 * but generates them one at a time and in ascending order.
+	 *
+	 * @param startTime the start time of the schedule
+	 * @param endTime the end time of the schedule
+	 * @param cycle the schedule cycle
+	 * @param endOfMonthConvention the convention to be applied
+	 * @return an iterator over the schedule times in ascending order
+	 *
+	 */
+	public static Iterator<LocalDateTime> createScheduleIterator(LocalDateTime startTime, LocalDateTime endTime, String cycle, String endOfMonthConvention) throws AttributeConversionException {
+		return ScheduleFactory.createScheduleIterator(startTime,endTime,cycle,endOfMonthConvention,true);
+	}
+
+	/**
+	 * Create a lazy, time-ordered schedule of dates including or not the schedule end time
+	 *
+	 * The iterator returns the same dates as {@link #createSchedule(LocalDateTime, LocalDateTime, String, String, boolean)}
+	 * but generates them one at a time and in ascending order. Hence, iteration can be stopped
+	 * at any time without generating the remaining dates of the schedule.
+	 *
+	 * @param startTime the start time of the schedule
+	 * @param endTime the end time of the schedule
+	 * @param cycle the schedule cycle
+	 * @param endOfMonthConvention the convention to be applied
+	 * @param addEndTime should an additional time be generated at {@code endTime}
+	 * @return an iterator over the schedule times in ascending order
+	 *
+	 */
+	public static Iterator<LocalDateTime> createScheduleIterator(LocalDateTime startTime, LocalDateTime endTime, String cycle, String endOfMonthConvention, boolean addEndTime) throws AttributeConversionException {
+		return ScheduleFactory.createCycleScheduleIterator(startTime,endTime,CommonUtils.isNull(cycle) ? null : Cycle.of(cycle),endOfMonthConvention,addEndTime);
+	}
+
+	/**
+	 * Create a lazy, time-ordered schedule of dates for a parsed cycle including or not the schedule end time
+	 *
+	 * Same as {@link #createScheduleIterator(LocalDateTime, LocalDateTime, String, String, boolean)} but
+	 * for a {@link Cycle} parsed in advance.
+	 *
+	 * @param startTime the start time of the schedule
+	 * @param endTime the end time of the schedule
+	 * @param cycle the schedule cycle or {@code null} if there is no cycle
+	 * @param endOfMonthConvention the convention to be applied
+	 * @param addEndTime should an additional time be generated at {@code endTime}
+	 * @return an iterator over the schedule times in ascending order
+	 *
+	 */
+	public static Iterator<LocalDateTime> createCycleScheduleIterator(LocalDateTime startTime, LocalDateTime endTime, Cycle cycle, String endOfMonthConvention, boolean addEndTime) throws AttributeConversionException {
+		ScheduleCache cache = ScheduleFactory.cache;
+		if (cache != null && cycle != null) {
+			return cache.scheduleIterator(startTime, endTime, cycle, endOfMonthConvention, addEndTime);
+		}
+		return generateScheduleIterator(startTime, endTime, cycle, endOfMonthConvention, addEndTime);
+	}
+
+	// generate a lazy, time-ordered schedule of dates without consulting the cache
+	static Iterator<LocalDateTime> generateScheduleIterator(LocalDateTime startTime, LocalDateTime endTime, Cycle cycle, String endOfMonthConvention, boolean addEndTime) {
+
+		// if no cycle then only start (if specified) and end dates
+		if (cycle == null) {
+			TreeSet<LocalDateTime> timesSet = new TreeSet<LocalDateTime>();
+			if (!CommonUtils.isNull(startTime)) {
+				timesSet.add(startTime);
+			}
+			// add or not additional time at endTime
+			if(addEndTime) {
+				timesSet.add(endTime);
+			}
+			return timesSet.iterator();
+		}
+
+		// generate cyclical dates lazily
+		return new ScheduleIterator(startTime, endTime, cycle, endOfMonthConvention, addEndTime);
+	}
+
 	/**
 	 * Create a schedule of dates comprised by sub-schedules for each startDate/cycle pair
 	 * <p>
@@ -168,4 +290,37 @@ public final class ScheduleFactory {
 		// return schedule
 		return timesSet;
 	}
+
+	/**
+	 * Create a lazy, time-ordered schedule of dates comprised by sub-schedules for each startDate/cycle pair
+	 * <p>
+	 * The iterator returns the same dates as {@link #createArraySchedule(LocalDateTime[], LocalDateTime, String[], String)}
+	 * but in ascending order. The sub-schedules are generated lazily and merged with a k-way merge where
+	 * dates contained in more than one sub-schedule (e.g. the end date of one sub-schedule that is the
+	 * start date of the next) are returned once only.
+	 *
+	 * @param startTimes an array of start times
+	 * @param endTime the end time of the schedule
+	 * @param cycles an array of cycles
+	 * @param endOfMonthConvention the convention to be applied
+	 * @return an iterator over the schedule times in ascending order
+	 */
+	public static Iterator<LocalDateTime> createArrayScheduleIterator(LocalDateTime[] startTimes,
+			LocalDateTime endTime, String[] cycles, String endOfMonthConvention) {
+		List<Iterator<LocalDateTime>> schedules = new ArrayList<Iterator<LocalDateTime>>(startTimes.length);
+
+		// add schedules 1 to N-1
+		for (int i = 0; i < startTimes.length - 1; i++) {
+			schedules.add(
+					createScheduleIterator(startTimes[i], startTimes[i + 1], cycles[i], endOfMonthConvention));
+		}
+
+		// add last schedule
+		schedules.add(
+				createScheduleIterator(startTimes[startTimes.length - 1], endTime,
+						cycles[startTimes.length - 1], endOfMonthConvention));
+
+		// return merged schedule
+		return new MergedSchedule(schedules);
+	}
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.time;
+
+import org.actus.AttributeConversionException;
+import org.actus.conventions.endofmonth.EndOfMonthAdjuster;
+import org.actus.util.StringUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A lazy, time-ordered schedule of dates
+ * <p>
+ * This iterator generates the same dates as {@link ScheduleFactory#createSchedule} for a
+ * [Start-Date]/[Cycle]/[End-Date]/[EndOfMonthConvention] specification but one at a time and in
+ * ascending order. Hence, a consumer only interested in the first few dates of a long schedule does
+ * not pay for generating the remaining dates.
+ * <p>
+ * The dates are generated as epoch days (cf. {@link EpochDays}) at the time of day of [Start-Date] and
+ * converted to {@link LocalDateTime}s only when returned.
+ * <p>
+ * In order to account for a long stub, the iterator looks one cycle ahead of the date returned last.
+ */
+final class ScheduleIterator implements Iterator<LocalDateTime> {
+    private final LocalDateTime endTime;
+    private final int endDate;
+    private final LocalTime timeOfDay;
+    // whether the time of day of the schedule dates is before the one of endTime
+    private final boolean beforeEndTimeOfDay;
+    private final boolean addEndTime;
+    private final char stub;
+    private final EndOfMonthAdjuster shifter;
+    private final CycleAdjuster adjuster;
+    private int scheduledDate;
+    private int shiftedDate;
+    private LocalDateTime next;
+    private int count;
+    private boolean cycleDone;
+    private boolean endDone;
+
+    /**
+     * Constructor
+     *
+     * @param startTime the start time of the schedule
+     * @param endTime the end time of the schedule
+     * @param cycle the schedule cycle
+     * @param endOfMonthConvention the convention to be applied
+     * @param addEndTime should an additional time be generated at {@code endTime}
+     */
+    ScheduleIterator(LocalDateTime startTime, LocalDateTime endTime, Cycle cycle, String endOfMonthConvention, boolean addEndTime) throws AttributeConversionException {
+        this.endTime = endTime;
+        this.endDate = EpochDays.of(endTime);
+        this.timeOfDay = startTime.toLocalTime();
+        this.beforeEndTimeOfDay = timeOfDay.isBefore(endTime.toLocalTime());
+        this.addEndTime = addEndTime;
+        this.stub = cycle.stub();
+        this.shifter = new EndOfMonthAdjuster(endOfMonthConvention, startTime, cycle);
+        this.adjuster = new CycleAdjuster(cycle);
+        this.scheduledDate = EpochDays.of(startTime);
+        this.shiftedDate = scheduledDate; // note, first time not shifted
+        this.next = advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public LocalDateTime next() {
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        LocalDateTime time = next;
+        next = advance();
+        return time;
+    }
+
+    // whether a schedule date is before endTime
+    private boolean isBeforeEnd(int date) {
+        return date < endDate || (date == endDate && beforeEndTimeOfDay);
+    }
+
+    // compute the next date of the schedule or null if the schedule is exhausted
+    private LocalDateTime advance() {
+        if (!cycleDone) {
+            if (isBeforeEnd(shiftedDate)) {
+                int date = shiftedDate;
+                count++;
+                scheduledDate = adjuster.plusCycle(scheduledDate);
+                shiftedDate = shifter.shift(scheduledDate);
+                if (!isBeforeEnd(shiftedDate)) {
+                    cycleDone = true;
+                    // adjust for the last stub (cf. ScheduleFactory.createSchedule)
+                    int size = count + (addEndTime ? 1 : 0);
+                    boolean atEnd = shiftedDate == endDate && timeOfDay.equals(endTime.toLocalTime());
+                    if (stub == StringUtils.LongStub && size > 2 && !atEnd
+                            && date == shifter.shift(adjuster.minusCycle(scheduledDate))) {
+                        return advance();
+                    }
+                }
+                return LocalDateTime.of(LocalDate.ofEpochDay(date), timeOfDay);
+            }
+            cycleDone = true;
+        }
+        if (addEndTime && !endDone) {
+            endDone = true;
+            return endTime;
+        }
+        return null;
+    }
+}
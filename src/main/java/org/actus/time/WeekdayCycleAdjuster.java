@@ -32,6 +32,17 @@ public final class WeekdayCycleAdjuster implements CycleAdjusterProvider{
         this.position=CycleUtils.parsePosition(cycle);
     }
 
+    /**
+     * Public constructor
+     * 
+     * @param weekday the weekday of the cycle
+     * @param position the position of the weekday within the month
+     */
+    public WeekdayCycleAdjuster(DayOfWeek weekday, int position) {
+        this.weekday=weekday;
+        this.position=position;
+    }
+
     /**
      * Cycle adjuster
      * <p>
@@ -52,4 +63,37 @@ public final class WeekdayCycleAdjuster implements CycleAdjusterProvider{
         return time.minusMonths(1).with(TemporalAdjusters.dayOfWeekInMonth(position, weekday));
     }
 
+    /**
+     * Cycle adjuster
+     * <p>
+     * This adjuster adds a full cycle to a given date as epoch day depending on the cycle definition.
+     */
+    @Override
+    public int plusCycle(int date) {
+        return dayOfWeekInMonth(EpochDays.plusMonths(date, 1));
+    }
+
+    /**
+     * Cycle adjuster
+     * <p>
+     * This adjuster deducts a full cycle to a given date as epoch day depending on the cycle definition.
+     */
+    @Override
+    public int minusCycle(int date) {
+        return dayOfWeekInMonth(EpochDays.plusMonths(date, -1));
+    }
+
+    // the weekday at the cycle's position in the month of an epoch day as per TemporalAdjusters.dayOfWeekInMonth
+    private int dayOfWeekInMonth(int date) {
+        int dow = weekday.getValue();
+        if (position >= 0) {
+            int first = date - EpochDays.dayOfMonth(date) + 1;
+            return first + (dow - EpochDays.dayOfWeek(first) + 7) % 7 + (position - 1) * 7;
+        }
+        int last = EpochDays.lastDayOfMonth(date);
+        int diff = dow - EpochDays.dayOfWeek(last);
+        diff = (diff == 0) ? 0 : ((diff > 0) ? diff - 7 : diff);
+        return last + diff - (-position - 1) * 7;
+    }
+
 }
@@ -5,6 +5,8 @@
  */
 package org.actus.time.calendar;
 
+import org.actus.time.EpochDays;
+
 import java.time.LocalDateTime;
 
 /**
@@ -31,4 +33,71 @@ public interface BusinessDayCalendarProvider {
      * @return {@code true} if {@code date} is a business day or {@code false} otherwise
      */
 	public boolean isBusinessDay(LocalDateTime date);
+
+    /**
+     * Returns whether a date given as epoch day is a business day or not
+     * <p>
+     * The default implementation converts {@code date} to a {@link LocalDateTime}. Calendars
+     * should override this method to avoid the conversion.
+     * 
+     * @param date the epoch day which has to be checked (cf. {@link EpochDays})
+     * @return {@code true} if {@code date} is a business day or {@code false} otherwise
+     */
+	public default boolean isBusinessDay(int date) {
+		return isBusinessDay(EpochDays.toLocalDateTime(date));
+	}
+
+    /**
+     * Returns the first business day on or after a date given as epoch day
+     * <p>
+     * The default implementation checks one day after the other. Calendars
+     * should override this method if they can determine the business day directly.
+     * 
+     * @param date the epoch day from which to search (cf. {@link EpochDays})
+     * @return the epoch day of the first business day not before {@code date}
+     */
+	public default int nextBusinessDay(int date) {
+		int businessDay = date;
+		while (!isBusinessDay(businessDay)) {
+			businessDay++;
+		}
+		return businessDay;
+	}
+
+    /**
+     * Returns the last business day on or before a date given as epoch day
+     * <p>
+     * The default implementation checks one day after the other. Calendars
+     * should override this method if they can determine the business day directly.
+     * 
+     * @param date the epoch day from which to search (cf. {@link EpochDays})
+     * @return the epoch day of the last business day not after {@code date}
+     */
+	public default int previousBusinessDay(int date) {
+		int businessDay = date;
+		while (!isBusinessDay(businessDay)) {
+			businessDay--;
+		}
+		return businessDay;
+	}
+
+    /**
+     * Returns the number of business days from (including) a start date to (excluding) an end date
+     * <p>
+     * The default implementation checks one day after the other. Calendars
+     * should override this method if they can count business days directly.
+     * 
+     * @param startDate the epoch day of the first day counted (cf. {@link EpochDays})
+     * @param endDate the epoch day of the day after the last day counted
+     * @return the number of business days or {@code 0} if {@code endDate} is not after {@code startDate}
+     */
+	public default int businessDaysBetween(int startDate, int endDate) {
+		int count = 0;
+		for (int date = startDate; date < endDate; date++) {
+			if (isBusinessDay(date)) {
+				count++;
+			}
+		}
+		return count;
+	}
 }
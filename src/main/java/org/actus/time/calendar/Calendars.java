@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.time.calendar;
+
+import org.actus.AttributeConversionException;
+import org.actus.util.CommonUtils;
+
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the {@link BusinessDayCalendarProvider}s referenced by contract attribute {@code Calendar}
+ * <p>
+ * Calendars are registered by name, e.g. holiday calendars loaded from files (cf. {@link HolidayCalendar}),
+ * and shared by all contracts referencing the name. Calendar {@code MondayToFriday} and the no-holiday calendars
+ * {@code NoHolidayCalendar}, {@code NoHolidaysCalendar} and {@code NC} are registered by default. Contracts referencing
+ * no calendar use a {@link NoHolidaysCalendar}, while a calendar that is not registered is rejected rather than
+ * silently treated as having no holidays.
+ * <p>
+ * The class is a utility class with only static methods and no constructor.
+ */
+public final class Calendars {
+    private static final BusinessDayCalendarProvider NO_HOLIDAYS = new NoHolidaysCalendar();
+    private static final ConcurrentHashMap<String, BusinessDayCalendarProvider> CALENDARS = new ConcurrentHashMap<String, BusinessDayCalendarProvider>();
+
+    static {
+        CALENDARS.put("MondayToFriday", new MondayToFridayCalendar());
+        CALENDARS.put("NoHolidayCalendar", NO_HOLIDAYS);
+        CALENDARS.put("NoHolidaysCalendar", NO_HOLIDAYS);
+        CALENDARS.put(NoHolidaysCalendar.class.getName(), NO_HOLIDAYS);
+        CALENDARS.put("NC", NO_HOLIDAYS);
+    }
+
+    // this is a utility class so no need for instantiation
+    private Calendars() {
+    }
+
+    /**
+     * Returns the calendar registered under a name
+     *
+     * @param name the name of the calendar as per contract attribute {@code Calendar}
+     * @return the calendar registered under {@code name} or a {@link NoHolidaysCalendar} if {@code name} is not set
+     * @throws AttributeConversionException if no calendar is registered under {@code name}
+     */
+    public static BusinessDayCalendarProvider of(String name) throws AttributeConversionException {
+        if (CommonUtils.isNull(name)) {
+            return NO_HOLIDAYS;
+        }
+        BusinessDayCalendarProvider calendar = CALENDARS.get(name);
+        if (calendar == null) {
+            throw new AttributeConversionException();
+        }
+        return calendar;
+    }
+
+    /**
+     * Register a calendar
+     * <p>
+     * A calendar previously registered under the same name is replaced for contracts parsed going forward.
+     *
+     * @param name the name of the calendar as per contract attribute {@code Calendar}
+     * @param calendar the calendar
+     */
+    public static void register(String name, BusinessDayCalendarProvider calendar) {
+        CALENDARS.put(name, calendar);
+    }
+
+    /**
+     * Load a holiday calendar from a file and register it
+     *
+     * @param name the name of the calendar as per contract attribute {@code Calendar}
+     * @param file the file in the format of {@link HolidayCalendar#parse(java.io.Reader)}
+     * @return the loaded calendar
+     */
+    public static HolidayCalendar load(String name, Path file) {
+        HolidayCalendar calendar = HolidayCalendar.load(file);
+        register(name, calendar);
+        return calendar;
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.time.calendar;
+
+import org.actus.time.EpochDays;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link BusinessDayCalendarProvider} with weekend days and holidays
+ * <p>
+ * A date is a business day unless it falls on a weekend day or is a holiday. Holidays are defined for
+ * the years of the calendar, e.g. 2000 to 2050, and the business days of these years are precomputed
+ * into a bitset over epoch days (cf. {@link EpochDays}) with one bit per day. Further, for every day
+ * of these years, the next and previous business day are precomputed into jump tables, and the number
+ * of business days since the first day of the calendar into a prefix-count index. Hence,
+ * {@link #isBusinessDay(int)}, {@link #nextBusinessDay(int)}, {@link #previousBusinessDay(int)} and
+ * {@link #businessDaysBetween(int, int)} are constant-time lookups within the years of the calendar.
+ * Outside these years, only weekend days are non-business days.
+ * <p>
+ * Calendars are loaded from a simple text format (cf. {@link #parse(Reader)}), e.g.
+ * <pre>
+ * # TARGET2
+ * weekend SATURDAY SUNDAY
+ * years 2016 2017
+ * 2016-01-01 New Year's Day
+ * 2016-03-25 Good Friday
+ * ...
+ * </pre>
+ * Instances are immutable and thus may be shared between threads and contracts.
+ */
+public final class HolidayCalendar implements BusinessDayCalendarProvider {
+    // epoch day of Monday, 5 January 1970
+    private static final int MONDAY = 4;
+
+    private final int weekend;
+    private final int weekdaysPerWeek;
+    private final int[] weekdaysInWeek;
+    private final int firstDate;
+    private final int lastDate;
+    private final long[] businessDays;
+    private final int[] next;
+    private final int[] previous;
+    private final int[] businessDaysBefore;
+    private final int firstRank;
+    private final int lastRank;
+
+    /**
+     * Constructor
+     *
+     * @param weekend the days of the week that are no business days
+     * @param holidays the holidays, where holidays outside the years of the calendar are ignored
+     * @param firstYear the first year of the calendar
+     * @param lastYear the last year of the calendar
+     * @throws IllegalArgumentException if all days of the week are weekend days or {@code lastYear}
+     * is before {@code firstYear}
+     */
+    public HolidayCalendar(Set<DayOfWeek> weekend, Collection<LocalDate> holidays, int firstYear, int lastYear) {
+        if (weekend.size() == 7) {
+            throw new IllegalArgumentException("weekend must not contain all days of the week");
+        }
+        if (lastYear < firstYear) {
+            throw new IllegalArgumentException("lastYear must not be before firstYear");
+        }
+        int mask = 0;
+        for (DayOfWeek day : weekend) {
+            mask |= 1 << day.getValue();
+        }
+        this.weekend = mask;
+        this.weekdaysInWeek = new int[8];
+        for (int i = 0; i < 7; i++) {
+            weekdaysInWeek[i + 1] = weekdaysInWeek[i] + ((isWeekend(MONDAY + i)) ? 0 : 1);
+        }
+        this.weekdaysPerWeek = weekdaysInWeek[7];
+        this.firstDate = EpochDays.of(firstYear, 1, 1);
+        this.lastDate = EpochDays.of(lastYear, 12, 31);
+        int days = lastDate - firstDate + 1;
+
+        // business days as per weekend, less holidays
+        this.businessDays = new long[(days + 63) >>> 6];
+        for (int i = 0; i < days; i++) {
+            if (!isWeekend(firstDate + i)) {
+                businessDays[i >>> 6] |= 1L << i;
+            }
+        }
+        for (LocalDate holiday : holidays) {
+            long i = holiday.toEpochDay() - firstDate;
+            if (i >= 0 && i < days) {
+                businessDays[(int) i >>> 6] &= ~(1L << i);
+            }
+        }
+
+        // jump tables, where days beyond the calendar's years are business days unless weekend days
+        this.next = new int[days];
+        int nextBusinessDay = lastDate + 1;
+        while (isWeekend(nextBusinessDay)) {
+            nextBusinessDay++;
+        }
+        for (int i = days - 1; i >= 0; i--) {
+            if (isBusinessDayIndex(i)) {
+                nextBusinessDay = firstDate + i;
+            }
+            next[i] = nextBusinessDay;
+        }
+        this.previous = new int[days];
+        int previousBusinessDay = firstDate - 1;
+        while (isWeekend(previousBusinessDay)) {
+            previousBusinessDay--;
+        }
+        for (int i = 0; i < days; i++) {
+            if (isBusinessDayIndex(i)) {
+                previousBusinessDay = firstDate + i;
+            }
+            previous[i] = previousBusinessDay;
+        }
+
+        // prefix-count index of business days and the ranks of the calendar's first and last day thereafter
+        this.businessDaysBefore = new int[days + 1];
+        for (int i = 0; i < days; i++) {
+            businessDaysBefore[i + 1] = businessDaysBefore[i] + (isBusinessDayIndex(i) ? 1 : 0);
+        }
+        this.firstRank = weekdayRank(firstDate);
+        this.lastRank = firstRank + businessDaysBefore[days];
+    }
+
+    /**
+     * Load a calendar from a file
+     *
+     * @param file the file in the format of {@link #parse(Reader)}, encoded in UTF-8
+     * @return the calendar
+     * @throws UncheckedIOException if the file cannot be read
+     * @throws IllegalArgumentException if the file does not conform with the format
+     */
+    public static HolidayCalendar load(Path file) {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parse a calendar
+     * <p>
+     * The calendar is given line by line where
+     * <ul>
+     *      <li>lines starting with {@code #} and blank lines are ignored</li>
+     *      <li>a line {@code weekend} followed by the names of days of the week defines the weekend days,
+     *      by default {@code SATURDAY SUNDAY}</li>
+     *      <li>a line {@code years} followed by the first and last year defines the years of the calendar,
+     *      by default the years of the first and last holiday</li>
+     *      <li>any other line starts with a holiday in format {@code yyyy-MM-dd}, optionally followed by a
+     *      description</li>
+     * </ul>
+     *
+     * @param reader the calendar in the above format
+     * @return the calendar
+     * @throws UncheckedIOException if the calendar cannot be read
+     * @throws IllegalArgumentException if the calendar does not conform with the format
+     */
+    public static HolidayCalendar parse(Reader reader) {
+        Set<DayOfWeek> weekend = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+        List<LocalDate> holidays = new ArrayList<LocalDate>();
+        Integer firstYear = null;
+        Integer lastYear = null;
+        BufferedReader lines = new BufferedReader(reader);
+        int number = 0;
+        try {
+            for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+                number++;
+                String[] tokens = line.trim().split("\\s+");
+                if (tokens[0].isEmpty() || tokens[0].startsWith("#")) {
+                    continue;
+                }
+                try {
+                    switch (tokens[0]) {
+                        case "weekend":
+                            weekend = EnumSet.noneOf(DayOfWeek.class);
+                            for (int i = 1; i < tokens.length; i++) {
+                                weekend.add(DayOfWeek.valueOf(tokens[i]));
+                            }
+                            break;
+                        case "years":
+                            if (tokens.length != 3) {
+                                throw new IllegalArgumentException("line " + number + ": expected first and last year");
+                            }
+                            firstYear = Integer.parseInt(tokens[1]);
+                            lastYear = Integer.parseInt(tokens[2]);
+                            break;
+                        default:
+                            holidays.add(LocalDate.parse(tokens[0]));
+                    }
+                } catch (DateTimeParseException e) {
+                    throw new IllegalArgumentException("line " + number + ": invalid holiday " + tokens[0], e);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (firstYear == null) {
+            if (holidays.isEmpty()) {
+                throw new IllegalArgumentException("calendar defines neither holidays nor years");
+            }
+            firstYear = Integer.MAX_VALUE;
+            lastYear = Integer.MIN_VALUE;
+            for (LocalDate holiday : holidays) {
+                firstYear = Math.min(firstYear, holiday.getYear());
+                lastYear = Math.max(lastYear, holiday.getYear());
+            }
+        }
+        return new HolidayCalendar(weekend, holidays, firstYear, lastYear);
+    }
+
+    private boolean isWeekend(int date) {
+        return (weekend & (1 << EpochDays.dayOfWeek(date))) != 0;
+    }
+
+    // the number of non-weekend days from a fixed Monday to an epoch day, negative before that Monday
+    private int weekdayRank(int date) {
+        int days = date - MONDAY;
+        return Math.floorDiv(days, 7) * weekdaysPerWeek + weekdaysInWeek[Math.floorMod(days, 7)];
+    }
+
+    // the number of business days from a fixed Monday to an epoch day, negative before that Monday
+    private int rank(int date) {
+        if (date <= firstDate) {
+            return weekdayRank(date);
+        }
+        if (date <= lastDate + 1) {
+            return firstRank + businessDaysBefore[date - firstDate];
+        }
+        return lastRank + weekdayRank(date) - weekdayRank(lastDate + 1);
+    }
+
+    private boolean isBusinessDayIndex(int i) {
+        return (businessDays[i >>> 6] & (1L << i)) != 0;
+    }
+
+    @Override
+    public boolean isBusinessDay(LocalDateTime date) {
+        return isBusinessDay(EpochDays.of(date));
+    }
+
+    @Override
+    public boolean isBusinessDay(int date) {
+        if (date < firstDate || date > lastDate) {
+            return !isWeekend(date);
+        }
+        return isBusinessDayIndex(date - firstDate);
+    }
+
+    @Override
+    public int nextBusinessDay(int date) {
+        int businessDay = date;
+        while (businessDay < firstDate && isWeekend(businessDay)) {
+            businessDay++;
+        }
+        if (businessDay < firstDate || businessDay > lastDate) {
+            while (isWeekend(businessDay)) {
+                businessDay++;
+            }
+            return businessDay;
+        }
+        return next[businessDay - firstDate];
+    }
+
+    @Override
+    public int previousBusinessDay(int date) {
+        int businessDay = date;
+        while (businessDay > lastDate && isWeekend(businessDay)) {
+            businessDay--;
+        }
+        if (businessDay < firstDate || businessDay > lastDate) {
+            while (isWeekend(businessDay)) {
+                businessDay--;
+            }
+            return businessDay;
+        }
+        return previous[businessDay - firstDate];
+    }
+
+    @Override
+    public int businessDaysBetween(int startDate, int endDate) {
+        return (endDate <= startDate) ? 0 : rank(endDate) - rank(startDate);
+    }
+}
@@ -5,6 +5,8 @@
  */
 package org.actus.time.calendar;
 
+import org.actus.time.EpochDays;
+
 import java.time.LocalDateTime;
 
 /**
@@ -16,6 +18,9 @@ import java.time.LocalDateTime;
  */
 public class MondayToFridayCalendar implements BusinessDayCalendarProvider {
 
+	// epoch day of Monday, 5 January 1970
+	private static final int MONDAY = 4;
+
 	@Override
 	public boolean isBusinessDay(LocalDateTime date) {
 		if (date.getDayOfWeek().getValue() == 6 || date.getDayOfWeek().getValue() == 7) {
@@ -24,5 +29,43 @@ public class MondayToFridayCalendar implements BusinessDayCalendarProvider {
 			return true;
 		}
 	}
-}
 
+	@Override
+	public boolean isBusinessDay(int date) {
+		return EpochDays.dayOfWeek(date) < 6;
+	}
+
+	@Override
+	public int nextBusinessDay(int date) {
+		int dayOfWeek = EpochDays.dayOfWeek(date);
+		return (dayOfWeek < 6) ? date : date + 8 - dayOfWeek;
+	}
+
+	@Override
+	public int previousBusinessDay(int date) {
+		int dayOfWeek = EpochDays.dayOfWeek(date);
+		return (dayOfWeek < 6) ? date : date + 5 - dayOfWeek;
+	}
+
+	@Override
+	public int businessDaysBetween(int startDate, int endDate) {
+		return (endDate <= startDate) ? 0 : rank(endDate) - rank(startDate);
+	}
+
+	// the number of business days from a fixed Monday to an epoch day, negative before that Monday
+	private static int rank(int date) {
+		int days = date - MONDAY;
+		return Math.floorDiv(days, 7) * 5 + Math.min(Math.floorMod(days, 7), 5);
+	}
+
+	// calendars of this type are stateless and thus all equal
+	@Override
+	public boolean equals(Object o) {
+		return o != null && o.getClass() == getClass();
+	}
+
+	@Override
+	public int hashCode() {
+		return getClass().hashCode();
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.util;
+
+import org.actus.attributes.ContractModelProvider;
+import org.actus.conventions.daycount.DayCountCalculator;
+import org.actus.time.ScheduleFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * The principal redemption schedule of an annuity together with the accrual fractions of its periods
+ * <p>
+ * Computing an annuity payment requires the principal redemption dates remaining after a certain time
+ * and the accrual fraction of each period in between. An {@code AnnuitySchedule} generates the dates
+ * and computes the accrual fractions once per contract such that an annuity payment, e.g. upon every rate
+ * reset, amounts to locating the remaining dates and a single pass over the respective suffix of
+ * accrual fractions (cf. {@link AnnuityUtils#annuityFactor(double[], int, int, double)}).
+ * <p>
+ * Instances are immutable and thus may be shared between threads.
+ */
+public final class AnnuitySchedule {
+    private final LocalDateTime[] times;
+    private final double[] yearFractions;
+    private final DayCountCalculator dayCounter;
+
+    private AnnuitySchedule(LocalDateTime[] times, DayCountCalculator dayCounter) {
+        this.times = times;
+        this.dayCounter = dayCounter;
+        this.yearFractions = new double[times.length];
+        for (int i = 1; i < times.length; i++) {
+            yearFractions[i] = dayCounter.dayCountFraction(times[i - 1], times[i]);
+        }
+    }
+
+    /**
+     * Create the annuity schedule of a contract
+     * <p>
+     * The schedule runs from attribute CycleAnchorDateOfPrincipalRedemption to attribute
+     * MaturityDate or, if not set, AmortizationDate with cycle CycleOfPrincipalRedemption.
+     *
+     * @param model the model carrying the contract attributes
+     * @return the annuity schedule
+     */
+    public static AnnuitySchedule of(ContractModelProvider model) {
+        // note, if PRNXT=NULL then either MD or AMD has to be set
+        LocalDateTime maturity = model.getAs("MaturityDate");
+        if (CommonUtils.isNull(maturity)) {
+            maturity = model.getAs("AmortizationDate");
+        }
+        ArrayList<LocalDateTime> times = new ArrayList<LocalDateTime>();
+        ScheduleFactory.createScheduleIterator(model.getAs("CycleAnchorDateOfPrincipalRedemption"), maturity,
+                model.getAs("CycleOfPrincipalRedemption"), model.getAs("EndOfMonthConvention")).forEachRemaining(times::add);
+        return new AnnuitySchedule(times.toArray(new LocalDateTime[times.size()]), model.getAs("DayCountConvention"));
+    }
+
+    /**
+     * Returns the number of principal redemption dates
+     */
+    public int size() {
+        return times.length;
+    }
+
+    /**
+     * Returns the index of the first principal redemption date after a certain time
+     *
+     * @param time the time
+     * @return the index of the first date after {@code time} or {@link #size()} if there is no such date
+     */
+    public int next(LocalDateTime time) {
+        int index = Arrays.binarySearch(times, time);
+        return (index < 0) ? -index - 1 : index + 1;
+    }
+
+    /**
+     * Calculate the annuity payment over the principal redemption dates remaining after a certain time
+     *
+     * @param time the time as per which the annuity payment is calculated
+     * @param outstandingNotional the outstanding notional as per {@code time}
+     * @param accruedInterest the accrued interest as per {@code time}
+     * @param interestRate the interest rate
+     * @return the annuity payment amount
+     * @throws ArrayIndexOutOfBoundsException if there is no principal redemption date after {@code time}
+     */
+    public double annuityPayment(LocalDateTime time, double outstandingNotional, double accruedInterest, double interestRate) {
+        int next = next(time);
+
+        // determine accrued interest as per next PR event date
+        accruedInterest += outstandingNotional * interestRate * dayCounter.dayCountFraction(time, times[next]);
+
+        // compute annuityPayment over the remaining periods
+        double scale = Math.abs(outstandingNotional + accruedInterest); // for CNTRL=RPL this is negative
+        return scale * AnnuityUtils.annuityFactor(yearFractions, next + 1, yearFractions.length, interestRate);
+    }
+}
@@ -5,13 +5,8 @@
  */
 package org.actus.util;
 
+import org.actus.attributes.CompiledPAMModel;
 import org.actus.attributes.ContractModelProvider;
-import org.actus.conventions.daycount.DayCountCalculator;
-import org.actus.time.ScheduleFactory;
-
-import java.util.Set;
-import java.util.Arrays;
-import java.time.LocalDateTime;
 
 /**
  * A utility class for Annuity
@@ -40,66 +35,36 @@ public class AnnuityUtils {
 		// if PRNXT not defined, then calculate
 		if(CommonUtils.isNull(annuityPayment)) {
 
-			LocalDateTime statusDate = model.getAs("StatusDate");
-
-			// determine maturity
-			// note, if PRNXT=NULL then either MD or AMD has to be set
-			LocalDateTime maturity = model.getAs("MaturityDate");
-			if (CommonUtils.isNull(maturity)) {
-				maturity = model.getAs("AmortizationDate");
-			}
-
-			// extract day count convention
-			DayCountCalculator dayCounter = model.getAs("DayCountConvention");
-
-			// determine remaining PR schedule
-			Set<LocalDateTime> eventTimes = ScheduleFactory.createSchedule(model.getAs("CycleAnchorDateOfPrincipalRedemption"), maturity, model.getAs("CycleOfPrincipalRedemption"), model.getAs("EndOfMonthConvention"));
-			eventTimes.removeIf(d -> d.isBefore(statusDate));
-			eventTimes.remove(statusDate);
-			LocalDateTime[] eventTimesSorted = eventTimes.toArray(new LocalDateTime[eventTimes.size()]);
-			Arrays.sort(eventTimesSorted);
-
-			// determine accrued interest as per next PR event date
-			accruedInterest += outstandingNotional * interestRate * dayCounter.dayCountFraction(statusDate,eventTimesSorted[0]);
-
-			// compute annuityPayment
-			int lb = 1;
-			int ub = eventTimesSorted.length;
-			double scale = Math.abs(outstandingNotional + accruedInterest); // for CNTRL=RPL this is negative
-			double sum = sum(lb, ub, eventTimesSorted, interestRate, dayCounter);
-			double frac = product(lb, ub, eventTimesSorted, interestRate, dayCounter) / (1 + sum);
-			annuityPayment = scale*frac;
+			// the annuity schedule is retained per contract evaluation by a compiled model and created for this call otherwise
+			AnnuitySchedule schedule = (model instanceof CompiledPAMModel) ?
+					((CompiledPAMModel) model).annuitySchedule() : AnnuitySchedule.of(model);
+			annuityPayment = schedule.annuityPayment(model.getAs("StatusDate"), outstandingNotional, accruedInterest, interestRate);
 		}
 
 		// finally, return the annuity payment
 		return annuityPayment;
 	}
 
-	// private method
-	private static double product(int lb, int ub, LocalDateTime[] times,
-			double ir, DayCountCalculator dayCounter) {
-		double prod = 1;
-		for (int i = lb; i < ub; i++) {
-			prod *= effectiveRate(i, times, ir, dayCounter);
-		}
-		return prod;
-	}
-
-	// private method
-	private static double sum(int lb, int ub, LocalDateTime[] times, double ir,
-			DayCountCalculator dayCounter) {
+	/**
+	 * Calculate the annuity factor of a series of accrual periods
+	 * <p>
+	 * With effective rates {@code r_i = 1 + interestRate * yearFractions[i]}, the annuity factor is
+	 * {@code (r_from * ... * r_(to-1)) / (1 + sum_(i=from)^(to-1) r_i * ... * r_(to-1))}. Both the
+	 * product and the sum of products are accumulated in a single backward pass over the periods.
+	 * 
+	 * @param yearFractions the accrual fractions where {@code yearFractions[i]} is the fraction of the period ending at the {@code i}-th date
+	 * @param from the index of the first period
+	 * @param to the index after the last period
+	 * @param interestRate the interest rate
+	 * @return the annuity factor, i.e. the annuity payment per unit of notional (including interest accrued up to the first date)
+	 */
+	public static double annuityFactor(double[] yearFractions, int from, int to, double interestRate) {
+		double product = 1;
 		double sum = 0;
-		for (int i = lb; i < ub; i++) {
-			sum += product(i, ub, times, ir, dayCounter);
+		for (int i = to - 1; i >= from; i--) {
+			product *= 1 + interestRate * yearFractions[i];
+			sum += product;
 		}
-		return sum;
-	}
-
-	// private method
-	private static double effectiveRate(int index, LocalDateTime[] times,
-			double ir, DayCountCalculator dayCounter) {
-		double yf;
-		yf = dayCounter.dayCountFraction(times[index - 1], times[index]);
-		return 1 + ir * yf;
+		return product / (1 + sum);
 	}
 }
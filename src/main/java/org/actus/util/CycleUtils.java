@@ -16,15 +16,28 @@ import static java.util.Locale.forLanguageTag;
 /**
  * Utilities for handling ACTUS cycles
  * <p>
- * 
+ * Note, these utilities parse the cycle anew on every call. Components evaluating the same cycle
+ * repeatedly should use the parsed {@link org.actus.time.Cycle} instead.
  */
 public final class CycleUtils {
+
+    // formatter of the (english) short names of weekdays, immutable and thus shared
+    private static final DateTimeFormatter WEEKDAY = DateTimeFormatter.ofPattern("E", forLanguageTag("en"));
     
     /**
      *
      */
     public static boolean isPeriod(String cycle) {
-        return cycle.replaceAll("\\P{L}+", "").length()==1;
+        // count the letters of the cycle, i.e. a single period unit or the letters of a weekday
+        int letters = 0;
+        for (int i = 0; i < cycle.length(); ) {
+            int codePoint = cycle.codePointAt(i);
+            if (Character.isLetter(codePoint)) {
+                letters += Character.charCount(codePoint);
+            }
+            i += Character.charCount(codePoint);
+        }
+        return letters==1;
     }
 
     /**
@@ -54,17 +67,31 @@ public final class CycleUtils {
         try {
             multiplier = Integer.parseInt(cycle.substring(0,cycle.length() - 2));
             unit = cycle.charAt(cycle.length() - 2);
-            if(unit == 'Q') {
-              multiplier *= 3;
-              unit = 'M';
-            } else if(unit == 'H') {
-              multiplier *= 6;
-              unit = 'M';
-            } else if(unit == 'Y') {
-              multiplier *= 12;
-              unit = 'M';
+            switch (unit) {
+              case 'D': case 'd':
+                period = Period.ofDays(multiplier);
+                break;
+              case 'W': case 'w':
+                period = Period.ofWeeks(multiplier);
+                break;
+              case 'M': case 'm':
+                period = Period.ofMonths(multiplier);
+                break;
+              case 'Q':
+                period = Period.ofMonths(multiplier * 3);
+                break;
+              case 'H':
+                period = Period.ofMonths(multiplier * 6);
+                break;
+              case 'Y':
+                period = Period.ofMonths(multiplier * 12);
+                break;
+              case 'y':
+                period = Period.ofYears(multiplier);
+                break;
+              default:
+                throw new AttributeConversionException();
             }
-            period = Period.parse("P" + multiplier + unit);
         } catch (Exception e) {
           throw(new AttributeConversionException());
         }
@@ -89,9 +116,7 @@ public final class CycleUtils {
         DayOfWeek weekday;
         // parse weekday from cycle
         try {
-          DateTimeFormatter formatter = DateTimeFormatter.ofPattern("E", forLanguageTag("en"));
-          TemporalAccessor accessor = formatter.parse(cycle.substring(1,cycle.length()-1));
-          System.out.println(cycle.substring(1,cycle.length()-1));
+          TemporalAccessor accessor = WEEKDAY.parse(cycle.substring(1,cycle.length()-1));
           weekday= DayOfWeek.from(accessor);
         } catch (Exception e) {
           throw(new AttributeConversionException());
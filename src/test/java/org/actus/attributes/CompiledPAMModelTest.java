@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.attributes;
+
+import org.actus.AttributeConversionException;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.HashMap;
+
+import org.junit.Test;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CompiledPAMModelTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static ContractModel parse() {
+        Map<String, String> map = new HashMap<String, String>();
+        map.put("ContractType", "PAM");
+        map.put("StatusDate", "2016-01-01T00:00:00");
+        map.put("ContractRole", "RPL");
+        map.put("DayCountConvention", "A/AISDA");
+        map.put("Currency", "USD");
+        map.put("InitialExchangeDate", "2016-01-02T00:00:00");
+        map.put("MaturityDate", "2017-01-01T00:00:00");
+        map.put("NotionalPrincipal", "1000.0");
+        map.put("NominalInterestRate", "0.01");
+        map.put("CycleOfInterestPayment", "1Q-");
+        map.put("ScalingEffect", "I00");
+        return ContractModel.parse(map);
+    }
+
+    @Test
+    public void test_of_fields() {
+        CompiledPAMModel compiled = CompiledPAMModel.of(parse());
+        assertEquals(-1, compiled.roleSign());
+        assertEquals(1000.0, compiled.notionalPrincipal, 0);
+        assertEquals(0.01, compiled.nominalInterestRate, 0);
+        assertEquals(0.0, compiled.feeRate, 0);
+        assertEquals(Double.POSITIVE_INFINITY, compiled.lifeCap, 0);
+        assertTrue(Double.isNaN(compiled.nextResetRate));
+        assertEquals(LocalDateTime.parse("2016-01-02T00:00:00"), compiled.cycleAnchorDateOfInterestPayment);
+        assertTrue(compiled.interestScaling);
+        assertFalse(compiled.nominalScaling);
+    }
+
+    @Test
+    public void test_of_delegates() {
+        ContractModel model = parse();
+        CompiledPAMModel compiled = CompiledPAMModel.of(model);
+        assertEquals(model.<String>getAs("Currency"), compiled.<String>getAs("Currency"));
+        assertTrue(model.getAs("DayCountConvention") == compiled.getAs("DayCountConvention"));
+    }
+
+    @Test
+    public void test_of_idempotent() {
+        CompiledPAMModel compiled = CompiledPAMModel.of(parse());
+        assertTrue(CompiledPAMModel.of(compiled) == compiled);
+    }
+
+    @Test
+    public void test_accessors_plainModel() {
+        ContractModel model = parse();
+        CompiledPAMModel compiled = CompiledPAMModel.of(model);
+        assertEquals(compiled.roleSign(), CompiledPAMModel.roleSign(model));
+        assertEquals(compiled.notionalPrincipal, CompiledPAMModel.notionalPrincipal(model), 0);
+        assertEquals(compiled.lifeCap, CompiledPAMModel.lifeCap(model), 0);
+        assertTrue(Double.isNaN(CompiledPAMModel.nextResetRate(model)));
+        assertEquals(compiled.cycleAnchorDateOfInterestPayment, CompiledPAMModel.cycleAnchorDateOfInterestPayment(model));
+        assertTrue(CompiledPAMModel.interestScaling(model));
+        assertFalse(CompiledPAMModel.nominalScaling(model));
+    }
+
+    @Test
+    public void test_accessors_notCompiling() {
+        ContractModel model = parse();
+        int[] lookups = new int[1];
+        ContractModelProvider counting = new ContractModelProvider() {
+            public <T> T getAs(String name) {
+                lookups[0]++;
+                return model.getAs(name);
+            }
+        };
+        assertEquals(0.0, CompiledPAMModel.feeRate(counting), 0);
+        assertEquals(1, lookups[0]);
+        assertEquals(0.0, CompiledPAMModel.feeRate(CompiledPAMModel.of(model)), 0);
+    }
+
+    @Test
+    public void test_roleSign_AttributeConversionException() {
+        thrown.expect(AttributeConversionException.class);
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put("ContractRole", "XYZ");
+        CompiledPAMModel.of(ContractModel.of(map)).roleSign();
+    }
+}
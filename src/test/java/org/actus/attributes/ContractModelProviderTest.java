@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.attributes;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.HashMap;
+
+import org.junit.Test;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ContractModelProviderTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static ContractModelProvider model() {
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put("NotionalPrincipal", 1000.0);
+        map.put("MaturityDate", LocalDateTime.parse("2017-01-01T12:00:00"));
+        map.put("ContractRole", "RPA");
+        map.put("CycleOfFee", "NULL");
+        return ContractModel.of(map);
+    }
+
+    @Test
+    public void test_getDouble() {
+        assertEquals(1000.0, model().getDouble(AttributeKey.NotionalPrincipal), 0);
+        assertTrue(Double.isNaN(model().getDouble(AttributeKey.FeeRate)));
+    }
+
+    @Test
+    public void test_getDouble_ClassCastException() {
+        thrown.expect(ClassCastException.class);
+        model().getDouble(AttributeKey.ContractRole);
+    }
+
+    @Test
+    public void test_getEpochDay() {
+        assertEquals(LocalDate.parse("2017-01-01").toEpochDay(), model().getEpochDay(AttributeKey.MaturityDate));
+        assertEquals(Long.MIN_VALUE, model().getEpochDay(AttributeKey.StatusDate));
+    }
+
+    @Test
+    public void test_isSet() {
+        assertTrue(model().isSet(AttributeKey.NotionalPrincipal));
+        assertFalse(model().isSet(AttributeKey.FeeRate));
+        assertFalse(model().isSet(AttributeKey.CycleOfFee));
+    }
+
+    @Test
+    public void test_AttributeKey_names() {
+        assertEquals(AttributeKey.NotionalPrincipal, AttributeKey.valueOf("NotionalPrincipal"));
+    }
+}
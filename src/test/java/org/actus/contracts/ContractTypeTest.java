@@ -5,15 +5,18 @@
  */
 package org.actus.contracts;
 
+import org.actus.ContractTypeUnknownException;
 import org.actus.AttributeConversionException;
 import org.actus.attributes.ContractModel;
 import org.actus.events.ContractEvent;
 import org.actus.events.EventFactory;
+import org.actus.events.Schedule;
 import org.actus.states.StateSpace;
 import org.actus.time.ScheduleFactory;
 import org.actus.util.StringUtils;
 import org.actus.attributes.ContractModelProvider;
 import org.actus.externals.RiskFactorModelProvider;
+import org.actus.externals.TimeSeriesRiskFactorModel;
 import org.actus.functions.pam.POF_AD_PAM;
 import org.actus.functions.pam.STF_AD_PAM;
 
@@ -22,11 +25,13 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.ArrayList;
+import java.util.List;
 import java.time.LocalDateTime;
 
 import org.junit.Test;
 import org.junit.Rule;
 import org.junit.rules.ExpectedException;
+import static org.junit.Assert.assertEquals;
 
 public class ContractTypeTest {
     
@@ -41,6 +46,23 @@ public class ContractTypeTest {
         }
     }
     
+    // a flat market rate per scenario
+    class ScenarioModel implements RiskFactorModelProvider {
+        private final double rate;
+
+        ScenarioModel(double rate) {
+            this.rate = rate;
+        }
+
+        public Set<String> keys() {
+            return new HashSet<String>();
+        }
+
+        public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider contractAttributes) {
+            return rate;
+        }
+    }
+
     @Rule
     public ExpectedException thrown = ExpectedException.none();
     
@@ -404,4 +426,109 @@ public class ContractTypeTest {
         ArrayList<ContractEvent> events = ContractType.apply(schedule,model,riskFactors);
     }
 
+
+    // attributes of a rate-resetting contract of a certain type
+    private Map<String, String> floater(String contractType) {
+        Map<String, String> map = new HashMap<String, String>();
+        map.put("ContractType", contractType);
+        map.put("Calendar", "NoHolidayCalendar");
+        map.put("StatusDate", "2016-01-01T00:00:00");
+        map.put("ContractRole", "RPA");
+        map.put("LegalEntityIDCounterparty", "CORP-XY");
+        map.put("DayCountConvention", "A/AISDA");
+        map.put("Currency", "USD");
+        map.put("InitialExchangeDate", "2016-01-02T00:00:00");
+        map.put("MaturityDate", "2021-01-02T00:00:00");
+        map.put("NotionalPrincipal", "1000.0");
+        map.put("NominalInterestRate", "0.01");
+        map.put("CycleOfInterestPayment", "1M-");
+        map.put("CycleOfRateReset", "6M-");
+        map.put("MarketObjectCodeOfRateReset", "YC_EA_AAA");
+        map.put("RateMultiplier", "1.0");
+        return map;
+    }
+
+    // apply a schedule under several scenarios at once and one scenario at a time
+    private void assertBatchMatchesSingle(ContractModel model) {
+        Schedule schedule = Schedule.of(ContractType.schedule(model.getAs("MaturityDate"), model), model);
+        List<ScenarioModel> scenarios = new ArrayList<ScenarioModel>();
+        for (int s = 0; s < 16; s++) {
+            scenarios.add(new ScenarioModel(s * 0.005));
+        }
+        List<ArrayList<ContractEvent>> batch = ContractType.apply(schedule, model, scenarios);
+        assertEquals(scenarios.size(), batch.size());
+        for (int s = 0; s < scenarios.size(); s++) {
+            ArrayList<ContractEvent> single = ContractType.apply(schedule, model, scenarios.get(s));
+            assertEquals(single.size(), batch.get(s).size());
+            for (int i = 0; i < single.size(); i++) {
+                assertEquals(single.get(i).toString(), batch.get(s).get(i).toString());
+            }
+        }
+    }
+
+    @Test
+    public void test_apply_scenarios_PAM() {
+        thrown = ExpectedException.none();
+        assertBatchMatchesSingle(ContractModel.parse(floater("PAM")));
+    }
+
+    @Test
+    public void test_apply_scenarios_LAM() {
+        thrown = ExpectedException.none();
+        Map<String, String> map = floater("LAM");
+        map.put("CycleOfPrincipalRedemption", "1Q-");
+        map.put("NextPrincipalRedemptionPayment", "50.0");
+        assertBatchMatchesSingle(ContractModel.parse(map));
+    }
+
+    @Test
+    public void test_apply_scenarios_ANN() {
+        thrown = ExpectedException.none();
+        Map<String, String> map = floater("ANN");
+        map.put("CycleOfPrincipalRedemption", "1M-");
+        map.put("CycleAnchorDateOfPrincipalRedemption", "2016-02-02T00:00:00");
+        assertBatchMatchesSingle(ContractModel.parse(map));
+    }
+
+    @Test
+    public void test_apply_scenarios_emptyBatch() {
+        thrown = ExpectedException.none();
+        ContractModel model = ContractModel.parse(floater("PAM"));
+        Schedule schedule = Schedule.of(ContractType.schedule(model.getAs("MaturityDate"), model), model);
+        assertEquals(0, ContractType.apply(schedule, model, new ArrayList<ScenarioModel>()).size());
+    }
+
+    @Test
+    public void test_apply_scenarios_SWAPS() {
+        thrown.expect(ContractTypeUnknownException.class);
+        Map<String, Object> attributes = new HashMap<String, Object>();
+        attributes.put("ContractType", "SWAPS");
+        ContractModel model = ContractModel.of(attributes);
+        ContractType.apply(Schedule.of(new ArrayList<ContractEvent>()), model, new ArrayList<ScenarioModel>());
+    }
+
+    @Test
+    public void test_apply_resolvedRiskFactors_PAM() {
+        thrown = ExpectedException.none();
+        ContractModel model = ContractModel.parse(floater("PAM"));
+        TimeSeriesRiskFactorModel market = new TimeSeriesRiskFactorModel();
+        market.put("YC_EA_AAA", new long[] {1451606400L, 1483228800L}, new double[] {0.02, 0.03});
+        // the same market without support for handles
+        RiskFactorModelProvider byId = new RiskFactorModelProvider() {
+            public Set<String> keys() {
+                return market.keys();
+            }
+
+            public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider contractAttributes) {
+                return market.stateAt(id, time, states, contractAttributes);
+            }
+        };
+        Schedule schedule = Schedule.of(ContractType.schedule(model.getAs("MaturityDate"), model), model);
+        ArrayList<ContractEvent> expected = ContractType.apply(schedule, model, byId);
+        ArrayList<ContractEvent> actual = ContractType.apply(schedule, model, market);
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+        }
+    }
 }
@@ -9,6 +9,7 @@ import org.actus.AttributeConversionException;
 import org.actus.conventions.businessday.BusinessDayAdjuster;
 import org.actus.time.calendar.NoHolidaysCalendar;
 import org.actus.time.calendar.MondayToFridayCalendar;
+import org.actus.time.EpochDays;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -768,4 +769,28 @@ public class BusinessDayAdjusterTest {
         assertEquals(expectedCalcTimes, shiftedCalcTimes);
     }
 
+    @Test
+    public void test_epochDays_equivalent() {
+        String[] conventions = {"SCF", "SCMF", "CSF", "CSMF", "SCP", "SCMP", "CSP", "CSMP"};
+        for (String convention : conventions) {
+            BusinessDayAdjuster adjuster = new BusinessDayAdjuster(convention, new MondayToFridayCalendar());
+            LocalDateTime t = LocalDateTime.parse("2016-01-01T00:00:00");
+            for (int i = 0; i < 400; i++, t = t.plusDays(1)) {
+                assertEquals(EpochDays.of(adjuster.shiftEventTime(t)), adjuster.shiftEventTime(EpochDays.of(t)));
+                assertEquals(EpochDays.of(adjuster.shiftCalcTime(t)), adjuster.shiftCalcTime(EpochDays.of(t)));
+            }
+        }
+    }
+
+    @Test
+    public void test_epochDays_defaultShiftCalcConvention() {
+        // a convention implementing the time path only
+        ShiftCalcConvention convention = (time, businessDayConvention) -> businessDayConvention.shift(time);
+        BusinessDayConvention following = new Following(new MondayToFridayCalendar());
+        LocalDateTime t = LocalDateTime.parse("2016-01-01T00:00:00");
+        for (int i = 0; i < 14; i++, t = t.plusDays(1)) {
+            assertEquals(EpochDays.of(convention.shift(t, following)), convention.shift(EpochDays.of(t), following));
+        }
+    }
+
 }
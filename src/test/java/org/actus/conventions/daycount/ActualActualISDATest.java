@@ -6,6 +6,8 @@
 package org.actus.conventions.daycount;
 
 import static org.junit.Assert.assertEquals;
+import org.actus.time.EpochDays;
+
 import java.time.LocalDateTime;
 import org.junit.Rule;
 import org.junit.Test;
@@ -54,4 +56,19 @@ public class ActualActualISDATest {
         assertEquals(result, convention.dayCountFraction(localDate1,localDate3),0);
     }
 
+    @Test
+    public void test_epochDays_equivalent() {
+        // compare the primitive path against the time path across year ends
+        LocalDateTime start = LocalDateTime.parse("2007-11-30T00:00:00");
+        LocalDateTime end = LocalDateTime.parse("2008-01-01T00:00:00");
+        for (int i = 0; i < 500; i += 3) {
+            for (int j = 0; j < 500; j += 7) {
+                LocalDateTime s = start.plusDays(i);
+                LocalDateTime e = end.plusDays(j);
+                assertEquals(convention.dayCountFraction(s, e),
+                        convention.dayCountFraction(EpochDays.of(s), 0, EpochDays.of(e), 0), 0);
+            }
+        }
+    }
+
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.conventions.daycount;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.EnumSet;
+
+import org.actus.time.EpochDays;
+import org.actus.time.calendar.BusinessDayCalendarProvider;
+import org.actus.time.calendar.HolidayCalendar;
+import org.actus.time.calendar.MondayToFridayCalendar;
+import org.actus.time.calendar.NoHolidaysCalendar;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+/*
+ * BusinessTwoFiftyTwo(B/252)
+ *
+ */
+public class BusinessTwoFiftyTwoTest {
+
+    HolidayCalendar holidays = new HolidayCalendar(EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY),
+            Arrays.asList(LocalDate.parse("2016-01-01"), LocalDate.parse("2016-03-25"), LocalDate.parse("2016-03-28"),
+                    LocalDate.parse("2016-12-26"), LocalDate.parse("2017-04-14"), LocalDate.parse("2017-12-25")),
+            2016, 2017);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    // the business days from (including) start to (excluding) end, counted day by day
+    private static double businessDays(BusinessDayCalendarProvider calendar, LocalDateTime start, LocalDateTime end) {
+        double count = 0;
+        for (LocalDateTime date = start; ChronoUnit.DAYS.between(date, end) > 0; date = date.plusDays(1)) {
+            if (calendar.isBusinessDay(date)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void assertMatchesDayByDay(BusinessDayCalendarProvider calendar) {
+        BusinessTwoFiftyTwo convention = new BusinessTwoFiftyTwo(calendar);
+        LocalDateTime[] times = new LocalDateTime[] {
+                LocalDateTime.parse("2015-11-13T00:00:00"), LocalDateTime.parse("2015-12-31T12:00:00"),
+                LocalDateTime.parse("2016-01-01T00:00:00"), LocalDateTime.parse("2016-03-24T18:00:00"),
+                LocalDateTime.parse("2016-03-26T00:00:00"), LocalDateTime.parse("2016-12-31T00:00:00"),
+                LocalDateTime.parse("2017-04-14T06:00:00"), LocalDateTime.parse("2017-12-31T00:00:00"),
+                LocalDateTime.parse("2018-01-01T00:00:00"), LocalDateTime.parse("2018-03-04T09:00:00")};
+        for (LocalDateTime start : times) {
+            for (LocalDateTime end : times) {
+                double expected = businessDays(calendar, start, end);
+                assertEquals(expected, convention.dayCount(start, end), 0);
+                assertEquals(expected, convention.dayCount(EpochDays.of(start), start.getHour(), EpochDays.of(end), end.getHour()), 0);
+                assertEquals(expected / 252.0, convention.dayCountFraction(start, end), 0);
+            }
+        }
+    }
+
+    @Test
+    public void test_dayCount_HolidayCalendar() {
+        assertMatchesDayByDay(holidays);
+    }
+
+    @Test
+    public void test_dayCount_MondayToFridayCalendar() {
+        assertMatchesDayByDay(new MondayToFridayCalendar());
+    }
+
+    @Test
+    public void test_dayCount_NoHolidaysCalendar() {
+        assertMatchesDayByDay(new NoHolidaysCalendar());
+    }
+
+    @Test
+    public void test_dayCount_sameDay() {
+        BusinessTwoFiftyTwo convention = new BusinessTwoFiftyTwo(holidays);
+        assertEquals(0, convention.dayCount(LocalDateTime.parse("2016-03-24T00:00:00"), LocalDateTime.parse("2016-03-24T18:00:00")), 0);
+    }
+
+    @Test
+    public void test_dayCountFraction_DayCountCalculator() {
+        DayCountCalculator calculator = new DayCountCalculator("B/252", holidays);
+        // 2016 has 261 weekdays of which 4 are holidays
+        assertEquals(257 / 252.0, calculator.dayCountFraction(LocalDateTime.parse("2016-01-01T00:00:00"), LocalDateTime.parse("2017-01-01T00:00:00")), 0);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.conventions.daycount;
+
+import org.actus.attributes.ContractModelProvider;
+import org.actus.conventions.businessday.BusinessDayAdjuster;
+import org.actus.events.ContractEvent;
+import org.actus.events.EventFactory;
+import org.actus.events.EventType;
+import org.actus.events.Schedule;
+import org.actus.functions.PayOffFunction;
+import org.actus.functions.StateTransitionFunction;
+import org.actus.states.StateSpace;
+import org.actus.time.calendar.NoHolidaysCalendar;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+public class RetainingDayCountCalculatorTest {
+
+    // an A/365 convention counting its invocations
+    private static class CountingConvention extends ActualThreeSixtyFiveFixed {
+        int count;
+
+        @Override
+        public double dayCountFraction(LocalDateTime startTime, LocalDateTime endTime) {
+            count++;
+            return super.dayCountFraction(startTime, endTime);
+        }
+
+        @Override
+        public double dayCountFraction(int startDate, int startHour, int endDate, int endHour) {
+            count++;
+            return super.dayCountFraction(startDate, startHour, endDate, endHour);
+        }
+    }
+
+    @Test
+    public void test_dayCountFraction_retained() {
+        CountingConvention convention = new CountingConvention();
+        LocalDateTime t0 = LocalDateTime.parse("2016-01-01T00:00:00");
+        LocalDateTime t1 = LocalDateTime.parse("2016-04-01T00:00:00");
+        RetainingDayCountCalculator calculator = new RetainingDayCountCalculator(new DayCountCalculator(convention), t0, t1);
+        assertEquals(1, convention.count);
+        assertEquals(91 / 365.0, calculator.dayCountFraction(t0, t1), 0);
+        assertEquals(91 / 365.0, calculator.dayCountFraction(t0, LocalDateTime.parse("2016-04-01T00:00:00")), 0);
+        assertEquals(1, convention.count);
+        assertEquals(60 / 365.0, calculator.dayCountFraction(t0, LocalDateTime.parse("2016-03-01T00:00:00")), 0);
+        assertEquals(2, convention.count);
+    }
+
+    @Test
+    public void test_schedule_reevaluation() {
+        CountingConvention convention = new CountingConvention();
+        Map<String, Object> attributes = new HashMap<String, Object>();
+        attributes.put("DayCountConvention", new DayCountCalculator(convention));
+        attributes.put("BusinessDayConvention", new BusinessDayAdjuster(null, new NoHolidaysCalendar()));
+        attributes.put("StatusDate", LocalDateTime.parse("2016-01-01T00:00:00"));
+        ContractModelProvider model = new ContractModelProvider() {
+            @SuppressWarnings("unchecked")
+            public <T> T getAs(String name) {
+                return (T) attributes.get(name);
+            }
+        };
+        PayOffFunction pof = (time, states, m, riskFactorModel, dayCount, adjuster) ->
+                dayCount.dayCountFraction(adjuster.shiftCalcTime(states.lastEventTime), adjuster.shiftCalcTime(time));
+        StateTransitionFunction stf = (time, states, m, riskFactorModel, dayCount, adjuster) -> {
+            double[] postEventStates = new double[StateTransitionFunction.STATES];
+            postEventStates[0] = dayCount.dayCountFraction(adjuster.shiftCalcTime(states.lastEventTime), adjuster.shiftCalcTime(time));
+            return postEventStates;
+        };
+        ContractEvent event = EventFactory.createEvent(LocalDateTime.parse("2016-04-01T00:00:00"), EventType.IP, "USD", pof, stf);
+        Schedule schedule = Schedule.of(Collections.singletonList(event), model);
+        assertEquals(1, convention.count);
+
+        for (int run = 0; run < 3; run++) {
+            StateSpace states = new StateSpace();
+            states.lastEventTime = LocalDateTime.parse("2016-01-01T00:00:00");
+            ContractEvent copy = schedule.events().get(0);
+            copy.eval(states, model, null, model.getAs("DayCountConvention"), model.getAs("BusinessDayConvention"));
+            assertEquals(91 / 365.0, copy.payoff(), 0);
+            assertEquals(91 / 365.0, copy.timeFromLastEvent(), 0);
+        }
+        assertEquals(1, convention.count);
+    }
+
+    @Test
+    public void test_event_notRetained() {
+        CountingConvention convention = new CountingConvention();
+        PayOffFunction pof = (time, states, m, riskFactorModel, dayCount, adjuster) ->
+                dayCount.dayCountFraction(adjuster.shiftCalcTime(states.lastEventTime), adjuster.shiftCalcTime(time));
+        StateTransitionFunction stf = (time, states, m, riskFactorModel, dayCount, adjuster) -> new double[StateTransitionFunction.STATES];
+        ContractEvent event = EventFactory.createEvent(LocalDateTime.parse("2016-04-01T00:00:00"), EventType.IP, "USD", pof, stf);
+        StateSpace states = new StateSpace();
+        states.lastEventTime = LocalDateTime.parse("2016-01-01T00:00:00");
+        event.eval(states, null, null, new DayCountCalculator(convention), new BusinessDayAdjuster(null, new NoHolidaysCalendar()));
+        assertEquals(91 / 365.0, event.payoff(), 0);
+        assertEquals(1, convention.count);
+    }
+}
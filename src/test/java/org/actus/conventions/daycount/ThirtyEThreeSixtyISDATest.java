@@ -8,6 +8,8 @@ import static org.junit.Assert.assertEquals;
  * Please see distribution for license.
  */
 
+import org.actus.time.EpochDays;
+
 import java.time.LocalDateTime;
 
 import org.junit.Rule;
@@ -285,5 +287,19 @@ public class ThirtyEThreeSixtyISDATest {
         assertEquals(days15/360, convention.dayCountFraction(start15,end15),0);
     }
 
-}
+    @Test
+    public void test_epochDays_equivalent() {
+        convention.maturityDate(LocalDateTime.parse("2008-02-29T00:00"));
+        LocalDateTime start = LocalDateTime.parse("2007-11-30T00:00:00");
+        LocalDateTime end = LocalDateTime.parse("2008-01-01T00:00:00");
+        for (int i = 0; i < 500; i += 3) {
+            for (int j = 0; j < 500; j += 7) {
+                LocalDateTime s = start.plusDays(i);
+                LocalDateTime e = end.plusDays(j);
+                assertEquals(convention.dayCountFraction(s, e),
+                        convention.dayCountFraction(EpochDays.of(s), 0, EpochDays.of(e), 0), 0);
+            }
+        }
+    }
 
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.engine;
+
+import org.actus.attributes.ContractModel;
+import org.actus.attributes.ContractModelProvider;
+import org.actus.contracts.ContractType;
+import org.actus.events.ContractEvent;
+import org.actus.externals.RiskFactorModelProvider;
+import org.actus.states.StateSpace;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+
+import org.junit.Test;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class MonteCarloRunnerTest {
+
+    // a flat market rate drawn per path
+    class MarketModel implements RiskFactorModelProvider {
+        private final double rate;
+
+        MarketModel(double rate) {
+            this.rate = rate;
+        }
+
+        public Set<String> keys() {
+            return new HashSet<String>();
+        }
+
+        public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider contractAttributes) {
+            return rate;
+        }
+    }
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static final LocalDateTime TO = LocalDateTime.parse("2020-01-01T00:00:00");
+
+    private static final ToDoubleFunction<List<ContractEvent>> PAYOFFS = events -> {
+        double sum = 0;
+        for (ContractEvent event : events) {
+            sum += event.payoff();
+        }
+        return sum;
+    };
+
+    private final PathGenerator generator = (path, random) -> new MarketModel(0.05 * random.nextDouble());
+
+    private List<ContractModel> portfolio(int size) {
+        List<ContractModel> models = new ArrayList<ContractModel>();
+        for (int i = 0; i < size; i++) {
+            Map<String, String> map = new HashMap<String, String>();
+            map.put("ContractType", "PAM");
+            map.put("Calendar", "NoHolidayCalendar");
+            map.put("StatusDate", "2016-01-01T00:00:00");
+            map.put("ContractRole", (i % 2 == 0) ? "RPA" : "RPL");
+            map.put("DayCountConvention", "A/AISDA");
+            map.put("Currency", "USD");
+            map.put("InitialExchangeDate", "2016-01-02T00:00:00");
+            map.put("MaturityDate", LocalDateTime.parse("2017-01-01T00:00:00").plusMonths(i % 24).toString());
+            map.put("NotionalPrincipal", Double.toString(1000.0 + i));
+            map.put("NominalInterestRate", "0.01");
+            map.put("CycleOfInterestPayment", "1M-");
+            map.put("CycleOfRateReset", "3M-");
+            map.put("MarketObjectCodeOfRateReset", "YC_EA_AAA");
+            map.put("RateMultiplier", "1.0");
+            models.add(ContractModel.parse(map));
+        }
+        return models;
+    }
+
+    @Test
+    public void test_run_matchesSequentialEvaluation() {
+        List<ContractModel> models = portfolio(20);
+        double[] results;
+        try (MonteCarloRunner runner = new MonteCarloRunner(4, 8)) {
+            results = runner.run(models, TO, generator, 50, 42L, PAYOFFS);
+        }
+        assertEquals(50, results.length);
+        for (int path = 0; path < results.length; path++) {
+            RiskFactorModelProvider observer = generator.path(path, MonteCarloRunner.random(42L, path));
+            double expected = 0;
+            for (ContractModel model : models) {
+                expected += PAYOFFS.applyAsDouble(ContractType.apply(ContractType.schedule(TO, model), model, observer));
+            }
+            assertEquals(expected, results[path], 0);
+        }
+    }
+
+    @Test
+    public void test_run_reproducibleAcrossParallelism() {
+        List<ContractModel> models = portfolio(30);
+        double[] sequential;
+        double[] parallel;
+        try (MonteCarloRunner runner = new MonteCarloRunner(1, 100)) {
+            sequential = runner.run(models, TO, generator, 100, 7L, PAYOFFS);
+        }
+        try (MonteCarloRunner runner = new MonteCarloRunner(4, 3)) {
+            parallel = runner.run(models, TO, generator, 100, 7L, PAYOFFS);
+        }
+        assertArrayEquals(sequential, parallel, 0);
+        assertNotEquals(sequential[0], sequential[1], 0);
+    }
+
+    @Test
+    public void test_run_seedChangesPaths() {
+        List<ContractModel> models = portfolio(2);
+        try (MonteCarloRunner runner = new MonteCarloRunner(2)) {
+            assertNotEquals(runner.run(models, TO, generator, 1, 1L, PAYOFFS)[0],
+                    runner.run(models, TO, generator, 1, 2L, PAYOFFS)[0], 0);
+        }
+    }
+
+    @Test
+    public void test_run_streamsEveryPathOnce() {
+        AtomicInteger count = new AtomicInteger();
+        AtomicInteger indices = new AtomicInteger();
+        try (MonteCarloRunner runner = new MonteCarloRunner(3, 4)) {
+            runner.run(portfolio(5), TO, generator, 37, 3L, PAYOFFS, (path, value) -> {
+                count.incrementAndGet();
+                indices.addAndGet(path);
+            });
+        }
+        assertEquals(37, count.get());
+        assertEquals(36 * 37 / 2, indices.get());
+    }
+
+    @Test
+    public void test_paths_exception() {
+        thrown.expect(IllegalArgumentException.class);
+        try (MonteCarloRunner runner = new MonteCarloRunner(1)) {
+            runner.run(portfolio(1), TO, generator, -1, 0L, PAYOFFS);
+        }
+    }
+
+    @Test
+    public void test_batchSize_exception() {
+        thrown.expect(IllegalArgumentException.class);
+        new MonteCarloRunner(1, 0);
+    }
+}
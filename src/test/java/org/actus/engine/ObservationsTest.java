@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.engine;
+
+import org.actus.attributes.ContractModel;
+import org.actus.contracts.ContractType;
+import org.actus.events.ContractEvent;
+import org.actus.events.EventType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ObservationsTest {
+
+    private static Map<String, String> pam() {
+        Map<String, String> map = new HashMap<String, String>();
+        map.put("ContractType", "PAM");
+        map.put("Calendar", "NoHolidayCalendar");
+        map.put("StatusDate", "2016-01-01T00:00:00");
+        map.put("ContractRole", "RPA");
+        map.put("DayCountConvention", "A/AISDA");
+        map.put("Currency", "USD");
+        map.put("InitialExchangeDate", "2016-01-02T00:00:00");
+        map.put("MaturityDate", "2018-01-02T00:00:00");
+        map.put("NotionalPrincipal", "1000.0");
+        map.put("NominalInterestRate", "0.01");
+        map.put("CycleOfInterestPayment", "1M-");
+        return map;
+    }
+
+    @Test
+    public void test_of_rateResets() {
+        Map<String, String> map = pam();
+        map.put("CycleOfRateReset", "6M-");
+        map.put("MarketObjectCodeOfRateReset", "YC_EA_AAA");
+        ContractModel model = ContractModel.parse(map);
+        ArrayList<ContractEvent> events = ContractType.schedule(model.getAs("MaturityDate"), model);
+        Set<LocalDateTime> expected = new TreeSet<LocalDateTime>();
+        for (ContractEvent event : events) {
+            if (event.eventType() == EventType.RR) {
+                expected.add(event.scheduleTime());
+            }
+        }
+        Map<String, Set<LocalDateTime>> observations = Observations.of(events, model);
+        assertEquals(1, observations.size());
+        assertTrue(expected.size() > 0);
+        assertEquals(expected, observations.get("YC_EA_AAA"));
+    }
+
+    @Test
+    public void test_of_noObservations() {
+        ContractModel model = ContractModel.parse(pam());
+        assertTrue(Observations.of(ContractType.schedule(model.getAs("MaturityDate"), model), model).isEmpty());
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.engine;
+
+import org.actus.ContractTypeUnknownException;
+import org.actus.RiskFactorNotFoundException;
+import org.actus.attributes.ContractModel;
+import org.actus.attributes.ContractModelProvider;
+import org.actus.contracts.ContractType;
+import org.actus.events.ContractEvent;
+import org.actus.events.EventTable;
+import org.actus.externals.RiskFactorModelProvider;
+import org.actus.states.StateSpace;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
+
+public class PortfolioRunnerTest {
+
+    class MarketModel implements RiskFactorModelProvider {
+        public Set<String> keys() {
+            Set<String> keys = new HashSet<String>();
+            return keys;
+        }
+
+        public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider contractAttributes) {
+            return 0.01;
+        }
+    }
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private Map<String, String> pam(int i) {
+        Map<String, String> map = new HashMap<String, String>();
+        map.put("ContractType", "PAM");
+        map.put("Calendar", "NoHolidayCalendar");
+        map.put("StatusDate", "2016-01-01T00:00:00");
+        map.put("ContractRole", (i % 2 == 0) ? "RPA" : "RPL");
+        map.put("LegalEntityIDCounterparty", "CORP-XY");
+        map.put("DayCountConvention", "A/AISDA");
+        map.put("Currency", "USD");
+        map.put("InitialExchangeDate", "2016-01-02T00:00:00");
+        map.put("MaturityDate", LocalDateTime.parse("2017-01-01T00:00:00").plusMonths(i % 24).toString());
+        map.put("NotionalPrincipal", Double.toString(1000.0 + i));
+        map.put("NominalInterestRate", "0.01");
+        map.put("CycleOfInterestPayment", "1M-");
+        map.put("CycleOfRateReset", "3M-");
+        map.put("MarketObjectCodeOfRateReset", "YC_EA_AAA");
+        return map;
+    }
+
+    @Test
+    public void test_run_matchesSequentialEvaluation() {
+        List<ContractModel> models = new ArrayList<ContractModel>();
+        for (int i = 0; i < 500; i++) {
+            models.add(ContractModel.parse(pam(i)));
+        }
+        LocalDateTime to = LocalDateTime.parse("2020-01-01T00:00:00");
+        MarketModel riskFactors = new MarketModel();
+
+        List<ContractResult> results;
+        try (PortfolioRunner runner = new PortfolioRunner(4, 16)) {
+            results = runner.run(models, to, riskFactors);
+        }
+
+        assertEquals(models.size(), results.size());
+        for (int i = 0; i < models.size(); i++) {
+            ContractResult result = results.get(i);
+            assertTrue(result.isSuccess());
+            assertTrue(result.model() == models.get(i));
+            ArrayList<ContractEvent> expected = ContractType.apply(ContractType.schedule(to, models.get(i)), models.get(i), riskFactors);
+            assertEquals(expected.size(), result.events().size());
+            for (int j = 0; j < expected.size(); j++) {
+                assertEquals(expected.get(j).toString(), result.events().get(j).toString());
+            }
+        }
+    }
+
+    @Test
+    public void test_run_streamInChunks() {
+        List<ContractModel> models = new ArrayList<ContractModel>();
+        for (int i = 0; i < 100; i++) {
+            models.add(ContractModel.parse(pam(i)));
+        }
+        LocalDateTime to = LocalDateTime.parse("2020-01-01T00:00:00");
+
+        // chunks of 32 contracts
+        List<ContractResult> results;
+        try (PortfolioRunner runner = new PortfolioRunner(1, 2)) {
+            results = runner.run(models.stream(), to, new MarketModel());
+        }
+
+        assertEquals(models.size(), results.size());
+        for (int i = 0; i < models.size(); i++) {
+            assertTrue(results.get(i).isSuccess());
+            assertTrue(results.get(i).model() == models.get(i));
+        }
+    }
+
+    @Test
+    public void test_run_isolatesFailures() {
+        List<ContractModel> models = new ArrayList<ContractModel>();
+        models.add(ContractModel.parse(pam(0)));
+        models.add(ContractModel.parse(pam(1)));
+        Map<String, Object> attributes = new HashMap<String, Object>();
+        attributes.put("ContractType", "IDoNotExist");
+        models.add(ContractModel.of(attributes));
+
+        List<ContractResult> results;
+        try (PortfolioRunner runner = new PortfolioRunner(2)) {
+            results = runner.run(models.stream(), LocalDateTime.parse("2020-01-01T00:00:00"), new MarketModel());
+        }
+
+        assertTrue(results.get(0).isSuccess());
+        assertTrue(results.get(1).isSuccess());
+        assertFalse(results.get(2).isSuccess());
+        assertTrue(results.get(2).failure() instanceof ContractTypeUnknownException);
+    }
+
+    @Test
+    public void test_tabulate_matchesEvents() {
+        List<ContractModel> models = new ArrayList<ContractModel>();
+        for (int i = 0; i < 50; i++) {
+            models.add(ContractModel.parse(pam(i)));
+        }
+        LocalDateTime to = LocalDateTime.parse("2020-01-01T00:00:00");
+        MarketModel riskFactors = new MarketModel();
+
+        List<ContractResult> results;
+        try (PortfolioRunner runner = new PortfolioRunner(2, 8)) {
+            results = runner.tabulate(models, to, riskFactors);
+        }
+
+        for (int i = 0; i < models.size(); i++) {
+            ContractResult result = results.get(i);
+            assertTrue(result.isSuccess());
+            assertTrue(result.events() == null);
+            EventTable table = result.table();
+            ArrayList<ContractEvent> expected = ContractType.apply(ContractType.schedule(to, models.get(i)), models.get(i), riskFactors);
+            assertEquals(expected.size(), table.size());
+            for (int j = 0; j < expected.size(); j++) {
+                assertEquals(expected.get(j).time(), table.time(j));
+                assertEquals(expected.get(j).type(), table.type(j));
+                assertEquals(expected.get(j).payoff(), table.payoff(j), 0);
+                assertEquals(expected.get(j).nominalValue(), table.nominalValue(j), 0);
+            }
+        }
+    }
+
+    @Test
+    public void test_batchSize_exception() {
+        thrown.expect(IllegalArgumentException.class);
+        new PortfolioRunner(1, 0);
+    }
+
+    // a market model counting point and batch requests
+    class CountingMarketModel implements RiskFactorModelProvider {
+        final AtomicInteger points = new AtomicInteger();
+        int batches;
+
+        public Set<String> keys() {
+            return new HashSet<String>();
+        }
+
+        public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider contractAttributes) {
+            points.incrementAndGet();
+            return time.getMonthValue() / 1000.0;
+        }
+
+        @Override
+        public void stateAtBatch(String id, LocalDateTime[] times, double[] states) {
+            batches++;
+            for (int i = 0; i < times.length; i++) {
+                states[i] = times[i].getMonthValue() / 1000.0;
+            }
+        }
+    }
+
+    @Test
+    public void test_runPrefetched_matchesRun() {
+        List<ContractModel> models = new ArrayList<ContractModel>();
+        for (int i = 0; i < 100; i++) {
+            models.add(ContractModel.parse(pam(i)));
+        }
+        Map<String, Object> attributes = new HashMap<String, Object>();
+        attributes.put("ContractType", "IDoNotExist");
+        models.add(ContractModel.of(attributes));
+        LocalDateTime to = LocalDateTime.parse("2020-01-01T00:00:00");
+
+        CountingMarketModel prefetched = new CountingMarketModel();
+        List<ContractResult> expected;
+        List<ContractResult> results;
+        try (PortfolioRunner runner = new PortfolioRunner(4, 16)) {
+            expected = runner.run(models, to, new CountingMarketModel());
+            results = runner.runPrefetched(models, to, prefetched);
+        }
+
+        // all rate resets are observed with a single batch request
+        assertEquals(1, prefetched.batches);
+        assertEquals(0, prefetched.points.get());
+        assertFalse(results.get(100).isSuccess());
+        for (int i = 0; i < 100; i++) {
+            assertTrue(results.get(i).isSuccess());
+            assertEquals(expected.get(i).events().size(), results.get(i).events().size());
+            for (int j = 0; j < expected.get(i).events().size(); j++) {
+                assertEquals(expected.get(i).events().get(j).toString(), results.get(i).events().get(j).toString());
+            }
+        }
+    }
+
+    @Test
+    public void test_runPrefetched_unknownRiskFactor() {
+        List<ContractModel> models = new ArrayList<ContractModel>();
+        for (int i = 0; i < 10; i++) {
+            Map<String, String> map = pam(i);
+            if (i % 3 == 0) {
+                map.put("MarketObjectCodeOfRateReset", "UNKNOWN");
+            }
+            models.add(ContractModel.parse(map));
+        }
+        // a market model not knowing risk factor UNKNOWN
+        CountingMarketModel market = new CountingMarketModel() {
+            @Override
+            public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider contractAttributes) {
+                if (id.equals("UNKNOWN")) {
+                    throw new RiskFactorNotFoundException();
+                }
+                return super.stateAt(id, time, states, contractAttributes);
+            }
+
+            @Override
+            public void stateAtBatch(String id, LocalDateTime[] times, double[] states) {
+                if (id.equals("UNKNOWN")) {
+                    throw new RiskFactorNotFoundException();
+                }
+                super.stateAtBatch(id, times, states);
+            }
+        };
+        List<ContractResult> results;
+        try (PortfolioRunner runner = new PortfolioRunner(2)) {
+            results = runner.runPrefetched(models, LocalDateTime.parse("2020-01-01T00:00:00"), market);
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i % 3 != 0, results.get(i).isSuccess());
+        }
+        assertEquals(0, market.points.get());
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.engine;
+
+import org.actus.attributes.ContractModel;
+import org.actus.contracts.ContractType;
+import org.actus.events.ContractEvent;
+import org.actus.events.EventType;
+import org.actus.externals.GeometricBrownianMotion;
+import org.actus.externals.GridRiskFactorModel;
+import org.actus.externals.StochasticProcess;
+import org.actus.externals.VasicekProcess;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class SimulatedPathGeneratorTest {
+
+    private static final LocalDateTime START = LocalDateTime.parse("2016-01-01T00:00:00");
+
+    private static SimulatedPathGenerator generator() {
+        Map<String, StochasticProcess> processes = new HashMap<String, StochasticProcess>();
+        processes.put("YC_EA_AAA", new VasicekProcess(0.01, 0.5, 0.03, 0.01));
+        processes.put("STK_XY", new GeometricBrownianMotion(100.0, 0.05, 0.2));
+        return new SimulatedPathGenerator(START, 7, 52 * 5, processes);
+    }
+
+    @Test
+    public void test_path_reproducible() {
+        SimulatedPathGenerator generator = generator();
+        GridRiskFactorModel first = generator.path(3, MonteCarloRunner.random(11L, 3));
+        GridRiskFactorModel second = generator.path(3, MonteCarloRunner.random(11L, 3));
+        GridRiskFactorModel other = generator.path(4, MonteCarloRunner.random(11L, 4));
+        LocalDateTime time = START.plusYears(2);
+        assertEquals(first.stateAt("YC_EA_AAA", time, null, null), second.stateAt("YC_EA_AAA", time, null, null), 0);
+        assertEquals(first.stateAt("STK_XY", time, null, null), second.stateAt("STK_XY", time, null, null), 0);
+        assertNotEquals(first.stateAt("YC_EA_AAA", time, null, null), other.stateAt("YC_EA_AAA", time, null, null), 0);
+        assertEquals(0.01, first.stateAt("YC_EA_AAA", START, null, null), 0);
+        assertEquals(100.0, first.stateAt("STK_XY", START, null, null), 0);
+    }
+
+    @Test
+    public void test_vasicek_mean() {
+        // the expected short rate after 5 years is b + (r0 - b) exp(-5a)
+        VasicekProcess process = new VasicekProcess(0.01, 0.5, 0.03, 0.01);
+        int paths = 20000;
+        double sum = 0;
+        for (int path = 0; path < paths; path++) {
+            double[] rates = process.simulate(60, 1 / 12.0, MonteCarloRunner.random(5L, path));
+            sum += rates[60];
+        }
+        assertEquals(0.03 - 0.02 * Math.exp(-2.5), sum / paths, 2e-4);
+    }
+
+    @Test
+    public void test_vasicek_exactTransition() {
+        // without volatility, the rate follows the deterministic mean path irrespective of the steps
+        VasicekProcess process = new VasicekProcess(0.01, 0.5, 0.03, 0.0);
+        double[] coarse = process.simulate(1, 2.0, new SplittableRandom(1L));
+        double[] fine = process.simulate(200, 0.01, new SplittableRandom(1L));
+        assertEquals(coarse[1], fine[200], 1e-15);
+    }
+
+    @Test
+    public void test_gbm_mean() {
+        // the expected price after 1 year is S0 exp(m)
+        GeometricBrownianMotion process = new GeometricBrownianMotion(100.0, 0.05, 0.2);
+        int paths = 20000;
+        double sum = 0;
+        for (int path = 0; path < paths; path++) {
+            sum += process.simulate(12, 1 / 12.0, MonteCarloRunner.random(9L, path))[12];
+        }
+        assertEquals(100.0 * Math.exp(0.05), sum / paths, 0.5);
+    }
+
+    @Test
+    public void test_rateReset_fromPath() {
+        Map<String, String> map = new HashMap<String, String>();
+        map.put("ContractType", "PAM");
+        map.put("Calendar", "NoHolidayCalendar");
+        map.put("StatusDate", "2016-01-01T00:00:00");
+        map.put("ContractRole", "RPA");
+        map.put("DayCountConvention", "A/AISDA");
+        map.put("Currency", "USD");
+        map.put("InitialExchangeDate", "2016-01-02T00:00:00");
+        map.put("MaturityDate", "2020-01-02T00:00:00");
+        map.put("NotionalPrincipal", "1000.0");
+        map.put("NominalInterestRate", "0.01");
+        map.put("CycleOfInterestPayment", "3M-");
+        map.put("CycleOfRateReset", "6M-");
+        map.put("MarketObjectCodeOfRateReset", "YC_EA_AAA");
+        map.put("RateMultiplier", "1.0");
+        ContractModel model = ContractModel.parse(map);
+        GridRiskFactorModel path = generator().path(0, MonteCarloRunner.random(1L, 0));
+        ArrayList<ContractEvent> events = ContractType.apply(ContractType.schedule(model.getAs("MaturityDate"), model), model, path);
+        for (ContractEvent event : events) {
+            if (event.eventType() == EventType.RR) {
+                assertEquals(path.stateAt("YC_EA_AAA", event.time(), null, null), event.nominalRate(), 0);
+            }
+        }
+    }
+
+    @Test
+    public void test_processes_splitInIdOrder() {
+        // the streams of the risk factors do not depend on the order in which the processes are provided
+        Map<String, StochasticProcess> reversed = new LinkedHashMap<String, StochasticProcess>();
+        reversed.put("YC_EA_AAA", new VasicekProcess(0.01, 0.5, 0.03, 0.01));
+        reversed.put("STK_XY", new GeometricBrownianMotion(100.0, 0.05, 0.2));
+        SimulatedPathGenerator other = new SimulatedPathGenerator(START, 7, 52 * 5, reversed);
+        LocalDateTime time = START.plusYears(3);
+        GridRiskFactorModel a = generator().path(0, MonteCarloRunner.random(2L, 0));
+        GridRiskFactorModel b = other.path(0, MonteCarloRunner.random(2L, 0));
+        assertArrayEquals(new double[] {a.stateAt("YC_EA_AAA", time, null, null), a.stateAt("STK_XY", time, null, null)},
+                new double[] {b.stateAt("YC_EA_AAA", time, null, null), b.stateAt("STK_XY", time, null, null)}, 0);
+    }
+}
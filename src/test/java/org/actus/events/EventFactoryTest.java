@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.events;
+
+import org.actus.attributes.ContractModelProvider;
+import org.actus.conventions.businessday.BusinessDayAdjuster;
+import org.actus.conventions.daycount.DayCountCalculator;
+import org.actus.externals.RiskFactorModelProvider;
+import org.actus.functions.AbstractStateTransitionFunction;
+import org.actus.functions.PayOffFunction;
+import org.actus.functions.StateTransitionFunction;
+import org.actus.states.StateSpace;
+import org.actus.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class EventFactoryTest {
+
+    private static final PayOffFunction NO_PAYOFF = (time, states, model, riskFactorModel, dayCounter, timeAdjuster) -> 0.0;
+
+    // writes a fixed nominal value and, if given, a fee accrued
+    private static StateTransitionFunction stf(double nominalValue, double feeAccrued) {
+        return new AbstractStateTransitionFunction() {
+            @Override
+            public void eval(LocalDateTime time, StateSpace states, ContractModelProvider model, RiskFactorModelProvider riskFactorModel,
+                             DayCountCalculator dayCounter, BusinessDayAdjuster timeAdjuster, double[] postEventStates, int offset) {
+                postEventStates[offset + 1] = nominalValue;
+                if (feeAccrued != 0.0) {
+                    postEventStates[offset + 7] = feeAccrued;
+                }
+            }
+        };
+    }
+
+    // implements the array-returning eval only
+    private static StateTransitionFunction legacyStf(double nominalValue) {
+        return (time, states, model, riskFactorModel, dayCounter, timeAdjuster) -> {
+            double[] postEventStates = new double[8];
+            postEventStates[1] = nominalValue;
+            return postEventStates;
+        };
+    }
+
+    private static ContractEvent event(String time, StateTransitionFunction stf) {
+        return EventFactory.createEvent(LocalDateTime.parse(time), StringUtils.EventType_IP, "USD", NO_PAYOFF, stf);
+    }
+
+    @Test
+    public void test_allocateStates_slots() {
+        ArrayList<ContractEvent> events = new ArrayList<ContractEvent>();
+        events.add(event("2016-01-01T00:00:00", stf(100.0, 0.0)));
+        events.add(event("2016-02-01T00:00:00", stf(200.0, 1.0)));
+
+        double[] buffer = EventFactory.allocateStates(events);
+        events.forEach(e -> e.eval(null, null, null, null, null));
+
+        assertEquals(2 * StateTransitionFunction.STATES, buffer.length);
+        assertEquals(100.0, buffer[1], 0);
+        assertEquals(200.0, buffer[StateTransitionFunction.STATES + 1], 0);
+        assertEquals(1.0, buffer[StateTransitionFunction.STATES + 7], 0);
+        assertEquals(200.0, events.get(1).nominalValue(), 0);
+        assertEquals(1.0, events.get(1).feeAccrued(), 0);
+        assertArrayEquals(new double[] {0, 100.0, 0, 0, 0, 0, 0, 0}, events.get(0).states(), 0);
+    }
+
+    @Test
+    public void test_allocateStates_legacyStateTransitionFunction() {
+        ArrayList<ContractEvent> events = new ArrayList<ContractEvent>();
+        events.add(event("2016-01-01T00:00:00", legacyStf(100.0)));
+        events.add(event("2016-02-01T00:00:00", legacyStf(200.0)));
+
+        double[] buffer = EventFactory.allocateStates(events);
+        events.forEach(e -> e.eval(null, null, null, null, null));
+
+        assertEquals(100.0, buffer[1], 0);
+        assertEquals(200.0, buffer[StateTransitionFunction.STATES + 1], 0);
+        assertArrayEquals(new double[] {0, 200.0, 0, 0, 0, 0, 0, 0}, events.get(1).states(), 0);
+    }
+
+    @Test
+    public void test_eval_bufferedStateTransitionFunction() {
+        assertArrayEquals(new double[] {0, 100.0, 0, 0, 0, 0, 0, 1.0}, stf(100.0, 1.0).eval(null, null, null, null, null, null), 0);
+    }
+
+    @Test
+    public void test_allocateStates_slotCleared() {
+        ArrayList<ContractEvent> events = new ArrayList<ContractEvent>();
+        ContractEvent event = event("2016-01-01T00:00:00", stf(100.0, 1.0));
+        events.add(event);
+        EventFactory.allocateStates(events);
+        event.eval(null, null, null, null, null);
+
+        event.fStateTrans(stf(50.0, 0.0));
+        event.eval(null, null, null, null, null);
+
+        assertEquals(50.0, event.nominalValue(), 0);
+        assertEquals(0.0, event.feeAccrued(), 0);
+    }
+
+    @Test
+    public void test_eval_withoutSlot() {
+        ContractEvent first = event("2016-01-01T00:00:00", stf(100.0, 0.0));
+        ContractEvent second = event("2016-01-01T00:00:00", stf(200.0, 0.0));
+
+        assertEquals(0.0, first.nominalValue(), 0);
+        first.eval(null, null, null, null, null);
+        second.eval(null, null, null, null, null);
+
+        assertEquals(100.0, first.nominalValue(), 0);
+        assertEquals(200.0, second.nominalValue(), 0);
+    }
+
+    @Test
+    public void test_eval_defaultArray() {
+        double[] states = stf(100.0, 1.0).eval(null, null, null, null, null, null);
+        assertArrayEquals(new double[] {0, 100.0, 0, 0, 0, 0, 0, 1.0}, states, 0);
+    }
+}
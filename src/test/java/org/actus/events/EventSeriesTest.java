@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.events;
+
+import org.actus.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.junit.Test;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class EventSeriesTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static ContractEvent event(String time, String type) {
+        return EventFactory.createEvent(LocalDateTime.parse(time), type, "USD", null, null);
+    }
+
+    private static String toString(ArrayList<ContractEvent> events) {
+        StringBuilder builder = new StringBuilder();
+        events.forEach(e -> builder.append(e.time().toLocalDate()).append(' ').append(e.type()).append(';'));
+        return builder.toString();
+    }
+
+    @Test
+    public void test_merge_ordered() {
+        Set<ContractEvent> unordered = new HashSet<ContractEvent>();
+        unordered.add(event("2016-03-01T00:00:00", StringUtils.EventType_RR));
+        unordered.add(event("2016-01-01T00:00:00", StringUtils.EventType_RR));
+        ArrayList<ContractEvent> ordered = new ArrayList<ContractEvent>();
+        ordered.add(event("2016-01-01T00:00:00", StringUtils.EventType_IP));
+        ordered.add(event("2016-02-01T00:00:00", StringUtils.EventType_IP));
+        ordered.add(event("2016-03-01T00:00:00", StringUtils.EventType_IP));
+
+        EventSeries series = new EventSeries()
+                .add(event("2016-03-01T00:00:00", StringUtils.EventType_PR))
+                .add(unordered)
+                .add(ordered.iterator());
+
+        assertEquals("2016-01-01 IP;2016-01-01 RR;2016-02-01 IP;2016-03-01 PR;2016-03-01 IP;2016-03-01 RR;",
+                toString(series.toList()));
+    }
+
+    @Test
+    public void test_merge_tiesInInsertionOrder() {
+        ContractEvent first = event("2016-01-01T00:00:00", StringUtils.EventType_RRF);
+        ContractEvent second = event("2016-01-01T00:00:00", StringUtils.EventType_PP);
+        ContractEvent third = event("2016-01-01T00:00:00", StringUtils.EventType_PY);
+
+        ArrayList<ContractEvent> events = new EventSeries().add(first).add(second).add(third).toList();
+
+        assertTrue(events.get(0) == first);
+        assertTrue(events.get(1) == second);
+        assertTrue(events.get(2) == third);
+    }
+
+    @Test
+    public void test_bounds() {
+        ArrayList<ContractEvent> ordered = new ArrayList<ContractEvent>();
+        ordered.add(event("2016-01-01T00:00:00", StringUtils.EventType_IP));
+        ordered.add(event("2016-02-01T00:00:00", StringUtils.EventType_IP));
+        ordered.add(event("2016-03-01T00:00:00", StringUtils.EventType_IP));
+        ordered.add(event("2016-04-01T00:00:00", StringUtils.EventType_IP));
+
+        EventSeries series = new EventSeries()
+                .add(ordered.iterator())
+                .from(event("2016-01-15T00:00:00", StringUtils.EventType_SD))
+                .from(event("2016-02-01T00:00:00", StringUtils.EventType_SD))
+                .until(event("2016-04-01T00:00:00", StringUtils.EventType_AD))
+                .until(event("2016-03-01T00:00:00", StringUtils.EventType_AD));
+
+        assertEquals("2016-03-01 IP;", toString(series.toList()));
+    }
+
+    @Test
+    public void test_terminate() {
+        ArrayList<ContractEvent> ordered = new ArrayList<ContractEvent>();
+        ordered.add(event("2016-01-01T00:00:00", StringUtils.EventType_IP));
+        ordered.add(event("2016-02-01T00:00:00", StringUtils.EventType_IP));
+        ordered.add(event("2016-03-01T00:00:00", StringUtils.EventType_IP));
+
+        EventSeries series = new EventSeries()
+                .add(ordered.iterator())
+                .terminate(event("2016-02-01T00:00:00", StringUtils.EventType_TD))
+                .until(event("2017-01-01T00:00:00", StringUtils.EventType_AD));
+
+        assertEquals("2016-01-01 IP;2016-02-01 IP;2016-02-01 TD;", toString(series.toList()));
+    }
+
+    @Test
+    public void test_lazy() {
+        int[] generated = new int[1];
+        Iterator<ContractEvent> infinite = new Iterator<ContractEvent>() {
+            private LocalDateTime time = LocalDateTime.parse("2016-01-01T00:00:00");
+            public boolean hasNext() {
+                return true;
+            }
+            public ContractEvent next() {
+                generated[0]++;
+                ContractEvent event = EventFactory.createEvent(time, StringUtils.EventType_IP, "USD", null, null);
+                time = time.plusMonths(1);
+                return event;
+            }
+        };
+
+        EventSeries series = new EventSeries()
+                .add(infinite)
+                .until(event("2016-12-31T00:00:00", StringUtils.EventType_AD));
+
+        assertEquals(12, series.toList().size());
+        assertTrue(generated[0] <= 13);
+    }
+
+    @Test
+    public void test_stream() {
+        ArrayList<ContractEvent> ordered = new ArrayList<ContractEvent>();
+        ordered.add(event("2016-01-01T00:00:00", StringUtils.EventType_IP));
+        ordered.add(event("2016-02-01T00:00:00", StringUtils.EventType_IP));
+
+        assertEquals(1, new EventSeries().add(ordered.iterator()).stream().limit(1).count());
+    }
+
+    @Test
+    public void test_exhausted_exception() {
+        thrown.expect(NoSuchElementException.class);
+        EventSeries series = new EventSeries();
+        assertFalse(series.hasNext());
+        series.next();
+    }
+
+    @Test
+    public void test_from_skipsScheduleTimes() {
+        int[] generated = new int[1];
+        Iterator<LocalDateTime> schedule = new Iterator<LocalDateTime>() {
+            private LocalDateTime time = LocalDateTime.parse("2000-01-01T00:00:00");
+            public boolean hasNext() {
+                return time.isBefore(LocalDateTime.parse("2020-01-01T00:00:00"));
+            }
+            public LocalDateTime next() {
+                LocalDateTime next = time;
+                time = time.plusMonths(1);
+                return next;
+            }
+        };
+        Iterator<ContractEvent> events = EventFactory.adaptEvents(
+                EventFactory.createEvents(schedule, StringUtils.EventType_IP, "USD", null, null),
+                e -> true, e -> generated[0]++);
+
+        EventSeries series = new EventSeries()
+                .add(events)
+                .from(event("2016-01-01T00:00:00", StringUtils.EventType_SD))
+                .until(event("2016-12-31T00:00:00", StringUtils.EventType_AD));
+
+        assertEquals("2016-02-01 IP;2016-03-01 IP;2016-04-01 IP;2016-05-01 IP;2016-06-01 IP;2016-07-01 IP;"
+                        + "2016-08-01 IP;2016-09-01 IP;2016-10-01 IP;2016-11-01 IP;2016-12-01 IP;",
+                toString(series.toList()));
+        assertTrue(generated[0] <= 13);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.events;
+
+import org.actus.functions.StateTransitionFunction;
+import org.actus.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EventTableTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static ContractEvent event(String time, String type, String currency, double payoff, double nominalValue) {
+        ContractEvent event = EventFactory.createEvent(LocalDateTime.parse(time), type, currency,
+                (t, states, model, riskFactorModel, dayCounter, timeAdjuster) -> payoff,
+                (t, states, model, riskFactorModel, dayCounter, timeAdjuster) -> {
+                    double[] postEventStates = new double[StateTransitionFunction.STATES];
+                    postEventStates[1] = nominalValue;
+                    postEventStates[7] = 1.0;
+                    return postEventStates;
+                });
+        event.eval(null, null, null, null, null);
+        return event;
+    }
+
+    @Test
+    public void test_of() {
+        ArrayList<ContractEvent> events = new ArrayList<ContractEvent>();
+        events.add(event("2016-01-01T00:00:00", StringUtils.EventType_IED, "USD", -100.0, 100.0));
+        events.add(event("2016-02-01T00:00:00", StringUtils.EventType_IP, "USD", 1.0, 100.0));
+        events.add(event("2016-03-01T12:00:00", StringUtils.EventType_IP, "CHF", 2.0, 50.0));
+
+        EventTable table = EventTable.of(events);
+
+        assertEquals(3, table.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(events.get(i).toString(), Arrays.toString(new String[] {
+                    table.time(i).toString(), table.type(i), table.currency(i), Double.toString(table.payoff(i)),
+                    Double.toString(table.timeFromLastEvent(i)), Double.toString(table.nominalValue(i)),
+                    Double.toString(table.nominalAccrued(i)), Double.toString(table.nominalRate(i))}));
+            assertEquals(1.0, table.feeAccrued(i), 0);
+        }
+        assertEquals(table.typeCode(1), table.typeCode(2));
+        assertEquals(EventTable.typeCode(EventType.IP), table.typeCode(1));
+        assertEquals(EventTable.currencyCode("USD"), table.currencyCode(0));
+        assertEquals(LocalDateTime.parse("2016-03-01T12:00:00").toEpochSecond(ZoneOffset.UTC), table.epochSecond(2));
+    }
+
+    @Test
+    public void test_append_grows() {
+        EventTable table = new EventTable(0);
+        double[] states = new double[2 * StateTransitionFunction.STATES];
+        for (int i = 0; i < 100; i++) {
+            states[StateTransitionFunction.STATES + 1] = i;
+            assertEquals(i, table.append(i, EventTable.typeCode(EventType.IP), EventTable.currencyCode("USD"), i, states, StateTransitionFunction.STATES));
+        }
+
+        double sum = 0;
+        double[] payoff = table.payoffColumn();
+        for (int i = 0; i < table.size(); i++) {
+            sum += payoff[i];
+        }
+        assertEquals(100, table.size());
+        assertEquals(4950.0, sum, 0);
+        assertEquals(99.0, table.stateColumn(1)[99], 0);
+        assertEquals(42.0, table.state(42, 1), 0);
+    }
+
+    @Test
+    public void test_append_table() {
+        EventTable first = new EventTable();
+        first.append(event("2016-01-01T00:00:00", StringUtils.EventType_IED, "USD", -100.0, 100.0));
+        EventTable second = new EventTable();
+        second.append(event("2016-02-01T00:00:00", StringUtils.EventType_PR, "CHF", 100.0, 0.0));
+        second.append(event("2016-02-01T00:00:00", StringUtils.EventType_IED, "USD", -50.0, 50.0));
+
+        first.append(second);
+
+        assertEquals(3, first.size());
+        assertEquals(StringUtils.EventType_PR, first.type(1));
+        assertEquals("CHF", first.currency(1));
+        assertEquals(first.typeCode(0), first.typeCode(2));
+        assertEquals(50.0, first.nominalValue(2), 0);
+    }
+
+    @Test
+    public void test_codes_stable() {
+        EventTable first = new EventTable();
+        first.append(event("2016-01-01T00:00:00", StringUtils.EventType_IED, "EUR", -100.0, 100.0));
+        first.append(event("2016-02-01T00:00:00", StringUtils.EventType_IP, "GBP", 1.0, 100.0));
+        EventTable second = new EventTable();
+        second.append(event("2016-01-01T00:00:00", StringUtils.EventType_IP, "GBP", 1.0, 100.0));
+        second.append(event("2016-02-01T00:00:00", StringUtils.EventType_IED, "EUR", -100.0, 100.0));
+
+        assertEquals(EventType.IED.ordinal(), first.typeCode(0));
+        assertEquals(first.typeCode(0), second.typeCode(1));
+        assertEquals(first.typeCode(1), second.typeCode(0));
+        assertEquals(first.currencyCode(0), second.currencyCode(1));
+        assertEquals("GBP", EventTable.decodeCurrency(second.currencyCode(0)));
+        assertEquals(EventTable.typeCode(EventType.IP), EventTable.typeCode(StringUtils.EventType_IP));
+    }
+
+    @Test
+    public void test_codes_nonActusType() {
+        EventTable table = new EventTable();
+        table.append(event("2016-01-01T00:00:00", "CUSTOM", null, 0.0, 0.0));
+        assertTrue(table.typeCode(0) >= EventType.values().length);
+        assertEquals("CUSTOM", table.type(0));
+        assertEquals(null, table.currency(0));
+    }
+
+    @Test
+    public void test_row_exception() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        new EventTable().payoff(0);
+    }
+}
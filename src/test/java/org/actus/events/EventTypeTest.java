@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.events;
+
+import org.actus.util.StringUtils;
+
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class EventTypeTest {
+
+    @Test
+    public void test_of_codes() {
+        assertEquals(EventType.IED, EventType.of(StringUtils.EventType_IED));
+        assertEquals(EventType.IPCI, EventType.of(StringUtils.EventType_IPCI));
+        assertEquals(EventType.RRF, EventType.of(StringUtils.EventType_RRF));
+        assertEquals(EventType.AD, EventType.of(StringUtils.EventType_AD));
+    }
+
+    @Test
+    public void test_of_unknown() {
+        assertNull(EventType.of("XYZ"));
+        assertNull(EventType.of(null));
+        assertEquals(0, EventSequence.timeOffset("XYZ"));
+    }
+
+    @Test
+    public void test_timeOffset_sequence() {
+        for (EventType type : EventType.values()) {
+            assertEquals(type.timeOffset(), EventSequence.timeOffset(type.name()));
+        }
+        assertTrue(EventType.IED.timeOffset() < EventType.IP.timeOffset());
+        assertTrue(EventType.MD.timeOffset() < EventType.AD.timeOffset());
+    }
+
+    @Test
+    public void test_event_typed_and_string_equivalent() {
+        LocalDateTime time = LocalDateTime.parse("2016-01-01T00:00:00");
+        ContractEvent typed = EventFactory.createEvent(time, EventType.IP, "USD", null, null);
+        ContractEvent string = EventFactory.createEvent(time, StringUtils.EventType_IP, "USD", null, null);
+        assertEquals(StringUtils.EventType_IP, typed.type());
+        assertEquals(EventType.IP, string.eventType());
+        assertEquals(0, typed.compareTo(string));
+    }
+
+    @Test
+    public void test_event_ordering_sameTime() {
+        LocalDateTime time = LocalDateTime.parse("2016-01-01T00:00:00");
+        ContractEvent ip = EventFactory.createEvent(time, EventType.IP, "USD", null, null);
+        ContractEvent pr = EventFactory.createEvent(time, EventType.PR, "USD", null, null);
+        assertTrue(pr.compareTo(ip) < 0);
+        ip.type(EventType.AD);
+        assertEquals(StringUtils.EventType_AD, ip.type());
+        assertTrue(pr.compareTo(ip) < 0);
+    }
+}
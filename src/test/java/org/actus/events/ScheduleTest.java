@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.events;
+
+import org.actus.attributes.ContractModel;
+import org.actus.attributes.ContractModelProvider;
+import org.actus.contracts.ContractType;
+import org.actus.externals.RiskFactorModelProvider;
+import org.actus.states.StateSpace;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class ScheduleTest {
+
+    // a flat market rate per scenario
+    class MarketModel implements RiskFactorModelProvider {
+        private final double rate;
+
+        MarketModel(double rate) {
+            this.rate = rate;
+        }
+
+        public Set<String> keys() {
+            return new HashSet<String>();
+        }
+
+        public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider contractAttributes) {
+            return rate;
+        }
+    }
+
+    private static ContractModel parse() {
+        Map<String, String> map = new HashMap<String, String>();
+        map.put("ContractType", "PAM");
+        map.put("Calendar", "NoHolidayCalendar");
+        map.put("StatusDate", "2016-01-01T00:00:00");
+        map.put("ContractRole", "RPA");
+        map.put("DayCountConvention", "A/AISDA");
+        map.put("Currency", "USD");
+        map.put("InitialExchangeDate", "2016-01-02T00:00:00");
+        map.put("MaturityDate", "2020-01-01T00:00:00");
+        map.put("NotionalPrincipal", "1000.0");
+        map.put("NominalInterestRate", "0.01");
+        map.put("CycleOfInterestPayment", "1M-");
+        map.put("CycleOfRateReset", "3M-");
+        map.put("MarketObjectCodeOfRateReset", "YC_EA_AAA");
+        map.put("RateMultiplier", "1.0");
+        return ContractModel.parse(map);
+    }
+
+    private static List<String> toStrings(List<ContractEvent> events) {
+        return events.stream().map(ContractEvent::toString).collect(Collectors.toList());
+    }
+
+    @Test
+    public void test_events_ordered() {
+        ContractModel model = parse();
+        ArrayList<ContractEvent> events = ContractType.schedule(LocalDateTime.parse("2020-01-01T00:00:00"), model);
+        Schedule schedule = Schedule.of(events);
+        assertEquals(events.size(), schedule.size());
+        ArrayList<ContractEvent> copies = schedule.events();
+        for (int i = 1; i < copies.size(); i++) {
+            assertEquals(-1, copies.get(i - 1).compareTo(copies.get(i)));
+            assertEquals(schedule.time(i), copies.get(i).time());
+            assertEquals(schedule.type(i), copies.get(i).type());
+        }
+    }
+
+    @Test
+    public void test_apply_matchesApplyOnFreshSchedule() {
+        ContractModel model = parse();
+        LocalDateTime to = LocalDateTime.parse("2020-01-01T00:00:00");
+        Schedule schedule = Schedule.of(ContractType.schedule(to, model), model);
+        double[] rates = {0.0, 0.01, 0.02, 0.05};
+        for (int run = 0; run < 2; run++) {
+            for (double rate : rates) {
+                List<String> expected = toStrings(ContractType.apply(ContractType.schedule(to, model), model, new MarketModel(rate)));
+                assertEquals(expected, toStrings(ContractType.apply(schedule, model, new MarketModel(rate))));
+            }
+        }
+    }
+
+    @Test
+    public void test_apply_scenariosKeptSeparate() {
+        ContractModel model = parse();
+        Schedule schedule = Schedule.of(ContractType.schedule(LocalDateTime.parse("2020-01-01T00:00:00"), model), model);
+        ArrayList<ContractEvent> low = ContractType.apply(schedule, model, new MarketModel(0.01));
+        ArrayList<ContractEvent> high = ContractType.apply(schedule, model, new MarketModel(0.05));
+        double lowPayoff = low.stream().mapToDouble(ContractEvent::payoff).sum();
+        double highPayoff = high.stream().mapToDouble(ContractEvent::payoff).sum();
+        assertNotEquals(lowPayoff, highPayoff, 0);
+        assertEquals(lowPayoff, ContractType.apply(schedule, model, new MarketModel(0.01)).stream().mapToDouble(ContractEvent::payoff).sum(), 0);
+    }
+
+    @Test
+    public void test_apply_parallel() {
+        ContractModel model = parse();
+        Schedule schedule = Schedule.of(ContractType.schedule(LocalDateTime.parse("2020-01-01T00:00:00"), model), model);
+        double[] rates = IntStream.range(0, 200).mapToDouble(i -> i * 0.0005).toArray();
+        double[] sequential = Arrays.stream(rates)
+                .map(rate -> ContractType.apply(schedule, model, new MarketModel(rate)).stream().mapToDouble(ContractEvent::payoff).sum())
+                .toArray();
+        double[] parallel = Arrays.stream(rates).parallel()
+                .map(rate -> ContractType.apply(schedule, model, new MarketModel(rate)).stream().mapToDouble(ContractEvent::payoff).sum())
+                .toArray();
+        assertArrayEquals(sequential, parallel, 0);
+    }
+}
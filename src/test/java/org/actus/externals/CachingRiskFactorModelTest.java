@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.externals;
+
+import org.actus.attributes.ContractModelProvider;
+import org.actus.states.StateSpace;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CachingRiskFactorModelTest {
+
+    // a market model counting its invocations and resolving every risk factor to handle 7
+    class MarketModel implements RiskFactorModelProvider {
+        final AtomicInteger count = new AtomicInteger();
+        final AtomicInteger batches = new AtomicInteger();
+
+        public Set<String> keys() {
+            return new HashSet<String>();
+        }
+
+        public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider contractAttributes) {
+            count.incrementAndGet();
+            return id.length() + time.getDayOfYear() / 1000.0 + ((states == null) ? 0 : states.nominalValue);
+        }
+
+        @Override
+        public void stateAtBatch(String id, LocalDateTime[] times, double[] states) {
+            batches.incrementAndGet();
+            RiskFactorModelProvider.super.stateAtBatch(id, times, states);
+        }
+
+        @Override
+        public int resolve(String id) {
+            return 7;
+        }
+
+        @Override
+        public double stateAt(int handle, long time, StateSpace states, ContractModelProvider contractAttributes) {
+            return handle;
+        }
+    }
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static final LocalDateTime T0 = LocalDateTime.parse("2016-01-01T00:00:00");
+
+    @Test
+    public void test_stateAt_retained() {
+        MarketModel market = new MarketModel();
+        CachingRiskFactorModel model = new CachingRiskFactorModel(market, 100, Collections.singleton("YC_EA_AAA"));
+        double state = model.stateAt("YC_EA_AAA", T0, null, null);
+        assertEquals(market.stateAt("YC_EA_AAA", T0, null, null), state, 0);
+        assertEquals(state, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2016-01-01T00:00:00"), new StateSpace(), null), 0);
+        assertEquals(2, market.count.get());
+        assertEquals(1, model.hits());
+        assertEquals(1, model.misses());
+        assertEquals(1, model.size());
+    }
+
+    @Test
+    public void test_stateAt_contractDependent() {
+        MarketModel market = new MarketModel();
+        CachingRiskFactorModel model = new CachingRiskFactorModel(market, 100, Collections.singleton("YC_EA_AAA"));
+        StateSpace states = new StateSpace();
+        states.nominalValue = 1.0;
+        assertEquals(market.stateAt("PREPAYMENT", T0, states, null), model.stateAt("PREPAYMENT", T0, states, null), 0);
+        model.stateAt("PREPAYMENT", T0, states, null);
+        assertEquals(3, market.count.get());
+        assertEquals(0, model.hits());
+        assertEquals(0, model.misses());
+        assertEquals(0, model.size());
+    }
+
+    @Test
+    public void test_size_bounded() {
+        CachingRiskFactorModel model = new CachingRiskFactorModel(new MarketModel(), 20, Collections.singleton("YC_EA_AAA"));
+        for (int i = 0; i < 1000; i++) {
+            model.stateAt("YC_EA_AAA", T0.plusDays(i), null, null);
+        }
+        assertTrue(model.size() <= 20);
+        assertEquals(1000, model.misses());
+    }
+
+    @Test
+    public void test_eviction_leastRecentlyUsed() {
+        // a single segment retaining a single state
+        MarketModel market = new MarketModel();
+        CachingRiskFactorModel model = new CachingRiskFactorModel(market, 1, Collections.singleton("YC_EA_AAA"));
+        model.stateAt("YC_EA_AAA", T0, null, null);
+        model.stateAt("YC_EA_AAA", T0, null, null);
+        model.stateAt("YC_EA_AAA", T0.plusDays(1), null, null);
+        model.stateAt("YC_EA_AAA", T0, null, null);
+        assertEquals(1, model.hits());
+        assertEquals(3, model.misses());
+        assertEquals(1, model.size());
+    }
+
+    @Test
+    public void test_stateAt_concurrent() {
+        MarketModel market = new MarketModel();
+        CachingRiskFactorModel model = new CachingRiskFactorModel(market, 1000, Collections.singleton("YC_EA_AAA"));
+        double sum = IntStream.range(0, 100000).parallel()
+                .mapToDouble(i -> model.stateAt("YC_EA_AAA", T0.plusDays(i % 100), null, null))
+                .sum();
+        double expected = IntStream.range(0, 100000)
+                .mapToDouble(i -> 9 + T0.plusDays(i % 100).getDayOfYear() / 1000.0)
+                .sum();
+        assertEquals(expected, sum, 1e-6);
+        assertEquals(100000, model.hits() + model.misses());
+        assertEquals(100, model.size());
+    }
+
+    @Test
+    public void test_stateAtBatch_retained() {
+        MarketModel market = new MarketModel();
+        CachingRiskFactorModel model = new CachingRiskFactorModel(market, 100, Collections.singleton("YC_EA_AAA"));
+        model.stateAt("YC_EA_AAA", T0.plusDays(1), null, null);
+        LocalDateTime[] times = new LocalDateTime[] {T0, T0.plusDays(1), T0.plusDays(2)};
+        double[] states = new double[times.length];
+        model.stateAtBatch("YC_EA_AAA", times, states);
+        for (int i = 0; i < times.length; i++) {
+            assertEquals(market.stateAt("YC_EA_AAA", times[i], null, null), states[i], 0);
+        }
+        assertEquals(1, market.batches.get());
+        assertEquals(1, model.hits());
+        assertEquals(3, model.misses());
+
+        model.stateAtBatch("YC_EA_AAA", times, new double[times.length]);
+        assertEquals(1, market.batches.get());
+        assertEquals(4, model.hits());
+        assertEquals(3, model.size());
+    }
+
+    @Test
+    public void test_stateAtBatch_contractDependent() {
+        MarketModel market = new MarketModel();
+        CachingRiskFactorModel model = new CachingRiskFactorModel(market, 100, Collections.singleton("YC_EA_AAA"));
+        double[] states = new double[2];
+        model.stateAtBatch("PREPAYMENT", new LocalDateTime[] {T0, T0.plusDays(1)}, states);
+        assertEquals(market.stateAt("PREPAYMENT", T0.plusDays(1), null, null), states[1], 0);
+        assertEquals(1, market.batches.get());
+        assertEquals(0, model.misses());
+        assertEquals(0, model.size());
+    }
+
+    @Test
+    public void test_resolve() {
+        CachingRiskFactorModel model = new CachingRiskFactorModel(new MarketModel(), 100, Collections.singleton("YC_EA_AAA"));
+        assertEquals(RiskFactorModelProvider.UNRESOLVED, model.resolve("YC_EA_AAA"));
+        assertEquals(7, model.resolve("PREPAYMENT"));
+        assertEquals(7, model.stateAt(7, 0L, null, null), 0);
+    }
+
+    @Test
+    public void test_capacity_exception() {
+        thrown.expect(IllegalArgumentException.class);
+        new CachingRiskFactorModel(new MarketModel(), 0, Collections.<String>emptySet());
+    }
+}
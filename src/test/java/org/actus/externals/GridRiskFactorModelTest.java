@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.externals;
+
+import org.actus.RiskFactorNotFoundException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import static org.junit.Assert.assertEquals;
+
+public class GridRiskFactorModelTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static GridRiskFactorModel model() {
+        Map<String, double[]> states = new HashMap<String, double[]>();
+        states.put("YC_EA_AAA", new double[] {0.01, 0.02, 0.03});
+        return new GridRiskFactorModel(LocalDateTime.parse("2016-01-01T00:00:00"), 30, states);
+    }
+
+    @Test
+    public void test_stateAt_gridTimes() {
+        GridRiskFactorModel model = model();
+        assertEquals(0.01, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2016-01-01T00:00:00"), null, null), 0);
+        assertEquals(0.02, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2016-01-31T00:00:00"), null, null), 0);
+        assertEquals(0.03, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2016-03-01T00:00:00"), null, null), 0);
+    }
+
+    @Test
+    public void test_stateAt_betweenGridTimes() {
+        GridRiskFactorModel model = model();
+        assertEquals(0.01, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2016-01-30T23:00:00"), null, null), 0);
+        assertEquals(0.02, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2016-02-15T12:00:00"), null, null), 0);
+    }
+
+    @Test
+    public void test_stateAt_outsideGrid() {
+        GridRiskFactorModel model = model();
+        assertEquals(0.01, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2015-06-01T00:00:00"), null, null), 0);
+        assertEquals(0.03, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2030-01-01T00:00:00"), null, null), 0);
+    }
+
+    @Test
+    public void test_stateAt_unknownRiskFactor() {
+        thrown.expect(RiskFactorNotFoundException.class);
+        model().stateAt("IDoNotExist", LocalDateTime.parse("2016-01-01T00:00:00"), null, null);
+    }
+
+    @Test
+    public void test_stepDays_exception() {
+        thrown.expect(IllegalArgumentException.class);
+        new GridRiskFactorModel(LocalDateTime.parse("2016-01-01T00:00:00"), 0, new HashMap<String, double[]>());
+    }
+
+    @Test
+    public void test_stateAt_handle() {
+        GridRiskFactorModel model = model();
+        int handle = model.resolve("YC_EA_AAA");
+        for (String time : new String[] {"2015-06-01T00:00:00", "2016-01-30T23:00:00", "2016-02-15T12:00:00", "2030-01-01T00:00:00"}) {
+            LocalDateTime t = LocalDateTime.parse(time);
+            assertEquals(model.stateAt("YC_EA_AAA", t, null, null), model.stateAt(handle, t.toEpochSecond(ZoneOffset.UTC), null, null), 0);
+        }
+    }
+
+    @Test
+    public void test_resolve_unknownRiskFactor() {
+        assertEquals(RiskFactorModelProvider.UNRESOLVED, model().resolve("IDoNotExist"));
+    }
+
+    @Test
+    public void test_stateAt_unknownHandle() {
+        thrown.expect(RiskFactorNotFoundException.class);
+        model().stateAt(1, 0L, null, null);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.externals;
+
+import org.actus.RiskFactorNotFoundException;
+import org.actus.attributes.ContractModelProvider;
+import org.actus.states.StateSpace;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+public class PrefetchedRiskFactorModelTest {
+
+    // a market model counting point and batch requests
+    class MarketModel implements RiskFactorModelProvider {
+        int points;
+        int batches;
+
+        public Set<String> keys() {
+            return new HashSet<String>();
+        }
+
+        public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider contractAttributes) {
+            points++;
+            return time.getMonthValue() / 100.0;
+        }
+
+        @Override
+        public void stateAtBatch(String id, LocalDateTime[] times, double[] states) {
+            batches++;
+            for (int i = 0; i < times.length; i++) {
+                states[i] = times[i].getMonthValue() / 100.0;
+            }
+        }
+    }
+
+    private static final LocalDateTime T0 = LocalDateTime.parse("2016-01-01T00:00:00");
+
+    @Test
+    public void test_stateAt_prefetched() {
+        MarketModel market = new MarketModel();
+        Map<String, List<LocalDateTime>> observations = new HashMap<String, List<LocalDateTime>>();
+        observations.put("YC_EA_AAA", Arrays.asList(T0.plusMonths(6), T0, T0.plusMonths(3), T0));
+        observations.put("IDX", Arrays.asList(T0));
+        PrefetchedRiskFactorModel model = new PrefetchedRiskFactorModel(market, observations);
+        assertEquals(2, market.batches);
+        assertEquals(0.01, model.stateAt("YC_EA_AAA", T0, null, null), 0);
+        assertEquals(0.04, model.stateAt("YC_EA_AAA", T0.plusMonths(3), null, null), 0);
+        assertEquals(0.07, model.stateAt("YC_EA_AAA", T0.plusMonths(6), null, null), 0);
+        assertEquals(0.01, model.stateAt("IDX", T0, null, null), 0);
+        assertEquals(0, market.points);
+    }
+
+    @Test
+    public void test_stateAt_delegated() {
+        MarketModel market = new MarketModel();
+        Map<String, List<LocalDateTime>> observations = new HashMap<String, List<LocalDateTime>>();
+        observations.put("YC_EA_AAA", Arrays.asList(T0));
+        PrefetchedRiskFactorModel model = new PrefetchedRiskFactorModel(market, observations);
+        assertEquals(0.02, model.stateAt("YC_EA_AAA", T0.plusMonths(1), null, null), 0);
+        assertEquals(0.01, model.stateAt("OTHER", T0, null, null), 0);
+        assertEquals(2, market.points);
+    }
+
+    @Test
+    public void test_stateAt_failedPrefetchDelegated() {
+        MarketModel market = new MarketModel() {
+            @Override
+            public void stateAtBatch(String id, LocalDateTime[] times, double[] states) {
+                if (id.equals("UNKNOWN")) {
+                    throw new RiskFactorNotFoundException();
+                }
+                super.stateAtBatch(id, times, states);
+            }
+        };
+        Map<String, List<LocalDateTime>> observations = new HashMap<String, List<LocalDateTime>>();
+        observations.put("UNKNOWN", Arrays.asList(T0));
+        observations.put("YC_EA_AAA", Arrays.asList(T0));
+        PrefetchedRiskFactorModel model = new PrefetchedRiskFactorModel(market, observations);
+        assertEquals(0.01, model.stateAt("YC_EA_AAA", T0, null, null), 0);
+        assertEquals(0, market.points);
+        assertEquals(0.01, model.stateAt("UNKNOWN", T0, null, null), 0);
+        assertEquals(1, market.points);
+    }
+
+    @Test
+    public void test_resolve() {
+        MarketModel market = new MarketModel() {
+            @Override
+            public int resolve(String id) {
+                return 7;
+            }
+
+            @Override
+            public double stateAt(int handle, long time, StateSpace states, ContractModelProvider attributes) {
+                return handle;
+            }
+        };
+        Map<String, List<LocalDateTime>> observations = new HashMap<String, List<LocalDateTime>>();
+        observations.put("YC_EA_AAA", Arrays.asList(T0));
+        PrefetchedRiskFactorModel model = new PrefetchedRiskFactorModel(market, observations);
+        assertEquals(RiskFactorModelProvider.UNRESOLVED, model.resolve("YC_EA_AAA"));
+        assertEquals(7, model.resolve("OTHER"));
+        assertEquals(7, model.stateAt(7, 0L, null, null), 0);
+        assertEquals(0, market.points);
+    }
+
+    @Test
+    public void test_stateAtBatch_default() {
+        RiskFactorModelProvider market = new RiskFactorModelProvider() {
+            public Set<String> keys() {
+                return new HashSet<String>();
+            }
+
+            public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider attributes) {
+                return time.getDayOfMonth();
+            }
+        };
+        double[] states = new double[2];
+        market.stateAtBatch("YC_EA_AAA", new LocalDateTime[] {T0, T0.plusDays(4)}, states);
+        assertEquals(1.0, states[0], 0);
+        assertEquals(5.0, states[1], 0);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.externals;
+
+import org.actus.attributes.ContractModelProvider;
+import org.actus.states.StateSpace;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ResolvedRiskFactorModelTest {
+
+    // a market model resolving a single risk factor and counting lookups by id and by handle
+    class MarketModel implements RiskFactorModelProvider {
+        int byId;
+        int byHandle;
+
+        public Set<String> keys() {
+            return new HashSet<String>();
+        }
+
+        public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider contractAttributes) {
+            byId++;
+            return id.length() + time.getDayOfYear() / 1000.0;
+        }
+
+        @Override
+        public int resolve(String id) {
+            return "YC_EA_AAA".equals(id) ? 7 : UNRESOLVED;
+        }
+
+        @Override
+        public double stateAt(int handle, long time, StateSpace states, ContractModelProvider contractAttributes) {
+            byHandle++;
+            assertEquals(7, handle);
+            return 9 + LocalDateTime.ofEpochSecond(time, 0, ZoneOffset.UTC).getDayOfYear() / 1000.0;
+        }
+    }
+
+    private static final LocalDateTime T0 = LocalDateTime.parse("2016-03-01T00:00:00");
+
+    @Test
+    public void test_stateAt_resolved() {
+        MarketModel market = new MarketModel();
+        RiskFactorModelProvider model = ResolvedRiskFactorModel.of(market, "YC_EA_AAA", null, "PREPAYMENT");
+        assertEquals(market.stateAt("YC_EA_AAA", T0, null, null), model.stateAt("YC_EA_AAA", T0, null, null), 0);
+        assertEquals(market.stateAt("PREPAYMENT", T0, null, null), model.stateAt("PREPAYMENT", T0, null, null), 0);
+        assertEquals(1, market.byHandle);
+        assertEquals(3, market.byId);
+    }
+
+    @Test
+    public void test_of_unresolved() {
+        MarketModel market = new MarketModel();
+        assertSame(market, ResolvedRiskFactorModel.of(market, "PREPAYMENT", null));
+    }
+}
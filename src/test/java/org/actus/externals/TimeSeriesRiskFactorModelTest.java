@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.externals;
+
+import org.actus.RiskFactorNotFoundException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import static org.junit.Assert.assertEquals;
+
+public class TimeSeriesRiskFactorModelTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static long epoch(String time) {
+        return LocalDateTime.parse(time).toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static final long[] TIMES = {epoch("2016-01-01T00:00:00"), epoch("2016-01-11T00:00:00"), epoch("2016-02-01T00:00:00")};
+    private static final double[] VALUES = {0.01, 0.02, 0.04};
+
+    @Test
+    public void test_stateAt_step() {
+        TimeSeriesRiskFactorModel model = new TimeSeriesRiskFactorModel();
+        model.put("YC_EA_AAA", TIMES, VALUES);
+        assertEquals(0.01, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2016-01-01T00:00:00"), null, null), 0);
+        assertEquals(0.01, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2016-01-06T00:00:00"), null, null), 0);
+        assertEquals(0.02, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2016-01-11T00:00:00"), null, null), 0);
+        assertEquals(0.04, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2016-03-01T00:00:00"), null, null), 0);
+        assertEquals(0.01, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2015-03-01T00:00:00"), null, null), 0);
+    }
+
+    @Test
+    public void test_stateAt_linear() {
+        TimeSeriesRiskFactorModel model = new TimeSeriesRiskFactorModel(TimeSeriesRiskFactorModel.Interpolation.LINEAR);
+        model.put("YC_EA_AAA", TIMES, VALUES);
+        assertEquals(0.015, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2016-01-06T00:00:00"), null, null), 1e-15);
+        assertEquals(0.02, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2016-01-11T00:00:00"), null, null), 0);
+        assertEquals(0.04, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2016-03-01T00:00:00"), null, null), 0);
+        assertEquals(0.01, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2015-03-01T00:00:00"), null, null), 0);
+    }
+
+    @Test
+    public void test_put_perSeriesInterpolation() {
+        TimeSeriesRiskFactorModel model = new TimeSeriesRiskFactorModel();
+        model.put("STEP", TIMES, VALUES);
+        model.put("LINEAR", TIMES, VALUES, TimeSeriesRiskFactorModel.Interpolation.LINEAR);
+        long time = epoch("2016-01-06T00:00:00");
+        assertEquals(0.01, model.stateAt("STEP", time), 0);
+        assertEquals(0.015, model.stateAt("LINEAR", time), 1e-15);
+        assertEquals(2, model.keys().size());
+    }
+
+    @Test
+    public void test_put_map() {
+        Map<LocalDateTime, Double> observations = new HashMap<LocalDateTime, Double>();
+        observations.put(LocalDateTime.parse("2016-02-01T00:00:00"), 0.04);
+        observations.put(LocalDateTime.parse("2016-01-01T00:00:00"), 0.01);
+        TimeSeriesRiskFactorModel model = new TimeSeriesRiskFactorModel();
+        model.put("YC_EA_AAA", observations);
+        assertEquals(0.01, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2016-01-31T00:00:00"), null, null), 0);
+        assertEquals(0.04, model.stateAt("YC_EA_AAA", LocalDateTime.parse("2016-02-01T00:00:00"), null, null), 0);
+    }
+
+    @Test
+    public void test_put_copiesArrays() {
+        long[] times = TIMES.clone();
+        double[] values = VALUES.clone();
+        TimeSeriesRiskFactorModel model = new TimeSeriesRiskFactorModel();
+        model.put("YC_EA_AAA", times, values);
+        values[0] = 1.0;
+        assertEquals(0.01, model.stateAt("YC_EA_AAA", TIMES[0]), 0);
+    }
+
+    @Test
+    public void test_put_unsorted_exception() {
+        thrown.expect(IllegalArgumentException.class);
+        new TimeSeriesRiskFactorModel().put("YC_EA_AAA", new long[] {2, 1}, new double[] {0.0, 0.0});
+    }
+
+    @Test
+    public void test_put_length_exception() {
+        thrown.expect(IllegalArgumentException.class);
+        new TimeSeriesRiskFactorModel().put("YC_EA_AAA", new long[] {1, 2}, new double[] {0.0});
+    }
+
+    @Test
+    public void test_stateAt_unknownRiskFactor() {
+        thrown.expect(RiskFactorNotFoundException.class);
+        new TimeSeriesRiskFactorModel().stateAt("IDoNotExist", 0L);
+    }
+
+    @Test
+    public void test_stateAt_handle() {
+        TimeSeriesRiskFactorModel model = new TimeSeriesRiskFactorModel();
+        model.put("YC_EA_AAA", TIMES, VALUES);
+        model.put("YC_EA_AA", TIMES, new double[] {0.1, 0.2, 0.4});
+        int handle = model.resolve("YC_EA_AAA");
+        assertEquals(0.01, model.stateAt(handle, epoch("2016-01-06T00:00:00"), null, null), 0);
+        assertEquals(0.2, model.stateAt(model.resolve("YC_EA_AA"), epoch("2016-01-11T00:00:00"), null, null), 0);
+
+        // replacing a time series retains its handle
+        model.put("YC_EA_AAA", TIMES, new double[] {1.0, 2.0, 4.0});
+        assertEquals(handle, model.resolve("YC_EA_AAA"));
+        assertEquals(1.0, model.stateAt(handle, epoch("2016-01-06T00:00:00"), null, null), 0);
+    }
+
+    @Test
+    public void test_resolve_unknownRiskFactor() {
+        assertEquals(RiskFactorModelProvider.UNRESOLVED, new TimeSeriesRiskFactorModel().resolve("IDoNotExist"));
+    }
+
+    @Test
+    public void test_stateAt_unknownHandle() {
+        thrown.expect(RiskFactorNotFoundException.class);
+        new TimeSeriesRiskFactorModel().stateAt(0, 0L, null, null);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.functions;
+
+import org.actus.functions.lax.POF_PR_LAX;
+import org.actus.functions.swaps.STF_NET_SWAPS;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class FunctionsTest {
+
+    @Test
+    public void test_registry_named_instances() throws Exception {
+        for (Field field : Functions.class.getDeclaredFields()) {
+            if (!Modifier.isPublic(field.getModifiers())) {
+                continue;
+            }
+            assertTrue(Modifier.isStatic(field.getModifiers()) && Modifier.isFinal(field.getModifiers()));
+            Object function = field.get(null);
+            assertNotNull(field.getName(), function);
+            assertEquals(field.getName(), function.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    public void test_registry_stateless() throws Exception {
+        for (Field field : Functions.class.getDeclaredFields()) {
+            if (!Modifier.isPublic(field.getModifiers())) {
+                continue;
+            }
+            for (Field state : field.get(null).getClass().getDeclaredFields()) {
+                assertTrue(field.getName() + "." + state.getName(), Modifier.isStatic(state.getModifiers()));
+            }
+        }
+    }
+
+    @Test
+    public void test_registry_excludes_parameterized() {
+        for (Field field : Functions.class.getDeclaredFields()) {
+            assertFalse(field.getName().equals(POF_PR_LAX.class.getSimpleName()));
+            assertFalse(field.getName().equals(STF_NET_SWAPS.class.getSimpleName()));
+        }
+    }
+}
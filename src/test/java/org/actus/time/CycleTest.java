@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.time;
+
+import org.actus.AttributeConversionException;
+import org.actus.util.StringUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CycleTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void test_of_period() {
+        Cycle cycle = Cycle.of("1Q+");
+        assertTrue(cycle.isPeriod());
+        assertEquals(Period.ofMonths(3), cycle.period());
+        assertEquals(StringUtils.LongStub, cycle.stub());
+        assertNull(cycle.weekday());
+        assertEquals("1Q+", cycle.toString());
+    }
+
+    @Test
+    public void test_of_weekday() {
+        Cycle cycle = Cycle.of("2Fri-");
+        assertFalse(cycle.isPeriod());
+        assertEquals(DayOfWeek.FRIDAY, cycle.weekday());
+        assertEquals(2, cycle.position());
+        assertEquals(StringUtils.ShortStub, cycle.stub());
+    }
+
+    @Test
+    public void test_of_interned() {
+        assertSame(Cycle.of("6M-"), Cycle.of(new String("6M-")));
+        assertEquals(Cycle.of("6M-"), Cycle.of("6M-"));
+        assertFalse(Cycle.of("6M-").equals(Cycle.of("6M+")));
+    }
+
+    @Test
+    public void test_period_weekday_exception() {
+        thrown.expect(AttributeConversionException.class);
+        Cycle.of("1Mon-").period();
+    }
+
+    @Test
+    public void test_of_stub_exception() {
+        thrown.expect(AttributeConversionException.class);
+        Cycle.of("1Mx");
+    }
+
+    @Test
+    public void test_of_unit_exception() {
+        thrown.expect(AttributeConversionException.class);
+        Cycle.of("1X-");
+    }
+
+    @Test
+    public void test_createCycleSchedule_matchesString() {
+        LocalDateTime start = LocalDateTime.parse("2016-01-31T00:00:00");
+        LocalDateTime end = LocalDateTime.parse("2018-06-30T00:00:00");
+        for (String cycle : new String[] {"1M-", "1M+", "2W-", "1Y+", "1Mon-", "3Wed+"}) {
+            // note, the end-of-month convention applies to periods only
+            String endOfMonthConvention = Cycle.of(cycle).isPeriod() ? "EOM" : "SD";
+            assertEquals(ScheduleFactory.createSchedule(start, end, cycle, endOfMonthConvention, true),
+                    ScheduleFactory.createCycleSchedule(start, end, Cycle.of(cycle), endOfMonthConvention, true));
+            List<LocalDateTime> expected = new ArrayList<LocalDateTime>();
+            ScheduleFactory.createScheduleIterator(start, end, cycle, "SD", false).forEachRemaining(expected::add);
+            List<LocalDateTime> actual = new ArrayList<LocalDateTime>();
+            ScheduleFactory.createCycleScheduleIterator(start, end, Cycle.of(cycle), "SD", false).forEachRemaining(actual::add);
+            assertEquals(expected, actual);
+        }
+    }
+}
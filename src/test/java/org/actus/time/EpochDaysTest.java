@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.time;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+public class EpochDaysTest {
+
+    // 1896-01-01 to 2104-12-31, i.e. covering century (non-)leap years
+    private static final int FROM = (int) LocalDate.parse("1896-01-01").toEpochDay();
+    private static final int TO = (int) LocalDate.parse("2104-12-31").toEpochDay();
+
+    @Test
+    public void test_fields() {
+        for (int date = FROM; date <= TO; date++) {
+            LocalDate expected = LocalDate.ofEpochDay(date);
+            assertEquals(expected.getYear(), EpochDays.year(date));
+            assertEquals(expected.getMonthValue(), EpochDays.month(date));
+            assertEquals(expected.getDayOfMonth(), EpochDays.dayOfMonth(date));
+            assertEquals(expected.getDayOfWeek().getValue(), EpochDays.dayOfWeek(date));
+            assertEquals(expected.lengthOfMonth(), EpochDays.lengthOfMonth(expected.getYear(), expected.getMonthValue()));
+            assertEquals(date, EpochDays.of(expected.getYear(), expected.getMonthValue(), expected.getDayOfMonth()));
+        }
+    }
+
+    @Test
+    public void test_of_time() {
+        LocalDateTime time = LocalDateTime.parse("2016-02-29T13:45:00");
+        assertEquals(LocalDate.parse("2016-02-29").toEpochDay(), EpochDays.of(time));
+        assertEquals(LocalDateTime.parse("2016-02-29T13:00:00"), EpochDays.toLocalDateTime(EpochDays.of(time), 13));
+    }
+
+    @Test
+    public void test_lastDayOfMonth() {
+        for (int date = FROM; date <= TO; date++) {
+            LocalDate expected = LocalDate.ofEpochDay(date).withDayOfMonth(LocalDate.ofEpochDay(date).lengthOfMonth());
+            assertEquals(expected.toEpochDay(), EpochDays.lastDayOfMonth(date));
+        }
+    }
+
+    @Test
+    public void test_plusMonths() {
+        for (int date = FROM; date <= TO; date += 3) {
+            for (int months = -25; months <= 25; months += 7) {
+                assertEquals(LocalDate.ofEpochDay(date).plusMonths(months).toEpochDay(), EpochDays.plusMonths(date, months));
+            }
+        }
+    }
+
+    @Test
+    public void test_daysBetween() {
+        LocalDateTime start = LocalDateTime.parse("2016-01-01T12:00:00");
+        int startDate = EpochDays.of(start);
+        for (int days = -3; days <= 3; days++) {
+            for (int hour = 0; hour < 24; hour += 5) {
+                LocalDateTime end = start.plusDays(days).withHour(hour);
+                assertEquals(ChronoUnit.DAYS.between(start, end), EpochDays.daysBetween(startDate, 12, startDate + days, hour));
+            }
+        }
+    }
+}
@@ -121,4 +121,17 @@ public class PeriodCycleAdjusterTest {
         assertEquals(t1, adjuster.minusCycle(t0));
     }
 
+    @Test
+    public void test_epochDays_equivalent() {
+        String[] cycles = {"1D-", "1W-", "1M-", "1Q-", "1H-", "1Y-"};
+        for (String cycle : cycles) {
+            PeriodCycleAdjuster adjuster = new PeriodCycleAdjuster(cycle);
+            LocalDateTime t = LocalDateTime.parse("2015-12-31T00:00:00");
+            for (int i = 0; i < 100; i++, t = t.plusDays(11)) {
+                assertEquals(EpochDays.of(adjuster.plusCycle(t)), adjuster.plusCycle(EpochDays.of(t)));
+                assertEquals(EpochDays.of(adjuster.minusCycle(t)), adjuster.minusCycle(EpochDays.of(t)));
+            }
+        }
+    }
+
 }
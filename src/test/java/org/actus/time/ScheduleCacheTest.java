@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.time;
+
+import org.actus.attributes.ContractModel;
+import org.actus.contracts.ContractType;
+import org.actus.conventions.businessday.BusinessDayAdjuster;
+import org.actus.events.EventFactory;
+import org.actus.events.EventType;
+import org.actus.time.calendar.MondayToFridayCalendar;
+import org.actus.time.calendar.NoHolidaysCalendar;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ScheduleCacheTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static final LocalDateTime START = LocalDateTime.parse("2016-01-31T00:00:00");
+    private static final LocalDateTime END = LocalDateTime.parse("2019-01-01T00:00:00");
+
+    // the schedule as generated by the factory in ascending order
+    private static List<LocalDateTime> expected(String cycle, String endOfMonthConvention, boolean addEndTime) {
+        List<LocalDateTime> times = new ArrayList<LocalDateTime>(
+                ScheduleFactory.createSchedule(START, END, cycle, endOfMonthConvention, addEndTime));
+        Collections.sort(times);
+        return times;
+    }
+
+    @Test
+    public void test_schedule_matchesFactory() {
+        ScheduleCache cache = new ScheduleCache(100);
+        for (String cycle : new String[] {"1M-", "1M+", "3M-", "1Q+", "1W-"}) {
+            for (String endOfMonthConvention : new String[] {"SD", "EOM"}) {
+                assertEquals(expected(cycle, endOfMonthConvention, true), cache.schedule(START, END, cycle, endOfMonthConvention, true));
+                assertEquals(expected(cycle, endOfMonthConvention, false), cache.schedule(START, END, cycle, endOfMonthConvention, false));
+            }
+        }
+        assertEquals(0, cache.hits());
+        assertEquals(20, cache.misses());
+        assertEquals(20, cache.size());
+    }
+
+    @Test
+    public void test_schedule_retained() {
+        ScheduleCache cache = new ScheduleCache(100);
+        List<LocalDateTime> schedule = cache.schedule(START, END, "1M-", "EOM", true);
+        assertSame(schedule, cache.schedule(LocalDateTime.parse("2016-01-31T00:00:00"), END, "1M-", "EOM", true));
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+        assertEquals(0.5, cache.hitRate(), 0);
+    }
+
+    @Test
+    public void test_schedule_immutable() {
+        thrown.expect(UnsupportedOperationException.class);
+        new ScheduleCache(100).schedule(START, END, "1M-", "SD", true).set(0, END);
+    }
+
+    @Test
+    public void test_eventTimes_perAdjuster() {
+        ScheduleCache cache = new ScheduleCache(100);
+        BusinessDayAdjuster adjuster = new BusinessDayAdjuster("SCF", new MondayToFridayCalendar());
+        List<LocalDateTime> schedule = cache.schedule(START, END, "1M-", "SD", true);
+        List<LocalDateTime> eventTimes = cache.eventTimes(START, END, "1M-", "SD", true, adjuster);
+        assertEquals(schedule.size(), eventTimes.size());
+        for (int i = 0; i < schedule.size(); i++) {
+            assertEquals(adjuster.shiftEventTime(schedule.get(i)), eventTimes.get(i));
+        }
+
+        // equal adjusters share the shifted event times while others do not
+        assertSame(eventTimes, cache.eventTimes(START, END, "1M-", "SD", true, new BusinessDayAdjuster("SCF", new MondayToFridayCalendar())));
+        List<LocalDateTime> unshifted = cache.eventTimes(START, END, "1M-", "SD", true, new BusinessDayAdjuster("SCF", new NoHolidaysCalendar()));
+        assertEquals(schedule, unshifted);
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void test_size_bounded() {
+        ScheduleCache cache = new ScheduleCache(20);
+        for (int i = 0; i < 100; i++) {
+            cache.schedule(START.plusDays(i), END, "1M-", "SD", true);
+        }
+        assertEquals(20, cache.size());
+        assertEquals(100, cache.misses());
+    }
+
+    @Test
+    public void test_factory_useCache() {
+        ScheduleCache cache = new ScheduleCache(100);
+        List<LocalDateTime> expected = expected("1M-", "EOM", true);
+        ScheduleFactory.useCache(cache);
+        try {
+            List<LocalDateTime> times = new ArrayList<LocalDateTime>();
+            ScheduleFactory.createScheduleIterator(START, END, "1M-", "EOM").forEachRemaining(times::add);
+            assertEquals(expected, times);
+            List<LocalDateTime> set = new ArrayList<LocalDateTime>(ScheduleFactory.createSchedule(START, END, "1M-", "EOM"));
+            Collections.sort(set);
+            assertEquals(expected, set);
+        } finally {
+            ScheduleFactory.useCache(null);
+        }
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    // the schedule and event times of events created from a schedule in ascending order
+    private static List<String> events(BusinessDayAdjuster adjuster) {
+        List<String> times = new ArrayList<String>();
+        EventFactory.createEvents(ScheduleFactory.createScheduleIterator(START, END, "1M-", "EOM"), EventType.IP, "USD", null, null, adjuster)
+                .forEachRemaining(event -> times.add(event.scheduleTime() + "/" + event.time()));
+        return times;
+    }
+
+    @Test
+    public void test_factory_useCache_eventTimes() {
+        ScheduleCache cache = new ScheduleCache(100);
+        BusinessDayAdjuster adjuster = new BusinessDayAdjuster("CSF", new MondayToFridayCalendar());
+        List<String> expected = events(adjuster);
+        ScheduleFactory.useCache(cache);
+        try {
+            assertEquals(expected, events(adjuster));
+            assertEquals(expected, events(new BusinessDayAdjuster("CSF", new MondayToFridayCalendar())));
+        } finally {
+            ScheduleFactory.useCache(null);
+        }
+        // the schedule and its shifted event times are generated once and served thereafter
+        assertEquals(2, cache.misses());
+        assertEquals(3, cache.hits());
+    }
+
+    @Test
+    public void test_factory_useCache_contractSchedule() {
+        Map<String, String> map = new HashMap<String, String>();
+        map.put("ContractType", "PAM");
+        map.put("Calendar", "MondayToFriday");
+        map.put("BusinessDayConvention", "SCF");
+        map.put("StatusDate", "2016-06-15T00:00:00");
+        map.put("ContractRole", "RPA");
+        map.put("LegalEntityIDCounterparty", "CORP-XY");
+        map.put("DayCountConvention", "A/AISDA");
+        map.put("Currency", "USD");
+        map.put("InitialExchangeDate", "2016-01-31T00:00:00");
+        map.put("MaturityDate", "2019-01-31T00:00:00");
+        map.put("NotionalPrincipal", "1000.0");
+        map.put("NominalInterestRate", "0.01");
+        map.put("CycleOfInterestPayment", "1M-");
+        map.put("EndOfMonthConvention", "EOM");
+        ContractModel model = ContractModel.parse(map);
+        LocalDateTime to = LocalDateTime.parse("2019-01-31T00:00:00");
+        List<String> expected = new ArrayList<String>();
+        ContractType.schedule(to, model).forEach(event -> expected.add(event.toString()));
+        ScheduleCache cache = new ScheduleCache(100);
+        ScheduleFactory.useCache(cache);
+        long misses = 0;
+        try {
+            for (int run = 0; run < 2; run++) {
+                List<String> events = new ArrayList<String>();
+                ContractType.schedule(to, model).forEach(event -> events.add(event.toString()));
+                assertEquals(expected, events);
+                if (run == 0) {
+                    misses = cache.misses();
+                }
+            }
+        } finally {
+            ScheduleFactory.useCache(null);
+        }
+        // the second schedule is served from the cache entirely
+        assertEquals(misses, cache.misses());
+    }
+
+    @Test
+    public void test_capacity_exception() {
+        thrown.expect(IllegalArgumentException.class);
+        new ScheduleCache(0);
+    }
+}
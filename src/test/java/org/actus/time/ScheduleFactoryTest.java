@@ -11,6 +11,7 @@ import org.actus.time.ScheduleFactory;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.ArrayList;
+import java.util.Iterator;
 
 import org.junit.Test;
 import org.junit.Rule;
@@ -891,4 +892,96 @@ public class ScheduleFactoryTest {
         assertEquals(expectedTimes, generatedTimes);
     }
 
+    // collect the dates of a schedule iterator in the order returned
+    private static ArrayList<LocalDateTime> toList(Iterator<LocalDateTime> iterator) {
+        ArrayList<LocalDateTime> times = new ArrayList<LocalDateTime>();
+        iterator.forEachRemaining(times::add);
+        return times;
+    }
+
+    @Test
+    public void test_ScheduleIterator_matchesSchedule() {
+        thrown = ExpectedException.none();
+        String[] cycles = {"1D-", "1D+", "1W-", "1W+", "4W+", "1M-", "1M+", "2M+", "1Q-", "1Q+", "1H+", "1Y+"};
+        String[] conventions = {"SD", "EOM"};
+        String[] starts = {"2016-01-01T00:00:00", "2016-01-15T00:00:00", "2016-02-29T00:00:00", "2016-03-31T00:00:00"};
+        String[] ends = {"2016-01-01T00:00:00", "2016-05-15T00:00:00", "2017-01-01T00:00:00", "2018-03-31T00:00:00"};
+        for (String cycle : cycles) {
+            for (String convention : conventions) {
+                for (String start : starts) {
+                    for (String end : ends) {
+                        for (boolean addEndTime : new boolean[] {true, false}) {
+                            LocalDateTime startTime = LocalDateTime.parse(start);
+                            LocalDateTime endTime = LocalDateTime.parse(end);
+                            ArrayList<LocalDateTime> expectedTimes = new ArrayList<LocalDateTime>(
+                                    ScheduleFactory.createSchedule(startTime, endTime, cycle, convention, addEndTime));
+                            Collections.sort(expectedTimes);
+                            ArrayList<LocalDateTime> generatedTimes = toList(
+                                    ScheduleFactory.createScheduleIterator(startTime, endTime, cycle, convention, addEndTime));
+                            assertEquals(cycle + " " + convention + " " + start + " " + end + " " + addEndTime,
+                                    expectedTimes, generatedTimes);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_ScheduleIterator_timeOfDay_matchesSchedule() {
+        thrown = ExpectedException.none();
+        String[] cycles = {"1D+", "1W-", "1M-", "1M+", "1Q+", "1Y-", "1Mon-", "2Wed+", "5Fri-"};
+        String[] starts = {"2016-01-31T12:00:00", "2016-02-29T06:30:00", "2016-03-15T23:00:00"};
+        String[] ends = {"2016-03-15T23:00:00", "2017-02-28T12:00:00", "2017-02-28T00:00:00", "2018-01-31T18:00:00"};
+        for (String cycle : cycles) {
+            // note, the end-of-month convention applies to periods only
+            String[] conventions = Cycle.of(cycle).isPeriod() ? new String[] {"SD", "EOM"} : new String[] {"SD"};
+            for (String convention : conventions) {
+                for (String start : starts) {
+                    for (String end : ends) {
+                        for (boolean addEndTime : new boolean[] {true, false}) {
+                            LocalDateTime startTime = LocalDateTime.parse(start);
+                            LocalDateTime endTime = LocalDateTime.parse(end);
+                            ArrayList<LocalDateTime> expectedTimes = new ArrayList<LocalDateTime>(
+                                    ScheduleFactory.createSchedule(startTime, endTime, cycle, convention, addEndTime));
+                            Collections.sort(expectedTimes);
+                            assertEquals(cycle + " " + convention + " " + start + " " + end + " " + addEndTime, expectedTimes,
+                                    toList(ScheduleFactory.createScheduleIterator(startTime, endTime, cycle, convention, addEndTime)));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_ScheduleIterator_noCycle() {
+        thrown = ExpectedException.none();
+        ArrayList<LocalDateTime> expectedTimes = new ArrayList<LocalDateTime>();
+        expectedTimes.add(LocalDateTime.parse("2016-01-01T00:00:00"));
+        expectedTimes.add(LocalDateTime.parse("2017-01-01T00:00:00"));
+        assertEquals(expectedTimes, toList(ScheduleFactory.createScheduleIterator(
+                LocalDateTime.parse("2016-01-01T00:00:00"),
+                LocalDateTime.parse("2017-01-01T00:00:00"),
+                null, "SD")));
+    }
+
+    @Test
+    public void test_ArrayScheduleIterator_matchesArraySchedule() {
+        thrown = ExpectedException.none();
+        LocalDateTime[] startTimes = {
+                LocalDateTime.parse("2016-01-31T00:00:00"),
+                LocalDateTime.parse("2016-07-31T00:00:00"),
+                LocalDateTime.parse("2017-03-15T00:00:00")};
+        String[] cycles = {"1M-", "2M+", "1Q-"};
+        LocalDateTime endTime = LocalDateTime.parse("2019-01-01T00:00:00");
+        for (String convention : new String[] {"SD", "EOM"}) {
+            ArrayList<LocalDateTime> expectedTimes = new ArrayList<LocalDateTime>(
+                    ScheduleFactory.createArraySchedule(startTimes, endTime, cycles, convention));
+            Collections.sort(expectedTimes);
+            assertEquals(expectedTimes, toList(
+                    ScheduleFactory.createArrayScheduleIterator(startTimes, endTime, cycles, convention)));
+        }
+    }
+
 }
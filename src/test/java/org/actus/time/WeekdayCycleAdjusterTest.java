@@ -121,4 +121,17 @@ public class WeekdayCycleAdjusterTest {
         assertEquals(t1, adjuster.minusCycle(t0));
     }
 
+    @Test
+    public void test_epochDays_equivalent() {
+        String[] cycles = {"1Mon-", "2Wed-", "4Fri-", "0Sun-", "5Thu-"};
+        for (String cycle : cycles) {
+            WeekdayCycleAdjuster adjuster = new WeekdayCycleAdjuster(cycle);
+            LocalDateTime t = LocalDateTime.parse("2015-12-31T00:00:00");
+            for (int i = 0; i < 100; i++, t = t.plusDays(11)) {
+                assertEquals(EpochDays.of(adjuster.plusCycle(t)), adjuster.plusCycle(EpochDays.of(t)));
+                assertEquals(EpochDays.of(adjuster.minusCycle(t)), adjuster.minusCycle(EpochDays.of(t)));
+            }
+        }
+    }
+
 }
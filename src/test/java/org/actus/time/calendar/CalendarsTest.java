@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.time.calendar;
+
+import org.actus.AttributeConversionException;
+import org.actus.attributes.ContractModel;
+import org.actus.conventions.businessday.BusinessDayAdjuster;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CalendarsTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void test_of_default() {
+        assertTrue(Calendars.of("MondayToFriday") instanceof MondayToFridayCalendar);
+        assertTrue(Calendars.of(null) instanceof NoHolidaysCalendar);
+        assertTrue(Calendars.of("NULL") instanceof NoHolidaysCalendar);
+        assertTrue(Calendars.of("NoHolidayCalendar") instanceof NoHolidaysCalendar);
+        assertTrue(Calendars.of("NC") instanceof NoHolidaysCalendar);
+    }
+
+    @Test
+    public void test_of_unknown_exception() {
+        thrown.expect(AttributeConversionException.class);
+        Calendars.of("IDoNotExist");
+    }
+
+    @Test
+    public void test_parse_registeredCalendar() {
+        HolidayCalendar calendar = HolidayCalendar.parse(new StringReader("2016-12-26\n"));
+        Calendars.register("CalendarsTest", calendar);
+        Map<String, String> map = new HashMap<String, String>();
+        map.put("ContractType", "PAM");
+        map.put("Calendar", "CalendarsTest");
+        map.put("BusinessDayConvention", "SCF");
+        map.put("StatusDate", "2016-01-01T00:00:00");
+        map.put("ContractRole", "RPA");
+        map.put("LegalEntityIDCounterparty", "CORP-XY");
+        map.put("DayCountConvention", "A/AISDA");
+        map.put("Currency", "USD");
+        map.put("InitialExchangeDate", "2016-01-02T00:00:00");
+        map.put("MaturityDate", "2016-12-25T00:00:00");
+        map.put("NotionalPrincipal", "1000.0");
+        map.put("NominalInterestRate", "0.01");
+        ContractModel model = ContractModel.parse(map);
+        assertSame(calendar, model.getAs("Calendar"));
+        assertEquals(LocalDateTime.parse("2016-12-27T00:00:00"),
+                model.<BusinessDayAdjuster>getAs("BusinessDayConvention").shiftEventTime(LocalDateTime.parse("2016-12-25T00:00:00")));
+    }
+}
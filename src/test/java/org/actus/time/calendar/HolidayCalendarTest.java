@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.time.calendar;
+
+import org.actus.conventions.businessday.BusinessDayAdjuster;
+import org.actus.time.EpochDays;
+
+import java.io.StringReader;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class HolidayCalendarTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static final String TARGET = "# TARGET2\n"
+            + "years 2016 2017\n"
+            + "\n"
+            + "2016-01-01 New Year's Day\n"
+            + "2016-03-25 Good Friday\n"
+            + "2016-03-28 Easter Monday\n"
+            + "2016-05-02\n"
+            + "2016-12-26 Christmas Holiday\n"
+            + "2017-04-14 Good Friday\n"
+            + "2017-04-17 Easter Monday\n"
+            + "2017-05-01 Labour Day\n"
+            + "2017-12-25 Christmas Day\n"
+            + "2017-12-26 Christmas Holiday\n";
+
+    private static HolidayCalendar target() {
+        return HolidayCalendar.parse(new StringReader(TARGET));
+    }
+
+    private static int date(String date) {
+        return (int) LocalDate.parse(date).toEpochDay();
+    }
+
+    @Test
+    public void test_isBusinessDay() {
+        HolidayCalendar calendar = target();
+        assertFalse(calendar.isBusinessDay(date("2016-01-01")));
+        assertFalse(calendar.isBusinessDay(date("2016-01-02")));
+        assertTrue(calendar.isBusinessDay(date("2016-01-04")));
+        assertFalse(calendar.isBusinessDay(LocalDateTime.parse("2016-03-25T12:00:00")));
+        assertTrue(calendar.isBusinessDay(LocalDateTime.parse("2016-03-24T12:00:00")));
+        // outside the years of the calendar only weekend days are non-business days
+        assertTrue(calendar.isBusinessDay(date("2018-01-01")));
+        assertFalse(calendar.isBusinessDay(date("2015-12-27")));
+    }
+
+    @Test
+    public void test_jumpTables_matchDayByDay() {
+        HolidayCalendar calendar = target();
+        // the same calendar searching one day after the other
+        BusinessDayCalendarProvider dayByDay = new BusinessDayCalendarProvider() {
+            public boolean isBusinessDay(LocalDateTime date) {
+                return calendar.isBusinessDay(date);
+            }
+        };
+        for (int date = date("2015-12-01"); date <= date("2018-01-31"); date++) {
+            assertEquals(dayByDay.nextBusinessDay(date), calendar.nextBusinessDay(date));
+            assertEquals(dayByDay.previousBusinessDay(date), calendar.previousBusinessDay(date));
+        }
+    }
+
+    @Test
+    public void test_shift_holidays() {
+        BusinessDayAdjuster following = new BusinessDayAdjuster("SCF", target());
+        BusinessDayAdjuster modifiedFollowing = new BusinessDayAdjuster("SCMF", target());
+        BusinessDayAdjuster preceding = new BusinessDayAdjuster("SCP", target());
+        // Christmas 2017 is Monday, the 26th a holiday
+        assertEquals(LocalDateTime.parse("2017-12-27T10:00:00"), following.shiftEventTime(LocalDateTime.parse("2017-12-25T10:00:00")));
+        assertEquals(LocalDateTime.parse("2017-12-22T10:00:00"), preceding.shiftEventTime(LocalDateTime.parse("2017-12-26T10:00:00")));
+        // Easter Monday 2016 is the 28th of March, the last business day of the month is the 31st
+        assertEquals(date("2016-03-29"), modifiedFollowing.shiftEventTime(date("2016-03-25")));
+        // the 30th of April 2016 is a Saturday, the 2nd of May a holiday
+        assertEquals(date("2016-04-29"), modifiedFollowing.shiftEventTime(date("2016-04-30")));
+    }
+
+    @Test
+    public void test_constructor_weekend() {
+        List<LocalDate> holidays = Arrays.asList(LocalDate.parse("2016-01-01"));
+        HolidayCalendar calendar = new HolidayCalendar(EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY), holidays, 2016, 2016);
+        assertFalse(calendar.isBusinessDay(date("2016-01-01")));
+        assertFalse(calendar.isBusinessDay(date("2016-01-02")));
+        assertTrue(calendar.isBusinessDay(date("2016-01-03")));
+        assertEquals(date("2016-01-03"), calendar.nextBusinessDay(date("2016-01-01")));
+        assertEquals(date("2015-12-31"), calendar.previousBusinessDay(date("2016-01-02")));
+    }
+
+    @Test
+    public void test_parse_weekendAndDefaultYears() {
+        HolidayCalendar calendar = HolidayCalendar.parse(new StringReader("weekend SUNDAY\n2016-07-04\n"));
+        assertTrue(calendar.isBusinessDay(date("2016-07-02")));
+        assertFalse(calendar.isBusinessDay(date("2016-07-03")));
+        assertFalse(calendar.isBusinessDay(date("2016-07-04")));
+        assertEquals(date("2016-07-05"), calendar.nextBusinessDay(date("2016-07-03")));
+        assertEquals(EpochDays.of(2017, 7, 4), calendar.nextBusinessDay(EpochDays.of(2017, 7, 4)));
+    }
+
+    @Test
+    public void test_parse_invalidHoliday_exception() {
+        thrown.expect(IllegalArgumentException.class);
+        HolidayCalendar.parse(new StringReader("2016-13-01\n"));
+    }
+
+    @Test
+    public void test_parse_empty_exception() {
+        thrown.expect(IllegalArgumentException.class);
+        HolidayCalendar.parse(new StringReader("# no holidays\n"));
+    }
+
+    @Test
+    public void test_constructor_allWeekend_exception() {
+        thrown.expect(IllegalArgumentException.class);
+        new HolidayCalendar(EnumSet.allOf(DayOfWeek.class), Arrays.<LocalDate>asList(), 2016, 2016);
+    }
+}
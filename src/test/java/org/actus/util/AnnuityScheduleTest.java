@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.util;
+
+import org.actus.attributes.CompiledPAMModel;
+import org.actus.attributes.ContractModel;
+import org.actus.conventions.daycount.DayCountCalculator;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.HashMap;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AnnuityScheduleTest {
+
+    private static ContractModel parse() {
+        Map<String, String> map = new HashMap<String, String>();
+        map.put("ContractType", "ANN");
+        map.put("StatusDate", "2016-01-01T00:00:00");
+        map.put("ContractRole", "RPA");
+        map.put("DayCountConvention", "A/AISDA");
+        map.put("Currency", "USD");
+        map.put("InitialExchangeDate", "2016-01-02T00:00:00");
+        map.put("CycleOfPrincipalRedemption", "1M-");
+        map.put("CycleAnchorDateOfPrincipalRedemption", "2016-02-02T00:00:00");
+        map.put("MaturityDate", "2046-01-02T00:00:00");
+        map.put("NotionalPrincipal", "1000.0");
+        map.put("NominalInterestRate", "0.05");
+        return ContractModel.parse(map);
+    }
+
+    @Test
+    public void test_next() {
+        AnnuitySchedule schedule = AnnuitySchedule.of(parse());
+        assertEquals(360, schedule.size());
+        assertEquals(0, schedule.next(LocalDateTime.parse("2016-01-01T00:00:00")));
+        assertEquals(1, schedule.next(LocalDateTime.parse("2016-02-02T00:00:00")));
+        assertEquals(1, schedule.next(LocalDateTime.parse("2016-02-15T00:00:00")));
+        assertEquals(schedule.size(), schedule.next(LocalDateTime.parse("2046-01-02T00:00:00")));
+    }
+
+    @Test
+    public void test_annuityPayment_repaysNotional() {
+        ContractModel model = parse();
+        DayCountCalculator dayCounter = model.getAs("DayCountConvention");
+        AnnuitySchedule schedule = AnnuitySchedule.of(model);
+        LocalDateTime statusDate = model.getAs("StatusDate");
+        double payment = schedule.annuityPayment(statusDate, 1000.0, 0.0, 0.05);
+
+        // paying the annuity on every redemption date amortizes the notional (including interest) to zero
+        double notional = 1000.0;
+        LocalDateTime last = statusDate;
+        LocalDateTime time = LocalDateTime.parse("2016-02-02T00:00:00");
+        while (!time.isAfter(LocalDateTime.parse("2046-01-02T00:00:00"))) {
+            notional += notional * 0.05 * dayCounter.dayCountFraction(last, time) - payment;
+            last = time;
+            time = time.plusMonths(1);
+        }
+        assertEquals(0.0, notional, 1e-8);
+    }
+
+    @Test
+    public void test_annuityPayment_compiledModel() {
+        ContractModel model = parse();
+        CompiledPAMModel compiled = CompiledPAMModel.of(model);
+        assertTrue(compiled.annuitySchedule() == compiled.annuitySchedule());
+        assertEquals(AnnuityUtils.annuityPayment(model, 1000.0, 0.0, 0.03),
+                AnnuityUtils.annuityPayment(compiled, 1000.0, 0.0, 0.03), 0);
+    }
+}
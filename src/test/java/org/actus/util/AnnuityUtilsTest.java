@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.util;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+public class AnnuityUtilsTest {
+
+    // the annuity factor as sum of products over the remaining periods
+    private static double naive(double[] yearFractions, int from, int to, double rate) {
+        double product = 1;
+        for (int i = from; i < to; i++) {
+            product *= 1 + rate * yearFractions[i];
+        }
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            double suffix = 1;
+            for (int j = i; j < to; j++) {
+                suffix *= 1 + rate * yearFractions[j];
+            }
+            sum += suffix;
+        }
+        return product / (1 + sum);
+    }
+
+    @Test
+    public void test_annuityFactor_naive() {
+        // 30 years of monthly periods with alternating month lengths
+        double[] yearFractions = new double[361];
+        for (int i = 1; i < yearFractions.length; i++) {
+            yearFractions[i] = ((i % 2 == 0) ? 30 : 31) / 365.0;
+        }
+        double[] rates = {0.0, 0.01, 0.05, 0.25};
+        for (double rate : rates) {
+            for (int from = 1; from < yearFractions.length; from += 37) {
+                double expected = naive(yearFractions, from, yearFractions.length, rate);
+                assertEquals(expected, AnnuityUtils.annuityFactor(yearFractions, from, yearFractions.length, rate), expected * 1e-12);
+            }
+        }
+    }
+
+    @Test
+    public void test_annuityFactor_zeroRate() {
+        // without interest the notional is repaid in equal parts
+        double[] yearFractions = {0.0, 0.25, 0.25, 0.25};
+        assertEquals(0.25, AnnuityUtils.annuityFactor(yearFractions, 1, 4, 0.0), 0);
+    }
+
+    @Test
+    public void test_annuityFactor_singlePeriod() {
+        double[] yearFractions = {0.0};
+        assertEquals(1.0, AnnuityUtils.annuityFactor(yearFractions, 1, 1, 0.05), 0);
+    }
+}